@@ -0,0 +1,105 @@
+package com.paul.fullstackinterviewprep.benchmarks.collections;
+
+import com.paul.fullstackinterviewprep.collections.ConcurrentIntObjectMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Read-through caches for id -> row lookups under a skewed access pattern.
+ *
+ * Keys follow a rough power law (a few hot products, a long tail), so most
+ * lookups hit and a few miss and load. Compared: the classic
+ * synchronized LinkedHashMap LRU (every get reorders the list under one
+ * lock), ConcurrentHashMap.computeIfAbsent, and ConcurrentIntObjectMap,
+ * whose hits are optimistic reads without boxing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CacheBenchmark {
+
+  static final int KEY_SPACE = 100_000;
+  static final int CAPACITY = 10_000;
+  static final int PROBES = 1 << 16;
+
+  int[] probes;
+  Map<Integer, String> lru;
+  ConcurrentHashMap<Integer, String> concurrentHashMap;
+  ConcurrentIntObjectMap<String> concurrentIntObjectMap;
+
+  @Setup
+  public void setUp() {
+    lru = Collections.synchronizedMap(new LinkedHashMap<>(CAPACITY * 2, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+        return size() > CAPACITY;
+      }
+    });
+    concurrentHashMap = new ConcurrentHashMap<>();
+    concurrentIntObjectMap = new ConcurrentIntObjectMap<>(KEY_SPACE, 64);
+    SplittableRandom random = new SplittableRandom(7);
+    probes = new int[PROBES];
+    for (int i = 0; i < PROBES; i++) {
+      // Squaring a uniform variate concentrates keys near 1: ~30% of lookups hit the first 10% of ids.
+      double u = random.nextDouble();
+      probes[i] = 1 + (int) (u * u * (KEY_SPACE - 1));
+    }
+  }
+
+  /** Per-thread position in the probe sequence. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    int index;
+
+    int next(int[] probes) {
+      return probes[index++ & (PROBES - 1)];
+    }
+  }
+
+  @Benchmark
+  public String synchronizedLruCache(Cursor cursor) {
+    int key = cursor.next(probes);
+    synchronized (lru) {
+      String row = lru.get(key);
+      if (row == null) {
+        row = load(key);
+        lru.put(key, row);
+      }
+      return row;
+    }
+  }
+
+  @Benchmark
+  public String concurrentHashMapCache(Cursor cursor) {
+    return concurrentHashMap.computeIfAbsent(cursor.next(probes), CacheBenchmark::load);
+  }
+
+  @Benchmark
+  public String concurrentIntObjectMapCache(Cursor cursor) {
+    return concurrentIntObjectMap.computeIfAbsent(cursor.next(probes), CacheBenchmark::load);
+  }
+
+  /** Stands in for the database read on a miss. */
+  static String load(int key) {
+    return "product-" + key;
+  }
+}
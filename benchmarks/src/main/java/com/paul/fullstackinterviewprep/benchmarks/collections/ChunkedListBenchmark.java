@@ -0,0 +1,118 @@
+package com.paul.fullstackinterviewprep.benchmarks.collections;
+
+import com.paul.fullstackinterviewprep.collections.ChunkedList;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ArrayList vs LinkedList vs ChunkedList on the operations Q09 trades off.
+ *
+ * Mixed-position edits insert at a random index and remove at another, so
+ * the size stays constant across iterations. LinkedList is only run at the
+ * smaller size for index-based operations: at 1M elements each one walks
+ * ~250k nodes on average, so those combinations return immediately - ignore
+ * their ~1 ns scores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ChunkedListBenchmark {
+
+  static final int PROBES = 1 << 16;
+
+  @Param({"10000", "1000000"})
+  int size;
+
+  @Param({"ArrayList", "LinkedList", "ChunkedList"})
+  String implementation;
+
+  List<Integer> list;
+  int[] probes;
+  int cursor;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    list = switch (implementation) {
+      case "ArrayList" -> new ArrayList<>();
+      case "LinkedList" -> new LinkedList<>();
+      case "ChunkedList" -> new ChunkedList<>();
+      default -> throw new IllegalArgumentException(implementation);
+    };
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+    }
+    SplittableRandom random = new SplittableRandom(42);
+    probes = new int[PROBES];
+    for (int i = 0; i < PROBES; i++) {
+      probes[i] = random.nextInt(size);
+    }
+  }
+
+  private int nextIndex() {
+    return probes[cursor++ & (PROBES - 1)];
+  }
+
+  private boolean linkedListAtScale() {
+    return implementation.equals("LinkedList") && size > 10_000;
+  }
+
+  @Benchmark
+  public Integer randomGet() {
+    return linkedListAtScale() ? null : list.get(nextIndex());
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public long iterate() {
+    long sum = 0;
+    for (int value : list) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public Integer randomInsertAndRemove() {
+    if (linkedListAtScale()) {
+      return null;
+    }
+    list.add(nextIndex(), -1);
+    return list.remove(nextIndex());
+  }
+
+  /** Queue-like churn: insert at the head, drop the tail. */
+  @Benchmark
+  public Integer headInsertTailRemove() {
+    list.addFirst(-1);
+    return list.removeLast();
+  }
+
+  /** Many edits near one position, like typing into a buffer. */
+  @Benchmark
+  public Integer clusteredInsertAndRemove() {
+    if (linkedListAtScale()) {
+      return null;
+    }
+    int index = size / 2 + (cursor++ & 63);
+    list.add(index, -1);
+    return list.remove(index + 1);
+  }
+}
@@ -0,0 +1,148 @@
+package com.paul.fullstackinterviewprep.benchmarks.collections;
+
+import com.paul.fullstackinterviewprep.orders.OrderItem;
+import com.paul.fullstackinterviewprep.orders.OrderItemIndex;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * order_items lookups by (order_id, product_id), the key built per lookup
+ * from the two ints as a caller would have them.
+ *
+ * - recordKey: HashMap keyed by a record; a key object and a field-wise
+ *   hashCode() per lookup
+ * - cachedHashKey: the same with the hash computed once in the constructor,
+ *   as String does - which buys nothing when every lookup builds a new key
+ * - stringKey: HashMap keyed by "orderId:productId"; builds and hashes a
+ *   String per lookup
+ * - pairKey: OrderItemIndex, PairKey longs in a LongObjectMap
+ * Every probe hits. Four lines per order, with product ids drawn at random,
+ * like the demo data. Run with {@code -prof gc} for the per-lookup garbage.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CompositeKeyBenchmark {
+
+  static final int PROBES = 1 << 16;
+
+  record ItemKey(int orderId, int productId) {
+  }
+
+  static final class CachedHashKey {
+    final int orderId;
+    final int productId;
+    final int hash;
+
+    CachedHashKey(int orderId, int productId) {
+      this.orderId = orderId;
+      this.productId = productId;
+      this.hash = 31 * orderId + productId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof CachedHashKey other && other.orderId == orderId && other.productId == productId;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  @Param({"100000", "4000000"})
+  int items;
+
+  int[] probeOrders;
+  int[] probeProducts;
+  HashMap<ItemKey, OrderItem> byRecord;
+  HashMap<CachedHashKey, OrderItem> byCachedHash;
+  HashMap<String, OrderItem> byString;
+  OrderItemIndex index;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    byRecord = new HashMap<>();
+    byCachedHash = new HashMap<>();
+    byString = new HashMap<>();
+    index = new OrderItemIndex(items);
+    OrderItem[] all = new OrderItem[items];
+    BigDecimal price = new BigDecimal("9.99");
+    for (int i = 0; i < items; i++) {
+      int orderId = 1 + i / 4;
+      int productId = 1 + (i % 4) * 250 + random.nextInt(250);
+      OrderItem item = new OrderItem(orderId, productId, 1 + random.nextInt(10), price, BigDecimal.ZERO);
+      all[i] = item;
+      byRecord.put(new ItemKey(orderId, productId), item);
+      byCachedHash.put(new CachedHashKey(orderId, productId), item);
+      byString.put(orderId + ":" + productId, item);
+      index.add(item);
+    }
+    probeOrders = new int[PROBES];
+    probeProducts = new int[PROBES];
+    for (int i = 0; i < PROBES; i++) {
+      OrderItem item = all[random.nextInt(items)];
+      probeOrders[i] = item.orderId();
+      probeProducts[i] = item.productId();
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PROBES)
+  public long recordKey() {
+    long quantity = 0;
+    for (int i = 0; i < PROBES; i++) {
+      quantity += byRecord.get(new ItemKey(probeOrders[i], probeProducts[i])).quantity();
+    }
+    return quantity;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PROBES)
+  public long cachedHashKey() {
+    long quantity = 0;
+    for (int i = 0; i < PROBES; i++) {
+      quantity += byCachedHash.get(new CachedHashKey(probeOrders[i], probeProducts[i])).quantity();
+    }
+    return quantity;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PROBES)
+  public long stringKey() {
+    long quantity = 0;
+    for (int i = 0; i < PROBES; i++) {
+      quantity += byString.get(probeOrders[i] + ":" + probeProducts[i]).quantity();
+    }
+    return quantity;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PROBES)
+  public long pairKey() {
+    long quantity = 0;
+    for (int i = 0; i < PROBES; i++) {
+      quantity += index.get(probeOrders[i], probeProducts[i]).quantity();
+    }
+    return quantity;
+  }
+}
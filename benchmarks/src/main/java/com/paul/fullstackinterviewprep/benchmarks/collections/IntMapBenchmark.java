@@ -0,0 +1,141 @@
+package com.paul.fullstackinterviewprep.benchmarks.collections;
+
+import com.paul.fullstackinterviewprep.collections.ConcurrentIntObjectMap;
+import com.paul.fullstackinterviewprep.collections.IntLongMap;
+import com.paul.fullstackinterviewprep.collections.IntObjectMap;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * id-keyed lookups (product_id -> row, customer_id -> row): boxed JDK maps vs
+ * the primitive maps in the collections package.
+ *
+ * Keys are dense ids 1..size, like primary keys. Every operation targets a
+ * random EXISTING key, so get() always hits and put() always overwrites -
+ * the steady state of a warmed cache. Run with {@code -prof gc} to see that
+ * the primitive maps allocate nothing per operation; memory footprint is
+ * measured separately by IntMapFootprint.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class IntMapBenchmark {
+
+  static final Object ROW = new Object();
+  static final int PROBES = 1 << 20;
+
+  @Param({"1000000", "10000000"})
+  int size;
+
+  int[] probes;
+  HashMap<Integer, Object> hashMap;
+  ConcurrentHashMap<Integer, Object> concurrentHashMap;
+  IntObjectMap<Object> intObjectMap;
+  ConcurrentIntObjectMap<Object> concurrentIntObjectMap;
+  HashMap<Integer, Long> boxedCounters;
+  IntLongMap intLongMap;
+
+  @Setup
+  public void setUp() {
+    hashMap = new HashMap<>();
+    concurrentHashMap = new ConcurrentHashMap<>();
+    intObjectMap = new IntObjectMap<>();
+    concurrentIntObjectMap = new ConcurrentIntObjectMap<>();
+    boxedCounters = new HashMap<>();
+    intLongMap = new IntLongMap();
+    for (int id = 1; id <= size; id++) {
+      hashMap.put(id, ROW);
+      concurrentHashMap.put(id, ROW);
+      intObjectMap.put(id, ROW);
+      concurrentIntObjectMap.put(id, ROW);
+      boxedCounters.put(id, 0L);
+      intLongMap.put(id, 0L);
+    }
+    SplittableRandom random = new SplittableRandom(42);
+    probes = new int[PROBES];
+    for (int i = 0; i < PROBES; i++) {
+      probes[i] = 1 + random.nextInt(size);
+    }
+  }
+
+  /** Per-thread position in the probe sequence. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    int index;
+
+    int next(int[] probes) {
+      return probes[index++ & (PROBES - 1)];
+    }
+  }
+
+  @Benchmark
+  public Object hashMapGet(Cursor cursor) {
+    return hashMap.get(cursor.next(probes));
+  }
+
+  @Benchmark
+  public Object intObjectMapGet(Cursor cursor) {
+    return intObjectMap.get(cursor.next(probes));
+  }
+
+  @Benchmark
+  public Object hashMapPut(Cursor cursor) {
+    return hashMap.put(cursor.next(probes), ROW);
+  }
+
+  @Benchmark
+  public Object intObjectMapPut(Cursor cursor) {
+    return intObjectMap.put(cursor.next(probes), ROW);
+  }
+
+  @Benchmark
+  public Long boxedCounterIncrement(Cursor cursor) {
+    return boxedCounters.merge(cursor.next(probes), 1L, Long::sum);
+  }
+
+  @Benchmark
+  public long intLongMapAddTo(Cursor cursor) {
+    return intLongMap.addTo(cursor.next(probes), 1);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object concurrentHashMapGet(Cursor cursor) {
+    return concurrentHashMap.get(cursor.next(probes));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object concurrentIntObjectMapGet(Cursor cursor) {
+    return concurrentIntObjectMap.get(cursor.next(probes));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object concurrentHashMapPut(Cursor cursor) {
+    return concurrentHashMap.put(cursor.next(probes), ROW);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object concurrentIntObjectMapPut(Cursor cursor) {
+    return concurrentIntObjectMap.put(cursor.next(probes), ROW);
+  }
+}
@@ -0,0 +1,178 @@
+package com.paul.fullstackinterviewprep.benchmarks.collections;
+
+import com.paul.fullstackinterviewprep.collections.PersistentHashMap;
+import com.paul.fullstackinterviewprep.collections.PersistentVector;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one "modification" of an immutable list or map (Q24): copy-and-modify
+ * with List.copyOf/Map.copyOf vs a structurally shared persistent update.
+ *
+ * Each benchmark derives a new version from a fixed base, so the size stays
+ * constant. Reads are included to show what the sharing costs: get(i) and
+ * get(key) walk a few tree levels instead of one array index or bucket.
+ * profileHistory* is Q24's audit trail: a profile grows to
+ * {@value #HISTORY} orders, one version per order, and every version is kept
+ * (it ignores {@code size}, so pass {@code -p size=100} when running it alone).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PersistentCollectionsBenchmark {
+
+  static final int PROBES = 1 << 12;
+  static final int HISTORY = 5_000;
+
+  @Param({"100", "10000", "1000000"})
+  int size;
+
+  List<Integer> copiedList;
+  PersistentVector<Integer> vector;
+  Map<Integer, Integer> copiedMap;
+  PersistentHashMap<Integer, Integer> persistentMap;
+  Integer[] probes;
+  int cursor;
+
+  @Setup
+  public void setUp() {
+    List<Integer> values = new ArrayList<>();
+    Map<Integer, Integer> entries = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      values.add(i);
+      entries.put(i, i);
+    }
+    copiedList = List.copyOf(values);
+    vector = PersistentVector.copyOf(values);
+    copiedMap = Map.copyOf(entries);
+    persistentMap = PersistentHashMap.copyOf(entries);
+    SplittableRandom random = new SplittableRandom(42);
+    probes = new Integer[PROBES];
+    for (int i = 0; i < PROBES; i++) {
+      probes[i] = random.nextInt(size);
+    }
+  }
+
+  private Integer nextProbe() {
+    return probes[cursor++ & (PROBES - 1)];
+  }
+
+  @Benchmark
+  public List<Integer> listAppendCopy() {
+    List<Integer> next = new ArrayList<>(copiedList);
+    next.add(-1);
+    return List.copyOf(next);
+  }
+
+  @Benchmark
+  public PersistentVector<Integer> listAppendPersistent() {
+    return vector.append(-1);
+  }
+
+  @Benchmark
+  public List<Integer> listSetCopy() {
+    List<Integer> next = new ArrayList<>(copiedList);
+    next.set(nextProbe(), -1);
+    return List.copyOf(next);
+  }
+
+  @Benchmark
+  public PersistentVector<Integer> listSetPersistent() {
+    return vector.with(nextProbe(), -1);
+  }
+
+  @Benchmark
+  public Integer listGetCopy() {
+    return copiedList.get(nextProbe());
+  }
+
+  @Benchmark
+  public Integer listGetPersistent() {
+    return vector.get(nextProbe());
+  }
+
+  @Benchmark
+  public Map<Integer, Integer> mapPutCopy() {
+    Map<Integer, Integer> next = new HashMap<>(copiedMap);
+    next.put(nextProbe(), -1);
+    return Map.copyOf(next);
+  }
+
+  @Benchmark
+  public PersistentHashMap<Integer, Integer> mapPutPersistent() {
+    return persistentMap.with(nextProbe(), -1);
+  }
+
+  @Benchmark
+  public Integer mapGetCopy() {
+    return copiedMap.get(nextProbe());
+  }
+
+  @Benchmark
+  public Integer mapGetPersistent() {
+    return persistentMap.get(nextProbe());
+  }
+
+  @Benchmark
+  public List<CopiedProfile> profileHistoryCopy() {
+    List<CopiedProfile> history = new ArrayList<>(HISTORY);
+    CopiedProfile profile = new CopiedProfile(List.of(), Map.of());
+    for (int i = 0; i < HISTORY; i++) {
+      profile = profile.withOrder(i);
+      history.add(profile);
+    }
+    return history;
+  }
+
+  @Benchmark
+  public List<PersistentProfile> profileHistoryPersistent() {
+    List<PersistentProfile> history = new ArrayList<>(HISTORY);
+    PersistentProfile profile = new PersistentProfile(PersistentVector.empty(), PersistentHashMap.empty());
+    for (int i = 0; i < HISTORY; i++) {
+      profile = profile.withOrder(i);
+      history.add(profile);
+    }
+    return history;
+  }
+
+  /** Q24's CopiedProfile: order ids plus a "last order" preference, copied on every change. */
+  record CopiedProfile(List<Integer> orderIds, Map<String, Integer> preferences) {
+    CopiedProfile {
+      orderIds = List.copyOf(orderIds);
+      preferences = Map.copyOf(preferences);
+    }
+
+    CopiedProfile withOrder(int orderId) {
+      List<Integer> orders = new ArrayList<>(orderIds);
+      orders.add(orderId);
+      Map<String, Integer> updated = new HashMap<>(preferences);
+      updated.put("last-order", orderId);
+      return new CopiedProfile(orders, updated);
+    }
+  }
+
+  /** Q24's CustomerProfile reduced to the same two fields. */
+  record PersistentProfile(PersistentVector<Integer> orderIds, PersistentHashMap<String, Integer> preferences) {
+    PersistentProfile withOrder(int orderId) {
+      return new PersistentProfile(orderIds.append(orderId), preferences.with("last-order", orderId));
+    }
+  }
+}
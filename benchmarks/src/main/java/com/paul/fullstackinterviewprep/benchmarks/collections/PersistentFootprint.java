@@ -0,0 +1,96 @@
+package com.paul.fullstackinterviewprep.benchmarks.collections;
+
+import com.paul.fullstackinterviewprep.benchmarks.collections.PersistentCollectionsBenchmark.CopiedProfile;
+import com.paul.fullstackinterviewprep.benchmarks.collections.PersistentCollectionsBenchmark.PersistentProfile;
+import com.paul.fullstackinterviewprep.collections.PersistentHashMap;
+import com.paul.fullstackinterviewprep.collections.PersistentVector;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Retained heap of a version history: every version of a list and a map
+ * kept alive while each grows one entry at a time (Q24).
+ *
+ * With defensive copies (List.copyOf / Map.copyOf) version i holds its own
+ * i-element array, so n versions retain O(n^2) slots. Persistent versions
+ * share all nodes except the copied path, so the history costs
+ * O(n log n). Elements are shared by all versions in both cases and are
+ * counted once. The last pair is Q24's profile history: the list and a
+ * one-entry map updated together, as PersistentCollectionsBenchmark's
+ * profileHistory* benchmarks build it.
+ *
+ * <pre>
+ *   java -Xmx8g -cp benchmarks/target/benchmarks.jar \
+ *       com.paul.fullstackinterviewprep.benchmarks.collections.PersistentFootprint
+ * </pre>
+ */
+public class PersistentFootprint {
+
+  public static void main(String[] args) {
+    for (int versions : new int[] {1_000, 10_000}) {
+      Integer[] values = new Integer[versions];
+      for (int i = 0; i < versions; i++) {
+        values[i] = i;
+      }
+      System.out.printf("=== %,d versions ===%n", versions);
+
+      List<List<Integer>> copiedLists = new ArrayList<>();
+      List<Integer> list = List.of();
+      for (Integer value : values) {
+        List<Integer> next = new ArrayList<>(list);
+        next.add(value);
+        list = List.copyOf(next);
+        copiedLists.add(list);
+      }
+      report("List.copyOf history", copiedLists, versions);
+
+      List<PersistentVector<Integer>> vectors = new ArrayList<>();
+      PersistentVector<Integer> vector = PersistentVector.empty();
+      for (Integer value : values) {
+        vector = vector.append(value);
+        vectors.add(vector);
+      }
+      report("PersistentVector history", vectors, versions);
+
+      List<Map<Integer, Integer>> copiedMaps = new ArrayList<>();
+      Map<Integer, Integer> map = Map.of();
+      for (Integer value : values) {
+        Map<Integer, Integer> next = new HashMap<>(map);
+        next.put(value, value);
+        map = Map.copyOf(next);
+        copiedMaps.add(map);
+      }
+      report("Map.copyOf history", copiedMaps, versions);
+
+      List<PersistentHashMap<Integer, Integer>> maps = new ArrayList<>();
+      PersistentHashMap<Integer, Integer> persistentMap = PersistentHashMap.empty();
+      for (Integer value : values) {
+        persistentMap = persistentMap.with(value, value);
+        maps.add(persistentMap);
+      }
+      report("PersistentHashMap history", maps, versions);
+
+      List<CopiedProfile> copiedProfiles = new ArrayList<>();
+      CopiedProfile copiedProfile = new CopiedProfile(List.of(), Map.of());
+      List<PersistentProfile> persistentProfiles = new ArrayList<>();
+      PersistentProfile persistentProfile = new PersistentProfile(PersistentVector.empty(), PersistentHashMap.empty());
+      for (Integer value : values) {
+        copiedProfile = copiedProfile.withOrder(value);
+        copiedProfiles.add(copiedProfile);
+        persistentProfile = persistentProfile.withOrder(value);
+        persistentProfiles.add(persistentProfile);
+      }
+      report("Copied profile history", copiedProfiles, versions);
+      report("Persistent profile history", persistentProfiles, versions);
+      System.out.println();
+    }
+  }
+
+  static void report(String name, Object history, int versions) {
+    long bytes = GraphLayout.parseInstance(history).totalSize();
+    System.out.printf("%-28s %9.1f MB  %8.1f bytes/version%n", name, bytes / 1048576.0, (double) bytes / versions);
+  }
+}
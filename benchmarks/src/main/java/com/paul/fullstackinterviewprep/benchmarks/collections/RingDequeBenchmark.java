@@ -0,0 +1,91 @@
+package com.paul.fullstackinterviewprep.benchmarks.collections;
+
+import com.paul.fullstackinterviewprep.collections.RingDeque;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Q09's demonstrateDeque workloads - LinkedList as a stack and as a queue -
+ * against ArrayDeque and RingDeque.
+ *
+ * Each invocation pushes (or offers) {@code BATCH} elements and pops (or
+ * polls) them all again; scores are per element. Run with {@code -prof gc}:
+ * LinkedList allocates a node per element, the array-backed deques nothing
+ * once warmed up.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingDequeBenchmark {
+
+  static final int BATCH = 1024;
+  static final Integer ELEMENT = 1;
+
+  @Param({"ArrayDeque", "LinkedList", "RingDeque"})
+  String implementation;
+
+  Deque<Integer> deque;
+
+  @Setup
+  public void setUp() {
+    deque = switch (implementation) {
+      case "ArrayDeque" -> new ArrayDeque<>();
+      case "LinkedList" -> new LinkedList<>();
+      case "RingDeque" -> new RingDeque<>();
+      default -> throw new IllegalArgumentException(implementation);
+    };
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int stack() {
+    for (int i = 0; i < BATCH; i++) {
+      deque.push(ELEMENT);
+    }
+    int sum = 0;
+    for (int i = 0; i < BATCH; i++) {
+      sum += deque.pop();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int queue() {
+    for (int i = 0; i < BATCH; i++) {
+      deque.offer(ELEMENT);
+    }
+    int sum = 0;
+    for (int i = 0; i < BATCH; i++) {
+      sum += deque.poll();
+    }
+    return sum;
+  }
+
+  /** Steady-state FIFO of ~BATCH elements: the ring wraps instead of growing. */
+  @Benchmark
+  public Integer slidingWindow() {
+    if (deque.size() < BATCH) {
+      deque.offer(ELEMENT);
+    }
+    deque.offer(ELEMENT);
+    return deque.poll();
+  }
+}
@@ -0,0 +1,91 @@
+package com.paul.fullstackinterviewprep.benchmarks.collections;
+
+import com.paul.fullstackinterviewprep.collections.SnapshotList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CopyOnWriteArrayList vs SnapshotList as a shared listener/config list (Q22).
+ *
+ * mixed: 4 threads each run a stream of operations where writePercent of
+ * them add one element and remove the oldest (so the size stays put) and
+ * the rest read one element by index. iterate: one full snapshot
+ * traversal (it ignores writePercent, so pass {@code -p writePercent=0}
+ * when running it alone). Run with {@code -prof gc} to see the garbage:
+ * each add+remove pair copies the whole array twice in
+ * CopyOnWriteArrayList, but only a few hundred bytes of tree path in
+ * SnapshotList, whatever the size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SnapshotListBenchmark {
+
+  @Param({"100", "10000", "100000"})
+  int size;
+
+  @Param({"0", "1", "10", "50"})
+  int writePercent;
+
+  @Param({"CopyOnWriteArrayList", "SnapshotList"})
+  String implementation;
+
+  List<Integer> list;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    list = switch (implementation) {
+      case "CopyOnWriteArrayList" -> new CopyOnWriteArrayList<>();
+      case "SnapshotList" -> new SnapshotList<>();
+      default -> throw new IllegalArgumentException(implementation);
+    };
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadRandom {
+    final SplittableRandom random = new SplittableRandom();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Integer mixed(ThreadRandom state) {
+    SplittableRandom random = state.random;
+    if (random.nextInt(100) < writePercent) {
+      list.add(-1);
+      return list.remove(0);
+    }
+    // Every writer adds before it removes, so the list never shrinks below size.
+    return list.get(random.nextInt(size));
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public long iterate() {
+    long sum = 0;
+    for (int value : list) {
+      sum += value;
+    }
+    return sum;
+  }
+}
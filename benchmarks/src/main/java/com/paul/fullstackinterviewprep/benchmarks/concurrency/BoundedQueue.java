@@ -0,0 +1,65 @@
+package com.paul.fullstackinterviewprep.benchmarks.concurrency;
+
+import com.paul.fullstackinterviewprep.concurrency.MpscRingQueue;
+import com.paul.fullstackinterviewprep.concurrency.SpscRingQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Non-blocking offer/poll over the queues being compared, so one benchmark
+ * body drives all of them. Each forked JVM only ever sees one
+ * implementation, so the call site stays monomorphic.
+ */
+interface BoundedQueue {
+
+  boolean offer(Integer element);
+
+  Integer poll();
+
+  static BoundedQueue create(String implementation, int capacity) {
+    return switch (implementation) {
+      case "ArrayBlockingQueue" -> {
+        ArrayBlockingQueue<Integer> queue = new ArrayBlockingQueue<>(capacity);
+        yield new BoundedQueue() {
+          @Override
+          public boolean offer(Integer element) {
+            return queue.offer(element);
+          }
+
+          @Override
+          public Integer poll() {
+            return queue.poll();
+          }
+        };
+      }
+      case "SpscRingQueue" -> {
+        SpscRingQueue<Integer> queue = new SpscRingQueue<>(capacity);
+        yield new BoundedQueue() {
+          @Override
+          public boolean offer(Integer element) {
+            return queue.offer(element);
+          }
+
+          @Override
+          public Integer poll() {
+            return queue.poll();
+          }
+        };
+      }
+      case "MpscRingQueue" -> {
+        MpscRingQueue<Integer> queue = new MpscRingQueue<>(capacity);
+        yield new BoundedQueue() {
+          @Override
+          public boolean offer(Integer element) {
+            return queue.offer(element);
+          }
+
+          @Override
+          public Integer poll() {
+            return queue.poll();
+          }
+        };
+      }
+      default -> throw new IllegalArgumentException(implementation);
+    };
+  }
+}
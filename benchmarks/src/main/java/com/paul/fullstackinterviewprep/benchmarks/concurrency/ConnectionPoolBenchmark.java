@@ -0,0 +1,109 @@
+package com.paul.fullstackinterviewprep.benchmarks.concurrency;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Borrow/release round trips on Q32_ConnectionPool's design and two alternatives.
+ *
+ * Q32's SimpleConnectionPool keeps idle connections in an ArrayBlockingQueue,
+ * whose take() and offer() share one lock. LinkedBlockingQueue has separate
+ * put and take locks; a Semaphore for the count plus a lock-free
+ * ConcurrentLinkedQueue for the objects is roughly what HikariCP's bag does.
+ * Eight threads share a pool of {@code poolSize} connections and hold each
+ * one for a few simulated units of work.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ConnectionPoolBenchmark {
+
+  /** Stand-in for a pooled connection; the benchmark only moves it around. */
+  static final class Connection {
+    final int id;
+
+    Connection(int id) {
+      this.id = id;
+    }
+  }
+
+  @Param({"4", "16"})
+  int poolSize;
+
+  BlockingQueue<Connection> arrayQueue;
+  BlockingQueue<Connection> linkedQueue;
+  Semaphore permits;
+  Queue<Connection> idle;
+
+  @Setup
+  public void setUp() {
+    arrayQueue = new ArrayBlockingQueue<>(poolSize);
+    linkedQueue = new LinkedBlockingQueue<>(poolSize);
+    permits = new Semaphore(poolSize);
+    idle = new ConcurrentLinkedQueue<>();
+    for (int i = 0; i < poolSize; i++) {
+      arrayQueue.add(new Connection(i));
+      linkedQueue.add(new Connection(i));
+      idle.add(new Connection(i));
+    }
+  }
+
+  @Benchmark
+  public int arrayBlockingQueuePool() throws InterruptedException {
+    Connection connection = arrayQueue.take();
+    try {
+      return use(connection);
+    } finally {
+      arrayQueue.offer(connection);
+    }
+  }
+
+  @Benchmark
+  public int linkedBlockingQueuePool() throws InterruptedException {
+    Connection connection = linkedQueue.take();
+    try {
+      return use(connection);
+    } finally {
+      linkedQueue.offer(connection);
+    }
+  }
+
+  @Benchmark
+  public int semaphoreConcurrentQueuePool() throws InterruptedException {
+    permits.acquire();
+    Connection connection = idle.poll();
+    try {
+      return use(connection);
+    } finally {
+      idle.offer(connection);
+      permits.release();
+    }
+  }
+
+  private static int use(Connection connection) {
+    Blackhole.consumeCPU(64);
+    return connection.id;
+  }
+}
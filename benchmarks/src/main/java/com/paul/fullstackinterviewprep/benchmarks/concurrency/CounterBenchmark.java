@@ -0,0 +1,76 @@
+package com.paul.fullstackinterviewprep.benchmarks.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shared counters under contention: the Q17_Synchronization counters plus
+ * the java.util.concurrent.atomic alternatives.
+ *
+ * Four threads increment one shared counter. synchronized and
+ * ReentrantLock serialize every increment; AtomicLong turns it into a CAS
+ * retry loop on one contended cache line; LongAdder spreads increments over
+ * per-thread cells and only sums them on read. Run with {@code -t 1} for
+ * the uncontended cost of each.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CounterBenchmark {
+
+  private final Object monitor = new Object();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final AtomicLong atomic = new AtomicLong();
+  private final LongAdder adder = new LongAdder();
+  private long synchronizedCount;
+  private long lockCount;
+
+  @Benchmark
+  public long synchronizedBlock() {
+    synchronized (monitor) {
+      return ++synchronizedCount;
+    }
+  }
+
+  @Benchmark
+  public long reentrantLock() {
+    lock.lock();
+    try {
+      return ++lockCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Benchmark
+  public long atomicLong() {
+    return atomic.incrementAndGet();
+  }
+
+  @Benchmark
+  public void longAdder() {
+    adder.increment();
+  }
+
+  /** The read side LongAdder trades for: sum() walks every cell. */
+  @Benchmark
+  public long longAdderSum() {
+    return adder.sum();
+  }
+}
@@ -0,0 +1,67 @@
+package com.paul.fullstackinterviewprep.benchmarks.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+/**
+ * Four producer threads and one consumer thread passing elements through a
+ * bounded queue - the audit-writer shape. The consumer is the bottleneck,
+ * so its poll score is the pipeline throughput and the four offer scores
+ * add up to about the same.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MpscQueueBenchmark {
+
+  static final Integer ELEMENT = 1;
+
+  @Param({"ArrayBlockingQueue", "MpscRingQueue"})
+  String implementation;
+
+  @Param({"1024"})
+  int capacity;
+
+  BoundedQueue queue;
+
+  @Setup
+  public void setUp() {
+    queue = BoundedQueue.create(implementation, capacity);
+  }
+
+  @Benchmark
+  @Group("transfer")
+  @GroupThreads(4)
+  public void offer(Control control) {
+    while (!queue.offer(ELEMENT) && !control.stopMeasurement) {
+      Thread.onSpinWait();
+    }
+  }
+
+  @Benchmark
+  @Group("transfer")
+  @GroupThreads(1)
+  public Integer poll(Control control) {
+    Integer element;
+    while ((element = queue.poll()) == null && !control.stopMeasurement) {
+      Thread.onSpinWait();
+    }
+    return element;
+  }
+}
@@ -0,0 +1,82 @@
+package com.paul.fullstackinterviewprep.benchmarks.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hand-off latency: ping-pong through two queues with an echo thread.
+ *
+ * The benchmark thread offers into {@code ping}; a dedicated echo thread
+ * polls it and offers the element back into {@code pong}, where the
+ * benchmark thread picks it up. One invocation is one round trip, i.e. two
+ * hand-offs, and SampleTime reports its distribution (p50, p99, p99.99).
+ * Both sides busy-spin, so this needs two free cores to mean anything.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueLatencyBenchmark {
+
+  static final Integer ELEMENT = 1;
+
+  @Param({"ArrayBlockingQueue", "SpscRingQueue", "MpscRingQueue"})
+  String implementation;
+
+  BoundedQueue ping;
+  BoundedQueue pong;
+  Thread echo;
+  volatile boolean running;
+
+  @Setup
+  public void setUp() {
+    ping = BoundedQueue.create(implementation, 1024);
+    pong = BoundedQueue.create(implementation, 1024);
+    running = true;
+    echo = new Thread(() -> {
+      while (running) {
+        Integer element = ping.poll();
+        if (element == null) {
+          Thread.onSpinWait();
+          continue;
+        }
+        while (!pong.offer(element)) {
+          Thread.onSpinWait();
+        }
+      }
+    }, "echo");
+    echo.setDaemon(true);
+    echo.start();
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    running = false;
+    echo.join();
+  }
+
+  @Benchmark
+  public Integer roundTrip() {
+    while (!ping.offer(ELEMENT)) {
+      Thread.onSpinWait();
+    }
+    Integer element;
+    while ((element = pong.poll()) == null) {
+      Thread.onSpinWait();
+    }
+    return element;
+  }
+}
@@ -0,0 +1,103 @@
+package com.paul.fullstackinterviewprep.benchmarks.examples;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Q09_ArrayListVsLinkedList.comparePerformance, measured properly.
+ *
+ * The original times one cold pass with System.nanoTime(): the first loop
+ * runs interpreted, the second already benefits from JIT warmup, and the
+ * results of get() are discarded so the JIT may drop the loop entirely.
+ * Here every result goes to JMH (returned or sunk into a Blackhole) and
+ * each benchmark is warmed up in its own forked JVM.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark {
+
+  /** Elements inserted at the front per invocation, as in Q09. */
+  static final int INSERTS = 10_000;
+
+  @Param({"1000", "100000"})
+  int size;
+
+  ArrayList<Integer> arrayList;
+  LinkedList<Integer> linkedList;
+
+  @Setup
+  public void setUp() {
+    arrayList = new ArrayList<>();
+    linkedList = new LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      arrayList.add(i);
+      linkedList.add(i);
+    }
+  }
+
+  @Benchmark
+  public Integer arrayListGetMiddle() {
+    return arrayList.get(size / 2);
+  }
+
+  @Benchmark
+  public Integer linkedListGetMiddle() {
+    return linkedList.get(size / 2);
+  }
+
+  @Benchmark
+  public long arrayListIterate() {
+    return sum(arrayList);
+  }
+
+  @Benchmark
+  public long linkedListIterate() {
+    return sum(linkedList);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void arrayListInsertAtFront(Blackhole blackhole) {
+    ArrayList<Integer> list = new ArrayList<>();
+    for (int i = 0; i < INSERTS; i++) {
+      list.add(0, i);
+    }
+    blackhole.consume(list);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void linkedListInsertAtFront(Blackhole blackhole) {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < INSERTS; i++) {
+      list.addFirst(i);
+    }
+    blackhole.consume(list);
+  }
+
+  private static long sum(List<Integer> list) {
+    long sum = 0;
+    for (int value : list) {
+      sum += value;
+    }
+    return sum;
+  }
+}
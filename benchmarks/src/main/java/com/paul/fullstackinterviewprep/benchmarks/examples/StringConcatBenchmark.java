@@ -0,0 +1,70 @@
+package com.paul.fullstackinterviewprep.benchmarks.examples;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Q03_StringBuilderBuffer's concatenation comparison, measured properly.
+ *
+ * In Q03 the String loop runs first and cold, so it also pays for class
+ * loading and interpretation, and StringBuffer's lock is almost free
+ * because the JIT elides locks on objects that never escape. Returning the
+ * result keeps every variant alive; run with {@code -prof gc} to see the
+ * quadratic allocation of {@code s += "a"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringConcatBenchmark {
+
+  @Param({"100", "10000"})
+  int count;
+
+  @Benchmark
+  public String stringConcatenation() {
+    String s = "";
+    for (int i = 0; i < count; i++) {
+      s += "a";
+    }
+    return s;
+  }
+
+  @Benchmark
+  public String stringBuilder() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      sb.append("a");
+    }
+    return sb.toString();
+  }
+
+  @Benchmark
+  public String stringBuffer() {
+    StringBuffer sb = new StringBuffer();
+    for (int i = 0; i < count; i++) {
+      sb.append("a");
+    }
+    return sb.toString();
+  }
+
+  @Benchmark
+  public String stringBuilderPresized() {
+    StringBuilder sb = new StringBuilder(count);
+    for (int i = 0; i < count; i++) {
+      sb.append('a');
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,106 @@
+package com.paul.fullstackinterviewprep.benchmarks.hackerrank;
+
+import com.paul.fullstackinterviewprep.hackerrank.medium.LeapGame;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The OneDArrayPart2 leap game on 10^7-cell boards.
+ *
+ * The board is runs of free cells and walls narrower than the leap, built
+ * so that every wall can be crossed and the game is only won at the far
+ * end: both solvers have to look at the whole board.
+ * - bfsIntArray: BFS over single cells of an int[] board
+ * - bitsetRuns: LeapGame, runs of free cells over bitsets
+ * - batchSequential / batchParallel: the same cells split into 64 boards,
+ *   solved one after another vs with LeapGame.solveAll()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class LeapGameBenchmark {
+
+  static final int BATCH = 64;
+
+  @Param({"10000000"})
+  int cells;
+
+  @Param({"3", "50"})
+  int leap;
+
+  int[] board;
+  LeapGame.Board bitsetBoard;
+  List<LeapGame.Board> batch;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    board = passableBoard(random, cells, leap);
+    bitsetBoard = LeapGame.Board.of(board, leap);
+    batch = new ArrayList<>(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      batch.add(LeapGame.Board.of(passableBoard(random, cells / BATCH, leap), leap));
+    }
+  }
+
+  @Benchmark
+  public boolean bfsIntArray() {
+    return LeapGame.canWinBfs(board, leap);
+  }
+
+  @Benchmark
+  public boolean bitsetRuns() {
+    return bitsetBoard.canWin();
+  }
+
+  @Benchmark
+  public int batchSequential() {
+    int wins = 0;
+    for (LeapGame.Board game : batch) {
+      if (game.canWin()) {
+        wins++;
+      }
+    }
+    return wins;
+  }
+
+  @Benchmark
+  public boolean[] batchParallel() {
+    return LeapGame.solveAll(batch);
+  }
+
+  private static int[] passableBoard(SplittableRandom random, int size, int leap) {
+    int[] cells = new int[size];
+    int run = 1 + random.nextInt(2 * leap);
+    int i = run;
+    while (i < size) {
+      int wall = random.nextInt(leap);
+      int next = 1 + random.nextInt(2 * leap);
+      if (run + wall + next < leap + 1) {
+        next = leap + 1 - run - wall;
+      }
+      for (int k = 0; k < wall && i < size; k++) {
+        cells[i++] = 1;
+      }
+      i += next;
+      run = next;
+    }
+    return cells;
+  }
+}
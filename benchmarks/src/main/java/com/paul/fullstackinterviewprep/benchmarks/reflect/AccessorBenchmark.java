@@ -0,0 +1,188 @@
+package com.paul.fullstackinterviewprep.benchmarks.reflect;
+
+import com.paul.fullstackinterviewprep.reflect.Accessors;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One field read, field write, method call and constructor call on a bean
+ * with private members, as a mapper or copier makes them per column.
+ *
+ * - direct*: plain Java, the floor
+ * - reflect*: Field.get/set, Method.invoke and Constructor.newInstance
+ *   after setAccessible(true), each Method and Field cached
+ * - handle*: a MethodHandle held in a (non-final) field, so the JIT can't
+ *   treat it as a constant - the usual mistake with handles
+ * - accessor*: Accessors' generated getter/setter/lambdas
+ * Every variant goes through the same private members.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessorBenchmark {
+
+  static final class Bean {
+    private String name;
+    private int quantity;
+
+    private Bean(String name, int quantity) {
+      this.name = name;
+      this.quantity = quantity;
+    }
+
+    private int total(int price) {
+      return quantity * price;
+    }
+  }
+
+  Bean bean;
+  String name = "widget";
+  int price = 7;
+
+  Field nameField;
+  Method totalMethod;
+  Constructor<Bean> constructor;
+  MethodHandle nameGetterHandle;
+  MethodHandle nameSetterHandle;
+  MethodHandle totalHandle;
+  MethodHandle constructorHandle;
+  Function<Bean, Object> nameGetter;
+  BiConsumer<Bean, Object> nameSetter;
+  BiFunction<String, Integer, Bean> create;
+  TotalFunction total;
+
+  /** An int-returning target interface, so the accessor path doesn't box. */
+  @FunctionalInterface
+  public interface TotalFunction {
+    int total(Bean bean, int price);
+  }
+
+  @Setup
+  public void setUp() throws ReflectiveOperationException {
+    bean = new Bean("widget", 3);
+
+    nameField = Bean.class.getDeclaredField("name");
+    nameField.setAccessible(true);
+    totalMethod = Bean.class.getDeclaredMethod("total", int.class);
+    totalMethod.setAccessible(true);
+    constructor = Bean.class.getDeclaredConstructor(String.class, int.class);
+    constructor.setAccessible(true);
+
+    MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(Bean.class, MethodHandles.lookup());
+    nameGetterHandle = lookup.findGetter(Bean.class, "name", String.class);
+    nameSetterHandle = lookup.findSetter(Bean.class, "name", String.class);
+    totalHandle = lookup.findVirtual(Bean.class, "total", MethodType.methodType(int.class, int.class));
+    constructorHandle = lookup.findConstructor(Bean.class, MethodType.methodType(void.class, String.class, int.class));
+
+    Accessors<Bean> accessors = Accessors.of(Bean.class);
+    nameGetter = accessors.getter("name");
+    nameSetter = accessors.setter("name");
+    total = accessors.method("total", TotalFunction.class, int.class);
+    create = accessors.constructor(BiFunction.class, String.class, int.class);
+  }
+
+  @Benchmark
+  public Object directGet() {
+    return bean.name;
+  }
+
+  @Benchmark
+  public Object reflectGet() throws IllegalAccessException {
+    return nameField.get(bean);
+  }
+
+  @Benchmark
+  public Object handleGet() throws Throwable {
+    return (String) nameGetterHandle.invokeExact(bean);
+  }
+
+  @Benchmark
+  public Object accessorGet() {
+    return nameGetter.apply(bean);
+  }
+
+  @Benchmark
+  public Bean directSet() {
+    bean.name = name;
+    return bean;
+  }
+
+  @Benchmark
+  public Bean reflectSet() throws IllegalAccessException {
+    nameField.set(bean, name);
+    return bean;
+  }
+
+  @Benchmark
+  public Bean handleSet() throws Throwable {
+    nameSetterHandle.invokeExact(bean, name);
+    return bean;
+  }
+
+  @Benchmark
+  public Bean accessorSet() {
+    nameSetter.accept(bean, name);
+    return bean;
+  }
+
+  @Benchmark
+  public int directInvoke() {
+    return bean.total(price);
+  }
+
+  @Benchmark
+  public int reflectInvoke() throws ReflectiveOperationException {
+    return (Integer) totalMethod.invoke(bean, price);
+  }
+
+  @Benchmark
+  public int handleInvoke() throws Throwable {
+    return (int) totalHandle.invokeExact(bean, price);
+  }
+
+  @Benchmark
+  public int accessorInvoke() {
+    return total.total(bean, price);
+  }
+
+  @Benchmark
+  public Bean directNew() {
+    return new Bean(name, price);
+  }
+
+  @Benchmark
+  public Bean reflectNew() throws ReflectiveOperationException {
+    return constructor.newInstance(name, price);
+  }
+
+  @Benchmark
+  public Bean handleNew() throws Throwable {
+    return (Bean) constructorHandle.invokeExact(name, price);
+  }
+
+  @Benchmark
+  public Bean accessorNew() {
+    return create.apply(name, price);
+  }
+}
@@ -0,0 +1,181 @@
+package com.paul.fullstackinterviewprep.benchmarks.reflect;
+
+import com.paul.fullstackinterviewprep.reflect.DeepCopier;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deep copy of a customer with its orders and their lines: per customer
+ * one address, {@code orders} orders of five lines each, tags and a
+ * quantity histogram array per order.
+ *
+ * - copyConstructors: hand-written copy constructors, as Q23's
+ *   Address(Address other) - the floor
+ * - deepCopier: DeepCopier.copy(); the declared types can't form a cycle,
+ *   so no identity map
+ * - deepCopierGraph: DeepCopier.copyGraph(), the same with the identity
+ *   map that a possible cycle would force
+ * - serialization: ObjectOutputStream to a byte array and back, the usual
+ *   generic deep copy
+ * Run with {@code -prof gc}: serialization allocates the stream buffers
+ * and its handle tables on top of the copy itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class DeepCopyBenchmark {
+
+  public static final class Address implements Serializable {
+    String street;
+    String city;
+    String country;
+
+    Address(String street, String city, String country) {
+      this.street = street;
+      this.city = city;
+      this.country = country;
+    }
+
+    Address(Address other) {
+      this(other.street, other.city, other.country);
+    }
+  }
+
+  public static final class OrderLine implements Serializable {
+    String sku;
+    int quantity;
+    BigDecimal price;
+
+    OrderLine(String sku, int quantity, BigDecimal price) {
+      this.sku = sku;
+      this.quantity = quantity;
+      this.price = price;
+    }
+
+    OrderLine(OrderLine other) {
+      this(other.sku, other.quantity, other.price);
+    }
+  }
+
+  public static final class Order implements Serializable {
+    long id;
+    LocalDate date;
+    String status;
+    Address shipTo;
+    List<OrderLine> lines;
+    String[] tags;
+    int[] quantities;
+
+    Order(long id, LocalDate date, String status, Address shipTo) {
+      this.id = id;
+      this.date = date;
+      this.status = status;
+      this.shipTo = shipTo;
+      this.lines = new ArrayList<>();
+    }
+
+    Order(Order other) {
+      this(other.id, other.date, other.status, new Address(other.shipTo));
+      for (OrderLine line : other.lines) {
+        lines.add(new OrderLine(line));
+      }
+      tags = other.tags.clone();
+      quantities = other.quantities.clone();
+    }
+  }
+
+  public static final class Customer implements Serializable {
+    int id;
+    String name;
+    Address address;
+    List<Order> orders;
+
+    Customer(int id, String name, Address address) {
+      this.id = id;
+      this.name = name;
+      this.address = address;
+      this.orders = new ArrayList<>();
+    }
+
+    Customer(Customer other) {
+      this(other.id, other.name, new Address(other.address));
+      orders = new ArrayList<>(other.orders.size());
+      for (Order order : other.orders) {
+        orders.add(new Order(order));
+      }
+    }
+  }
+
+  @Param({"10", "1000"})
+  int orders;
+
+  Customer customer;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    customer = new Customer(1, "Ada Lovelace", new Address("12 St James's Square", "London", "UK"));
+    String[] statuses = {"PENDING", "SHIPPED", "DELIVERED"};
+    for (int i = 0; i < orders; i++) {
+      Order order = new Order(i, LocalDate.of(2024, 1, 1).plusDays(i % 365), statuses[i % 3],
+          new Address(i + " Main St", "Springfield", "US"));
+      for (int j = 0; j < 5; j++) {
+        order.lines.add(new OrderLine("SKU-" + random.nextInt(1000), 1 + random.nextInt(9),
+            BigDecimal.valueOf(random.nextInt(100_000), 2)));
+      }
+      order.tags = new String[] {"web", statuses[i % 3].toLowerCase()};
+      order.quantities = new int[] {1, 2, 3, 4, 5, 6, 7, 8};
+      customer.orders.add(order);
+    }
+  }
+
+  @Benchmark
+  public Customer copyConstructors() {
+    return new Customer(customer);
+  }
+
+  @Benchmark
+  public Customer deepCopier() {
+    return DeepCopier.copy(customer);
+  }
+
+  @Benchmark
+  public Customer deepCopierGraph() {
+    return DeepCopier.copyGraph(customer);
+  }
+
+  @Benchmark
+  public Customer serialization() throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(customer);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (Customer) in.readObject();
+    }
+  }
+}
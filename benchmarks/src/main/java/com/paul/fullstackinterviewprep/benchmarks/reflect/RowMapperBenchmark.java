@@ -0,0 +1,148 @@
+package com.paul.fullstackinterviewprep.benchmarks.reflect;
+
+import com.paul.fullstackinterviewprep.orders.OrderRowMappers;
+import com.paul.fullstackinterviewprep.orders.Product;
+import com.paul.fullstackinterviewprep.orders.RowMapper;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mapping every row of a {@code rows}-row products result set to Product.
+ *
+ * - generated: ProductRowMapper from @RowMapped (OrderRowMappers.PRODUCT) -
+ *   typed getters by index into the canonical constructor
+ * - reflective: what a generic mapper does without code generation -
+ *   findColumn() by name, getObject(column, boxed type) and
+ *   Constructor.newInstance(Object[]) per row; names, types and the
+ *   constructor are resolved once up front
+ * The query runs once in an in-memory H2 database; each operation rewinds
+ * the scrollable ResultSet, so the score is the mapping plus H2's own
+ * per-row cost, which both variants pay. Run with {@code -prof gc}: the
+ * reflective mapper allocates an Object[] and a box for every int column
+ * on top of the Product itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class RowMapperBenchmark {
+
+  @Param({"1000000"})
+  int rows;
+
+  Connection connection;
+  Statement statement;
+  ResultSet resultSet;
+  RowMapper<Product> reflective;
+
+  @Setup
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:rowmapper");
+    try (Statement ddl = connection.createStatement()) {
+      // The products table from db/schema.sql, without the foreign keys
+      ddl.execute("CREATE TABLE products (product_id INT PRIMARY KEY, product_name VARCHAR(100) NOT NULL, "
+          + "category_id INT, supplier_id INT, unit_price DECIMAL(10, 2) NOT NULL, units_in_stock INT DEFAULT 0, "
+          + "units_on_order INT DEFAULT 0, reorder_level INT DEFAULT 10, discontinued BOOLEAN DEFAULT FALSE)");
+      ddl.execute("INSERT INTO products SELECT x, 'Product ' || x, NULLIF(MOD(x, 8), 0), MOD(x, 20) + 1, "
+          + "MOD(x, 10000) / 100.0 + 1, MOD(x, 500), MOD(x, 50), 10, MOD(x, 97) = 0 "
+          + "FROM SYSTEM_RANGE(1, " + rows + ")");
+    }
+    statement = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+    resultSet = statement.executeQuery("SELECT " + OrderRowMappers.PRODUCT_COLUMNS + " FROM products p");
+    reflective = new ReflectiveRowMapper<>(Product.class);
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Benchmark
+  public void generated(Blackhole bh) throws SQLException {
+    mapAll(OrderRowMappers.PRODUCT, bh);
+  }
+
+  @Benchmark
+  public void reflective(Blackhole bh) throws SQLException {
+    mapAll(reflective, bh);
+  }
+
+  private void mapAll(RowMapper<Product> mapper, Blackhole bh) throws SQLException {
+    resultSet.beforeFirst();
+    while (resultSet.next()) {
+      bh.consume(mapper.map(resultSet));
+    }
+  }
+
+  /** Maps a record by component name: column = component name in snake_case. */
+  static final class ReflectiveRowMapper<T extends Record> implements RowMapper<T> {
+    private final Constructor<T> constructor;
+    private final String[] columns;
+    private final Class<?>[] types;
+
+    ReflectiveRowMapper(Class<T> type) {
+      RecordComponent[] components = type.getRecordComponents();
+      columns = new String[components.length];
+      types = new Class<?>[components.length];
+      Class<?>[] parameterTypes = new Class<?>[components.length];
+      for (int i = 0; i < components.length; i++) {
+        columns[i] = components[i].getName().replaceAll("([A-Z])", "_$1").toLowerCase();
+        parameterTypes[i] = components[i].getType();
+        types[i] = wrap(parameterTypes[i]);
+      }
+      try {
+        constructor = type.getDeclaredConstructor(parameterTypes);
+      } catch (NoSuchMethodException e) {
+        throw new IllegalArgumentException(e);
+      }
+    }
+
+    @Override
+    public T map(ResultSet rs) throws SQLException {
+      Object[] args = new Object[columns.length];
+      for (int i = 0; i < columns.length; i++) {
+        args[i] = rs.getObject(rs.findColumn(columns[i]), types[i]);
+      }
+      try {
+        return constructor.newInstance(args);
+      } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+        throw new SQLException(e);
+      }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+      if (type == int.class) {
+        return Integer.class;
+      }
+      if (type == long.class) {
+        return Long.class;
+      }
+      if (type == boolean.class) {
+        return Boolean.class;
+      }
+      return type;
+    }
+  }
+}
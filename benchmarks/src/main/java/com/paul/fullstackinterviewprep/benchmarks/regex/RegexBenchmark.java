@@ -0,0 +1,126 @@
+package com.paul.fullstackinterviewprep.benchmarks.regex;
+
+import com.paul.fullstackinterviewprep.text.PatternCache;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The regex hot paths in hackerrank/medium, as originally written and with the pattern hoisted.
+ *
+ * - JavaRegex called String.matches(), which compiles the IPv4 pattern
+ *   again for every input
+ * - TagContentExtractor compiled its tag pattern once per line
+ * - DuplicateWords re-ran replaceAll() - compiling the pattern again and
+ *   rescanning the whole sentence - for every duplicate found
+ *
+ * Each pair shows what the compile (or rescan) costs relative to the match.
+ * The PatternCache variants add the cache lookup and Matcher reuse that
+ * the utilities now go through; ipv4PatternCacheTimed adds the match-time
+ * recording of a cache created with {@code timed}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegexBenchmark {
+
+  static final String IPV4 =
+      "^((25[0-5]|2[0-4][0-9]|[01]?[0-9]?[0-9])\\.){3}(25[0-5]|2[0-4][0-9]|[01]?[0-9]?[0-9])$";
+  static final Pattern IPV4_PATTERN = Pattern.compile(IPV4);
+  static final String[] ADDRESSES = {"000.12.12.034", "121.234.12.12", "23.45.12.56", "00.12.123.123123.123",
+      "122.23", "Hello.IP", "255.255.255.255", "256.1.1.1"};
+
+  static final PatternCache TIMED = new PatternCache(256, true);
+
+  static final String TAG = "<(.+)>([^<]+)</\\1>";
+  static final Pattern TAG_PATTERN = Pattern.compile(TAG);
+  static final String TAG_LINE = "<h1><a>contents</a>invalid</h1><par>Nested tags are fine</par><x>y</z>";
+
+  static final String DUPLICATE = "\\b(\\w+)\\s+\\1\\b";
+  static final Pattern DUPLICATE_PATTERN = Pattern.compile(DUPLICATE, Pattern.CASE_INSENSITIVE);
+  static final String SENTENCE = "Goodbye bye bye world world world in inthe the the order orders of of the the day";
+
+  @Benchmark
+  public void ipv4StringMatches(Blackhole blackhole) {
+    for (String address : ADDRESSES) {
+      blackhole.consume(address.matches(IPV4));
+    }
+  }
+
+  @Benchmark
+  public void ipv4PrecompiledPattern(Blackhole blackhole) {
+    for (String address : ADDRESSES) {
+      blackhole.consume(IPV4_PATTERN.matcher(address).matches());
+    }
+  }
+
+  @Benchmark
+  public void ipv4PatternCache(Blackhole blackhole) {
+    for (String address : ADDRESSES) {
+      blackhole.consume(PatternCache.shared().matches(IPV4, address));
+    }
+  }
+
+  @Benchmark
+  public void ipv4PatternCacheTimed(Blackhole blackhole) {
+    for (String address : ADDRESSES) {
+      blackhole.consume(TIMED.matches(IPV4, address));
+    }
+  }
+
+  @Benchmark
+  public void tagsCompilePerLine(Blackhole blackhole) {
+    Matcher m = Pattern.compile(TAG).matcher(TAG_LINE);
+    while (m.find()) {
+      blackhole.consume(m.group(2));
+    }
+  }
+
+  @Benchmark
+  public void tagsPrecompiledPattern(Blackhole blackhole) {
+    Matcher m = TAG_PATTERN.matcher(TAG_LINE);
+    while (m.find()) {
+      blackhole.consume(m.group(2));
+    }
+  }
+
+  @Benchmark
+  public int tagsPatternCache(Blackhole blackhole) {
+    return PatternCache.shared().forEachMatch(TAG, TAG_LINE, m -> blackhole.consume(m.group(2)));
+  }
+
+  @Benchmark
+  public String duplicateWordsReplaceAllPerMatch() {
+    String input = SENTENCE;
+    Matcher m = DUPLICATE_PATTERN.matcher(input);
+    while (m.find()) {
+      input = input.replaceAll("(?i)" + DUPLICATE, "$1");
+    }
+    return input;
+  }
+
+  @Benchmark
+  public String duplicateWordsSingleReplace() {
+    // The pattern only collapses pairs, so repeat until a pass changes nothing.
+    String input = SENTENCE;
+    String previous;
+    do {
+      previous = input;
+      input = DUPLICATE_PATTERN.matcher(input).replaceAll("$1");
+    } while (!input.equals(previous));
+    return input;
+  }
+}
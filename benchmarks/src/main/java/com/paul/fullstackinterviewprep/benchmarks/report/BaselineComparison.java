@@ -0,0 +1,186 @@
+package com.paul.fullstackinterviewprep.benchmarks.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against a stored baseline and fails on regressions.
+ *
+ * A benchmark counts as regressed when its score moved in the bad
+ * direction (down for throughput, up for time-per-op modes) by more than
+ * the threshold AND by more than the two runs' combined error margins, so
+ * noisy benchmarks don't fail the check on overlap alone. Benchmarks are
+ * matched on name, mode, thread count and @Param values.
+ *
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar -rf json -rff benchmarks/target/jmh-result.json
+ *   java -cp benchmarks/target/benchmarks.jar \
+ *       com.paul.fullstackinterviewprep.benchmarks.report.BaselineComparison \
+ *       benchmarks/baseline/jmh-baseline.json benchmarks/target/jmh-result.json [--threshold=10] [--update]
+ * </pre>
+ *
+ * Exits 1 if anything regressed, 0 otherwise. If the baseline does not
+ * exist yet, or {@code --update} is given, the current results are saved
+ * as the new baseline. Baselines are only comparable when recorded on the
+ * same machine and JDK.
+ */
+public class BaselineComparison {
+
+  static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+  /** One benchmark's primary score. */
+  record Score(String key, String mode, double score, double error, String unit) {
+
+    boolean higherIsBetter() {
+      return mode.equals("thrpt");
+    }
+  }
+
+  enum Verdict { REGRESSED, IMPROVED, UNCHANGED }
+
+  record Comparison(String key, Score baseline, Score current, double changePercent, Verdict verdict) {
+  }
+
+  public static void main(String[] args) throws IOException {
+    List<String> files = new ArrayList<>();
+    double threshold = DEFAULT_THRESHOLD_PERCENT;
+    boolean update = false;
+    for (String arg : args) {
+      if (arg.startsWith("--threshold=")) {
+        threshold = Double.parseDouble(arg.substring("--threshold=".length()));
+      } else if (arg.equals("--update")) {
+        update = true;
+      } else {
+        files.add(arg);
+      }
+    }
+    if (files.size() != 2) {
+      System.err.println("Usage: BaselineComparison <baseline.json> <current.json> [--threshold=10] [--update]");
+      System.exit(2);
+    }
+    Path baselinePath = Path.of(files.get(0));
+    Path currentPath = Path.of(files.get(1));
+    Map<String, Score> current = read(currentPath);
+
+    if (!Files.exists(baselinePath)) {
+      saveBaseline(currentPath, baselinePath);
+      System.out.println("No baseline at " + baselinePath + " - saved " + current.size() + " results as the baseline.");
+      return;
+    }
+
+    List<Comparison> comparisons = compare(read(baselinePath), current, threshold);
+    print(comparisons, threshold);
+    long regressions = comparisons.stream().filter(c -> c.verdict() == Verdict.REGRESSED).count();
+
+    if (update) {
+      saveBaseline(currentPath, baselinePath);
+      System.out.println("Baseline updated: " + baselinePath);
+    }
+    if (regressions > 0) {
+      System.out.println(regressions + " benchmark(s) regressed by more than " + threshold + "%");
+      System.exit(1);
+    }
+  }
+
+  static Map<String, Score> read(Path file) throws IOException {
+    Object root = Json.parse(Files.readString(file));
+    if (!(root instanceof List<?> results)) {
+      throw new IllegalArgumentException(file + " is not a JMH JSON result file");
+    }
+    Map<String, Score> scores = new TreeMap<>();
+    for (Object element : results) {
+      Map<?, ?> result = (Map<?, ?>) element;
+      Map<?, ?> metric = (Map<?, ?>) result.get("primaryMetric");
+      String mode = (String) result.get("mode");
+      Score score = new Score(keyOf(result), mode, number(metric.get("score")), number(metric.get("scoreError")),
+          (String) metric.get("scoreUnit"));
+      scores.put(score.key(), score);
+    }
+    return scores;
+  }
+
+  static List<Comparison> compare(Map<String, Score> baseline, Map<String, Score> current, double thresholdPercent) {
+    List<Comparison> comparisons = new ArrayList<>();
+    Map<String, Score> all = new LinkedHashMap<>(baseline);
+    current.forEach(all::putIfAbsent);
+    for (String key : all.keySet()) {
+      Score before = baseline.get(key);
+      Score after = current.get(key);
+      if (before == null || after == null) {
+        comparisons.add(new Comparison(key, before, after, Double.NaN, Verdict.UNCHANGED));
+        continue;
+      }
+      double changePercent = (after.score() - before.score()) / before.score() * 100.0;
+      double worsePercent = before.higherIsBetter() ? -changePercent : changePercent;
+      // NaN errors (single-iteration runs) are treated as zero.
+      double noise = zeroIfNaN(before.error()) + zeroIfNaN(after.error());
+      boolean significant = Math.abs(after.score() - before.score()) > noise;
+      Verdict verdict = Verdict.UNCHANGED;
+      if (significant && worsePercent > thresholdPercent) {
+        verdict = Verdict.REGRESSED;
+      } else if (significant && -worsePercent > thresholdPercent) {
+        verdict = Verdict.IMPROVED;
+      }
+      comparisons.add(new Comparison(key, before, after, changePercent, verdict));
+    }
+    return comparisons;
+  }
+
+  static void print(List<Comparison> comparisons, double threshold) {
+    System.out.printf("%-90s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Current", "Change", "(threshold " + threshold + "%)");
+    for (Comparison c : comparisons) {
+      if (c.baseline() == null || c.current() == null) {
+        System.out.printf("%-90s %14s %14s %9s  %s%n", c.key(), format(c.baseline()), format(c.current()), "",
+            c.baseline() == null ? "NEW" : "MISSING");
+        continue;
+      }
+      System.out.printf("%-90s %14s %14s %+8.1f%%  %s%n", c.key(), format(c.baseline()), format(c.current()),
+          c.changePercent(), c.verdict() == Verdict.UNCHANGED ? "" : c.verdict());
+    }
+  }
+
+  /** "pkg.Class.method [thrpt, 4 threads, size=1000]" - stable across runs of the same configuration. */
+  private static String keyOf(Map<?, ?> result) {
+    StringBuilder key = new StringBuilder((String) result.get("benchmark"));
+    key.append(" [").append(result.get("mode"));
+    Object threads = result.get("threads");
+    if (threads instanceof Double count && count != 1.0) {
+      key.append(", ").append(count.intValue()).append(" threads");
+    }
+    if (result.get("params") instanceof Map<?, ?> params) {
+      new TreeMap<>(params).forEach((name, value) -> key.append(", ").append(name).append('=').append(value));
+    }
+    return key.append(']').toString();
+  }
+
+  private static String format(Score score) {
+    return score == null ? "-" : String.format("%.3f %s", score.score(), score.unit());
+  }
+
+  /** JMH writes "NaN" as a string when an error margin cannot be computed. */
+  private static double number(Object value) {
+    if (value instanceof Double d) {
+      return d;
+    }
+    return value == null ? Double.NaN : Double.parseDouble(value.toString());
+  }
+
+  private static double zeroIfNaN(double value) {
+    return Double.isNaN(value) ? 0.0 : value;
+  }
+
+  private static void saveBaseline(Path current, Path baseline) throws IOException {
+    Path parent = baseline.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Files.copy(current, baseline, StandardCopyOption.REPLACE_EXISTING);
+  }
+}
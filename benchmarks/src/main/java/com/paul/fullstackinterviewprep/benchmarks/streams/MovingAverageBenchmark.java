@@ -0,0 +1,72 @@
+package com.paul.fullstackinterviewprep.benchmarks.streams;
+
+import com.paul.fullstackinterviewprep.streams.AnalyticGatherers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Gatherers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A {@code window}-day moving average over {@code days} daily revenue values.
+ *
+ * - listWindows: Java24Features' version - windowSliding(window), then
+ *   average each List
+ * - incremental: AnalyticGatherers.movingAverage, a running sum over a ring
+ * Both emit the same values and sum them, so the score is the whole
+ * pipeline. The list version grows with the window; the incremental one
+ * doesn't. Run with {@code -prof gc}: windowSliding allocates a window
+ * array and a List per value, movingAverage only the emitted Double.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MovingAverageBenchmark {
+
+  @Param({"1000000"})
+  int days;
+
+  @Param({"7", "30", "365"})
+  int window;
+
+  List<Double> revenue;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    revenue = new ArrayList<>(days);
+    for (int i = 0; i < days; i++) {
+      revenue.add(1_000 + random.nextDouble() * 4_000);
+    }
+  }
+
+  @Benchmark
+  public double listWindows() {
+    return revenue.stream()
+        .gather(Gatherers.windowSliding(window))
+        .mapToDouble(w -> w.stream().mapToDouble(Double::doubleValue).average().orElse(0.0))
+        .sum();
+  }
+
+  @Benchmark
+  public double incremental() {
+    return revenue.stream()
+        .gather(AnalyticGatherers.movingAverage(window, Double::doubleValue))
+        .mapToDouble(Double::doubleValue)
+        .sum();
+  }
+}
@@ -0,0 +1,94 @@
+package com.paul.fullstackinterviewprep.benchmarks.text;
+
+import com.paul.fullstackinterviewprep.text.DuplicateWordCollapser;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DuplicateWords on long adversarial lines.
+ *
+ * - replaceAllPerMatch: the original loop, one full replaceAll() per match
+ *   found in the ORIGINAL line - quadratic in the number of duplicates
+ * - replaceUntilStable: the obvious regex fix, repeated replaceAll() until a
+ *   pass changes nothing; each pass only halves a run of duplicates, so a
+ *   run of k equal words still takes log k full passes
+ * - collapser: DuplicateWordCollapser, one linear pass
+ *
+ * Shapes: one long run of the same word in alternating case, many short
+ * runs of 2-4 duplicates, and a line with no duplicates at all (the cost of
+ * scanning). replaceAllPerMatch takes seconds per call at 20,000 words.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DuplicateWordsBenchmark {
+
+  static final String DUPLICATE = "\\b(\\w+)\\s+\\1\\b";
+  static final Pattern DUPLICATE_PATTERN = Pattern.compile(DUPLICATE, Pattern.CASE_INSENSITIVE);
+
+  @Param({"1000", "20000"})
+  int words;
+
+  @Param({"oneLongRun", "shortRuns", "noDuplicates"})
+  String shape;
+
+  String line;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < words; i++) {
+      String word = switch (shape) {
+        case "oneLongRun" -> i % 2 == 0 ? "Order" : "oRDER";
+        case "shortRuns" -> "w" + (i / (2 + random.nextInt(3)));
+        case "noDuplicates" -> "w" + i;
+        default -> throw new IllegalArgumentException(shape);
+      };
+      sb.append(word).append(' ');
+    }
+    line = sb.toString();
+  }
+
+  @Benchmark
+  public String replaceAllPerMatch() {
+    String input = line;
+    Matcher m = DUPLICATE_PATTERN.matcher(input);
+    while (m.find()) {
+      input = input.replaceAll("(?i)" + DUPLICATE, "$1");
+    }
+    return input;
+  }
+
+  @Benchmark
+  public String replaceUntilStable() {
+    String input = line;
+    String previous;
+    do {
+      previous = input;
+      input = DUPLICATE_PATTERN.matcher(input).replaceAll("$1");
+    } while (!input.equals(previous));
+    return input;
+  }
+
+  @Benchmark
+  public String collapser() {
+    return DuplicateWordCollapser.collapse(line);
+  }
+}
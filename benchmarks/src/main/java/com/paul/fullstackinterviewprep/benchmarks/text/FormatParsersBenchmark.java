@@ -0,0 +1,119 @@
+package com.paul.fullstackinterviewprep.benchmarks.text;
+
+import com.paul.fullstackinterviewprep.text.FormatParsers;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tokens validated per microsecond: each format's regex vs its FormatParsers state machine.
+ *
+ * - regexPrecompiled: one Pattern, a fresh Matcher per token
+ * - regexReusedMatcher: one Matcher, reset() per token - the best the regex can do
+ * - parser: FormatParsers, which also hands back the parsed value
+ *
+ * Each invocation runs over 1,024 tokens, about three quarters of them
+ * valid; the rest are near misses (an octet of 256, February 29 in 2100,
+ * a missing '@') that the regex only rejects after backtracking.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatParsersBenchmark {
+
+  static final int TOKENS = 1024;
+
+  @Param({"ipv4", "ipv6", "isoDate", "email", "phone"})
+  String format;
+
+  String[] tokens;
+  Pattern pattern;
+  Matcher matcher;
+  ToLongFunction<CharSequence> parse;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(40);
+    pattern = Pattern.compile(switch (format) {
+      case "ipv4" -> FormatParsers.IPV4_REGEX;
+      case "ipv6" -> FormatParsers.IPV6_REGEX;
+      case "isoDate" -> FormatParsers.ISO_DATE_REGEX;
+      case "email" -> FormatParsers.EMAIL_REGEX;
+      default -> FormatParsers.PHONE_REGEX;
+    });
+    matcher = pattern.matcher("");
+    parse = switch (format) {
+      case "ipv4" -> FormatParsers::parseIpv4;
+      case "ipv6" -> s -> FormatParsers.isIpv6(s) ? 1 : 0;
+      case "isoDate" -> FormatParsers::parseIsoDate;
+      case "email" -> FormatParsers::parseEmail;
+      default -> FormatParsers::parsePhone;
+    };
+    tokens = new String[TOKENS];
+    for (int i = 0; i < TOKENS; i++) {
+      boolean valid = random.nextInt(4) != 0;
+      tokens[i] = switch (format) {
+        case "ipv4" -> String.format("%d.%d.%d.%d", random.nextInt(256), random.nextInt(256), random.nextInt(256),
+            valid ? random.nextInt(256) : 256);
+        case "ipv6" -> String.format(valid ? "2001:db8::%x:%x" : "2001:db8::%x:%x:1:2:3:4:5", random.nextInt(1 << 16),
+            random.nextInt(1 << 16));
+        case "isoDate" -> valid
+            ? String.format("%04d-%02d-%02d", 1990 + random.nextInt(40), 1 + random.nextInt(12), 1 + random.nextInt(28))
+            : "2100-02-29";
+        case "email" -> "employee" + i + (valid ? "@company.com" : ".company.com");
+        default -> String.format(valid ? "555-%04d" : "555-%05d", random.nextInt(10_000));
+      };
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TOKENS)
+  public int regexPrecompiled() {
+    int valid = 0;
+    for (String token : tokens) {
+      if (pattern.matcher(token).matches()) {
+        valid++;
+      }
+    }
+    return valid;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TOKENS)
+  public int regexReusedMatcher() {
+    int valid = 0;
+    for (String token : tokens) {
+      if (matcher.reset(token).matches()) {
+        valid++;
+      }
+    }
+    return valid;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TOKENS)
+  public long parser() {
+    long sum = 0;
+    for (String token : tokens) {
+      sum += parse.applyAsLong(token);
+    }
+    return sum;
+  }
+}
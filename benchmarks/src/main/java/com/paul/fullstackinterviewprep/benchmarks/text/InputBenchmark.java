@@ -0,0 +1,158 @@
+package com.paul.fullstackinterviewprep.benchmarks.text;
+
+import com.paul.fullstackinterviewprep.text.FastInput;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading a whole file of ints (OneDArrayPart2-style boards) and of text
+ * lines (DuplicateWords-style sentences) with Scanner, BufferedReader and
+ * FastInput. Each invocation reads the complete file, so throughput in
+ * MB/s is fileMb / (score in seconds). The files are written once per
+ * trial to the temp directory and stay in the page cache, so this
+ * measures parsing, not the disk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InputBenchmark {
+
+  @Param({"100"})
+  int fileMb;
+
+  Path ints;
+  Path lines;
+
+  @Setup(Level.Trial)
+  public void writeFiles() throws IOException {
+    SplittableRandom random = new SplittableRandom(42);
+    long target = fileMb * 1_048_576L;
+    ints = Files.createTempFile("ints", ".txt");
+    try (Writer out = Files.newBufferedWriter(ints)) {
+      for (long written = 0; written < target; ) {
+        String value = Integer.toString(random.nextInt(-1_000_000, 1_000_000));
+        out.write(value);
+        out.write(random.nextInt(16) == 0 ? '\n' : ' ');
+        written += value.length() + 1;
+      }
+    }
+    String[] words = {"the", "The", "order", "was", "shipped", "Shipped", "to", "customer", "warehouse", "late"};
+    lines = Files.createTempFile("lines", ".txt");
+    try (Writer out = Files.newBufferedWriter(lines)) {
+      for (long written = 0; written < target; ) {
+        int count = random.nextInt(5, 40);
+        for (int i = 0; i < count; i++) {
+          String word = words[random.nextInt(words.length)];
+          out.write(word);
+          out.write(i == count - 1 ? '\n' : ' ');
+          written += word.length() + 1;
+        }
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteFiles() throws IOException {
+    Files.deleteIfExists(ints);
+    Files.deleteIfExists(lines);
+  }
+
+  @Benchmark
+  public long intsScanner() throws IOException {
+    long sum = 0;
+    try (Scanner in = new Scanner(Files.newInputStream(ints))) {
+      while (in.hasNextInt()) {
+        sum += in.nextInt();
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long intsBufferedReader() throws IOException {
+    long sum = 0;
+    try (BufferedReader in = Files.newBufferedReader(ints)) {
+      String line;
+      while ((line = in.readLine()) != null) {
+        StringTokenizer tokens = new StringTokenizer(line);
+        while (tokens.hasMoreTokens()) {
+          sum += Integer.parseInt(tokens.nextToken());
+        }
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long intsFastInput() throws IOException {
+    long sum = 0;
+    try (FastInput in = FastInput.open(ints)) {
+      while (in.hasNext()) {
+        sum += in.nextInt();
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long linesScanner() throws IOException {
+    long chars = 0;
+    try (Scanner in = new Scanner(Files.newInputStream(lines))) {
+      while (in.hasNextLine()) {
+        chars += in.nextLine().length();
+      }
+    }
+    return chars;
+  }
+
+  @Benchmark
+  public long linesBufferedReader() throws IOException {
+    long chars = 0;
+    try (InputStream stream = Files.newInputStream(lines);
+        BufferedReader in = new BufferedReader(new InputStreamReader(stream, StandardCharsets.ISO_8859_1), 1 << 16)) {
+      String line;
+      while ((line = in.readLine()) != null) {
+        chars += line.length();
+      }
+    }
+    return chars;
+  }
+
+  @Benchmark
+  public long linesFastInput() throws IOException {
+    long chars = 0;
+    try (FastInput in = FastInput.open(lines)) {
+      CharSequence line;
+      while ((line = in.nextLine()) != null) {
+        chars += line.length();
+      }
+    }
+    return chars;
+  }
+}
@@ -0,0 +1,84 @@
+package com.paul.fullstackinterviewprep.benchmarks.text;
+
+import com.paul.fullstackinterviewprep.orders.Order;
+import com.paul.fullstackinterviewprep.text.StringInterner;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Retained heap of 1M orders loaded the way JDBC hands them over - a new
+ * String per column per row - with and without StringInterner on the
+ * low-cardinality columns (ship city, ship country, status), as
+ * OrderRowMappers does.
+ *
+ * Also prints the interner's own bytesSaved estimate next to the measured
+ * difference, and what the table costs after 10M distinct values went
+ * through it: the same as after 30, because it never grows.
+ *
+ * <pre>
+ *   java -Xmx4g -cp benchmarks/target/benchmarks.jar \
+ *       com.paul.fullstackinterviewprep.benchmarks.text.InternFootprint
+ * </pre>
+ */
+public class InternFootprint {
+
+  static final String[] CITIES = {"New York", "Chicago", "London", "Paris", "Berlin", "Toronto", "Sydney", "Tokyo",
+      "Madrid", "Rome", "Austin", "Seattle", "Boston", "Denver", "Dublin", "Lyon", "Munich", "Osaka", "Perth", "Oslo"};
+  static final String[] COUNTRIES = {"USA", "UK", "France", "Germany", "Canada", "Australia", "Japan", "Spain",
+      "Italy", "Ireland", "Norway"};
+  static final String[] STATUSES = {"PENDING", "PROCESSING", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+  public static void main(String[] args) {
+    int rows = 1_000_000;
+    List<Order> plain = load(rows, null);
+    long plainBytes = GraphLayout.parseInstance(plain).totalSize();
+    plain = null;
+
+    StringInterner interner = new StringInterner(4096, 64);
+    List<Order> interned = load(rows, interner);
+    long internedBytes = GraphLayout.parseInstance(interned).totalSize();
+    StringInterner.Stats stats = interner.stats();
+
+    System.out.printf("%,d orders, one String per column%n", rows);
+    report("no interning", plainBytes, rows);
+    report("interned", internedBytes, rows);
+    System.out.printf("saved (measured)  %8.1f MB%n", (plainBytes - internedBytes) / 1048576.0);
+    System.out.printf("saved (stats)     %8.1f MB, hit rate %.4f, %d live slots%n", stats.bytesSaved() / 1048576.0,
+        stats.hitRate(), stats.liveSlots());
+    System.out.printf("interner table    %8.1f KB%n", GraphLayout.parseInstance(interner).totalSize() / 1024.0);
+
+    StringInterner highCardinality = new StringInterner(4096, 64);
+    for (int i = 0; i < 10_000_000; i++) {
+      highCardinality.intern("order-" + i);
+    }
+    StringInterner.Stats unique = highCardinality.stats();
+    System.out.printf("%n10M distinct values: %,d evictions, %d live slots, table %8.1f KB%n", unique.evictions(),
+        unique.liveSlots(), GraphLayout.parseInstance(highCardinality).totalSize() / 1024.0);
+  }
+
+  static List<Order> load(int rows, StringInterner interner) {
+    SplittableRandom random = new SplittableRandom(42);
+    List<Order> orders = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      orders.add(new Order(i, random.nextInt(1000), random.nextInt(50), LocalDate.of(2026, 1, 1), null, null,
+          i + " Main St",
+          column(CITIES[random.nextInt(CITIES.length)], interner),
+          column(COUNTRIES[random.nextInt(COUNTRIES.length)], interner),
+          column(STATUSES[random.nextInt(STATUSES.length)], interner)));
+    }
+    return orders;
+  }
+
+  /** A fresh copy, as ResultSet.getString() returns, then interned if an interner is given. */
+  static String column(String value, StringInterner interner) {
+    String fresh = new String(value.toCharArray());
+    return interner == null ? fresh : interner.intern(fresh);
+  }
+
+  static void report(String name, long bytes, int rows) {
+    System.out.printf("%-17s %8.1f MB  %6.1f bytes/order%n", name, bytes / 1048576.0, (double) bytes / rows);
+  }
+}
@@ -0,0 +1,115 @@
+package com.paul.fullstackinterviewprep.benchmarks.text;
+
+import com.paul.fullstackinterviewprep.text.LogScanner;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scanning a whole log file with InputAndPatternMatch's word pattern plus
+ * two typical log searches.
+ *
+ * - bufferedReader: one thread, a String per line, one Matcher per pattern
+ * - logScanner: LogScanner on a ForkJoinPool of {@code threads} workers
+ * The file is written once per trial and stays in the page cache, so this
+ * measures matching, not the disk; MB/s is fileMb / (score in seconds).
+ * With threads = 1 the two should be close. Beyond that LogScanner should
+ * scale with cores until memory bandwidth or the patterns' own cost
+ * stops it.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LogScanBenchmark {
+
+  static final List<Pattern> PATTERNS = List.of(Pattern.compile("\\b(\\w+)\\s+"), Pattern.compile("ERROR .*timeout"),
+      Pattern.compile("customer=\\d+"));
+
+  @Param({"1024"})
+  int fileMb;
+
+  @Param({"1", "2", "4", "8"})
+  int threads;
+
+  Path log;
+  ForkJoinPool pool;
+  LogScanner scanner;
+
+  @Setup(Level.Trial)
+  public void writeLog() throws IOException {
+    SplittableRandom random = new SplittableRandom(42);
+    String[] levels = {"INFO", "INFO", "INFO", "DEBUG", "WARN", "ERROR"};
+    String[] events = {"order shipped", "payment accepted", "request timeout", "cache miss", "retrying"};
+    long target = fileMb * 1_048_576L;
+    log = Files.createTempFile("app", ".log");
+    try (Writer out = Files.newBufferedWriter(log)) {
+      StringBuilder line = new StringBuilder(128);
+      for (long written = 0; written < target; written += line.length()) {
+        line.setLength(0);
+        line.append("2026-10-19T12:").append(random.nextInt(10, 60)).append(':').append(random.nextInt(10, 60))
+            .append(' ').append(levels[random.nextInt(levels.length)])
+            .append(' ').append(events[random.nextInt(events.length)])
+            .append(" order=").append(random.nextInt(1_000_000))
+            .append(" customer=").append(random.nextInt(10_000))
+            .append(" took ").append(random.nextInt(2_000)).append(" ms\n");
+        out.append(line);
+      }
+    }
+    pool = new ForkJoinPool(threads);
+    scanner = new LogScanner(PATTERNS);
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteLog() throws IOException {
+    pool.shutdown();
+    Files.deleteIfExists(log);
+  }
+
+  @Benchmark
+  public long bufferedReader() throws IOException {
+    Matcher[] matchers = PATTERNS.stream().map(p -> p.matcher("")).toArray(Matcher[]::new);
+    long matches = 0;
+    try (BufferedReader in = Files.newBufferedReader(log, StandardCharsets.ISO_8859_1)) {
+      String line;
+      while ((line = in.readLine()) != null) {
+        for (Matcher matcher : matchers) {
+          matcher.reset(line);
+          while (matcher.find()) {
+            matches++;
+          }
+        }
+      }
+    }
+    return matches;
+  }
+
+  @Benchmark
+  public LogScanner.ScanResult logScanner() throws IOException {
+    return scanner.scan(log, pool);
+  }
+}
@@ -0,0 +1,100 @@
+package com.paul.fullstackinterviewprep.benchmarks.text;
+
+import com.paul.fullstackinterviewprep.text.NumericStringSort;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sorting a price file by value, largest first (BigDecimalPractice).
+ *
+ * comparatorParse is the original approach - new BigDecimal() for both
+ * sides of every comparison - with the contract fixed. parseOnce parses
+ * each line into a BigDecimal once and sorts those. numericStringSort uses
+ * compact long keys and the parallel merge sort.
+ *
+ * Each call sorts a fresh copy of the input, so this is single-shot
+ * timing. The default 1M lines fit the 2 GB fork heap. At 50M lines the
+ * input, its copy and parseOnce's BigDecimal[] need several GB, and
+ * comparatorParse takes minutes per iteration, so that size is opt-in
+ * with a heap to match:
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar NumericSortBenchmark \
+ *       -p lines=50000000 -jvmArgsAppend "-Xms24g -Xmx24g"
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class NumericSortBenchmark {
+
+  @Param({"1000000"})
+  int lines;
+
+  String[] input;
+  String[] work;
+
+  @Setup(Level.Trial)
+  public void generate() {
+    SplittableRandom random = new SplittableRandom(42);
+    input = new String[lines];
+    for (int i = 0; i < lines; i++) {
+      // Prices up to 100k with 0-2 decimals, plus duplicates that differ only in formatting.
+      long cents = random.nextLong(10_000_000);
+      input[i] = switch (random.nextInt(4)) {
+        case 0 -> Long.toString(cents / 100);
+        case 1 -> cents / 100 + "." + (cents / 10 % 10);
+        default -> BigDecimal.valueOf(cents, 2).toPlainString();
+      };
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void copy() {
+    work = input.clone();
+  }
+
+  @Benchmark
+  public String[] comparatorParse() {
+    Arrays.sort(work, (a, b) -> new BigDecimal(b).compareTo(new BigDecimal(a)));
+    return work;
+  }
+
+  @Benchmark
+  public String[] parseOnce() {
+    BigDecimal[] values = new BigDecimal[work.length];
+    Integer[] order = new Integer[work.length];
+    for (int i = 0; i < work.length; i++) {
+      values[i] = new BigDecimal(work[i]);
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> values[b].compareTo(values[a]));
+    String[] sorted = new String[work.length];
+    for (int i = 0; i < sorted.length; i++) {
+      sorted[i] = work[order[i]];
+    }
+    return sorted;
+  }
+
+  @Benchmark
+  public String[] numericStringSort() {
+    NumericStringSort.sortDescending(work);
+    return work;
+  }
+}
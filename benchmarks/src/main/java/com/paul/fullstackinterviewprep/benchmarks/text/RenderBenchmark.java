@@ -0,0 +1,197 @@
+package com.paul.fullstackinterviewprep.benchmarks.text;
+
+import com.paul.fullstackinterviewprep.orders.EmployeeDetail;
+import com.paul.fullstackinterviewprep.orders.ReportWriter;
+import com.paul.fullstackinterviewprep.text.BufferPool;
+import com.paul.fullstackinterviewprep.text.ByteSink;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Rendering the v_employee_details report, already in memory, to an output
+ * stream - the part of a report response after the query.
+ *
+ * - jacksonJson: JsonMapper.writeValue() on the List, as a Spring message
+ *   converter would
+ * - stringBuilderJson / stringBuilderCsv: the hand-rolled way, the whole
+ *   body in a StringBuilder, then getBytes(UTF_8)
+ * - byteSinkJson / byteSinkCsv: ReportWriter's renderers on a pooled
+ *   16 KB ByteSink
+ * The stream only counts the bytes, so this is rendering and encoding only.
+ * Run with {@code -prof gc}: gc.alloc.rate.norm is bytes allocated per
+ * report. The StringBuilder variants allocate a few times the body size
+ * (growth copies, toString(), getBytes()) plus a String per number and
+ * date; the ByteSink ones at most a BigInteger per salary and nothing per
+ * byte.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderBenchmark {
+
+  static final String[] FIRST = {"Ana", "Björn", "Chloé", "Dmitri", "Émile", "Fatima", "Grace", "Hiroshi"};
+  static final String[] LAST = {"Smith", "Müller", "O'Brien", "García", "Nowak", "Kowalski", "Lee", "Dubois"};
+  static final String[] TITLES = {"Engineer", "Senior Engineer", "Sales, EMEA", "Manager", "Analyst \"II\""};
+  static final String[] DEPARTMENTS = {"Engineering", "Sales", "Finance", "Human Resources", null};
+
+  @Param({"100", "10000"})
+  int rows;
+
+  List<EmployeeDetail> report;
+  BufferPool pool;
+  JsonMapper mapper;
+  CountingStream out;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    report = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      String first = FIRST[random.nextInt(FIRST.length)];
+      String last = LAST[random.nextInt(LAST.length)];
+      report.add(new EmployeeDetail(i + 1, first, last, first + " " + last,
+          first.toLowerCase(Locale.ROOT) + "." + i + "@example.com", TITLES[random.nextInt(TITLES.length)],
+          BigDecimal.valueOf(3_000_000 + random.nextInt(20_000_000), 2),
+          LocalDate.ofEpochDay(10_000 + random.nextInt(9_000)),
+          DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+          i == 0 ? null : FIRST[random.nextInt(FIRST.length)] + " Lee"));
+    }
+    pool = new BufferPool(4, 16 * 1024);
+    mapper = JsonMapper.builder().build();
+    out = new CountingStream();
+  }
+
+  @Benchmark
+  public void jacksonJson() {
+    mapper.writeValue(out, report);
+  }
+
+  @Benchmark
+  public void stringBuilderJson() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    sb.append('[');
+    for (int i = 0; i < report.size(); i++) {
+      EmployeeDetail row = report.get(i);
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append("{\"employeeId\":").append(row.employeeId());
+      jsonField(sb, "firstName", row.firstName());
+      jsonField(sb, "lastName", row.lastName());
+      jsonField(sb, "fullName", row.fullName());
+      jsonField(sb, "email", row.email());
+      jsonField(sb, "jobTitle", row.jobTitle());
+      sb.append(",\"salary\":").append(row.salary() == null ? "null" : row.salary().toPlainString());
+      jsonField(sb, "hireDate", row.hireDate() == null ? null : row.hireDate().toString());
+      jsonField(sb, "departmentName", row.departmentName());
+      jsonField(sb, "managerName", row.managerName());
+      sb.append('}');
+    }
+    sb.append(']');
+    out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public void stringBuilderCsv() throws IOException {
+    StringBuilder sb = new StringBuilder(
+        "employee_id,first_name,last_name,full_name,email,job_title,salary,hire_date,department_name,manager_name\r\n");
+    for (EmployeeDetail row : report) {
+      sb.append(row.employeeId());
+      csvField(sb, row.firstName());
+      csvField(sb, row.lastName());
+      csvField(sb, row.fullName());
+      csvField(sb, row.email());
+      csvField(sb, row.jobTitle());
+      csvField(sb, row.salary() == null ? null : row.salary().toPlainString());
+      csvField(sb, row.hireDate() == null ? null : row.hireDate().toString());
+      csvField(sb, row.departmentName());
+      csvField(sb, row.managerName());
+      sb.append("\r\n");
+    }
+    out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public long byteSinkJson() throws IOException {
+    try (ByteSink sink = new ByteSink(out, pool)) {
+      return ReportWriter.EMPLOYEE_DETAILS.render(report, ReportWriter.Format.JSON, sink);
+    }
+  }
+
+  @Benchmark
+  public long byteSinkCsv() throws IOException {
+    try (ByteSink sink = new ByteSink(out, pool)) {
+      return ReportWriter.EMPLOYEE_DETAILS.render(report, ReportWriter.Format.CSV, sink);
+    }
+  }
+
+  /** Discards what is written but counts it, so nothing can be optimized away. */
+  static final class CountingStream extends OutputStream {
+    long bytes;
+
+    @Override
+    public void write(int b) {
+      bytes++;
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int length) {
+      bytes += length;
+    }
+  }
+
+  private static void jsonField(StringBuilder sb, String name, String value) {
+    sb.append(",\"").append(name).append("\":");
+    if (value == null) {
+      sb.append("null");
+      return;
+    }
+    sb.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      } else if (c < 0x20) {
+        sb.append(String.format("\\u%04X", (int) c));
+      } else {
+        sb.append(c);
+      }
+    }
+    sb.append('"');
+  }
+
+  private static void csvField(StringBuilder sb, String value) {
+    sb.append(',');
+    if (value == null) {
+      return;
+    }
+    if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+      sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+    } else {
+      sb.append(value);
+    }
+  }
+}
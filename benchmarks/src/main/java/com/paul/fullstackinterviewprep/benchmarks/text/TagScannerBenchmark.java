@@ -0,0 +1,90 @@
+package com.paul.fullstackinterviewprep.benchmarks.text;
+
+import com.paul.fullstackinterviewprep.text.TagContentScanner;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * TagContentExtractor on one long line: the precompiled regex vs TagContentScanner.
+ *
+ * Shapes:
+ * - wellFormed: nested tags with short texts, the friendly case
+ * - openTags: "<a><a><a>...x" - every '<' starts a candidate tag whose
+ *   (.+) runs to the end of the line and backtracks through each '>'
+ * - angleBrackets: "<<<<...>x" - the same with no complete tag at all
+ * - unclosed: "<a>text" repeated without close tags
+ * The regex's time grows at least quadratically with the line length on
+ * the last three and takes seconds per call at 20,000 chars; the scanner
+ * stays linear.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagScannerBenchmark {
+
+  static final Pattern TAG_PATTERN = Pattern.compile("<(.+)>([^<]+)</\\1>");
+
+  @Param({"1000", "20000"})
+  int length;
+
+  @Param({"wellFormed", "openTags", "angleBrackets", "unclosed"})
+  String shape;
+
+  String line;
+  TagContentScanner scanner;
+  Blackhole blackhole;
+
+  @Setup
+  public void setUp(Blackhole blackhole) {
+    this.blackhole = blackhole;
+    scanner = new TagContentScanner(blackhole::consume);
+    StringBuilder sb = new StringBuilder(length + 32);
+    int i = 0;
+    while (sb.length() < length) {
+      switch (shape) {
+        case "wellFormed" -> sb.append("<div><p>item ").append(i).append("</p><b>bold</b></div>");
+        case "openTags" -> sb.append("<a>");
+        case "angleBrackets" -> sb.append('<');
+        default -> sb.append("<a>text ").append(i);
+      }
+      i++;
+    }
+    if (!shape.equals("wellFormed")) {
+      sb.append(">x");
+    }
+    line = sb.toString();
+  }
+
+  @Benchmark
+  public int regex() {
+    Matcher m = TAG_PATTERN.matcher(line);
+    int count = 0;
+    while (m.find()) {
+      blackhole.consume(m.group(2));
+      count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public long scanner() {
+    scanner.feed(line);
+    return scanner.finish();
+  }
+}
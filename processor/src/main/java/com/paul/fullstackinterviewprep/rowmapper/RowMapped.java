@@ -0,0 +1,60 @@
+package com.paul.fullstackinterviewprep.rowmapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a RowMapper for the annotated record at compile time.
+ *
+ * For {@code record Product(...)} RowMapperProcessor writes
+ * {@code ProductRowMapper} next to it (a nested record's enclosing names
+ * are joined with '_', e.g. {@code Q20_Streams_PersonRowMapper}) with
+ * - {@code COLUMNS}: the record components as snake_case columns, each
+ *   prefixed with {@link #alias()}, in component order
+ * - {@code INSTANCE}: a mapper that reads the current row by column index
+ *   in that same order and calls the canonical constructor; it implements
+ *   {@link #mapper()} when one is given
+ * Primitive components are read with getInt()/getLong()/..., so nothing
+ * is boxed; boxed components map SQL NULL to null.
+ *
+ * Source-only: nothing of this annotation is left in the class files.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface RowMapped {
+
+  /** Table alias for COLUMNS, e.g. {@code "p"} for {@code p.product_id}; empty for bare column names. */
+  String alias() default "";
+
+  /**
+   * The application's row mapper interface, implemented as
+   * {@code mapper<Record>}: a generic interface whose one abstract method is
+   * {@code T map(ResultSet) throws SQLException}. Void (the default) leaves
+   * the generated class standalone, with a public map() of that shape.
+   */
+  Class<?> mapper() default Void.class;
+
+  /**
+   * Declares {@code static String lowCardinality(ResultSet, int)}, which
+   * reads the components marked {@link Column#lowCardinality()}; required
+   * if any are.
+   */
+  Class<?> interner() default Void.class;
+
+  /** Overrides for one record component. */
+  @Retention(RetentionPolicy.SOURCE)
+  @Target(ElementType.RECORD_COMPONENT)
+  @interface Column {
+
+    /** The column name; defaults to the component name in snake_case. */
+    String name() default "";
+
+    /**
+     * Read the String through the record's {@link RowMapped#interner()}, for
+     * columns with a handful of distinct values.
+     */
+    boolean lowCardinality() default false;
+  }
+}
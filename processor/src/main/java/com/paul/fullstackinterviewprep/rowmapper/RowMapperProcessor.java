@@ -0,0 +1,317 @@
+package com.paul.fullstackinterviewprep.rowmapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Writes a RowMapper class for every record annotated with @RowMapped.
+ *
+ * The generated map() is what one would write by hand: one typed getter
+ * call per column, by index, straight into the canonical constructor - no
+ * reflection, no column-name lookups, no Object[] of arguments, and
+ * primitives stay primitive. Component types without a JDBC getter are
+ * reported as compile errors on the component. The processor knows no
+ * application class: the interface to implement and the interner for
+ * low-cardinality columns come from the annotation.
+ */
+@SupportedAnnotationTypes({
+    "com.paul.fullstackinterviewprep.rowmapper.RowMapped",
+    "com.paul.fullstackinterviewprep.rowmapper.RowMapped.Column"})
+public class RowMapperProcessor extends AbstractProcessor {
+
+  /** Direct ResultSet getters; primitives need no null handling. */
+  private static final Map<String, String> GETTERS = Map.ofEntries(
+      Map.entry("int", "getInt"),
+      Map.entry("long", "getLong"),
+      Map.entry("double", "getDouble"),
+      Map.entry("float", "getFloat"),
+      Map.entry("short", "getShort"),
+      Map.entry("byte", "getByte"),
+      Map.entry("boolean", "getBoolean"),
+      Map.entry("java.lang.String", "getString"),
+      Map.entry("java.math.BigDecimal", "getBigDecimal"),
+      Map.entry("byte[]", "getBytes"));
+
+  /** Boxed types: read as the primitive, then null if wasNull(). */
+  private static final Map<String, String> NULLABLE = Map.of(
+      "java.lang.Integer", "int",
+      "java.lang.Long", "long",
+      "java.lang.Double", "double",
+      "java.lang.Float", "float",
+      "java.lang.Short", "short",
+      "java.lang.Byte", "byte",
+      "java.lang.Boolean", "boolean");
+
+  /** Types the driver converts itself through getObject(int, Class). */
+  private static final Set<String> OBJECTS = Set.of(
+      "java.time.LocalDate", "java.time.LocalDateTime", "java.time.LocalTime", "java.time.OffsetDateTime",
+      "java.util.UUID");
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+    for (Element element : round.getElementsAnnotatedWith(RowMapped.class)) {
+      if (element.getKind() != ElementKind.RECORD) {
+        error(element, "@RowMapped only applies to records");
+        continue;
+      }
+      TypeElement record = (TypeElement) element;
+      if (!record.getTypeParameters().isEmpty() || record.getModifiers().contains(Modifier.PRIVATE)) {
+        error(record, "@RowMapped records must not be generic or private");
+        continue;
+      }
+      generate(record);
+    }
+    for (Element component : round.getElementsAnnotatedWith(RowMapped.Column.class)) {
+      if (component.getEnclosingElement().getAnnotation(RowMapped.class) == null) {
+        error(component, "@RowMapped.Column has no effect on a record without @RowMapped");
+      }
+    }
+    return true;
+  }
+
+  private void generate(TypeElement record) {
+    RowMapped mapped = record.getAnnotation(RowMapped.class);
+    String prefix = mapped.alias().isEmpty() ? "" : mapped.alias() + ".";
+    TypeElement mapper = classAttribute(mapped::mapper);
+    TypeElement interner = classAttribute(mapped::interner);
+    if (mapper != null && !isMapperInterface(mapper)) {
+      error(record, "@RowMapped(mapper) must be a generic interface with one type parameter, not " + mapper);
+      return;
+    }
+    if (interner != null && !hasLowCardinality(interner)) {
+      error(record, "@RowMapped(interner) " + interner + " has no static String lowCardinality(ResultSet, int)");
+      return;
+    }
+    List<String> columns = new ArrayList<>();
+    List<String> reads = new ArrayList<>();
+    Set<String> helpers = new TreeSet<>();
+    boolean valid = true;
+    int index = 1;
+    for (RecordComponentElement component : record.getRecordComponents()) {
+      RowMapped.Column column = component.getAnnotation(RowMapped.Column.class);
+      String name = column != null && !column.name().isEmpty()
+          ? column.name()
+          : snakeCase(component.getSimpleName().toString());
+      String read = read(component, column != null && column.lowCardinality(), interner, index++, helpers);
+      if (read == null) {
+        valid = false;
+        continue;
+      }
+      columns.add(prefix + name);
+      reads.add(read);
+    }
+    if (!valid) {
+      return;
+    }
+
+    PackageElement pkg = processingEnv.getElementUtils().getPackageOf(record);
+    String packageName = pkg.getQualifiedName().toString();
+    String simpleName = mapperName(record);
+    String recordName = record.getQualifiedName().toString();
+    String visibility = isPublic(record) ? "public " : "";
+    String sourceName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+    StringBuilder src = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      src.append("package ").append(packageName).append(";\n\n");
+    }
+    src.append("import java.sql.ResultSet;\n");
+    src.append("import java.sql.SQLException;\n\n");
+    src.append("/**\n");
+    src.append(" * Maps the current row to a new {@code ").append(record.getSimpleName()).append("}, reading the\n");
+    src.append(" * columns by index in the order of COLUMNS. Generated from @RowMapped; do not edit.\n");
+    src.append(" */\n");
+    src.append(visibility).append("final class ").append(simpleName);
+    if (mapper != null) {
+      src.append(" implements ").append(mapper.getQualifiedName()).append('<').append(recordName).append('>');
+    }
+    src.append(" {\n\n");
+    src.append("  /** The columns in the order map() reads them. */\n");
+    src.append("  public static final String COLUMNS =\n      \"").append(String.join(", ", columns)).append("\";\n\n");
+    src.append("  public static final ").append(simpleName).append(" INSTANCE = new ").append(simpleName)
+        .append("();\n\n");
+    src.append("  private ").append(simpleName).append("() {\n  }\n\n");
+    if (mapper != null) {
+      src.append("  @Override\n");
+    }
+    src.append("  public ").append(recordName).append(" map(ResultSet rs) throws SQLException {\n");
+    src.append("    return new ").append(recordName).append('(');
+    for (int i = 0; i < reads.size(); i++) {
+      src.append(i == 0 ? "\n        " : ",\n        ").append(reads.get(i));
+    }
+    src.append(");\n  }\n");
+    for (String helper : helpers) {
+      src.append('\n').append(helper);
+    }
+    src.append("}\n");
+
+    try (Writer out = processingEnv.getFiler().createSourceFile(sourceName, record).openWriter()) {
+      out.write(src.toString());
+    } catch (IOException e) {
+      error(record, "Can't write " + sourceName + ": " + e.getMessage());
+    }
+  }
+
+  /** The expression that reads column {@code index} for {@code component}, or null after reporting an error. */
+  private String read(RecordComponentElement component, boolean lowCardinality, TypeElement interner, int index,
+      Set<String> helpers) {
+    TypeMirror type = component.asType();
+    String name = typeName(type);
+    if (lowCardinality) {
+      if (!name.equals("java.lang.String")) {
+        error(component, "lowCardinality only applies to String components");
+        return null;
+      }
+      if (interner == null) {
+        error(component, "lowCardinality needs an interner: @RowMapped(interner = ...)");
+        return null;
+      }
+      return interner.getQualifiedName() + ".lowCardinality(rs, " + index + ")";
+    }
+    String getter = GETTERS.get(name);
+    if (getter != null) {
+      return "rs." + getter + "(" + index + ")";
+    }
+    String primitive = NULLABLE.get(name);
+    if (primitive != null) {
+      String helper = "nullable" + Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+      helpers.add(nullableHelper(helper, name, primitive));
+      return helper + "(rs, " + index + ")";
+    }
+    if (OBJECTS.contains(name)) {
+      return "rs.getObject(" + index + ", " + name + ".class)";
+    }
+    if (type.getKind() == TypeKind.DECLARED
+        && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM) {
+      helpers.add(ENUM_HELPER);
+      return "nullableEnum(rs, " + index + ", " + name + ".class)";
+    }
+    error(component, "No ResultSet getter for " + name);
+    return null;
+  }
+
+  private static String nullableHelper(String helper, String boxed, String primitive) {
+    String getter = GETTERS.get(primitive);
+    String simpleBoxed = boxed.substring("java.lang.".length());
+    return "  private static " + simpleBoxed + " " + helper + "(ResultSet rs, int column) throws SQLException {\n"
+        + "    " + primitive + " value = rs." + getter + "(column);\n"
+        + "    return rs.wasNull() ? null : value;\n"
+        + "  }\n";
+  }
+
+  private static final String ENUM_HELPER =
+      "  private static <E extends Enum<E>> E nullableEnum(ResultSet rs, int column, Class<E> type)\n"
+          + "      throws SQLException {\n"
+          + "    String value = rs.getString(column);\n"
+          + "    return value == null ? null : Enum.valueOf(type, value);\n"
+          + "  }\n";
+
+  /** The class a Class-valued attribute names, or null for Void. Reading it throws, with the type inside. */
+  private TypeElement classAttribute(Supplier<Class<?>> attribute) {
+    TypeMirror type;
+    try {
+      Class<?> loaded = attribute.get();
+      type = processingEnv.getElementUtils().getTypeElement(loaded.getCanonicalName()).asType();
+    } catch (MirroredTypeException e) {
+      type = e.getTypeMirror();
+    }
+    TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(type);
+    return element == null || element.getQualifiedName().contentEquals("java.lang.Void") ? null : element;
+  }
+
+  private static boolean isMapperInterface(TypeElement mapper) {
+    return mapper.getKind() == ElementKind.INTERFACE && mapper.getTypeParameters().size() == 1;
+  }
+
+  private static boolean hasLowCardinality(TypeElement interner) {
+    for (ExecutableElement method : ElementFilter.methodsIn(interner.getEnclosedElements())) {
+      List<? extends VariableElement> parameters = method.getParameters();
+      if (method.getSimpleName().contentEquals("lowCardinality") && method.getModifiers().contains(Modifier.STATIC)
+          && typeName(method.getReturnType()).equals("java.lang.String") && parameters.size() == 2
+          && typeName(parameters.get(0).asType()).equals("java.sql.ResultSet")
+          && parameters.get(1).asType().getKind() == TypeKind.INT) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String typeName(TypeMirror type) {
+    if (type.getKind() == TypeKind.ARRAY) {
+      return typeName(((ArrayType) type).getComponentType()) + "[]";
+    }
+    if (type.getKind() == TypeKind.DECLARED) {
+      return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+    }
+    return type.toString();
+  }
+
+  /** {@code Product} -> {@code ProductRowMapper}; {@code Q20_Streams.Person} -> {@code Q20_Streams_PersonRowMapper}. */
+  static String mapperName(TypeElement record) {
+    StringBuilder name = new StringBuilder(record.getSimpleName());
+    for (Element e = record.getEnclosingElement(); e instanceof TypeElement t; e = t.getEnclosingElement()) {
+      name.insert(0, t.getSimpleName() + "_");
+    }
+    return name.append("RowMapper").toString();
+  }
+
+  private static boolean isPublic(TypeElement record) {
+    for (Element e = record; e instanceof TypeElement; e = e.getEnclosingElement()) {
+      if (!e.getModifiers().contains(Modifier.PUBLIC)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** {@code unitsInStock} -> {@code units_in_stock}. */
+  static String snakeCase(String name) {
+    StringBuilder out = new StringBuilder(name.length() + 4);
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (Character.isUpperCase(c)) {
+        if (i > 0) {
+          out.append('_');
+        }
+        out.append(Character.toLowerCase(c));
+      } else {
+        out.append(c);
+      }
+    }
+    return out.toString();
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
@@ -0,0 +1,815 @@
+package com.paul.fullstackinterviewprep.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Unrolled List + Deque: a directory of small arrays ("chunks"), each a gap buffer.
+ *
+ * Q09 frames ArrayList vs LinkedList as a binary choice. ArrayList shifts
+ * up to n elements on an insert; LinkedList inserts in O(1) once it has
+ * walked to the node, but that walk - and every iteration - chases one
+ * pointer per element across the heap. Here elements live in chunks of at
+ * most {@code chunkCapacity} slots, and the capacity doubles (regrouping
+ * every element once) whenever the directory would hold more than twice as
+ * many chunks as a chunk holds elements. Both therefore stay around sqrt(n):
+ * - an insert or remove moves at most chunkCapacity elements inside its
+ *   chunk, usually far fewer because each chunk keeps its free space as a
+ *   gap at the last edit position (a gap buffer), so clustered edits only
+ *   move the elements between consecutive edit points
+ * - the directory work is O(chunk count): a split or merge shifts the
+ *   directory array, and the start offsets of the chunks after the edit
+ *   are recomputed by the next get(i) that needs them
+ * so a random insert or remove costs O(sqrt n), against O(n) for ArrayList;
+ * the doublings cost O(n) each and happen as n quadruples, O(1) amortized
+ * - get(i) binary-searches the chunk start offsets, then indexes the chunk;
+ *   repeated access near the same index skips the search entirely
+ * - iteration scans contiguous arrays, one chunk after another
+ * - overhead is ~32 bytes per chunk plus its array slack - any two
+ *   adjacent chunks hold more than half a chunk, so chunks average at least
+ *   1/4 full - versus 24 bytes per element for LinkedList
+ *
+ * Full chunks split in half; underfull neighbours merge. The capacity only
+ * grows (clear() resets it), so a list that shrinks keeps its large chunks;
+ * an edit still moves at most size() elements. Permits nulls, like
+ * ArrayList and LinkedList. Iterators are fail-fast. Not thread-safe.
+ */
+public class ChunkedList<E> extends AbstractList<E> implements Deque<E> {
+
+  static final int DEFAULT_CHUNK_CAPACITY = 256;
+
+  private final int initialChunkCapacity;
+  private int chunkCapacity;
+  private Chunk[] chunks;
+  private int chunkCount;
+  /** offsets[k] is the list index of chunk k's first element; valid for k &lt; validOffsets. */
+  private int[] offsets;
+  private int validOffsets;
+  private int size;
+  /** The chunk located last, so sequential get(i)/set(i) skip the binary search. */
+  private int lastChunk;
+
+  public ChunkedList() {
+    this(DEFAULT_CHUNK_CAPACITY);
+  }
+
+  /** {@code chunkCapacity} is the starting capacity; it doubles as the list grows. */
+  public ChunkedList(int chunkCapacity) {
+    if (chunkCapacity < 8) {
+      throw new IllegalArgumentException("chunkCapacity must be at least 8: " + chunkCapacity);
+    }
+    this.initialChunkCapacity = chunkCapacity;
+    this.chunkCapacity = chunkCapacity;
+    this.chunks = new Chunk[8];
+    this.offsets = new int[8];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public E get(int index) {
+    Objects.checkIndex(index, size);
+    int k = chunkFor(index);
+    return chunks[k].get(index - offsets[k]);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    Objects.checkIndex(index, size);
+    int k = chunkFor(index);
+    return chunks[k].set(index - offsets[k], element);
+  }
+
+  @Override
+  public boolean add(E element) {
+    addLast(element);
+    return true;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    Objects.checkIndex(index, size + 1);
+    if (index == size) {
+      addLast(element);
+      return;
+    }
+    int k = chunkFor(index);
+    int local = index - offsets[k];
+    if (local == 0 && k > 0 && !chunks[k - 1].isFull()) {
+      // At a chunk boundary: appending to the previous chunk moves nothing.
+      k--;
+      local = chunks[k].size();
+    } else if (chunks[k].isFull()) {
+      split(k);
+      int leftSize = chunks[k].size();
+      if (local > leftSize) {
+        k++;
+        local -= leftSize;
+      }
+    }
+    chunks[k].insert(local, element);
+    afterResize(k, 1);
+  }
+
+  @Override
+  public E remove(int index) {
+    Objects.checkIndex(index, size);
+    int k = chunkFor(index);
+    E removed = chunks[k].remove(index - offsets[k]);
+    afterResize(k, -1);
+    compact(k);
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(chunks, 0, chunkCount, null);
+    chunkCount = 0;
+    validOffsets = 0;
+    size = 0;
+    lastChunk = 0;
+    chunkCapacity = initialChunkCapacity;
+    modCount++;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    Objects.requireNonNull(action);
+    int expectedModCount = modCount;
+    for (int k = 0; k < chunkCount; k++) {
+      chunks[k].forEach(action);
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  // ---- Deque --------------------------------------------------------------
+
+  @Override
+  public void addFirst(E element) {
+    if (chunkCount == 0) {
+      addLast(element);
+      return;
+    }
+    if (chunks[0].isFull()) {
+      split(0);
+    }
+    chunks[0].insert(0, element);
+    afterResize(0, 1);
+  }
+
+  @Override
+  public void addLast(E element) {
+    if (chunkCount == 0 || chunks[chunkCount - 1].isFull()) {
+      insertChunk(chunkCount, new Chunk(chunkCapacity));
+    }
+    int k = chunkCount - 1;
+    chunks[k].insert(chunks[k].size(), element);
+    afterResize(k, 1);
+  }
+
+  @Override
+  public boolean offerFirst(E element) {
+    addFirst(element);
+    return true;
+  }
+
+  @Override
+  public boolean offerLast(E element) {
+    addLast(element);
+    return true;
+  }
+
+  @Override
+  public E removeFirst() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    return remove(0);
+  }
+
+  @Override
+  public E removeLast() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    return remove(size - 1);
+  }
+
+  @Override
+  public E pollFirst() {
+    return size == 0 ? null : remove(0);
+  }
+
+  @Override
+  public E pollLast() {
+    return size == 0 ? null : remove(size - 1);
+  }
+
+  @Override
+  public E getFirst() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    return chunks[0].get(0);
+  }
+
+  @Override
+  public E getLast() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    Chunk last = chunks[chunkCount - 1];
+    return last.get(last.size() - 1);
+  }
+
+  @Override
+  public E peekFirst() {
+    return size == 0 ? null : getFirst();
+  }
+
+  @Override
+  public E peekLast() {
+    return size == 0 ? null : getLast();
+  }
+
+  @Override
+  public boolean removeFirstOccurrence(Object o) {
+    int index = indexOf(o);
+    if (index < 0) {
+      return false;
+    }
+    remove(index);
+    return true;
+  }
+
+  @Override
+  public boolean removeLastOccurrence(Object o) {
+    int index = lastIndexOf(o);
+    if (index < 0) {
+      return false;
+    }
+    remove(index);
+    return true;
+  }
+
+  @Override
+  public boolean offer(E element) {
+    return offerLast(element);
+  }
+
+  @Override
+  public E remove() {
+    return removeFirst();
+  }
+
+  @Override
+  public E poll() {
+    return pollFirst();
+  }
+
+  @Override
+  public E element() {
+    return getFirst();
+  }
+
+  @Override
+  public E peek() {
+    return peekFirst();
+  }
+
+  @Override
+  public void push(E element) {
+    addFirst(element);
+  }
+
+  @Override
+  public E pop() {
+    return removeFirst();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return removeFirstOccurrence(o);
+  }
+
+  @Override
+  public Iterator<E> descendingIterator() {
+    return new DescendingItr();
+  }
+
+  /** A reverse-ordered view; writes go through to this list. */
+  @Override
+  public Reversed<E> reversed() {
+    return new Reversed<>(this);
+  }
+
+  // ---- chunk directory ----------------------------------------------------
+
+  /** Index of the chunk holding list index {@code index} (0 &lt;= index &lt; size). */
+  private int chunkFor(int index) {
+    int cached = lastChunk;
+    if (cached < validOffsets && index >= offsets[cached] && index - offsets[cached] < chunks[cached].size()) {
+      return cached;
+    }
+    int last = validOffsets - 1;
+    int k;
+    if (index < offsets[last] + chunks[last].size()) {
+      // Largest k with offsets[k] <= index; offsets are strictly increasing since no chunk is empty.
+      int lo = 0;
+      int hi = last;
+      while (lo < hi) {
+        int mid = (lo + hi + 1) >>> 1;
+        if (offsets[mid] <= index) {
+          lo = mid;
+        } else {
+          hi = mid - 1;
+        }
+      }
+      k = lo;
+    } else {
+      // Extend the valid prefix until it covers index.
+      k = last;
+      int end = offsets[k] + chunks[k].size();
+      while (index >= end) {
+        k++;
+        offsets[k] = end;
+        end += chunks[k].size();
+      }
+      validOffsets = k + 1;
+    }
+    lastChunk = k;
+    return k;
+  }
+
+  /** Bookkeeping after chunk k gained or lost {@code delta} elements. */
+  private void afterResize(int k, int delta) {
+    size += delta;
+    modCount++;
+    invalidateOffsetsAfter(k);
+    if (chunkCount > 2 * chunkCapacity) {
+      regroup(2 * chunkCapacity);
+    }
+  }
+
+  /**
+   * Repacks every element into chunks of {@code capacity}, each 3/4 full so
+   * the next edits don't split them straight away.
+   */
+  private void regroup(int capacity) {
+    int fill = capacity - capacity / 4;
+    Chunk[] regrouped = new Chunk[Math.max(8, size / fill + 2)];
+    int count = 0;
+    Chunk target = null;
+    for (int k = 0; k < chunkCount; k++) {
+      Chunk source = chunks[k];
+      int n = source.size();
+      source.moveGap(n);
+      for (int from = 0; from < n; ) {
+        if (target == null || target.gapStart == fill) {
+          target = new Chunk(capacity);
+          regrouped[count++] = target;
+        }
+        int m = Math.min(n - from, fill - target.gapStart);
+        System.arraycopy(source.items, from, target.items, target.gapStart, m);
+        target.gapStart += m;
+        from += m;
+      }
+    }
+    chunks = regrouped;
+    offsets = new int[regrouped.length];
+    chunkCount = count;
+    chunkCapacity = capacity;
+    validOffsets = count == 0 ? 0 : 1;
+    lastChunk = 0;
+  }
+
+  /** Offsets of chunks after k are stale; offsets[0..k] still hold. */
+  private void invalidateOffsetsAfter(int k) {
+    if (validOffsets > k + 1) {
+      validOffsets = k + 1;
+    }
+  }
+
+  private void split(int k) {
+    Chunk left = chunks[k];
+    insertChunk(k + 1, left.splitOffUpperHalf(chunkCapacity));
+  }
+
+  /** Merges chunk k with a neighbour when both are sparse, or drops it if empty. */
+  private void compact(int k) {
+    if (chunks[k].size() == 0) {
+      removeChunk(k);
+      return;
+    }
+    int threshold = chunkCapacity / 2;
+    if (k + 1 < chunkCount && chunks[k].size() + chunks[k + 1].size() <= threshold) {
+      chunks[k].appendAll(chunks[k + 1]);
+      removeChunk(k + 1);
+    } else if (k > 0 && chunks[k - 1].size() + chunks[k].size() <= threshold) {
+      chunks[k - 1].appendAll(chunks[k]);
+      removeChunk(k);
+      invalidateOffsetsAfter(k - 1);
+    }
+  }
+
+  private void insertChunk(int k, Chunk chunk) {
+    if (chunkCount == chunks.length) {
+      chunks = Arrays.copyOf(chunks, chunkCount * 2);
+      offsets = Arrays.copyOf(offsets, chunkCount * 2);
+    }
+    System.arraycopy(chunks, k, chunks, k + 1, chunkCount - k);
+    chunks[k] = chunk;
+    chunkCount++;
+    invalidateOffsetsAfter(Math.max(0, k - 1));
+    if (k == 0) {
+      validOffsets = 1;
+    }
+  }
+
+  private void removeChunk(int k) {
+    System.arraycopy(chunks, k + 1, chunks, k, chunkCount - k - 1);
+    chunks[--chunkCount] = null;
+    validOffsets = chunkCount == 0 ? 0 : Math.max(1, Math.min(validOffsets, k));
+    lastChunk = 0;
+  }
+
+  /**
+   * One gap buffer: elements occupy [0, gapStart) and [gapEnd, length);
+   * [gapStart, gapEnd) is free. Inserting or removing at position j first
+   * moves the gap to j, which copies only the elements between the old and
+   * new gap position.
+   */
+  private static final class Chunk {
+    Object[] items;
+    int gapStart;
+    int gapEnd;
+
+    Chunk(int capacity) {
+      items = new Object[capacity];
+      gapEnd = capacity;
+    }
+
+    int size() {
+      return items.length - (gapEnd - gapStart);
+    }
+
+    boolean isFull() {
+      return gapStart == gapEnd;
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> E get(int j) {
+      return (E) items[j < gapStart ? j : j + gapEnd - gapStart];
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> E set(int j, E element) {
+      int slot = j < gapStart ? j : j + gapEnd - gapStart;
+      E previous = (E) items[slot];
+      items[slot] = element;
+      return previous;
+    }
+
+    void insert(int j, Object element) {
+      moveGap(j);
+      items[gapStart++] = element;
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> E remove(int j) {
+      moveGap(j);
+      E removed = (E) items[gapEnd];
+      items[gapEnd++] = null;
+      return removed;
+    }
+
+    private void moveGap(int j) {
+      int gap = gapEnd - gapStart;
+      if (j < gapStart) {
+        // Shift [j, gapStart) right by gap; clear what the shift vacated.
+        System.arraycopy(items, j, items, j + gap, gapStart - j);
+        Arrays.fill(items, j, Math.min(gapStart, j + gap), null);
+      } else if (j > gapStart) {
+        // Shift [gapEnd, j + gap) left by gap.
+        System.arraycopy(items, gapEnd, items, gapStart, j - gapStart);
+        Arrays.fill(items, Math.max(gapEnd, j), j + gap, null);
+      }
+      gapStart = j;
+      gapEnd = j + gap;
+    }
+
+    Chunk splitOffUpperHalf(int capacity) {
+      int n = size();
+      moveGap(n);
+      int half = n / 2;
+      Chunk upper = new Chunk(capacity);
+      System.arraycopy(items, half, upper.items, 0, n - half);
+      upper.gapStart = n - half;
+      Arrays.fill(items, half, n, null);
+      gapStart = half;
+      return upper;
+    }
+
+    void appendAll(Chunk other) {
+      int n = size();
+      int m = other.size();
+      moveGap(n);
+      other.moveGap(m);
+      System.arraycopy(other.items, 0, items, n, m);
+      gapStart = n + m;
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> void forEach(Consumer<? super E> action) {
+      for (int i = 0; i < gapStart; i++) {
+        action.accept((E) items[i]);
+      }
+      for (int i = gapEnd; i < items.length; i++) {
+        action.accept((E) items[i]);
+      }
+    }
+  }
+
+  /** Forward iterator that walks chunks directly instead of calling get(i). */
+  private final class Itr implements Iterator<E> {
+    int cursor;
+    int chunk;
+    int local;
+    int lastReturned = -1;
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor < size;
+    }
+
+    @Override
+    public E next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (cursor >= size) {
+        throw new NoSuchElementException();
+      }
+      if (local >= chunks[chunk].size()) {
+        chunk++;
+        local = 0;
+      }
+      lastReturned = cursor++;
+      return chunks[chunk].get(local++);
+    }
+
+    @Override
+    public void remove() {
+      if (lastReturned < 0) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      ChunkedList.this.remove(lastReturned);
+      cursor = lastReturned;
+      lastReturned = -1;
+      expectedModCount = modCount;
+      // Chunks may have merged or been dropped; re-resolve the position.
+      if (cursor < size) {
+        chunk = chunkFor(cursor);
+        local = cursor - offsets[chunk];
+      } else {
+        chunk = Math.max(0, chunkCount - 1);
+        local = chunkCount == 0 ? 0 : chunks[chunk].size();
+      }
+    }
+  }
+
+  private final class DescendingItr implements Iterator<E> {
+    int cursor = size;
+    int lastReturned = -1;
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor > 0;
+    }
+
+    @Override
+    public E next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (cursor <= 0) {
+        throw new NoSuchElementException();
+      }
+      lastReturned = --cursor;
+      return get(cursor);
+    }
+
+    @Override
+    public void remove() {
+      if (lastReturned < 0) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      ChunkedList.this.remove(lastReturned);
+      lastReturned = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  /**
+   * Reverse-ordered view returned by {@link ChunkedList#reversed()}. Index i
+   * maps to the backing list's index size-1-i; first and last swap.
+   */
+  public static final class Reversed<E> extends AbstractList<E> implements Deque<E> {
+    private final ChunkedList<E> base;
+
+    Reversed(ChunkedList<E> base) {
+      this.base = base;
+    }
+
+    @Override
+    public int size() {
+      return base.size();
+    }
+
+    @Override
+    public E get(int index) {
+      return base.get(flip(index));
+    }
+
+    @Override
+    public E set(int index, E element) {
+      return base.set(flip(index), element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+      Objects.checkIndex(index, size() + 1);
+      base.add(size() - index, element);
+    }
+
+    @Override
+    public boolean add(E element) {
+      base.addFirst(element);
+      return true;
+    }
+
+    @Override
+    public E remove(int index) {
+      return base.remove(flip(index));
+    }
+
+    @Override
+    public void clear() {
+      base.clear();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      return base.descendingIterator();
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+      return base.iterator();
+    }
+
+    @Override
+    public ChunkedList<E> reversed() {
+      return base;
+    }
+
+    @Override
+    public void addFirst(E element) {
+      base.addLast(element);
+    }
+
+    @Override
+    public void addLast(E element) {
+      base.addFirst(element);
+    }
+
+    @Override
+    public boolean offerFirst(E element) {
+      return base.offerLast(element);
+    }
+
+    @Override
+    public boolean offerLast(E element) {
+      return base.offerFirst(element);
+    }
+
+    @Override
+    public E removeFirst() {
+      return base.removeLast();
+    }
+
+    @Override
+    public E removeLast() {
+      return base.removeFirst();
+    }
+
+    @Override
+    public E pollFirst() {
+      return base.pollLast();
+    }
+
+    @Override
+    public E pollLast() {
+      return base.pollFirst();
+    }
+
+    @Override
+    public E getFirst() {
+      return base.getLast();
+    }
+
+    @Override
+    public E getLast() {
+      return base.getFirst();
+    }
+
+    @Override
+    public E peekFirst() {
+      return base.peekLast();
+    }
+
+    @Override
+    public E peekLast() {
+      return base.peekFirst();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+      return base.removeLastOccurrence(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+      return base.removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean offer(E element) {
+      return offerLast(element);
+    }
+
+    @Override
+    public E remove() {
+      return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+      return pollFirst();
+    }
+
+    @Override
+    public E element() {
+      return getFirst();
+    }
+
+    @Override
+    public E peek() {
+      return peekFirst();
+    }
+
+    @Override
+    public void push(E element) {
+      addFirst(element);
+    }
+
+    @Override
+    public E pop() {
+      return removeFirst();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      return removeFirstOccurrence(o);
+    }
+
+    private int flip(int index) {
+      Objects.checkIndex(index, size());
+      return size() - 1 - index;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.paul.fullstackinterviewprep.collections;
+
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntFunction;
+
+/**
+ * Thread-safe int -> Object map: IntObjectMap's layout split into lock-striped segments.
+ *
+ * The key's hash picks one of N segments (a power of two, default 4x the
+ * CPU count); each segment is a small open-addressing table guarded by its
+ * own StampedLock. Writers to different segments never contend.
+ *
+ * Reads take no lock at all on the fast path: they read the segment's
+ * table optimistically and then validate the lock stamp. If a writer
+ * touched the segment in the meantime the read is retried under the read
+ * lock. A segment's arrays are swapped as one Table object on resize, so an
+ * optimistic reader always sees a keys/values pair of matching length even
+ * when the result turns out to be stale.
+ *
+ * Like ConcurrentHashMap, size() is a sum over segments and only exact when
+ * no writes are in progress. Null values are not allowed.
+ */
+public class ConcurrentIntObjectMap<V> {
+
+  private final Segment<V>[] segments;
+  private final int segmentShift;
+
+  public ConcurrentIntObjectMap() {
+    this(1024, 4 * Runtime.getRuntime().availableProcessors());
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public ConcurrentIntObjectMap(int expectedSize, int concurrencyLevel) {
+    int count = Integer.highestOneBit(Math.max(1, concurrencyLevel - 1)) << 1;
+    segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      segments[i] = new Segment<>(Math.max(2, expectedSize / count));
+    }
+    // Segment is chosen by the TOP bits of the hash, slot by the bottom bits, so they are independent.
+    segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+  }
+
+  public V get(int key) {
+    return segmentFor(key).get(key);
+  }
+
+  public V put(int key, V value) {
+    Objects.requireNonNull(value, "null values are not supported");
+    return segmentFor(key).put(key, value, false);
+  }
+
+  public V putIfAbsent(int key, V value) {
+    Objects.requireNonNull(value, "null values are not supported");
+    return segmentFor(key).put(key, value, true);
+  }
+
+  /** Returns the existing value, or computes, stores and returns a new one - atomically per key. */
+  public V computeIfAbsent(int key, IntFunction<? extends V> mapping) {
+    Segment<V> segment = segmentFor(key);
+    V existing = segment.get(key);
+    return existing != null ? existing : segment.computeIfAbsent(key, mapping);
+  }
+
+  public V remove(int key) {
+    return segmentFor(key).remove(key);
+  }
+
+  public boolean containsKey(int key) {
+    return get(key) != null;
+  }
+
+  public int size() {
+    int total = 0;
+    for (Segment<V> segment : segments) {
+      long stamp = segment.lock.readLock();
+      try {
+        total += segment.map.size();
+      } finally {
+        segment.lock.unlockRead(stamp);
+      }
+    }
+    return total;
+  }
+
+  /** Visits each segment under its read lock; the callback must not write to this map. */
+  public void forEach(IntObjectMap.IntObjectConsumer<? super V> action) {
+    for (Segment<V> segment : segments) {
+      long stamp = segment.lock.readLock();
+      try {
+        segment.map.forEach(action);
+      } finally {
+        segment.lock.unlockRead(stamp);
+      }
+    }
+  }
+
+  private Segment<V> segmentFor(int key) {
+    return segments[segmentShift == 32 ? 0 : IntObjectMap.mix(key) >>> segmentShift];
+  }
+
+  /**
+   * A segment wraps an IntObjectMap for writes and keeps an immutable-shape
+   * view (Table) of its arrays for optimistic lock-free reads.
+   */
+  private static final class Segment<V> {
+    final StampedLock lock = new StampedLock();
+    final IntObjectMap<V> map;
+    // The map's current arrays, republished under the write lock after every write (a resize swaps them).
+    volatile IntObjectMap.Table table;
+
+    Segment(int expectedSize) {
+      this.map = new IntObjectMap<>(expectedSize);
+      this.table = map.table();
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+      long stamp = lock.tryOptimisticRead();
+      if (stamp != 0) {
+        Object value = table.find(key, map);
+        if (lock.validate(stamp)) {
+          return (V) value;
+        }
+      }
+      stamp = lock.readLock();
+      try {
+        return map.get(key);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    V put(int key, V value, boolean onlyIfAbsent) {
+      long stamp = lock.writeLock();
+      try {
+        V previous = map.get(key);
+        if (previous == null || !onlyIfAbsent) {
+          map.put(key, value);
+          table = map.table();
+        }
+        return previous;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    V computeIfAbsent(int key, IntFunction<? extends V> mapping) {
+      long stamp = lock.writeLock();
+      try {
+        V existing = map.get(key);
+        if (existing != null) {
+          return existing;
+        }
+        V created = Objects.requireNonNull(mapping.apply(key), "mapping returned null");
+        map.put(key, created);
+        table = map.table();
+        return created;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    V remove(int key) {
+      long stamp = lock.writeLock();
+      try {
+        V previous = map.remove(key);
+        table = map.table();
+        return previous;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+  }
+}
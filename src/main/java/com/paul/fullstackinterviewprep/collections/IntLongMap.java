@@ -0,0 +1,204 @@
+package com.paul.fullstackinterviewprep.collections;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing int -> long hash map: the counter/aggregate sibling of IntObjectMap.
+ *
+ * HashMap&lt;Integer, Long&gt; used as a counter (units sold per product_id,
+ * revenue per customer_id...) allocates a new Long on every update above
+ * 127. Here keys and values are two parallel primitive arrays, so
+ * {@link #addTo} is a probe and an in-place add - no allocation at all once
+ * the key exists.
+ *
+ * Missing keys read as {@code defaultValue} (0 unless chosen otherwise).
+ * Same probing, hashing and deletion scheme as IntObjectMap. Not thread-safe.
+ */
+public class IntLongMap {
+
+  /** Callback for forEach. */
+  @FunctionalInterface
+  public interface IntLongConsumer {
+    void accept(int key, long value);
+  }
+
+  private static final int FREE = IntObjectMap.FREE;
+
+  private final long defaultValue;
+  private int[] keys;
+  private long[] values;
+  private int mask;
+  private int size;
+  private int resizeAt;
+  private boolean hasZeroKey;
+  private long zeroValue;
+
+  public IntLongMap() {
+    this(16, 0L);
+  }
+
+  public IntLongMap(int expectedSize, long defaultValue) {
+    this.defaultValue = defaultValue;
+    allocate(IntObjectMap.tableSizeFor(expectedSize));
+  }
+
+  public int size() {
+    return size + (hasZeroKey ? 1 : 0);
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public boolean containsKey(int key) {
+    return key == FREE ? hasZeroKey : indexOf(key) >= 0;
+  }
+
+  /** The value for {@code key}, or the map's default value if absent. */
+  public long get(int key) {
+    if (key == FREE) {
+      return hasZeroKey ? zeroValue : defaultValue;
+    }
+    int[] keys = this.keys;
+    int i = IntObjectMap.mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != FREE) {
+      if (k == key) {
+        return values[i];
+      }
+      i = (i + 1) & mask;
+    }
+    return defaultValue;
+  }
+
+  /** Sets {@code key} to {@code value}; returns the previous value or the default value. */
+  public long put(int key, long value) {
+    if (key == FREE) {
+      long previous = hasZeroKey ? zeroValue : defaultValue;
+      hasZeroKey = true;
+      zeroValue = value;
+      return previous;
+    }
+    int i = slotFor(key);
+    long previous = keys[i] == FREE ? defaultValue : values[i];
+    values[i] = value;
+    if (keys[i] == FREE) {
+      keys[i] = key;
+      if (++size > resizeAt) {
+        rehash(keys.length << 1);
+      }
+    }
+    return previous;
+  }
+
+  /** Adds {@code delta} to the value for {@code key} (starting from the default); returns the new value. */
+  public long addTo(int key, long delta) {
+    if (key == FREE) {
+      zeroValue = (hasZeroKey ? zeroValue : defaultValue) + delta;
+      hasZeroKey = true;
+      return zeroValue;
+    }
+    int i = slotFor(key);
+    if (keys[i] != FREE) {
+      return values[i] += delta;
+    }
+    long result = defaultValue + delta;
+    keys[i] = key;
+    values[i] = result;
+    if (++size > resizeAt) {
+      rehash(keys.length << 1);
+    }
+    return result;
+  }
+
+  /** Removes {@code key}; returns its value or the default value. */
+  public long remove(int key) {
+    if (key == FREE) {
+      long previous = hasZeroKey ? zeroValue : defaultValue;
+      hasZeroKey = false;
+      return previous;
+    }
+    int i = indexOf(key);
+    if (i < 0) {
+      return defaultValue;
+    }
+    long previous = values[i];
+    shiftBack(i);
+    size--;
+    return previous;
+  }
+
+  public void clear() {
+    Arrays.fill(keys, FREE);
+    size = 0;
+    hasZeroKey = false;
+  }
+
+  public void forEach(IntLongConsumer action) {
+    if (hasZeroKey) {
+      action.accept(FREE, zeroValue);
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != FREE) {
+        action.accept(keys[i], values[i]);
+      }
+    }
+  }
+
+  /** The slot holding {@code key}, or the free slot where it would be inserted. */
+  private int slotFor(int key) {
+    int i = IntObjectMap.mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != FREE && k != key) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  private int indexOf(int key) {
+    int i = slotFor(key);
+    return keys[i] == FREE ? -1 : i;
+  }
+
+  private void shiftBack(int gap) {
+    int i = gap;
+    while (true) {
+      i = (i + 1) & mask;
+      int k = keys[i];
+      if (k == FREE) {
+        break;
+      }
+      int home = IntObjectMap.mix(k) & mask;
+      if (((i - home) & mask) >= ((i - gap) & mask)) {
+        keys[gap] = k;
+        values[gap] = values[i];
+        gap = i;
+      }
+    }
+    keys[gap] = FREE;
+  }
+
+  private void rehash(int newCapacity) {
+    int[] oldKeys = keys;
+    long[] oldValues = values;
+    allocate(newCapacity);
+    for (int j = 0; j < oldKeys.length; j++) {
+      int k = oldKeys[j];
+      if (k != FREE) {
+        int i = IntObjectMap.mix(k) & mask;
+        while (keys[i] != FREE) {
+          i = (i + 1) & mask;
+        }
+        keys[i] = k;
+        values[i] = oldValues[j];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    values = new long[capacity];
+    mask = capacity - 1;
+    resizeAt = Math.min(capacity - 1, (int) Math.ceil(capacity * IntObjectMap.MAX_FILL));
+  }
+}
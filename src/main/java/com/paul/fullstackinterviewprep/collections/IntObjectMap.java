@@ -0,0 +1,272 @@
+package com.paul.fullstackinterviewprep.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Open-addressing int -> Object hash map with linear probing.
+ *
+ * HashMap&lt;Integer, V&gt; pays for every entry with a Node object (32 bytes),
+ * an Integer box for keys outside the -128..127 cache (16 bytes) and a
+ * pointer chase per lookup. Here the keys live in a plain int[] and the
+ * values in a parallel Object[]:
+ * - no boxing and no per-entry objects: get() and put() of an existing key
+ *   never allocate, and put() of a new key only allocates when the table
+ *   has to grow
+ * - a lookup is a hash, an index and a short linear scan over adjacent ints,
+ *   which is what CPU caches and prefetchers are best at
+ * - ~10-14 bytes per entry at typical fill, versus ~50+ for HashMap
+ *
+ * Key 0 marks a free slot, so the entry for key 0 (if any) is kept in two
+ * side fields. Removal uses backward-shift deletion instead of tombstones,
+ * so probe sequences stay short under heavy put/remove churn.
+ *
+ * Null values are not allowed (get() returns null for "absent"). Not
+ * thread-safe - see ConcurrentIntObjectMap.
+ */
+public class IntObjectMap<V> {
+
+  /** Callback for forEach. */
+  @FunctionalInterface
+  public interface IntObjectConsumer<V> {
+    void accept(int key, V value);
+  }
+
+  static final int FREE = 0;
+  static final float MAX_FILL = 0.6f;
+
+  private int[] keys;
+  private Object[] values;
+  private Table table;
+  private int mask;
+  private int size;
+  private int resizeAt;
+  private boolean hasZeroKey;
+  private V zeroValue;
+
+  public IntObjectMap() {
+    this(16);
+  }
+
+  /** Sized so that {@code expectedSize} entries fit without resizing. */
+  public IntObjectMap(int expectedSize) {
+    allocate(tableSizeFor(expectedSize));
+  }
+
+  public int size() {
+    return size + (hasZeroKey ? 1 : 0);
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public boolean containsKey(int key) {
+    if (key == FREE) {
+      return hasZeroKey;
+    }
+    return indexOf(key) >= 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(int key) {
+    if (key == FREE) {
+      return zeroValue;
+    }
+    int[] keys = this.keys;
+    int i = mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != FREE) {
+      if (k == key) {
+        return (V) values[i];
+      }
+      i = (i + 1) & mask;
+    }
+    return null;
+  }
+
+  public V getOrDefault(int key, V defaultValue) {
+    V value = get(key);
+    return value != null ? value : defaultValue;
+  }
+
+  /** Associates {@code value} with {@code key}; returns the previous value or null. */
+  @SuppressWarnings("unchecked")
+  public V put(int key, V value) {
+    Objects.requireNonNull(value, "null values are not supported");
+    if (key == FREE) {
+      V previous = zeroValue;
+      hasZeroKey = true;
+      zeroValue = value;
+      return previous;
+    }
+    int[] keys = this.keys;
+    int i = mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != FREE) {
+      if (k == key) {
+        V previous = (V) values[i];
+        values[i] = value;
+        return previous;
+      }
+      i = (i + 1) & mask;
+    }
+    keys[i] = key;
+    values[i] = value;
+    if (++size > resizeAt) {
+      rehash(keys.length << 1);
+    }
+    return null;
+  }
+
+  /** Removes the entry for {@code key}; returns its value or null. */
+  @SuppressWarnings("unchecked")
+  public V remove(int key) {
+    if (key == FREE) {
+      V previous = zeroValue;
+      hasZeroKey = false;
+      zeroValue = null;
+      return previous;
+    }
+    int i = indexOf(key);
+    if (i < 0) {
+      return null;
+    }
+    V previous = (V) values[i];
+    shiftBack(i);
+    size--;
+    return previous;
+  }
+
+  public void clear() {
+    Arrays.fill(keys, FREE);
+    Arrays.fill(values, null);
+    size = 0;
+    hasZeroKey = false;
+    zeroValue = null;
+  }
+
+  @SuppressWarnings("unchecked")
+  public void forEach(IntObjectConsumer<? super V> action) {
+    if (hasZeroKey) {
+      action.accept(FREE, zeroValue);
+    }
+    int[] keys = this.keys;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != FREE) {
+        action.accept(keys[i], (V) values[i]);
+      }
+    }
+  }
+
+  private int indexOf(int key) {
+    int i = mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != FREE) {
+      if (k == key) {
+        return i;
+      }
+      i = (i + 1) & mask;
+    }
+    return -1;
+  }
+
+  /**
+   * Backward-shift deletion: walk the cluster after the freed slot and move
+   * back every entry whose home slot lies at or before the gap, so no
+   * lookup ever stops early at the hole.
+   */
+  private void shiftBack(int gap) {
+    int[] keys = this.keys;
+    int i = gap;
+    while (true) {
+      i = (i + 1) & mask;
+      int k = keys[i];
+      if (k == FREE) {
+        break;
+      }
+      int home = mix(k) & mask;
+      // Distance from home to i vs. from home to gap, both measured around the ring.
+      if (((i - home) & mask) >= ((i - gap) & mask)) {
+        keys[gap] = k;
+        values[gap] = values[i];
+        gap = i;
+      }
+    }
+    keys[gap] = FREE;
+    values[gap] = null;
+  }
+
+  private void rehash(int newCapacity) {
+    int[] oldKeys = keys;
+    Object[] oldValues = values;
+    allocate(newCapacity);
+    for (int j = 0; j < oldKeys.length; j++) {
+      int k = oldKeys[j];
+      if (k != FREE) {
+        int i = mix(k) & mask;
+        while (keys[i] != FREE) {
+          i = (i + 1) & mask;
+        }
+        keys[i] = k;
+        values[i] = oldValues[j];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    values = new Object[capacity];
+    table = new Table(keys, values);
+    mask = capacity - 1;
+    resizeAt = Math.min(capacity - 1, (int) Math.ceil(capacity * MAX_FILL));
+  }
+
+  /** The current arrays as one object; replaced (not mutated) when the map resizes. */
+  Table table() {
+    return table;
+  }
+
+  /**
+   * The backing arrays as a pair that is swapped atomically on resize, for
+   * ConcurrentIntObjectMap's optimistic reads. find() tolerates concurrent
+   * writes - it may return a stale or torn result, but never throws or
+   * loops forever - and the caller discards the result if its lock stamp
+   * no longer validates.
+   */
+  record Table(int[] keys, Object[] values) {
+
+    Object find(int key, IntObjectMap<?> owner) {
+      if (key == FREE) {
+        return owner.zeroValue;
+      }
+      int mask = keys.length - 1;
+      int i = mix(key) & mask;
+      for (int probes = 0; probes < keys.length; probes++) {
+        int k = keys[i];
+        if (k == key) {
+          return values[i];
+        }
+        if (k == FREE) {
+          return null;
+        }
+        i = (i + 1) & mask;
+      }
+      return null;
+    }
+  }
+
+  /** Fibonacci hashing: sequential ids (the common case for primary keys) spread across the table. */
+  static int mix(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  static int tableSizeFor(int expectedSize) {
+    long needed = (long) Math.ceil(Math.max(2, expectedSize) / (double) MAX_FILL) + 1;
+    if (needed > 1 << 30) {
+      throw new IllegalArgumentException("Too many entries: " + expectedSize);
+    }
+    return Integer.highestOneBit((int) needed - 1) << 1;
+  }
+}
@@ -0,0 +1,218 @@
+package com.paul.fullstackinterviewprep.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Open-addressing long -> Object hash map: IntObjectMap for 64-bit keys,
+ * typically PairKey composite keys.
+ *
+ * Keys live in a plain long[] and values in a parallel Object[], so get()
+ * and put() of an existing key never allocate, and a lookup hashes the key
+ * with one multiply instead of calling hashCode() on a key object. Same
+ * linear probing, backward-shift deletion and 0.6 fill as IntObjectMap;
+ * key 0 marks a free slot and its entry is kept in side fields.
+ *
+ * Null values are not allowed (get() returns null for "absent"). Not
+ * thread-safe.
+ */
+public class LongObjectMap<V> {
+
+  /** Callback for forEach. */
+  @FunctionalInterface
+  public interface LongObjectConsumer<V> {
+    void accept(long key, V value);
+  }
+
+  private static final long FREE = 0L;
+
+  private long[] keys;
+  private Object[] values;
+  private int mask;
+  private int size;
+  private int resizeAt;
+  private boolean hasZeroKey;
+  private V zeroValue;
+
+  public LongObjectMap() {
+    this(16);
+  }
+
+  /** Sized so that {@code expectedSize} entries fit without resizing. */
+  public LongObjectMap(int expectedSize) {
+    allocate(IntObjectMap.tableSizeFor(expectedSize));
+  }
+
+  public int size() {
+    return size + (hasZeroKey ? 1 : 0);
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public boolean containsKey(long key) {
+    if (key == FREE) {
+      return hasZeroKey;
+    }
+    return indexOf(key) >= 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    if (key == FREE) {
+      return zeroValue;
+    }
+    long[] keys = this.keys;
+    int i = mix(key) & mask;
+    long k;
+    while ((k = keys[i]) != FREE) {
+      if (k == key) {
+        return (V) values[i];
+      }
+      i = (i + 1) & mask;
+    }
+    return null;
+  }
+
+  public V getOrDefault(long key, V defaultValue) {
+    V value = get(key);
+    return value != null ? value : defaultValue;
+  }
+
+  /** Associates {@code value} with {@code key}; returns the previous value or null. */
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    Objects.requireNonNull(value, "null values are not supported");
+    if (key == FREE) {
+      V previous = zeroValue;
+      hasZeroKey = true;
+      zeroValue = value;
+      return previous;
+    }
+    long[] keys = this.keys;
+    int i = mix(key) & mask;
+    long k;
+    while ((k = keys[i]) != FREE) {
+      if (k == key) {
+        V previous = (V) values[i];
+        values[i] = value;
+        return previous;
+      }
+      i = (i + 1) & mask;
+    }
+    keys[i] = key;
+    values[i] = value;
+    if (++size > resizeAt) {
+      rehash(keys.length << 1);
+    }
+    return null;
+  }
+
+  /** Removes the entry for {@code key}; returns its value or null. */
+  @SuppressWarnings("unchecked")
+  public V remove(long key) {
+    if (key == FREE) {
+      V previous = zeroValue;
+      hasZeroKey = false;
+      zeroValue = null;
+      return previous;
+    }
+    int i = indexOf(key);
+    if (i < 0) {
+      return null;
+    }
+    V previous = (V) values[i];
+    shiftBack(i);
+    size--;
+    return previous;
+  }
+
+  public void clear() {
+    Arrays.fill(keys, FREE);
+    Arrays.fill(values, null);
+    size = 0;
+    hasZeroKey = false;
+    zeroValue = null;
+  }
+
+  @SuppressWarnings("unchecked")
+  public void forEach(LongObjectConsumer<? super V> action) {
+    if (hasZeroKey) {
+      action.accept(FREE, zeroValue);
+    }
+    long[] keys = this.keys;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != FREE) {
+        action.accept(keys[i], (V) values[i]);
+      }
+    }
+  }
+
+  private int indexOf(long key) {
+    int i = mix(key) & mask;
+    long k;
+    while ((k = keys[i]) != FREE) {
+      if (k == key) {
+        return i;
+      }
+      i = (i + 1) & mask;
+    }
+    return -1;
+  }
+
+  /** Backward-shift deletion, as in IntObjectMap. */
+  private void shiftBack(int gap) {
+    long[] keys = this.keys;
+    int i = gap;
+    while (true) {
+      i = (i + 1) & mask;
+      long k = keys[i];
+      if (k == FREE) {
+        break;
+      }
+      int home = mix(k) & mask;
+      if (((i - home) & mask) >= ((i - gap) & mask)) {
+        keys[gap] = k;
+        values[gap] = values[i];
+        gap = i;
+      }
+    }
+    keys[gap] = FREE;
+    values[gap] = null;
+  }
+
+  private void rehash(int newCapacity) {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    allocate(newCapacity);
+    for (int j = 0; j < oldKeys.length; j++) {
+      long k = oldKeys[j];
+      if (k != FREE) {
+        int i = mix(k) & mask;
+        while (keys[i] != FREE) {
+          i = (i + 1) & mask;
+        }
+        keys[i] = k;
+        values[i] = oldValues[j];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new Object[capacity];
+    mask = capacity - 1;
+    resizeAt = Math.min(capacity - 1, (int) Math.ceil(capacity * IntObjectMap.MAX_FILL));
+  }
+
+  /**
+   * 64-bit Fibonacci hashing, folded to 32 bits: both halves of a PairKey
+   * reach the low bits, so (order, product) pairs with sequential ids in
+   * either position spread across the table.
+   */
+  static int mix(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+}
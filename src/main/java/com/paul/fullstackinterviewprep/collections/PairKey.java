@@ -0,0 +1,36 @@
+package com.paul.fullstackinterviewprep.collections;
+
+/**
+ * Two ints packed into one long, for composite keys such as order_items'
+ * (order_id, product_id).
+ *
+ * A record or "orderId:productId" String key costs an allocation per lookup
+ * and a hashCode() that combines fields (or walks chars) every time; the
+ * String one also has to be built first. A packed long is a value: no
+ * object, equality is ==, and LongObjectMap hashes it with one multiply.
+ * The first int goes in the high 32 bits, so keys sort by it, then by the
+ * second. The second is stored with its sign bit flipped: packed as-is, a
+ * negative second int would fill the low half with ones and sort after
+ * every positive one.
+ */
+public final class PairKey {
+
+  private PairKey() {
+  }
+
+  public static long of(int first, int second) {
+    return (long) first << 32 | ((second ^ Integer.MIN_VALUE) & 0xFFFF_FFFFL);
+  }
+
+  public static int first(long key) {
+    return (int) (key >>> 32);
+  }
+
+  public static int second(long key) {
+    return (int) key ^ Integer.MIN_VALUE;
+  }
+
+  public static String toString(long key) {
+    return "(" + first(key) + ", " + second(key) + ")";
+  }
+}
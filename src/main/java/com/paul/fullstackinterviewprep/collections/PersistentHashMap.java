@@ -0,0 +1,432 @@
+package com.paul.fullstackinterviewprep.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable Map with O(log32 n) updates that share structure: a hash array mapped trie (HAMT).
+ *
+ * Map.copyOf() gives an immutable map, but "changing" one entry means
+ * copying all of them. Here the hash code is consumed 5 bits per level:
+ * each node has a 32-bit bitmap saying which of its 32 slots are in use and
+ * a dense array holding only those slots, each either a key/value pair or a
+ * child node. with() and without() copy just the nodes on the key's path -
+ * rarely more than 3-4 small arrays even for millions of entries - and the
+ * new map shares every other node with the old one.
+ *
+ * Keys whose full 32-bit hashes are equal end up in a collision node that
+ * is searched linearly. Removing a key folds single-entry children back
+ * into their parent, so the trie never keeps chains of near-empty nodes.
+ *
+ * Null keys and values are not allowed (like Map.of). The java.util.Map
+ * mutators throw UnsupportedOperationException; use with/without.
+ */
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+  static final int BITS = 5;
+  static final int MASK = (1 << BITS) - 1;
+
+  private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+  private final Node root;
+  private final int size;
+  private Set<Map.Entry<K, V>> entrySet;
+
+  private PersistentHashMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <K, V> PersistentHashMap<K, V> empty() {
+    return (PersistentHashMap<K, V>) EMPTY;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+    if (map instanceof PersistentHashMap<?, ?> persistent) {
+      return (PersistentHashMap<K, V>) persistent;
+    }
+    return PersistentHashMap.<K, V>empty().withAll(map);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    return key == null ? null : (V) root.find(hash(key), 0, key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  /** A map with {@code key} mapped to {@code value}; this map if it already was. */
+  public PersistentHashMap<K, V> with(K key, V value) {
+    Objects.requireNonNull(key, "null keys are not supported");
+    Objects.requireNonNull(value, "null values are not supported");
+    boolean[] added = new boolean[1];
+    Node newRoot = root.put(hash(key), 0, key, value, added);
+    return newRoot == root ? this : new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+  }
+
+  /** A map with all of {@code map}'s entries added, replacing existing keys. */
+  public PersistentHashMap<K, V> withAll(Map<? extends K, ? extends V> map) {
+    PersistentHashMap<K, V> result = this;
+    for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      result = result.with(entry.getKey(), entry.getValue());
+    }
+    return result;
+  }
+
+  /** A map without {@code key}; this map if it had no such key. */
+  public PersistentHashMap<K, V> without(Object key) {
+    if (key == null) {
+      return this;
+    }
+    Node newRoot = root.remove(hash(key), 0, key);
+    if (newRoot == root) {
+      return this;
+    }
+    return newRoot == null ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    root.forEach((BiConsumer<Object, Object>) action);
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    Set<Map.Entry<K, V>> set = entrySet;
+    if (set == null) {
+      set = new AbstractSet<>() {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+          return new EntryIterator<>(root);
+        }
+
+        @Override
+        public int size() {
+          return size;
+        }
+      };
+      entrySet = set;
+    }
+    return set;
+  }
+
+  static int hash(Object key) {
+    int h = key.hashCode();
+    // Mix the high bits down: the top levels of the trie only see the low 5-10 bits.
+    return h ^ (h >>> 16);
+  }
+
+  static int bitFor(int hash, int shift) {
+    return 1 << ((hash >>> shift) & MASK);
+  }
+
+  // ---- trie ---------------------------------------------------------------
+
+  /**
+   * Both node types store pairs in one array: {@code [k0, v0, k1, v1, ...]}.
+   * In a BitmapNode a null key means the value slot holds a child node.
+   */
+  private abstract static sealed class Node permits BitmapNode, CollisionNode {
+
+    abstract Object find(int hash, int shift, Object key);
+
+    abstract Node put(int hash, int shift, Object key, Object value, boolean[] added);
+
+    /** Returns this if absent, null if the node became empty. */
+    abstract Node remove(int hash, int shift, Object key);
+
+    abstract Object[] slots();
+
+    abstract void forEach(BiConsumer<Object, Object> action);
+  }
+
+  private static final class BitmapNode extends Node {
+    static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    final int bitmap;
+    final Object[] slots;
+
+    BitmapNode(int bitmap, Object[] slots) {
+      this.bitmap = bitmap;
+      this.slots = slots;
+    }
+
+    int index(int bit) {
+      return 2 * Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @Override
+    Object find(int hash, int shift, Object key) {
+      BitmapNode node = this;
+      while (true) {
+        int bit = bitFor(hash, shift);
+        if ((node.bitmap & bit) == 0) {
+          return null;
+        }
+        int i = node.index(bit);
+        Object k = node.slots[i];
+        if (k != null) {
+          return key.equals(k) ? node.slots[i + 1] : null;
+        }
+        Node child = (Node) node.slots[i + 1];
+        shift += BITS;
+        if (!(child instanceof BitmapNode bitmapChild)) {
+          return child.find(hash, shift, key);
+        }
+        node = bitmapChild;
+      }
+    }
+
+    @Override
+    Node put(int hash, int shift, Object key, Object value, boolean[] added) {
+      int bit = bitFor(hash, shift);
+      int i = index(bit);
+      if ((bitmap & bit) == 0) {
+        Object[] grown = new Object[slots.length + 2];
+        System.arraycopy(slots, 0, grown, 0, i);
+        grown[i] = key;
+        grown[i + 1] = value;
+        System.arraycopy(slots, i, grown, i + 2, slots.length - i);
+        added[0] = true;
+        return new BitmapNode(bitmap | bit, grown);
+      }
+      Object k = slots[i];
+      Object v = slots[i + 1];
+      if (k == null) {
+        Node child = (Node) v;
+        Node newChild = child.put(hash, shift + BITS, key, value, added);
+        return newChild == child ? this : replace(i, null, newChild);
+      }
+      if (key.equals(k)) {
+        return v == value ? this : replace(i, k, value);
+      }
+      added[0] = true;
+      return replace(i, null, pair(hash(k), k, v, hash, key, value, shift + BITS));
+    }
+
+    @Override
+    Node remove(int hash, int shift, Object key) {
+      int bit = bitFor(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int i = index(bit);
+      Object k = slots[i];
+      if (k == null) {
+        Node child = (Node) slots[i + 1];
+        Node newChild = child.remove(hash, shift + BITS, key);
+        if (newChild == child) {
+          return this;
+        }
+        if (newChild == null) {
+          return without(bit, i);
+        }
+        // A child reduced to one pair is inlined, so lookups don't walk through it.
+        if (newChild instanceof BitmapNode single && single.slots.length == 2 && single.slots[0] != null) {
+          return replace(i, single.slots[0], single.slots[1]);
+        }
+        return replace(i, null, newChild);
+      }
+      return key.equals(k) ? without(bit, i) : this;
+    }
+
+    private Node replace(int i, Object key, Object value) {
+      Object[] copy = slots.clone();
+      copy[i] = key;
+      copy[i + 1] = value;
+      return new BitmapNode(bitmap, copy);
+    }
+
+    private Node without(int bit, int i) {
+      if (bitmap == bit) {
+        return null;
+      }
+      Object[] shrunk = new Object[slots.length - 2];
+      System.arraycopy(slots, 0, shrunk, 0, i);
+      System.arraycopy(slots, i + 2, shrunk, i, shrunk.length - i);
+      return new BitmapNode(bitmap ^ bit, shrunk);
+    }
+
+    @Override
+    Object[] slots() {
+      return slots;
+    }
+
+    @Override
+    void forEach(BiConsumer<Object, Object> action) {
+      for (int i = 0; i < slots.length; i += 2) {
+        if (slots[i] != null) {
+          action.accept(slots[i], slots[i + 1]);
+        } else {
+          ((Node) slots[i + 1]).forEach(action);
+        }
+      }
+    }
+  }
+
+  /** Keys with identical 32-bit hashes, searched linearly. */
+  private static final class CollisionNode extends Node {
+    final int hash;
+    final Object[] slots;
+
+    CollisionNode(int hash, Object[] slots) {
+      this.hash = hash;
+      this.slots = slots;
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < slots.length; i += 2) {
+        if (key.equals(slots[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    Object find(int hash, int shift, Object key) {
+      if (hash != this.hash) {
+        return null;
+      }
+      int i = indexOf(key);
+      return i < 0 ? null : slots[i + 1];
+    }
+
+    @Override
+    Node put(int hash, int shift, Object key, Object value, boolean[] added) {
+      if (hash != this.hash) {
+        // A different hash reached this position: push the collision one level down.
+        Node wrapper = new BitmapNode(bitFor(this.hash, shift), new Object[] {null, this});
+        return wrapper.put(hash, shift, key, value, added);
+      }
+      int i = indexOf(key);
+      if (i >= 0) {
+        if (slots[i + 1] == value) {
+          return this;
+        }
+        Object[] copy = slots.clone();
+        copy[i + 1] = value;
+        return new CollisionNode(hash, copy);
+      }
+      Object[] grown = Arrays.copyOf(slots, slots.length + 2);
+      grown[slots.length] = key;
+      grown[slots.length + 1] = value;
+      added[0] = true;
+      return new CollisionNode(hash, grown);
+    }
+
+    @Override
+    Node remove(int hash, int shift, Object key) {
+      int i = hash == this.hash ? indexOf(key) : -1;
+      if (i < 0) {
+        return this;
+      }
+      if (slots.length == 4) {
+        // One pair left: hand it back as a single-pair node for the parent to inline.
+        int other = i == 0 ? 2 : 0;
+        return new BitmapNode(bitFor(hash, shift), new Object[] {slots[other], slots[other + 1]});
+      }
+      Object[] shrunk = new Object[slots.length - 2];
+      System.arraycopy(slots, 0, shrunk, 0, i);
+      System.arraycopy(slots, i + 2, shrunk, i, shrunk.length - i);
+      return new CollisionNode(hash, shrunk);
+    }
+
+    @Override
+    Object[] slots() {
+      return slots;
+    }
+
+    @Override
+    void forEach(BiConsumer<Object, Object> action) {
+      for (int i = 0; i < slots.length; i += 2) {
+        action.accept(slots[i], slots[i + 1]);
+      }
+    }
+  }
+
+  /** The smallest subtree holding two pairs that collided at the level above. */
+  private static Node pair(int hash1, Object key1, Object value1, int hash2, Object key2, Object value2, int shift) {
+    if (hash1 == hash2) {
+      return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+    }
+    int bit1 = bitFor(hash1, shift);
+    int bit2 = bitFor(hash2, shift);
+    if (bit1 == bit2) {
+      return new BitmapNode(bit1, new Object[] {null, pair(hash1, key1, value1, hash2, key2, value2, shift + BITS)});
+    }
+    // Compare as unsigned: bit 31 is negative as an int.
+    Object[] slots = Integer.compareUnsigned(bit1, bit2) < 0
+        ? new Object[] {key1, value1, key2, value2}
+        : new Object[] {key2, value2, key1, value1};
+    return new BitmapNode(bit1 | bit2, slots);
+  }
+
+  /** Depth-first over the pair arrays with an explicit stack; the trie is at most 8 levels deep. */
+  private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+    private final Object[][] stack = new Object[8][];
+    private final int[] positions = new int[8];
+    private int depth;
+    private Map.Entry<K, V> next;
+
+    EntryIterator(Node root) {
+      stack[0] = root.slots();
+      advance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void advance() {
+      next = null;
+      while (depth >= 0) {
+        Object[] slots = stack[depth];
+        int i = positions[depth];
+        if (i >= slots.length) {
+          depth--;
+          continue;
+        }
+        positions[depth] = i + 2;
+        if (slots[i] != null) {
+          next = Map.entry((K) slots[i], (V) slots[i + 1]);
+          return;
+        }
+        depth++;
+        stack[depth] = ((Node) slots[i + 1]).slots();
+        positions[depth] = 0;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      Map.Entry<K, V> result = next;
+      advance();
+      return result;
+    }
+  }
+}
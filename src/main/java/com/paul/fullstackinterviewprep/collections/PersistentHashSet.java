@@ -0,0 +1,79 @@
+package com.paul.fullstackinterviewprep.collections;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Immutable Set with O(log32 n) structurally shared updates: the keys of a PersistentHashMap.
+ *
+ * Null elements are not allowed. The java.util.Set mutators throw
+ * UnsupportedOperationException; use with/without.
+ */
+public final class PersistentHashSet<E> extends AbstractSet<E> {
+
+  private static final PersistentHashSet<?> EMPTY = new PersistentHashSet<>(PersistentHashMap.empty());
+
+  private final PersistentHashMap<E, Boolean> map;
+
+  private PersistentHashSet(PersistentHashMap<E, Boolean> map) {
+    this.map = map;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <E> PersistentHashSet<E> empty() {
+    return (PersistentHashSet<E>) EMPTY;
+  }
+
+  @SafeVarargs
+  public static <E> PersistentHashSet<E> of(E... elements) {
+    PersistentHashSet<E> result = empty();
+    for (E element : elements) {
+      result = result.with(element);
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <E> PersistentHashSet<E> copyOf(Collection<? extends E> elements) {
+    if (elements instanceof PersistentHashSet<?> set) {
+      return (PersistentHashSet<E>) set;
+    }
+    return PersistentHashSet.<E>empty().withAll(elements);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return map.containsKey(o);
+  }
+
+  /** A set that also contains {@code element}; this set if it already did. */
+  public PersistentHashSet<E> with(E element) {
+    PersistentHashMap<E, Boolean> updated = map.with(element, Boolean.TRUE);
+    return updated == map ? this : new PersistentHashSet<>(updated);
+  }
+
+  public PersistentHashSet<E> withAll(Collection<? extends E> elements) {
+    PersistentHashSet<E> result = this;
+    for (E element : elements) {
+      result = result.with(element);
+    }
+    return result;
+  }
+
+  /** A set without {@code element}; this set if it did not contain it. */
+  public PersistentHashSet<E> without(Object element) {
+    PersistentHashMap<E, Boolean> updated = map.without(element);
+    return updated == map ? this : new PersistentHashSet<>(updated);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return map.keySet().iterator();
+  }
+}
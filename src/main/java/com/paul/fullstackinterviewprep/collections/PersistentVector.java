@@ -0,0 +1,439 @@
+package com.paul.fullstackinterviewprep.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Immutable List with O(log n) updates that share structure with the previous version.
+ *
+ * List.copyOf() or CopyOnWriteArrayList pay O(n) time and garbage for
+ * every "modification", because the new version is a full copy. Here the
+ * elements sit in a balanced tree of small arrays: leaves hold up to 32
+ * elements, branches up to 32 children plus a table of cumulative child
+ * sizes. An update copies only the path from the root to the affected
+ * leaf - at most ~log32(n) arrays of 32 slots, i.e. 4 small copies for a
+ * million elements - and every other node is shared between the old and
+ * the new version. Since nodes are never mutated after construction, any
+ * number of threads can read any version without locks.
+ *
+ * Unlike a plain 32-way trie (Clojure's vector), the size tables let
+ * insert() and removeAt() work at ANY index, not just the end: leaves and
+ * branches split when they overflow and merge with a neighbour when they
+ * fall below a quarter full, so all leaves stay at the same depth.
+ *
+ * The java.util.List mutators (add, set, remove...) throw
+ * UnsupportedOperationException; use append/insert/with/removeAt/without,
+ * which return a new vector. Permits null elements.
+ */
+public final class PersistentVector<E> extends AbstractList<E> {
+
+  static final int MAX_WIDTH = 32;
+  static final int MIN_WIDTH = MAX_WIDTH / 4;
+
+  private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Leaf(new Object[0]));
+
+  private final Node root;
+
+  private PersistentVector(Node root) {
+    this.root = root;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <E> PersistentVector<E> empty() {
+    return (PersistentVector<E>) EMPTY;
+  }
+
+  @SafeVarargs
+  public static <E> PersistentVector<E> of(E... elements) {
+    return fromArray(Arrays.copyOf(elements, elements.length, Object[].class));
+  }
+
+  /** Builds a vector bottom-up in O(n) - cheaper than n appends. */
+  @SuppressWarnings("unchecked")
+  public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+    if (elements instanceof PersistentVector<?> vector) {
+      return (PersistentVector<E>) vector;
+    }
+    return fromArray(elements.toArray());
+  }
+
+  private static <E> PersistentVector<E> fromArray(Object[] all) {
+    if (all.length == 0) {
+      return empty();
+    }
+    Node[] level = new Node[(all.length + MAX_WIDTH - 1) / MAX_WIDTH];
+    for (int i = 0; i < level.length; i++) {
+      level[i] = new Leaf(Arrays.copyOfRange(all, i * MAX_WIDTH, Math.min(all.length, (i + 1) * MAX_WIDTH)));
+    }
+    while (level.length > 1) {
+      Node[] parents = new Node[(level.length + MAX_WIDTH - 1) / MAX_WIDTH];
+      for (int i = 0; i < parents.length; i++) {
+        parents[i] = Branch.of(Arrays.copyOfRange(level, i * MAX_WIDTH, Math.min(level.length, (i + 1) * MAX_WIDTH)));
+      }
+      level = parents;
+    }
+    // The last node on each level may be short; rebalance it against its neighbour.
+    return new PersistentVector<>(collapse(fixRightEdge(level[0])));
+  }
+
+  @Override
+  public int size() {
+    return root.size();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    Objects.checkIndex(index, size());
+    Node node = root;
+    while (node instanceof Branch branch) {
+      int child = branch.childFor(index);
+      index -= branch.start(child);
+      node = branch.children[child];
+    }
+    return (E) ((Leaf) node).items[index];
+  }
+
+  /** A vector with {@code element} added at the end. */
+  public PersistentVector<E> append(E element) {
+    return insert(size(), element);
+  }
+
+  /** A vector with all of {@code elements} added at the end, in iteration order. */
+  public PersistentVector<E> appendAll(Collection<? extends E> elements) {
+    if (isEmpty()) {
+      return copyOf(elements);
+    }
+    PersistentVector<E> result = this;
+    for (E element : elements) {
+      result = result.append(element);
+    }
+    return result;
+  }
+
+  /** A vector with {@code element} inserted at {@code index}, shifting later elements right. */
+  public PersistentVector<E> insert(int index, E element) {
+    Objects.checkIndex(index, size() + 1);
+    Node[] result = root.insert(index, element);
+    return new PersistentVector<>(result.length == 1 ? result[0] : Branch.of(result));
+  }
+
+  /** A vector with the element at {@code index} replaced. */
+  public PersistentVector<E> with(int index, E element) {
+    Objects.checkIndex(index, size());
+    return new PersistentVector<>(root.with(index, element));
+  }
+
+  /** A vector without the element at {@code index}. */
+  public PersistentVector<E> removeAt(int index) {
+    Objects.checkIndex(index, size());
+    return new PersistentVector<>(collapse(root.removeAt(index)));
+  }
+
+  /** A vector without the first occurrence of {@code element}, or this vector if absent. */
+  public PersistentVector<E> without(Object element) {
+    int index = indexOf(element);
+    return index < 0 ? this : removeAt(index);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    root.forEach(action);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    int index = 0;
+    for (E element : this) {
+      if (Objects.equals(o, element)) {
+        return index;
+      }
+      index++;
+    }
+    return -1;
+  }
+
+  /** Depth of the tree; 1 for a single leaf. */
+  int height() {
+    int height = 1;
+    for (Node node = root; node instanceof Branch branch; node = branch.children[0]) {
+      height++;
+    }
+    return height;
+  }
+
+  /** A root branch left with one child is replaced by that child, so the tree shrinks in height. */
+  private static Node collapse(Node root) {
+    while (root instanceof Branch branch && branch.children.length == 1) {
+      root = branch.children[0];
+    }
+    return root;
+  }
+
+  private static Node fixRightEdge(Node node) {
+    if (!(node instanceof Branch branch)) {
+      return node;
+    }
+    Node[] children = branch.children.clone();
+    int last = children.length - 1;
+    children[last] = fixRightEdge(children[last]);
+    if (last > 0 && children[last].width() < MIN_WIDTH) {
+      Node[] merged = merge(children[last - 1], children[last]);
+      children = splice(children, last - 1, 2, merged);
+    }
+    return Branch.of(children);
+  }
+
+  // ---- tree ---------------------------------------------------------------
+
+  private abstract static sealed class Node permits Leaf, Branch {
+
+    abstract int size();
+
+    /** Items in a leaf, children in a branch. */
+    abstract int width();
+
+    /** Returns the updated node, or two nodes if it overflowed and split. */
+    abstract Node[] insert(int index, Object element);
+
+    abstract Node with(int index, Object element);
+
+    /** Returns the updated node; it may be underfull, the parent rebalances. */
+    abstract Node removeAt(int index);
+
+    abstract <E> void forEach(Consumer<? super E> action);
+  }
+
+  private static final class Leaf extends Node {
+    final Object[] items;
+
+    Leaf(Object[] items) {
+      this.items = items;
+    }
+
+    @Override
+    int size() {
+      return items.length;
+    }
+
+    @Override
+    int width() {
+      return items.length;
+    }
+
+    @Override
+    Node[] insert(int index, Object element) {
+      Object[] grown = new Object[items.length + 1];
+      System.arraycopy(items, 0, grown, 0, index);
+      grown[index] = element;
+      System.arraycopy(items, index, grown, index + 1, items.length - index);
+      if (grown.length <= MAX_WIDTH) {
+        return new Node[] {new Leaf(grown)};
+      }
+      int half = grown.length / 2;
+      return new Node[] {new Leaf(Arrays.copyOfRange(grown, 0, half)),
+          new Leaf(Arrays.copyOfRange(grown, half, grown.length))};
+    }
+
+    @Override
+    Node with(int index, Object element) {
+      Object[] copy = items.clone();
+      copy[index] = element;
+      return new Leaf(copy);
+    }
+
+    @Override
+    Node removeAt(int index) {
+      Object[] shrunk = new Object[items.length - 1];
+      System.arraycopy(items, 0, shrunk, 0, index);
+      System.arraycopy(items, index + 1, shrunk, index, shrunk.length - index);
+      return new Leaf(shrunk);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    <E> void forEach(Consumer<? super E> action) {
+      for (Object item : items) {
+        action.accept((E) item);
+      }
+    }
+  }
+
+  private static final class Branch extends Node {
+    final Node[] children;
+    /** ends[i] = total size of children[0..i]. */
+    final int[] ends;
+
+    private Branch(Node[] children, int[] ends) {
+      this.children = children;
+      this.ends = ends;
+    }
+
+    static Branch of(Node[] children) {
+      int[] ends = new int[children.length];
+      int total = 0;
+      for (int i = 0; i < children.length; i++) {
+        total += children[i].size();
+        ends[i] = total;
+      }
+      return new Branch(children, ends);
+    }
+
+    @Override
+    int size() {
+      return ends[ends.length - 1];
+    }
+
+    @Override
+    int width() {
+      return children.length;
+    }
+
+    int start(int child) {
+      return child == 0 ? 0 : ends[child - 1];
+    }
+
+    /** The child holding {@code index}; an index equal to size() maps to the last child (append). */
+    int childFor(int index) {
+      int lo = 0;
+      int hi = ends.length - 1;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (ends[mid] > index) {
+          hi = mid;
+        } else {
+          lo = mid + 1;
+        }
+      }
+      return lo;
+    }
+
+    @Override
+    Node[] insert(int index, Object element) {
+      int child = childFor(index);
+      Node[] replaced = children[child].insert(index - start(child), element);
+      Node[] updated = splice(children, child, 1, replaced);
+      if (updated.length <= MAX_WIDTH) {
+        return new Node[] {Branch.of(updated)};
+      }
+      int half = updated.length / 2;
+      return new Node[] {Branch.of(Arrays.copyOfRange(updated, 0, half)),
+          Branch.of(Arrays.copyOfRange(updated, half, updated.length))};
+    }
+
+    @Override
+    Node with(int index, Object element) {
+      int child = childFor(index);
+      Node[] copy = children.clone();
+      copy[child] = children[child].with(index - start(child), element);
+      // Sizes are unchanged, so the size table can be shared.
+      return new Branch(copy, ends);
+    }
+
+    @Override
+    Node removeAt(int index) {
+      int child = childFor(index);
+      Node updated = children[child].removeAt(index - start(child));
+      if (updated.size() == 0) {
+        return children.length == 1 ? updated : Branch.of(splice(children, child, 1, new Node[0]));
+      }
+      if (updated.width() >= MIN_WIDTH || children.length == 1) {
+        Node[] copy = children.clone();
+        copy[child] = updated;
+        return Branch.of(copy);
+      }
+      // Underfull: merge with (or borrow from) a neighbour.
+      int left = child > 0 ? child - 1 : child;
+      Node a = left == child ? updated : children[left];
+      Node b = left == child ? children[child + 1] : updated;
+      return Branch.of(splice(children, left, 2, merge(a, b)));
+    }
+
+    @Override
+    <E> void forEach(Consumer<? super E> action) {
+      for (Node child : children) {
+        child.forEach(action);
+      }
+    }
+  }
+
+  /** Joins two same-level siblings into one node, or redistributes them evenly if that would overflow. */
+  private static Node[] merge(Node a, Node b) {
+    if (a instanceof Leaf left && b instanceof Leaf right) {
+      Object[] all = concat(left.items, right.items);
+      if (all.length <= MAX_WIDTH) {
+        return new Node[] {new Leaf(all)};
+      }
+      int half = all.length / 2;
+      return new Node[] {new Leaf(Arrays.copyOfRange(all, 0, half)), new Leaf(Arrays.copyOfRange(all, half, all.length))};
+    }
+    Node[] all = concat(((Branch) a).children, ((Branch) b).children);
+    if (all.length <= MAX_WIDTH) {
+      return new Node[] {Branch.of(all)};
+    }
+    int half = all.length / 2;
+    return new Node[] {Branch.of(Arrays.copyOfRange(all, 0, half)), Branch.of(Arrays.copyOfRange(all, half, all.length))};
+  }
+
+  private static <T> T[] concat(T[] a, T[] b) {
+    T[] all = Arrays.copyOf(a, a.length + b.length);
+    System.arraycopy(b, 0, all, a.length, b.length);
+    return all;
+  }
+
+  /** Copy of {@code nodes} with {@code count} entries at {@code from} replaced by {@code replacement}. */
+  private static Node[] splice(Node[] nodes, int from, int count, Node[] replacement) {
+    Node[] result = new Node[nodes.length - count + replacement.length];
+    System.arraycopy(nodes, 0, result, 0, from);
+    System.arraycopy(replacement, 0, result, from, replacement.length);
+    System.arraycopy(nodes, from + count, result, from + replacement.length, nodes.length - from - count);
+    return result;
+  }
+
+  /** Walks leaf by leaf: one root-to-leaf descent per 32 elements. */
+  private final class Itr implements Iterator<E> {
+    private final int size = size();
+    private int index;
+    private Object[] leaf;
+    private int offset;
+
+    @Override
+    public boolean hasNext() {
+      return index < size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+      if (index >= size) {
+        throw new NoSuchElementException();
+      }
+      if (leaf == null || offset == leaf.length) {
+        leaf = leafAt(index);
+        offset = 0;
+      }
+      index++;
+      return (E) leaf[offset++];
+    }
+
+    private Object[] leafAt(int index) {
+      Node node = root;
+      while (node instanceof Branch branch) {
+        int child = branch.childFor(index);
+        index -= branch.start(child);
+        node = branch.children[child];
+      }
+      return ((Leaf) node).items;
+    }
+  }
+}
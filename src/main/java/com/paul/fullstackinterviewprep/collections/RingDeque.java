@@ -0,0 +1,368 @@
+package com.paul.fullstackinterviewprep.collections;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Single-threaded Deque on a power-of-two ring buffer.
+ *
+ * LinkedList as a stack or queue (Q09's demonstrateDeque) allocates a
+ * 24-byte node per push/offer and leaves it for the GC on every pop/poll.
+ * Here head and tail are indexes into one array that wraps around, so
+ * push/pop/offer/poll are an index bump and an array store - no allocation
+ * until the array has to double.
+ *
+ * The capacity is always a power of two, so wrapping is {@code & mask}
+ * instead of a branch or a modulo. ArrayDeque uses the same layout (with
+ * arbitrary capacities since JDK 9); this class adds O(1) indexed
+ * {@link #get(int)} and fail-fast iterators.
+ *
+ * Null elements are not allowed, because poll()/peek() use null to mean
+ * "empty". Not thread-safe - see SpscRingQueue and MpscRingQueue in the
+ * concurrency package for the bounded lock-free variants.
+ */
+public class RingDeque<E> extends AbstractCollection<E> implements Deque<E> {
+
+  private Object[] elements;
+  private int mask;
+  /** Index of the first element. */
+  private int head;
+  /** Index one past the last element. */
+  private int tail;
+  private int size;
+  private int modCount;
+
+  public RingDeque() {
+    this(16);
+  }
+
+  public RingDeque(int expectedSize) {
+    int capacity = Math.max(8, Integer.highestOneBit(Math.max(1, expectedSize - 1)) << 1);
+    elements = new Object[capacity];
+    mask = capacity - 1;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** The element at {@code index} from the head (0 is the first element). */
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    Objects.checkIndex(index, size);
+    return (E) elements[(head + index) & mask];
+  }
+
+  @Override
+  public void addFirst(E element) {
+    Objects.requireNonNull(element);
+    head = (head - 1) & mask;
+    elements[head] = element;
+    grown();
+  }
+
+  @Override
+  public void addLast(E element) {
+    Objects.requireNonNull(element);
+    elements[tail] = element;
+    tail = (tail + 1) & mask;
+    grown();
+  }
+
+  @Override
+  public boolean offerFirst(E element) {
+    addFirst(element);
+    return true;
+  }
+
+  @Override
+  public boolean offerLast(E element) {
+    addLast(element);
+    return true;
+  }
+
+  @Override
+  public E removeFirst() {
+    E element = pollFirst();
+    if (element == null) {
+      throw new NoSuchElementException();
+    }
+    return element;
+  }
+
+  @Override
+  public E removeLast() {
+    E element = pollLast();
+    if (element == null) {
+      throw new NoSuchElementException();
+    }
+    return element;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E pollFirst() {
+    if (size == 0) {
+      return null;
+    }
+    E element = (E) elements[head];
+    elements[head] = null;
+    head = (head + 1) & mask;
+    size--;
+    modCount++;
+    return element;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E pollLast() {
+    if (size == 0) {
+      return null;
+    }
+    tail = (tail - 1) & mask;
+    E element = (E) elements[tail];
+    elements[tail] = null;
+    size--;
+    modCount++;
+    return element;
+  }
+
+  @Override
+  public E getFirst() {
+    E element = peekFirst();
+    if (element == null) {
+      throw new NoSuchElementException();
+    }
+    return element;
+  }
+
+  @Override
+  public E getLast() {
+    E element = peekLast();
+    if (element == null) {
+      throw new NoSuchElementException();
+    }
+    return element;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E peekFirst() {
+    return (E) elements[head];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E peekLast() {
+    return (E) elements[(tail - 1) & mask];
+  }
+
+  @Override
+  public boolean removeFirstOccurrence(Object o) {
+    for (int i = 0; i < size; i++) {
+      if (Objects.equals(o, elements[(head + i) & mask])) {
+        delete(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean removeLastOccurrence(Object o) {
+    for (int i = size - 1; i >= 0; i--) {
+      if (Objects.equals(o, elements[(head + i) & mask])) {
+        delete(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean add(E element) {
+    addLast(element);
+    return true;
+  }
+
+  @Override
+  public boolean offer(E element) {
+    return offerLast(element);
+  }
+
+  @Override
+  public E remove() {
+    return removeFirst();
+  }
+
+  @Override
+  public E poll() {
+    return pollFirst();
+  }
+
+  @Override
+  public E element() {
+    return getFirst();
+  }
+
+  @Override
+  public E peek() {
+    return peekFirst();
+  }
+
+  @Override
+  public void push(E element) {
+    addFirst(element);
+  }
+
+  @Override
+  public E pop() {
+    return removeFirst();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return removeFirstOccurrence(o);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    for (int i = 0; i < size; i++) {
+      if (Objects.equals(o, elements[(head + i) & mask])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(elements, null);
+    head = 0;
+    tail = 0;
+    size = 0;
+    modCount++;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(Consumer<? super E> action) {
+    Objects.requireNonNull(action);
+    int expectedModCount = modCount;
+    for (int i = 0; i < size; i++) {
+      action.accept((E) elements[(head + i) & mask]);
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr(false);
+  }
+
+  @Override
+  public Iterator<E> descendingIterator() {
+    return new Itr(true);
+  }
+
+  private void grown() {
+    size++;
+    modCount++;
+    if (size == elements.length) {
+      doubleCapacity();
+    }
+  }
+
+  /** Unwraps the ring into a twice-as-large array, head at index 0. */
+  private void doubleCapacity() {
+    int capacity = elements.length;
+    if (capacity == 1 << 30) {
+      throw new IllegalStateException("Deque too big");
+    }
+    Object[] grown = new Object[capacity << 1];
+    int firstPart = capacity - head;
+    System.arraycopy(elements, head, grown, 0, firstPart);
+    System.arraycopy(elements, 0, grown, firstPart, head);
+    elements = grown;
+    mask = grown.length - 1;
+    head = 0;
+    tail = size;
+  }
+
+  /** Removes the element {@code index} places from the head, shifting whichever side is shorter. */
+  private void delete(int index) {
+    if (index < size / 2) {
+      for (int i = index; i > 0; i--) {
+        elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+      }
+      elements[head] = null;
+      head = (head + 1) & mask;
+    } else {
+      for (int i = index; i < size - 1; i++) {
+        elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+      }
+      tail = (tail - 1) & mask;
+      elements[tail] = null;
+    }
+    size--;
+    modCount++;
+  }
+
+  /** Fail-fast iterator over logical positions, so delete() shifting either side is harmless. */
+  private final class Itr implements Iterator<E> {
+    private final boolean descending;
+    private int remaining = size;
+    private int lastReturned = -1;
+    private int expectedModCount = modCount;
+
+    Itr(boolean descending) {
+      this.descending = descending;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (remaining <= 0) {
+        throw new NoSuchElementException();
+      }
+      lastReturned = descending ? remaining - 1 : size - remaining;
+      remaining--;
+      return (E) elements[(head + lastReturned) & mask];
+    }
+
+    @Override
+    public void remove() {
+      if (lastReturned < 0) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      delete(lastReturned);
+      lastReturned = -1;
+      expectedModCount = modCount;
+    }
+  }
+}
@@ -0,0 +1,258 @@
+package com.paul.fullstackinterviewprep.collections;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe List with snapshot iterators, like CopyOnWriteArrayList, but O(log n) writes.
+ *
+ * CopyOnWriteArrayList (Q22) copies the whole array on every add/remove,
+ * so a listener or config list with thousands of entries pays O(n) time and
+ * an O(n) garbage array per write. Here the current contents are a
+ * PersistentVector: a write builds a new version by copying only the
+ * ~log32(n) small nodes on the path to the changed element, and publishes
+ * it with a volatile write.
+ *
+ * Readers never lock. Every read - get(), size(), iterator(), and the
+ * AbstractList methods that would otherwise call get(i) or size() against
+ * whatever version is current at each step (listIterator, subList, equals,
+ * hashCode, lastIndexOf, spliterator) - reads the volatile field once and
+ * works on that version. An iterator walks the version that was current
+ * when it was created - writes made during iteration are invisible to it
+ * and it never throws ConcurrentModificationException - and subList() is
+ * a view of that version, not of the live list. Iterators do not support
+ * remove(), set() or add(), same as CopyOnWriteArrayList. Writers are serialised by a lock,
+ * which keeps compound operations like addIfAbsent() simple and atomic.
+ *
+ * Trade-off: get(i) is O(log n) instead of O(1), so for tiny lists that
+ * are almost never written CopyOnWriteArrayList is still slightly faster
+ * to read. Use {@link #snapshot()} to hand out an immutable view.
+ */
+public class SnapshotList<E> extends AbstractList<E> {
+
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private volatile PersistentVector<E> current;
+
+  public SnapshotList() {
+    current = PersistentVector.empty();
+  }
+
+  public SnapshotList(Collection<? extends E> elements) {
+    current = PersistentVector.copyOf(elements);
+  }
+
+  /** The current contents as an immutable list; O(1), never copies. */
+  public PersistentVector<E> snapshot() {
+    return current;
+  }
+
+  @Override
+  public int size() {
+    return current.size();
+  }
+
+  @Override
+  public E get(int index) {
+    return current.get(index);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return current.iterator();
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return current.listIterator();
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    return current.listIterator(index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return current.spliterator();
+  }
+
+  /** The elements in [from, to) of the current version; later writes to this list don't show through. */
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    return current.subList(fromIndex, toIndex);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o == this || current.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return current.hashCode();
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    current.forEach(action);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return current.indexOf(o);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return current.lastIndexOf(o);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return current.indexOf(o) >= 0;
+  }
+
+  @Override
+  public boolean add(E element) {
+    writeLock.lock();
+    try {
+      current = current.append(element);
+      return true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public void add(int index, E element) {
+    writeLock.lock();
+    try {
+      current = current.insert(index, element);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public E set(int index, E element) {
+    writeLock.lock();
+    try {
+      PersistentVector<E> before = current;
+      E previous = before.get(index);
+      current = before.with(index, element);
+      return previous;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public E remove(int index) {
+    writeLock.lock();
+    try {
+      PersistentVector<E> before = current;
+      E previous = before.get(index);
+      current = before.removeAt(index);
+      return previous;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    writeLock.lock();
+    try {
+      PersistentVector<E> before = current;
+      current = before.without(o);
+      return current != before;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /** Appends {@code element} unless it is already present; returns whether it was added. */
+  public boolean addIfAbsent(E element) {
+    writeLock.lock();
+    try {
+      if (current.indexOf(element) >= 0) {
+        return false;
+      }
+      current = current.append(element);
+      return true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> elements) {
+    writeLock.lock();
+    try {
+      PersistentVector<E> before = current;
+      current = before.appendAll(elements);
+      return current.size() != before.size();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super E> filter) {
+    Objects.requireNonNull(filter);
+    writeLock.lock();
+    try {
+      PersistentVector<E> before = current;
+      PersistentVector<E> after = PersistentVector.copyOf(before.stream().filter(filter.negate()).toList());
+      if (after.size() == before.size()) {
+        return false;
+      }
+      current = after;
+      return true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    Objects.requireNonNull(c);
+    return removeIf(c::contains);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    Objects.requireNonNull(c);
+    return removeIf(element -> !c.contains(element));
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    Objects.requireNonNull(operator);
+    writeLock.lock();
+    try {
+      current = PersistentVector.copyOf(current.stream().map(operator).toList());
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    writeLock.lock();
+    try {
+      current = PersistentVector.empty();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+}
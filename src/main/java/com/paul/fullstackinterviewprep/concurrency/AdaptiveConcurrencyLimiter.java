@@ -0,0 +1,125 @@
+package com.paul.fullstackinterviewprep.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control: at most {@link #limit()} requests in flight, where the
+ * limit adapts to measured latency (see GradientLimit).
+ *
+ * A bounded pool (Q32_ConnectionPool) protects the DATABASE, but callers
+ * that cannot get a connection still pile up in front of it, each holding a
+ * request thread and all of them timing out together - tail latency explodes.
+ * Rejecting the excess immediately (503 + Retry-After) keeps the admitted
+ * requests fast and tells clients to back off, instead of making everyone
+ * slow.
+ *
+ * Usage:
+ * <pre>
+ *   Permit permit = limiter.tryAcquire();
+ *   if (permit == null) { reject fast; return; }
+ *   try { handle(); permit.onSuccess(); }
+ *   catch (TimeoutException e) { permit.onDropped(); }
+ *   finally { permit.release(); }  // no-op if onSuccess/onDropped already released
+ * </pre>
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+  /** Point-in-time metrics for one limiter. */
+  public record Stats(String name, int limit, int inflight, long accepted, long rejected, long dropped,
+      long baselineRttMicros) {
+  }
+
+  private final String name;
+  private final GradientLimit limitAlgorithm;
+  private final AtomicInteger inflight = new AtomicInteger();
+  private final AtomicLong accepted = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private volatile int limit;
+
+  public AdaptiveConcurrencyLimiter(String name, GradientLimit limitAlgorithm) {
+    this.name = name;
+    this.limitAlgorithm = limitAlgorithm;
+    this.limit = limitAlgorithm.limit();
+  }
+
+  /** Returns a permit, or null if the limit is reached (the caller should reject immediately). */
+  public Permit tryAcquire() {
+    while (true) {
+      int current = inflight.get();
+      if (current >= limit) {
+        rejected.incrementAndGet();
+        return null;
+      }
+      if (inflight.compareAndSet(current, current + 1)) {
+        accepted.incrementAndGet();
+        return new Permit(System.nanoTime(), current + 1);
+      }
+    }
+  }
+
+  public String name() {
+    return name;
+  }
+
+  public int limit() {
+    return limit;
+  }
+
+  public Stats stats() {
+    long baseline;
+    synchronized (limitAlgorithm) {
+      baseline = limitAlgorithm.baselineRttNanos();
+    }
+    return new Stats(name, limit, inflight.get(), accepted.get(), rejected.get(), dropped.get(), baseline / 1_000);
+  }
+
+  private void complete(long startNanos, int inflightAtStart, boolean wasDropped) {
+    long rtt = System.nanoTime() - startNanos;
+    synchronized (limitAlgorithm) {
+      limit = limitAlgorithm.onSample(rtt, inflightAtStart, wasDropped);
+    }
+  }
+
+  /** One admitted request. Exactly one of onSuccess/onDropped/release should end it. */
+  public final class Permit {
+    private final long startNanos;
+    private final int inflightAtStart;
+    private boolean released;
+
+    private Permit(long startNanos, int inflightAtStart) {
+      this.startNanos = startNanos;
+      this.inflightAtStart = inflightAtStart;
+    }
+
+    /** The request completed normally; its latency feeds the limit. */
+    public void onSuccess() {
+      if (release0()) {
+        complete(startNanos, inflightAtStart, false);
+      }
+    }
+
+    /** The request failed because the backend was overloaded (timeout, pool exhausted...). */
+    public void onDropped() {
+      if (release0()) {
+        dropped.incrementAndGet();
+        complete(startNanos, inflightAtStart, true);
+      }
+    }
+
+    /** Releases without a sample, e.g. for client errors that say nothing about backend capacity. */
+    public void release() {
+      release0();
+    }
+
+    private boolean release0() {
+      if (released) {
+        return false;
+      }
+      released = true;
+      inflight.decrementAndGet();
+      return true;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.paul.fullstackinterviewprep.concurrency;
+
+import com.paul.fullstackinterviewprep.metrics.LatencyHistogram;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 200 concurrent clients against a backend that can serve 10 at a time.
+ *
+ * The backend is a 10-permit pool with a 5ms service time, like the
+ * exhausted pool in Q32_ConnectionPool. Without admission control every
+ * client gets in line and everyone's latency becomes the queue length.
+ * With the adaptive limiter the limit settles near the pool size, excess
+ * clients get an immediate rejection (a 503 in HTTP terms) and back off,
+ * and the admitted requests stay close to the bare service time.
+ */
+public class AdaptiveLimiterDemo {
+
+  static final int CLIENTS = 200;
+  static final int BACKEND_CAPACITY = 10;
+  static final long SERVICE_MILLIS = 5;
+  static final long RUN_MILLIS = 3_000;
+  static final long BACKOFF_MILLIS = 10;
+
+  public static void main(String[] args) throws InterruptedException {
+    System.out.println("=== Adaptive Concurrency Limiting ===");
+    System.out.println(CLIENTS + " clients, backend capacity " + BACKEND_CAPACITY + ", "
+        + SERVICE_MILLIS + "ms service time\n");
+
+    System.out.println("--- No limiter: everyone queues on the pool ---");
+    run(null);
+
+    System.out.println("\n--- Gradient limiter in front of the pool ---");
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter("orders", new GradientLimit(20, 1, 200));
+    run(limiter);
+    System.out.println("Limiter: " + limiter.stats());
+  }
+
+  static void run(AdaptiveConcurrencyLimiter limiter) throws InterruptedException {
+    Semaphore backend = new Semaphore(BACKEND_CAPACITY, true);
+    LatencyHistogram served = new LatencyHistogram();
+    LongAdder rejected = new LongAdder();
+    long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MILLIS);
+
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < CLIENTS; i++) {
+        clients.submit(() -> {
+          while (System.nanoTime() < end) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter == null ? null : limiter.tryAcquire();
+            if (limiter != null && permit == null) {
+              rejected.increment();
+              Thread.sleep(BACKOFF_MILLIS); // honour Retry-After
+              continue;
+            }
+            long start = System.nanoTime();
+            backend.acquire();
+            try {
+              Thread.sleep(SERVICE_MILLIS);
+            } finally {
+              backend.release();
+            }
+            served.record(System.nanoTime() - start);
+            if (permit != null) {
+              permit.onSuccess();
+            }
+          }
+          return null;
+        });
+      }
+    }
+
+    System.out.println("Served:   " + served.summary(TimeUnit.NANOSECONDS));
+    System.out.println("Rejected: " + rejected.sum());
+  }
+}
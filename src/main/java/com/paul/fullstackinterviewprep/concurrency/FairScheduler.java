@@ -0,0 +1,304 @@
+package com.paul.fullstackinterviewprep.concurrency;
+
+import com.paul.fullstackinterviewprep.metrics.LatencyHistogram;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Task scheduler with priority lanes, per-tenant fairness and work stealing.
+ *
+ * Executors.newFixedThreadPool (see Q16_Multithreading) has ONE FIFO queue:
+ * if a tenant submits 50,000 export tasks, an interactive order lookup
+ * submitted a moment later waits behind all of them. This scheduler fixes
+ * that in three layers:
+ *
+ * 1. Lanes - every task is submitted to a Lane (INTERACTIVE, DEFAULT, BATCH),
+ *    and each lane has a weight.
+ * 2. Tenants - inside a lane, every tenant gets its own FIFO. Dispatch is
+ *    weighted fair queuing over (lane, tenant) flows with weight
+ *    laneWeight * tenantWeight (see WeightedFairQueue): a backlogged bulk
+ *    tenant gets its fair share, but a tenant with one interactive task is
+ *    served almost immediately, and BATCH still progresses under load
+ *    instead of starving like it would with strict priorities.
+ * 3. Work stealing - tasks forked from INSIDE a running task go onto the
+ *    worker's own deque (LIFO for the owner, cache-hot), and idle workers
+ *    steal from the opposite end of other workers' deques before going to
+ *    sleep, like ForkJoinPool.
+ *
+ * Per-lane metrics: current queue depth, tasks dispatched, and a histogram
+ * of queue wait time (submit -> start of execution).
+ */
+public final class FairScheduler implements AutoCloseable {
+
+  public enum Lane {
+    INTERACTIVE(8), DEFAULT(4), BATCH(1);
+
+    private final int weight;
+
+    Lane(int weight) {
+      this.weight = weight;
+    }
+
+    public int weight() {
+      return weight;
+    }
+  }
+
+  /** Point-in-time metrics for one lane; wait times are in microseconds. */
+  public record LaneStats(Lane lane, int queueDepth, long dispatched, long meanWaitMicros, long p99WaitMicros,
+      long maxWaitMicros) {
+  }
+
+  private record FlowKey(Lane lane, String tenant) {
+  }
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition workAvailable = lock.newCondition();
+  private final WeightedFairQueue<FlowKey, Task> queue = new WeightedFairQueue<>();
+  private final Map<String, Integer> tenantWeights = new ConcurrentHashMap<>();
+  private final Map<Lane, LaneMetrics> metrics = new EnumMap<>(Lane.class);
+  private final List<Worker> workers = new ArrayList<>();
+  private final AtomicInteger idleWorkers = new AtomicInteger();
+  private volatile boolean shutdown;
+
+  public FairScheduler(int workerCount) {
+    for (Lane lane : Lane.values()) {
+      metrics.put(lane, new LaneMetrics());
+    }
+    for (int i = 0; i < workerCount; i++) {
+      Worker worker = new Worker(i);
+      workers.add(worker);
+    }
+    workers.forEach(Thread::start);
+  }
+
+  /** Gives {@code tenant} a share proportional to {@code weight} (default 1) within every lane. */
+  public void registerTenant(String tenant, int weight) {
+    if (weight < 1) {
+      throw new IllegalArgumentException("weight must be >= 1");
+    }
+    tenantWeights.put(tenant, weight);
+  }
+
+  /** Queues {@code task} for {@code tenant} in {@code lane}. */
+  public <T> CompletableFuture<T> submit(String tenant, Lane lane, Callable<T> task) {
+    Task wrapped = new Task(lane, task);
+    int weight = lane.weight() * tenantWeights.getOrDefault(tenant, 1);
+    lock.lock();
+    try {
+      if (shutdown) {
+        throw new RejectedExecutionException("Scheduler is shut down");
+      }
+      metrics.get(lane).queued.incrementAndGet();
+      queue.offer(new FlowKey(lane, tenant), weight, wrapped);
+      workAvailable.signal();
+    } finally {
+      lock.unlock();
+    }
+    return wrapped.future();
+  }
+
+  /**
+   * Runs {@code task} as a subtask of the task currently executing on this
+   * worker. It is pushed onto the worker's local deque and inherits the
+   * parent's lane for metrics; idle workers may steal it. Unlike ForkJoinPool,
+   * a parent that blocks on the returned future does NOT help run subtasks -
+   * it occupies its worker until the others finish them.
+   *
+   * @throws IllegalStateException if not called from inside a scheduled task
+   */
+  public <T> CompletableFuture<T> fork(Callable<T> task) {
+    if (!(Thread.currentThread() instanceof Worker worker) || worker.scheduler() != this) {
+      throw new IllegalStateException("fork() must be called from a task running on this scheduler");
+    }
+    Task wrapped = new Task(worker.currentLane, task);
+    metrics.get(wrapped.lane).queued.incrementAndGet();
+    worker.deque.addFirst(wrapped);
+    // Pairs with awaitWork(): a worker counts itself idle before its final check of the deques.
+    if (idleWorkers.get() > 0) {
+      lock.lock();
+      try {
+        workAvailable.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+    return wrapped.future();
+  }
+
+  public LaneStats stats(Lane lane) {
+    LaneMetrics m = metrics.get(lane);
+    return new LaneStats(lane, m.queued.get(), m.dispatched.get(), (long) m.waitNanos.mean() / 1_000,
+        m.waitNanos.percentile(99) / 1_000, m.waitNanos.max() / 1_000);
+  }
+
+  public List<LaneStats> stats() {
+    List<LaneStats> all = new ArrayList<>();
+    for (Lane lane : Lane.values()) {
+      all.add(stats(lane));
+    }
+    return all;
+  }
+
+  /** Stops accepting work, lets workers drain everything already queued, and waits for them. */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      shutdown = true;
+      workAvailable.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    for (Worker worker : workers) {
+      try {
+        worker.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private Task pollShared() {
+    lock.lock();
+    try {
+      return queue.poll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Task steal(Worker thief) {
+    int n = workers.size();
+    int start = ThreadLocalRandom.current().nextInt(n);
+    for (int i = 0; i < n; i++) {
+      Worker victim = workers.get((start + i) % n);
+      if (victim != thief) {
+        Task task = victim.deque.pollLast();
+        if (task != null) {
+          return task;
+        }
+      }
+    }
+    return null;
+  }
+
+  private boolean hasLocalWork() {
+    for (Worker worker : workers) {
+      if (!worker.deque.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static final class LaneMetrics {
+    final AtomicInteger queued = new AtomicInteger();
+    final AtomicLong dispatched = new AtomicLong();
+    final LatencyHistogram waitNanos = new LatencyHistogram();
+  }
+
+  private final class Task {
+    final Lane lane;
+    final long submittedNanos = System.nanoTime();
+    final Callable<?> body;
+    final CompletableFuture<Object> result = new CompletableFuture<>();
+
+    Task(Lane lane, Callable<?> body) {
+      this.lane = lane;
+      this.body = body;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> future() {
+      return (CompletableFuture<T>) result;
+    }
+
+    void run() {
+      LaneMetrics m = metrics.get(lane);
+      m.queued.decrementAndGet();
+      m.dispatched.incrementAndGet();
+      m.waitNanos.record(System.nanoTime() - submittedNanos);
+      try {
+        result.complete(body.call());
+      } catch (Throwable t) {
+        result.completeExceptionally(t);
+      }
+    }
+  }
+
+  private final class Worker extends Thread {
+    final ConcurrentLinkedDeque<Task> deque = new ConcurrentLinkedDeque<>();
+    Lane currentLane = Lane.DEFAULT;
+
+    Worker(int index) {
+      super("fair-worker-" + index);
+      setDaemon(true);
+    }
+
+    FairScheduler scheduler() {
+      return FairScheduler.this;
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        Task task = deque.pollFirst();
+        if (task == null) {
+          task = pollShared();
+        }
+        if (task == null) {
+          task = steal(this);
+        }
+        if (task != null) {
+          currentLane = task.lane;
+          task.run();
+          continue;
+        }
+        if (!awaitWork()) {
+          return;
+        }
+      }
+    }
+
+    /** Parks until new work may be available; returns false once shut down and fully drained. */
+    private boolean awaitWork() {
+      lock.lock();
+      try {
+        // Announce idleness BEFORE the last look at the deques. fork() pushes and then reads idleWorkers, so
+        // either this check sees its task or fork() sees the count and signals - under this lock, which is
+        // only released by await(), so the signal cannot land before the wait.
+        idleWorkers.incrementAndGet();
+        try {
+          if (queue.size() > 0 || hasLocalWork()) {
+            return true;
+          }
+          if (shutdown) {
+            return false;
+          }
+          workAvailable.await();
+        } catch (InterruptedException e) {
+          return false;
+        } finally {
+          idleWorkers.decrementAndGet();
+        }
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
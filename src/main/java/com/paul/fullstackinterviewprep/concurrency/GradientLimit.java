@@ -0,0 +1,88 @@
+package com.paul.fullstackinterviewprep.concurrency;
+
+/**
+ * Gradient-based concurrency limit estimator (after Netflix's Gradient2).
+ *
+ * Little's law: if a backend can really do N things at once, pushing more
+ * than N concurrent requests at it does not raise throughput - the extra
+ * requests just queue, and latency climbs. So latency is the signal:
+ *
+ *   gradient = tolerance * longRtt / shortRtt      clamped to [0.5, 1.0]
+ *   newLimit = limit * gradient + queueSize
+ *
+ * - longRtt is a slow exponential average: the "no queueing" baseline.
+ * - shortRtt is the latest sample. While it stays within tolerance (1.5x)
+ *   of the baseline the gradient is 1.0 and the limit keeps growing by
+ *   queueSize (sqrt(limit)) - probing for more capacity.
+ * - Once requests start queueing, shortRtt rises, the gradient drops below
+ *   1.0 and the limit shrinks toward what the backend can actually serve.
+ *
+ * Two guards from the original algorithm:
+ * - The limit is not raised while the caller is "app limited" (fewer than
+ *   half the permits in use) - low load says nothing about capacity.
+ * - If the baseline drifts far above current latency (after an overload
+ *   episode) it is pulled back down, so recovery is not slowed by the
+ *   memory of a bad period.
+ *
+ * A dropped request (timeout, connection refused...) is treated as an
+ * unambiguous overload signal and cuts the limit by 10%.
+ *
+ * Not thread-safe on its own; AdaptiveConcurrencyLimiter serializes calls.
+ */
+public final class GradientLimit {
+
+  private static final double TOLERANCE = 1.5;
+  private static final double SMOOTHING = 0.2;
+  private static final double LONG_WINDOW = 600;
+  private static final double DROP_FACTOR = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private double estimatedLimit;
+  private double longRttNanos;
+
+  public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+    if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+      throw new IllegalArgumentException("Require 1 <= minLimit <= initialLimit <= maxLimit");
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.estimatedLimit = initialLimit;
+  }
+
+  public int limit() {
+    return (int) estimatedLimit;
+  }
+
+  /** The latency baseline, in nanoseconds (0 until the first sample). */
+  public long baselineRttNanos() {
+    return (long) longRttNanos;
+  }
+
+  /** Feeds one completed request: its round-trip time and how many requests were in flight when it started. */
+  public int onSample(long rttNanos, int inflight, boolean dropped) {
+    if (dropped) {
+      estimatedLimit = clamp(estimatedLimit * DROP_FACTOR);
+      return limit();
+    }
+    double shortRtt = Math.max(1, rttNanos);
+    longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / LONG_WINDOW;
+    if (longRttNanos / shortRtt > 2) {
+      longRttNanos *= 0.95;
+    }
+
+    if (inflight < estimatedLimit / 2) {
+      return limit();
+    }
+
+    double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRtt));
+    double queueSize = Math.sqrt(estimatedLimit);
+    double newLimit = estimatedLimit * gradient + queueSize;
+    estimatedLimit = clamp(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+    return limit();
+  }
+
+  private double clamp(double limit) {
+    return Math.max(minLimit, Math.min(maxLimit, limit));
+  }
+}
@@ -0,0 +1,120 @@
+package com.paul.fullstackinterviewprep.concurrency;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for ANY number of producer threads and ONE consumer thread.
+ *
+ * The shape of a logging/audit pipeline: every request thread appends, a
+ * single writer drains in batches. Producers claim a slot with one CAS on
+ * the producer index and then write the element into it; the consumer
+ * never takes a lock or CAS:
+ * - a slot is published by the element itself (a release-store), so the
+ *   consumer reads the slot, not the producer index, to see if it is ready
+ * - a producer that has claimed a slot but not yet written it makes poll()
+ *   spin for those few instructions instead of skipping ahead (FIFO order
+ *   per producer is preserved)
+ * - producers share a cached "limit" (consumer index + capacity) and only
+ *   read the consumer's index when they reach it, so the consumer's cache
+ *   line is left alone while the queue has room
+ * - producer and consumer indexes sit on separate padded cache lines
+ *
+ * offer() returns false when full and poll() returns null when empty.
+ * Null elements are not allowed.
+ */
+public final class MpscRingQueue<E> {
+
+  private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+  private static final int PRODUCER = 0;
+  private static final int CONSUMER = 1;
+  private static final int INDEX = 0;
+  /** Cached consumer index + capacity, shared by all producers. */
+  private static final int LIMIT = 1;
+
+  private final Object[] buffer;
+  private final int mask;
+  private final PaddedCounters counters = new PaddedCounters(2);
+
+  /** Capacity is rounded up to a power of two. */
+  public MpscRingQueue(int capacity) {
+    if (capacity < 2 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("capacity must be between 2 and 2^30: " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity - 1) << 1;
+    buffer = new Object[size];
+    mask = size - 1;
+    counters.setRelease(PRODUCER, LIMIT, size);
+  }
+
+  /** Any thread. Returns false if the queue is full. */
+  public boolean offer(E element) {
+    Objects.requireNonNull(element);
+    while (true) {
+      long producerIndex = counters.getVolatile(PRODUCER, INDEX);
+      long limit = counters.getVolatile(PRODUCER, LIMIT);
+      if (producerIndex >= limit) {
+        limit = counters.getAcquire(CONSUMER, INDEX) + buffer.length;
+        if (producerIndex >= limit) {
+          return false;
+        }
+        // Racy but safe: a stale (smaller) limit only sends a producer back to re-read the consumer index.
+        counters.setRelease(PRODUCER, LIMIT, limit);
+      }
+      if (counters.compareAndSet(PRODUCER, INDEX, producerIndex, producerIndex + 1)) {
+        ELEMENTS.setRelease(buffer, (int) producerIndex & mask, element);
+        return true;
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  /** Consumer thread only. Returns null if the queue is empty. */
+  @SuppressWarnings("unchecked")
+  public E poll() {
+    long consumerIndex = counters.getPlain(CONSUMER, INDEX);
+    int slot = (int) consumerIndex & mask;
+    Object element = ELEMENTS.getAcquire(buffer, slot);
+    if (element == null) {
+      if (consumerIndex == counters.getVolatile(PRODUCER, INDEX)) {
+        return null;
+      }
+      // Claimed but not yet written: the producer is between its CAS and its store.
+      do {
+        Thread.onSpinWait();
+        element = ELEMENTS.getAcquire(buffer, slot);
+      } while (element == null);
+    }
+    buffer[slot] = null;
+    counters.setRelease(CONSUMER, INDEX, consumerIndex + 1);
+    return (E) element;
+  }
+
+  /** Consumer thread only. Polls up to {@code limit} elements into {@code sink}; returns how many. */
+  public int drain(Consumer<? super E> sink, int limit) {
+    int drained = 0;
+    E element;
+    while (drained < limit && (element = poll()) != null) {
+      sink.accept(element);
+      drained++;
+    }
+    return drained;
+  }
+
+  /** Approximate when called while producers or the consumer are active. */
+  public int size() {
+    long consumerIndex = counters.getVolatile(CONSUMER, INDEX);
+    long producerIndex = counters.getVolatile(PRODUCER, INDEX);
+    return (int) Math.max(0, Math.min(buffer.length, producerIndex - consumerIndex));
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public int capacity() {
+    return buffer.length;
+  }
+}
@@ -0,0 +1,61 @@
+package com.paul.fullstackinterviewprep.concurrency;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A few long counters, each on its own pair of cache lines.
+ *
+ * When a producer thread writes its index and a consumer thread writes
+ * its own index on the same 64-byte line, every write invalidates the
+ * other core's copy (false sharing) and both slow to a crawl even though
+ * they never touch the same variable. Padding fields around a counter does
+ * not work reliably in Java - the JVM may reorder fields - but array
+ * elements are laid out in order, so each counter lives in its own
+ * 128-byte stretch of one long[] (128 also defeats adjacent-line prefetch).
+ *
+ * Each lane has SLOTS_PER_LANE usable slots: slot 0 is the shared counter,
+ * the others hold state owned by the same thread (a cached copy of the
+ * other side's index, for instance) that may share its line.
+ */
+final class PaddedCounters {
+
+  static final int SLOTS_PER_LANE = 4;
+  private static final int SPACING = 16;
+  private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+  private final long[] slots;
+
+  PaddedCounters(int lanes) {
+    slots = new long[(lanes + 1) * SPACING];
+  }
+
+  long getPlain(int lane, int slot) {
+    return slots[index(lane, slot)];
+  }
+
+  void setPlain(int lane, int slot, long value) {
+    slots[index(lane, slot)] = value;
+  }
+
+  long getAcquire(int lane, int slot) {
+    return (long) LONGS.getAcquire(slots, index(lane, slot));
+  }
+
+  void setRelease(int lane, int slot, long value) {
+    LONGS.setRelease(slots, index(lane, slot), value);
+  }
+
+  long getVolatile(int lane, int slot) {
+    return (long) LONGS.getVolatile(slots, index(lane, slot));
+  }
+
+  boolean compareAndSet(int lane, int slot, long expected, long value) {
+    return LONGS.compareAndSet(slots, index(lane, slot), expected, value);
+  }
+
+  /** Lane n starts SPACING slots after lane n-1; lane 0 is preceded by SPACING unused slots. */
+  private static int index(int lane, int slot) {
+    return (lane + 1) * SPACING + slot;
+  }
+}
@@ -0,0 +1,112 @@
+package com.paul.fullstackinterviewprep.concurrency;
+
+import com.paul.fullstackinterviewprep.concurrency.FairScheduler.Lane;
+import com.paul.fullstackinterviewprep.metrics.LatencyHistogram;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mixed interactive + batch workload: FIFO thread pool vs FairScheduler.
+ *
+ * Tenant "export" dumps BATCH_TASKS bulk tasks at once; meanwhile tenant
+ * "web" submits a short interactive lookup every INTERACTIVE_GAP_MS. The
+ * number that matters is the interactive end-to-end latency:
+ * - FIFO pool: each lookup queues behind the entire remaining export backlog
+ * - FairScheduler: each lookup is dispatched at the next free worker slot
+ *
+ * This is a load simulation measuring latency DISTRIBUTIONS under
+ * contention, which is why it is a plain main() rather than a JMH
+ * microbenchmark. Run it on an otherwise idle machine.
+ */
+public class SchedulerBenchmark {
+
+  static final int WORKERS = 4;
+  static final int BATCH_TASKS = 20_000;
+  static final long BATCH_TASK_MICROS = 200;
+  static final int INTERACTIVE_TASKS = 200;
+  static final long INTERACTIVE_TASK_MICROS = 50;
+  static final long INTERACTIVE_GAP_MS = 5;
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("=== Mixed Workload: FIFO Pool vs FairScheduler ===");
+    System.out.println(WORKERS + " workers, " + BATCH_TASKS + " x " + BATCH_TASK_MICROS + "us batch tasks, "
+        + INTERACTIVE_TASKS + " x " + INTERACTIVE_TASK_MICROS + "us interactive tasks every "
+        + INTERACTIVE_GAP_MS + "ms\n");
+
+    System.out.println("--- Executors.newFixedThreadPool (single FIFO queue) ---");
+    runFifo();
+
+    System.out.println("\n--- FairScheduler (lanes + tenant fairness + work stealing) ---");
+    runFair();
+  }
+
+  static void runFifo() throws Exception {
+    ExecutorService pool = Executors.newFixedThreadPool(WORKERS);
+    LatencyHistogram interactive = new LatencyHistogram();
+    long start = System.nanoTime();
+
+    List<CompletableFuture<?>> batch = new ArrayList<>();
+    for (int i = 0; i < BATCH_TASKS; i++) {
+      batch.add(CompletableFuture.runAsync(() -> spin(BATCH_TASK_MICROS), pool));
+    }
+    List<CompletableFuture<?>> lookups = new ArrayList<>();
+    for (int i = 0; i < INTERACTIVE_TASKS; i++) {
+      long submitted = System.nanoTime();
+      lookups.add(CompletableFuture.runAsync(() -> {
+        spin(INTERACTIVE_TASK_MICROS);
+        interactive.record(System.nanoTime() - submitted);
+      }, pool));
+      Thread.sleep(INTERACTIVE_GAP_MS);
+    }
+    CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).join();
+    CompletableFuture.allOf(batch.toArray(CompletableFuture[]::new)).join();
+
+    System.out.println("Interactive latency: " + interactive.summary(TimeUnit.NANOSECONDS));
+    System.out.println("Total wall time:     " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    pool.shutdown();
+  }
+
+  static void runFair() throws Exception {
+    LatencyHistogram interactive = new LatencyHistogram();
+    long start = System.nanoTime();
+
+    try (FairScheduler scheduler = new FairScheduler(WORKERS)) {
+      List<CompletableFuture<?>> batch = new ArrayList<>();
+      for (int i = 0; i < BATCH_TASKS; i++) {
+        batch.add(scheduler.submit("export", Lane.BATCH, () -> {
+          spin(BATCH_TASK_MICROS);
+          return null;
+        }));
+      }
+      List<CompletableFuture<?>> lookups = new ArrayList<>();
+      for (int i = 0; i < INTERACTIVE_TASKS; i++) {
+        long submitted = System.nanoTime();
+        lookups.add(scheduler.submit("web", Lane.INTERACTIVE, () -> {
+          spin(INTERACTIVE_TASK_MICROS);
+          interactive.record(System.nanoTime() - submitted);
+          return null;
+        }));
+        Thread.sleep(INTERACTIVE_GAP_MS);
+      }
+      CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).join();
+      System.out.println("Lane stats while export is still draining:");
+      scheduler.stats().forEach(s -> System.out.println("  " + s));
+      CompletableFuture.allOf(batch.toArray(CompletableFuture[]::new)).join();
+    }
+
+    System.out.println("Interactive latency: " + interactive.summary(TimeUnit.NANOSECONDS));
+    System.out.println("Total wall time:     " + (System.nanoTime() - start) / 1_000_000 + " ms");
+  }
+
+  /** Burns CPU for roughly {@code micros} without sleeping, like real request work. */
+  static void spin(long micros) {
+    long end = System.nanoTime() + micros * 1_000;
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.paul.fullstackinterviewprep.concurrency;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for exactly ONE producer thread and ONE consumer thread.
+ *
+ * ArrayBlockingQueue guards both ends with one ReentrantLock, so every
+ * offer and poll is a lock acquire and release and, under load, a park and
+ * unpark. With a single producer and a single consumer no lock or CAS is
+ * needed at all:
+ * - each index is written by one thread only: the producer publishes an
+ *   element with a release-store of the producer index, the consumer reads
+ *   it with an acquire-load (and the same in the other direction when it
+ *   frees a slot)
+ * - each side keeps a cached copy of the other side's index and only
+ *   re-reads the real one when the cache says full/empty, so in steady
+ *   state the two threads rarely touch each other's cache line at all
+ * - the indexes sit on separate padded cache lines (see PaddedCounters)
+ *
+ * offer() returns false when full and poll() returns null when empty;
+ * callers choose their own wait strategy. Using it from more than one
+ * producer or consumer thread corrupts it - see MpscRingQueue for many
+ * producers. Null elements are not allowed.
+ */
+public final class SpscRingQueue<E> {
+
+  private static final int PRODUCER = 0;
+  private static final int CONSUMER = 1;
+  private static final int INDEX = 0;
+  /** The other side's index as last seen; owned by this side. */
+  private static final int LIMIT = 1;
+
+  private final Object[] buffer;
+  private final int mask;
+  private final PaddedCounters counters = new PaddedCounters(2);
+
+  /** Capacity is rounded up to a power of two. */
+  public SpscRingQueue(int capacity) {
+    if (capacity < 2 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("capacity must be between 2 and 2^30: " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity - 1) << 1;
+    buffer = new Object[size];
+    mask = size - 1;
+  }
+
+  /** Producer thread only. Returns false if the queue is full. */
+  public boolean offer(E element) {
+    Objects.requireNonNull(element);
+    long producerIndex = counters.getPlain(PRODUCER, INDEX);
+    if (producerIndex >= counters.getPlain(PRODUCER, LIMIT)) {
+      long limit = counters.getAcquire(CONSUMER, INDEX) + buffer.length;
+      if (producerIndex >= limit) {
+        return false;
+      }
+      counters.setPlain(PRODUCER, LIMIT, limit);
+    }
+    buffer[(int) producerIndex & mask] = element;
+    counters.setRelease(PRODUCER, INDEX, producerIndex + 1);
+    return true;
+  }
+
+  /** Consumer thread only. Returns null if the queue is empty. */
+  @SuppressWarnings("unchecked")
+  public E poll() {
+    long consumerIndex = counters.getPlain(CONSUMER, INDEX);
+    if (consumerIndex >= counters.getPlain(CONSUMER, LIMIT)) {
+      long available = counters.getAcquire(PRODUCER, INDEX);
+      if (consumerIndex >= available) {
+        return null;
+      }
+      counters.setPlain(CONSUMER, LIMIT, available);
+    }
+    int slot = (int) consumerIndex & mask;
+    E element = (E) buffer[slot];
+    buffer[slot] = null;
+    counters.setRelease(CONSUMER, INDEX, consumerIndex + 1);
+    return element;
+  }
+
+  /** Consumer thread only. Polls up to {@code limit} elements into {@code sink}; returns how many. */
+  public int drain(Consumer<? super E> sink, int limit) {
+    int drained = 0;
+    E element;
+    while (drained < limit && (element = poll()) != null) {
+      sink.accept(element);
+      drained++;
+    }
+    return drained;
+  }
+
+  /** Approximate when called while either side is active. */
+  public int size() {
+    long consumerIndex = counters.getVolatile(CONSUMER, INDEX);
+    long producerIndex = counters.getVolatile(PRODUCER, INDEX);
+    return (int) Math.max(0, Math.min(buffer.length, producerIndex - consumerIndex));
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public int capacity() {
+    return buffer.length;
+  }
+}
@@ -0,0 +1,221 @@
+package com.paul.fullstackinterviewprep.concurrency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A small structured-concurrency scope for fanning out independent lookups.
+ *
+ * The JDK's StructuredTaskScope is still a preview API in Java 25 and this
+ * project does not compile with --enable-preview, so this class hand-rolls
+ * the same guarantees on top of virtual threads:
+ * - every forked subtask runs in its own virtual thread, so blocking I/O
+ *   (JDBC calls) costs almost nothing
+ * - join() waits for all subtasks, the first failure, or the deadline -
+ *   whichever comes first - so the total latency is close to the SLOWEST
+ *   subtask instead of the SUM of all of them
+ * - in FAIL_FAST mode the first failure cancels (interrupts) the siblings
+ * - in PARTIAL_RESULTS mode failures and timeouts are recorded per subtask
+ *   and the caller decides what to do with whatever did complete
+ * - close() never returns while a forked thread is still running, so no
+ *   subtask can outlive the scope (the "structured" part)
+ *
+ * Usage:
+ * <pre>
+ *   try (StructuredFanOut scope = StructuredFanOut.open(Mode.FAIL_FAST, Duration.ofMillis(500))) {
+ *     Subtask&lt;Order&gt; order = scope.fork("order", () -> loadOrder(id));
+ *     Subtask&lt;Customer&gt; customer = scope.fork("customer", () -> loadCustomer(id));
+ *     scope.join();
+ *     return new View(order.get(), customer.get());
+ *   }
+ * </pre>
+ *
+ * A scope is owned by the thread that opened it: fork/join/close must be
+ * called from that thread, and a scope can be joined only once.
+ */
+public final class StructuredFanOut implements AutoCloseable {
+
+  public enum Mode {
+    /** The first failure or a missed deadline cancels everything and join() throws. */
+    FAIL_FAST,
+    /** Failures and timeouts are recorded per subtask; join() returns normally. */
+    PARTIAL_RESULTS
+  }
+
+  private final Mode mode;
+  private final long deadlineNanos;
+  private final Thread owner = Thread.currentThread();
+  private final List<Subtask<?>> subtasks = new ArrayList<>();
+  private final LinkedBlockingQueue<Subtask<?>> completions = new LinkedBlockingQueue<>();
+  private boolean joined;
+  private boolean closed;
+
+  private StructuredFanOut(Mode mode, Duration timeout) {
+    this.mode = mode;
+    this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+  }
+
+  /** Opens a scope whose join() gives up once {@code timeout} has elapsed from now. */
+  public static StructuredFanOut open(Mode mode, Duration timeout) {
+    return new StructuredFanOut(mode, timeout);
+  }
+
+  /** Starts {@code task} in a new virtual thread owned by this scope. */
+  public <T> Subtask<T> fork(String name, Callable<T> task) {
+    ensureOwner();
+    if (joined || closed) {
+      throw new IllegalStateException("Cannot fork after join() or close()");
+    }
+    Subtask<T> subtask = new Subtask<>(name);
+    subtasks.add(subtask);
+    subtask.thread = Thread.ofVirtual().name("fanout-" + name).start(() -> subtask.run(task, completions));
+    return subtask;
+  }
+
+  /**
+   * Waits until every subtask has finished, a subtask fails (FAIL_FAST only),
+   * or the deadline passes. Subtasks still running at that point are cancelled.
+   *
+   * @throws FanOutException in FAIL_FAST mode if any subtask failed or the deadline was missed
+   */
+  public void join() throws InterruptedException {
+    ensureOwner();
+    if (joined) {
+      throw new IllegalStateException("Scope already joined");
+    }
+    joined = true;
+
+    int outstanding = subtasks.size();
+    while (outstanding > 0) {
+      long remaining = deadlineNanos - System.nanoTime();
+      Subtask<?> done = remaining > 0 ? completions.poll(remaining, TimeUnit.NANOSECONDS) : null;
+      if (done == null) {
+        cancelUnfinished(State.TIMED_OUT);
+        if (mode == Mode.FAIL_FAST) {
+          throw new FanOutException("Deadline exceeded with " + outstanding + " subtask(s) still running: "
+              + namesIn(State.TIMED_OUT), null);
+        }
+        return;
+      }
+      outstanding--;
+      if (done.state() == State.FAILED && mode == Mode.FAIL_FAST) {
+        cancelUnfinished(State.CANCELLED);
+        throw new FanOutException("Subtask '" + done.name + "' failed", done.exception());
+      }
+    }
+  }
+
+  /** Cancels anything still running and waits for every forked thread to terminate. */
+  @Override
+  public void close() {
+    ensureOwner();
+    if (closed) {
+      return;
+    }
+    closed = true;
+    cancelUnfinished(State.CANCELLED);
+    boolean interrupted = false;
+    for (Subtask<?> subtask : subtasks) {
+      while (true) {
+        try {
+          subtask.thread.join();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true; // keep waiting - a scope must not leak threads
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void cancelUnfinished(State reason) {
+    for (Subtask<?> subtask : subtasks) {
+      subtask.cancel(reason);
+    }
+  }
+
+  private String namesIn(State state) {
+    return subtasks.stream().filter(s -> s.state() == state).map(Subtask::name).toList().toString();
+  }
+
+  private void ensureOwner() {
+    if (Thread.currentThread() != owner) {
+      throw new IllegalStateException("Scope can only be used by the thread that opened it");
+    }
+  }
+
+  public enum State { RUNNING, SUCCESS, FAILED, CANCELLED, TIMED_OUT }
+
+  /** Handle to one forked lookup. Only read results after join(). */
+  public static final class Subtask<T> {
+    private final String name;
+    private final AtomicReference<State> state = new AtomicReference<>(State.RUNNING);
+    private volatile Thread thread;
+    private volatile T result;
+    private volatile Throwable exception;
+
+    private Subtask(String name) {
+      this.name = name;
+    }
+
+    private void run(Callable<T> task, LinkedBlockingQueue<Subtask<?>> completions) {
+      try {
+        T value = task.call();
+        result = value;
+        state.compareAndSet(State.RUNNING, State.SUCCESS);
+      } catch (Throwable t) {
+        exception = t;
+        state.compareAndSet(State.RUNNING, State.FAILED);
+      } finally {
+        completions.offer(this);
+      }
+    }
+
+    private void cancel(State reason) {
+      if (state.compareAndSet(State.RUNNING, reason)) {
+        thread.interrupt();
+      }
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public State state() {
+      return state.get();
+    }
+
+    /** The result of a SUCCESS subtask; throws IllegalStateException for any other state. */
+    public T get() {
+      if (state() != State.SUCCESS) {
+        throw new IllegalStateException("Subtask '" + name + "' is " + state());
+      }
+      return result;
+    }
+
+    /** The result if the subtask succeeded, otherwise {@code fallback}. */
+    public T getOrElse(T fallback) {
+      return state() == State.SUCCESS ? result : fallback;
+    }
+
+    public Throwable exception() {
+      return exception;
+    }
+  }
+
+  /** Thrown by join() in FAIL_FAST mode. */
+  public static class FanOutException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public FanOutException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+}
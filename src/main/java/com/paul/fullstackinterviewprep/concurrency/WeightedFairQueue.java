@@ -0,0 +1,112 @@
+package com.paul.fullstackinterviewprep.concurrency;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Start-time fair queuing over named flows (NOT thread-safe - callers lock).
+ *
+ * Every flow (a tenant, a request class, a lane...) has its own FIFO and a
+ * weight. Each flow carries a "pass" value; poll() always serves the
+ * non-empty flow with the smallest pass and then advances that flow's pass
+ * by STRIDE / weight. Over time a flow with weight 8 is therefore served 8
+ * times as often as a flow with weight 1 - but the weight-1 flow is still
+ * served, so nothing starves.
+ *
+ * A flow that goes idle and comes back restarts at the current virtual time
+ * instead of its old pass, so it cannot "save up" credit while idle and then
+ * burst ahead of everyone else. That is what keeps a quiet interactive flow
+ * responsive next to a flow with a deep bulk backlog: the moment the quiet
+ * flow has work, its pass is at the front.
+ *
+ * Flows are created on first offer() and forgotten once drained, so a
+ * scheduler that sees millions of short-lived tenants only keeps the ones
+ * with queued work. A drained flow is kept just until the virtual time
+ * reaches its pass: until then it still owes service it received, and
+ * starting over at the virtual time would let a flow that submits one task
+ * at a time jump the queue on every submit. When the whole queue empties,
+ * every flow is forgotten.
+ */
+final class WeightedFairQueue<K, E> {
+
+  private static final long STRIDE = 1L << 20;
+
+  private final Map<K, Flow<K, E>> flows = new HashMap<>();
+  private final PriorityQueue<Flow<K, E>> active = new PriorityQueue<>((a, b) -> {
+    int byPass = Long.compare(a.pass, b.pass);
+    return byPass != 0 ? byPass : Long.compare(a.activatedSeq, b.activatedSeq);
+  });
+  private final PriorityQueue<Drained<K, E>> drained = new PriorityQueue<>(
+      (a, b) -> Long.compare(a.pass, b.pass));
+  private long virtualTime;
+  private long activations;
+  private int size;
+
+  void offer(K key, int weight, E element) {
+    Flow<K, E> flow = flows.computeIfAbsent(key, k -> new Flow<>(k, virtualTime));
+    flow.stride = STRIDE / Math.max(1, weight);
+    flow.queue.addLast(element);
+    size++;
+    if (flow.queue.size() == 1) {
+      flow.pass = Math.max(flow.pass, virtualTime);
+      flow.activatedSeq = activations++;
+      active.add(flow);
+    }
+  }
+
+  E poll() {
+    Flow<K, E> flow = active.poll();
+    if (flow == null) {
+      return null;
+    }
+    E element = flow.queue.pollFirst();
+    size--;
+    virtualTime = flow.pass;
+    flow.pass += flow.stride;
+    if (!flow.queue.isEmpty()) {
+      active.add(flow);
+    } else if (size == 0) {
+      // Idle: nobody is owed anything, so every flow can start afresh.
+      flows.clear();
+      drained.clear();
+    } else {
+      drained.add(new Drained<>(flow, flow.pass));
+    }
+    forgetSettled();
+    return element;
+  }
+
+  /** Drops drained flows the virtual time has caught up with; a new Flow would start at the same pass. */
+  private void forgetSettled() {
+    while (!drained.isEmpty() && drained.peek().pass <= virtualTime) {
+      Drained<K, E> settled = drained.poll();
+      // The flow may have come back and drained again since, with a later pass
+      if (settled.flow.queue.isEmpty() && settled.flow.pass <= virtualTime) {
+        flows.remove(settled.flow.key, settled.flow);
+      }
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  private static final class Flow<K, E> {
+    final K key;
+    final ArrayDeque<E> queue = new ArrayDeque<>();
+    long pass;
+    long stride;
+    long activatedSeq;
+
+    Flow(K key, long pass) {
+      this.key = key;
+      this.pass = pass;
+    }
+  }
+
+  /** A flow that ran out of work at {@code pass}; the pass is copied because the flow may be reactivated. */
+  private record Drained<K, E>(Flow<K, E> flow, long pass) {
+  }
+}
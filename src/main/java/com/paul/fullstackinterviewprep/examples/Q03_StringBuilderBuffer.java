@@ -32,7 +32,8 @@ public class Q03_StringBuilderBuffer {
     sbuf.append(" World");
     System.out.println("StringBuffer modified in place: " + sbuf);
 
-    // Performance comparison
+    // Performance comparison - one cold run, indicative only. For warmed-up
+    // JMH numbers see StringConcatBenchmark in the benchmarks module.
     System.out.println("\n--- Performance Comparison (10000 concatenations) ---");
 
     long start = System.nanoTime();
@@ -1,5 +1,7 @@
 package com.paul.fullstackinterviewprep.examples;
 
+import com.paul.fullstackinterviewprep.collections.ChunkedList;
+import com.paul.fullstackinterviewprep.collections.RingDeque;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -36,6 +38,10 @@ public class Q09_ArrayListVsLinkedList {
     // LinkedList as Deque
     System.out.println("\n--- LinkedList as Deque ---");
     demonstrateDeque();
+
+    // A third option
+    System.out.println("\n--- ChunkedList: Array Chunks + Gap Buffers ---");
+    demonstrateChunkedList();
   }
 
   static void demonstrateBasicOperations() {
@@ -60,6 +66,8 @@ public class Q09_ArrayListVsLinkedList {
     System.out.println("LinkedList.get(1): " + linkedList.get(1) + " - O(n)");
   }
 
+  // One cold run timed with nanoTime - indicative only. For warmed-up JMH
+  // numbers see ListBenchmark in the benchmarks module.
   static void comparePerformance() {
     int size = 100000;
     ArrayList<Integer> arrayList = new ArrayList<>();
@@ -128,5 +136,32 @@ public class Q09_ArrayListVsLinkedList {
     System.out.println("\nQueue (offer): " + queue);
     System.out.println("Queue (poll): " + queue.poll());
     System.out.println("After poll: " + queue);
+
+    // Same operations on a ring buffer: no node allocated per element
+    RingDeque<String> ring = new RingDeque<>();
+    ring.push("First");
+    ring.push("Second");
+    ring.offer("Last");
+    System.out.println("\nRingDeque (push, push, offer): " + ring);
+    System.out.println("RingDeque pop: " + ring.pop() + ", pollLast: " + ring.pollLast());
+  }
+
+  static void demonstrateChunkedList() {
+    // Chunks of at most 256 elements: inserts shift one chunk, not the whole list,
+    // and get(i) is a binary search over chunk offsets instead of a node walk.
+    ChunkedList<Integer> chunked = new ChunkedList<>();
+    int size = 100000;
+    for (int i = 0; i < size; i++) {
+      chunked.add(i);
+    }
+    for (int i = 0; i < 10000; i++) {
+      chunked.add(0, -i); // Insert at beginning - one chunk shifted
+    }
+    System.out.println("Size after 10000 head inserts: " + chunked.size());
+    System.out.println("chunked.get(size / 2): " + chunked.get(chunked.size() / 2));
+
+    // Also a Deque, like LinkedList
+    chunked.push(-1);
+    System.out.println("push/pop: " + chunked.pop() + ", peekLast: " + chunked.peekLast());
   }
 }
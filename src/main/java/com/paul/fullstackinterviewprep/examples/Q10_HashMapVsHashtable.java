@@ -1,5 +1,7 @@
 package com.paul.fullstackinterviewprep.examples;
 
+import com.paul.fullstackinterviewprep.collections.IntLongMap;
+import com.paul.fullstackinterviewprep.collections.IntObjectMap;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Hashtable;
@@ -39,6 +41,10 @@ public class Q10_HashMapVsHashtable {
     // Thread safety
     System.out.println("\n--- Thread Safety Options ---");
     demonstrateThreadSafety();
+
+    // Beyond the JDK maps
+    System.out.println("\n--- Primitive Keys Without Boxing ---");
+    demonstratePrimitiveMaps();
   }
 
   static void demonstrateBasicDifferences() {
@@ -106,4 +112,25 @@ public class Q10_HashMapVsHashtable {
     System.out.println("- Multi-threaded: Use ConcurrentHashMap");
     System.out.println("- Avoid Hashtable in new code");
   }
+
+  static void demonstratePrimitiveMaps() {
+    // Every int key in a HashMap<Integer, V> is boxed; only -128..127 come from the Integer cache
+    Integer small1 = 100, small2 = 100;
+    Integer big1 = 100_000, big2 = 100_000;
+    System.out.println("Integer 100 boxed twice, same object? " + (small1 == small2));
+    System.out.println("Integer 100000 boxed twice, same object? " + (big1 == big2));
+    System.out.println("HashMap<Integer, V>: Integer box + Node per entry (~50 bytes of overhead)");
+
+    // Open addressing over parallel int[]/Object[] arrays: no boxes, no nodes
+    IntObjectMap<String> productNames = new IntObjectMap<>();
+    productNames.put(101, "Laptop");
+    productNames.put(102, "Monitor");
+    System.out.println("IntObjectMap.get(101): " + productNames.get(101) + " - no Integer allocated");
+
+    IntLongMap unitsSold = new IntLongMap();
+    unitsSold.addTo(101, 3);
+    unitsSold.addTo(101, 2);
+    System.out.println("IntLongMap.addTo(101, ...): " + unitsSold.get(101) + " - no Long allocated");
+    System.out.println("See collections.IntObjectMap and benchmarks/ for the numbers");
+  }
 }
@@ -1,5 +1,7 @@
 package com.paul.fullstackinterviewprep.examples;
 
+import com.paul.fullstackinterviewprep.collections.PersistentVector;
+import com.paul.fullstackinterviewprep.collections.SnapshotList;
 import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
@@ -20,6 +22,10 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * - Examples: CopyOnWriteArrayList, ConcurrentHashMap
  *
  * Note: Use iterator.remove() to safely remove during iteration with fail-fast
+ *
+ * CopyOnWriteArrayList copies the whole array on every write. For large,
+ * frequently written lists see SnapshotList, which gives the same snapshot
+ * iterators with O(log n) writes (benchmarks/.../SnapshotListBenchmark).
  */
 public class Q22_FailFastVsFailSafe {
 
@@ -38,6 +44,10 @@ public class Q22_FailFastVsFailSafe {
     System.out.println("\n--- Fail-Safe (CopyOnWriteArrayList) ---");
     demonstrateFailSafe();
 
+    // Snapshot iterators without the full copy
+    System.out.println("\n--- Fail-Safe without Copying (SnapshotList) ---");
+    demonstrateSnapshotList();
+
     // Comparison
     System.out.println("\n--- Summary ---");
     printSummary();
@@ -141,6 +151,30 @@ public class Q22_FailFastVsFailSafe {
     System.out.println("\nActual list: " + list);
   }
 
+  static void demonstrateSnapshotList() {
+    // Same iterator semantics as CopyOnWriteArrayList...
+    SnapshotList<String> list = new SnapshotList<>(List.of("A", "B", "C", "D"));
+    for (String item : list) {
+      if (item.equals("B")) {
+        list.remove(item);
+        list.add("X");
+      }
+    }
+    System.out.println("After iteration: " + list + " (iterator saw the old snapshot)");
+
+    // ...but a write copies one root-to-leaf path, not the whole array
+    // (SnapshotListBenchmark measures the difference under concurrent readers).
+    SnapshotList<Integer> listeners = new SnapshotList<>();
+    for (int i = 0; i < 20_000; i++) {
+      listeners.add(i);
+    }
+
+    // snapshot() is an immutable list that stays valid while writers continue.
+    PersistentVector<Integer> before = listeners.snapshot();
+    listeners.remove(Integer.valueOf(0));
+    System.out.println("Snapshot size: " + before.size() + ", live size: " + listeners.size());
+  }
+
   static void printSummary() {
     System.out.println("| Feature          | Fail-Fast           | Fail-Safe              |");
     System.out.println("|------------------|---------------------|------------------------|");
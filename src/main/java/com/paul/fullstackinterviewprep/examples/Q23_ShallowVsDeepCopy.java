@@ -1,5 +1,6 @@
 package com.paul.fullstackinterviewprep.examples;
 
+import com.paul.fullstackinterviewprep.reflect.DeepCopier;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,6 +16,9 @@ import java.util.List;
  * - Creates new object AND copies all nested objects
  * - Changes to nested objects don't affect original
  * - Slower, uses more memory
+ *
+ * Copy constructors and clone() have to be written and kept up to date for
+ * every class in the graph; DeepCopier generates them at runtime instead.
  */
 public class Q23_ShallowVsDeepCopy {
 
@@ -36,6 +40,10 @@ public class Q23_ShallowVsDeepCopy {
     // Clone method
     System.out.println("\n--- Clone Method ---");
     demonstrateClone();
+
+    // Generated deep copy
+    System.out.println("\n--- Generated Deep Copy ---");
+    demonstrateDeepCopier();
   }
 
   static void demonstrateShallowCopy() {
@@ -126,6 +134,25 @@ public class Q23_ShallowVsDeepCopy {
     }
   }
 
+  static void demonstrateDeepCopier() {
+    // No copy constructor needed: the copier for Person is generated on first use
+    Person original = new Person("Dana", new Address("Denver", "80201"));
+    Person copy = DeepCopier.copy(original);
+    copy.address.city = "Austin";
+    System.out.println("Original: " + original);
+    System.out.println("Copy: " + copy);
+    System.out.println("Same name String? " + (original.name == copy.name) + " (immutable, shared)");
+
+    // Two people sharing one Address: copy() copies it once per reference,
+    // copyGraph() keeps the sharing (and would handle cycles)
+    Address shared = new Address("Portland", "97201");
+    Person[] household = {new Person("Eli", shared), new Person("Fay", shared)};
+    Person[] tree = DeepCopier.copy(household);
+    Person[] graph = DeepCopier.copyGraph(household);
+    System.out.println("copy(): still shared? " + (tree[0].address == tree[1].address));
+    System.out.println("copyGraph(): still shared? " + (graph[0].address == graph[1].address));
+  }
+
   static class Address {
     String city;
     String zip;
@@ -1,5 +1,8 @@
 package com.paul.fullstackinterviewprep.examples;
 
+import com.paul.fullstackinterviewprep.collections.PersistentHashMap;
+import com.paul.fullstackinterviewprep.collections.PersistentHashSet;
+import com.paul.fullstackinterviewprep.collections.PersistentVector;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -21,6 +24,11 @@ import java.util.List;
  * 3. No setter methods
  * 4. Deep copy mutable objects in constructor
  * 5. Return copies of mutable fields (defensive copying)
+ *
+ * Defensive copies make every "modification" of an immutable value a full
+ * copy. Persistent collections (PersistentVector, PersistentHashMap,
+ * PersistentHashSet) are immutable AND cheap to update: a new version
+ * shares almost all of its structure with the old one.
  */
 public class Q24_Immutability {
 
@@ -42,6 +50,10 @@ public class Q24_Immutability {
     // Java Records (immutable by design)
     System.out.println("\n--- Java Records (Immutable by Design) ---");
     demonstrateRecords();
+
+    // Persistent collections: immutable without full copies
+    System.out.println("\n--- Persistent Collections (Structural Sharing) ---");
+    demonstratePersistentCollections();
   }
 
   static void demonstrateBuiltIn() {
@@ -115,6 +127,29 @@ public class Q24_Immutability {
     System.out.println("Record with mutable field (be careful!): " + recordList.items());
   }
 
+  static void demonstratePersistentCollections() {
+    // Each "update" returns a new version; the old one is untouched.
+    CustomerProfile v1 = new CustomerProfile("Alice", PersistentVector.empty(), PersistentHashMap.empty(),
+        PersistentHashSet.empty());
+    CustomerProfile v2 = v1.withOrder("ORD-1").withPreference("currency", "EUR").withTag("vip");
+    System.out.println("v1: " + v1);
+    System.out.println("v2: " + v2);
+
+    // Older versions stay valid: an audit trail can keep every one of them.
+    List<CustomerProfile> history = new ArrayList<>(List.of(v1, v2));
+    CustomerProfile latest = v2;
+    for (int i = 2; i <= 5; i++) {
+      latest = latest.withOrder("ORD-" + i).withPreference("last-order", "ORD-" + i);
+      history.add(latest);
+    }
+    for (CustomerProfile version : history) {
+      System.out.println("  " + version.orderIds().size() + " orders, last-order="
+          + version.preferences().get("last-order"));
+    }
+    // Each version copied only the tree path it changed; PersistentCollectionsBenchmark
+    // and PersistentFootprint compare the time and heap against defensive copies.
+  }
+
   // Properly immutable class
   static final class ImmutablePerson {
     private final String name;
@@ -164,5 +199,23 @@ public class Q24_Immutability {
     // public RecordWithList {
     //   items = new ArrayList<>(items);
     // }
+    // or declare the component as PersistentVector<String>: it can't change, so no copy is needed.
+  }
+
+  // Versioned domain object on persistent collections: withers copy O(log n) nodes, not the whole list.
+  record CustomerProfile(String name, PersistentVector<String> orderIds,
+      PersistentHashMap<String, String> preferences, PersistentHashSet<String> tags) {
+
+    CustomerProfile withOrder(String orderId) {
+      return new CustomerProfile(name, orderIds.append(orderId), preferences, tags);
+    }
+
+    CustomerProfile withPreference(String key, String value) {
+      return new CustomerProfile(name, orderIds, preferences.with(key, value), tags);
+    }
+
+    CustomerProfile withTag(String tag) {
+      return new CustomerProfile(name, orderIds, preferences, tags.with(tag));
+    }
   }
 }
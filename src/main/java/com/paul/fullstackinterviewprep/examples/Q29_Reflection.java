@@ -1,9 +1,16 @@
 package com.paul.fullstackinterviewprep.examples;
 
+import com.paul.fullstackinterviewprep.reflect.Accessors;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 /**
  * Q29: What is Reflection in Java?
@@ -22,6 +29,10 @@ import java.lang.reflect.Modifier;
  * - Security restrictions
  * - Breaks encapsulation
  * - No compile-time type checking
+ *
+ * Hot paths (mappers, copiers, frameworks) avoid the per-call cost by
+ * resolving a member once and generating a direct call to it - see
+ * Accessors and demonstrateAccessors().
  */
 public class Q29_Reflection {
 
@@ -47,6 +58,10 @@ public class Q29_Reflection {
     // Creating instances
     System.out.println("\n--- Creating Instances ---");
     demonstrateInstantiation();
+
+    // Generated accessors
+    System.out.println("\n--- Generated Accessors ---");
+    demonstrateAccessors();
   }
 
   static void demonstrateClassObject() throws Exception {
@@ -166,6 +181,40 @@ public class Q29_Reflection {
     System.out.println("Created via private constructor: " + p3.getName());
   }
 
+  static void demonstrateAccessors() {
+    // Resolved and access-checked once, then each call is a direct field
+    // access or invokevirtual - no Object[] arguments, no per-call checks
+    Accessors<Person> accessors = Accessors.of(Person.class);
+
+    // Private fields
+    Function<Person, Object> name = accessors.getter("name");
+    BiConsumer<Person, Object> setName = accessors.setter("name");
+    Person person = new Person("Grace", 41);
+    System.out.println("getter(\"name\"): " + name.apply(person));
+    setName.accept(person, "Heidi");
+    System.out.println("After setter(\"name\"): " + person.getName());
+
+    // Methods as functional interfaces; ToIntFunction/IntSupplier keep ints unboxed
+    ToIntFunction<Person> age = accessors.method("getAge", ToIntFunction.class);
+    Function<Person, String> secret = accessors.method("secretMethod", Function.class);
+    IntSupplier counter = accessors.method("getCounter", IntSupplier.class);
+    System.out.println("getAge(): " + age.applyAsInt(person));
+    System.out.println("Private secretMethod(): " + secret.apply(person));
+
+    // Constructors, including the private one
+    BiFunction<String, Integer, Person> create = accessors.constructor(BiFunction.class, String.class, int.class);
+    Supplier<Person> createDefault = accessors.constructor();
+    System.out.println("Created: " + create.apply("Ivan", 52).getName()
+        + ", via private constructor: " + createDefault.get().getName());
+
+    // Static field: the target is ignored
+    System.out.println("Static counter: " + accessors.getter("counter").apply(null)
+        + ", getCounter(): " + counter.getAsInt());
+
+    // The same instance is returned for the same member
+    System.out.println("Cached? " + (accessors.getter("name") == name));
+  }
+
   // Sample class for reflection
   static class Person {
     private static int counter = 0;
@@ -1,31 +1,23 @@
 package com.paul.fullstackinterviewprep.hackerrank.medium;
 
-import java.util.Scanner;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import com.paul.fullstackinterviewprep.text.DuplicateWordCollapser;
+import com.paul.fullstackinterviewprep.text.FastInput;
 
 public class DuplicateWords {
   
   public static void main(String[] args) {
     
-    String regex = "\\b(\\w+)\\s+\\1\\b";
-    Pattern p = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
-    
-    Scanner in = new Scanner(System.in);
-    int numSentences = Integer.parseInt(in.nextLine());
+    // Equivalent to replacing "\\b(\\w+)\\s+\\1\\b" (case-insensitive) with "$1" until nothing
+    // matches, but in one pass over the line. The old loop re-ran replaceAll() - recompiling the
+    // pattern and rescanning the sentence - once per match, which is quadratic on long lines.
+    FastInput in = new FastInput(System.in);
+    int numSentences = in.nextLine().parseInt();
     
     while (numSentences-- > 0) {
-      String input = in.nextLine();
-      
-      Matcher m = p.matcher(input);
-      
-      // Check for subsequences of input that match the compiled pattern
-      while (m.find()) {
-        input = input.replaceAll("(?i)"+regex,"$1");
-      }
+      CharSequence input = in.nextLine();
       
       // Prints the modified sentence.
-      System.out.println(input);
+      System.out.println(DuplicateWordCollapser.collapse(input));
     }
     
     in.close();
@@ -1,31 +1,74 @@
 package com.paul.fullstackinterviewprep.hackerrank.medium;
 
-import java.util.*;
+import com.paul.fullstackinterviewprep.text.FastInput;
+import com.paul.fullstackinterviewprep.text.LogScanner;
+import com.paul.fullstackinterviewprep.text.PatternCache;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class InputAndPatternMatch {
-  
-  public static void main(String[] args) {
-    
-    Scanner scanner = new Scanner(System.in);
-    String regex = "\\b(\\w+)\\s+";
-    Pattern pattern = Pattern.compile(regex);
-    
-    int lines = Integer.parseInt(scanner.nextLine());
-    
+
+  static final String WORD = "\\b(\\w+)\\s+";
+
+  /**
+   * With no arguments: reads a line count and that many lines from stdin
+   * and prints how many matches of WORD they hold. With arguments
+   * {@code <file> [regex...]}: scans the file in parallel with LogScanner
+   * (WORD if no regex is given) and prints each pattern's match count and
+   * its first matches.
+   */
+  public static void main(String[] args) throws IOException {
+
+    if (args.length > 0) {
+      scanFile(Path.of(args[0]), args.length > 1 ? List.of(args).subList(1, args.length) : List.of(WORD));
+      return;
+    }
+
+    FastInput scanner = new FastInput(System.in);
+    Pattern pattern = PatternCache.shared().pattern(WORD);
+    Matcher matcher = pattern.matcher("");
+
+    int lines = scanner.nextLine().parseInt();
+    long matches = 0;
+
     while (lines > 0) {
-      
-      String input = scanner.nextLine();
-      
-      Matcher matcher = pattern.matcher(input);
-      
+
+      // A reused view over the input bytes; the matcher reads it in place.
+      CharSequence input = scanner.nextLine();
+
+      matcher.reset(input);
+
       while(matcher.find()) {
-        
+        matches++;
       }
-      
-      
+
       lines--;
     }
+
+    System.out.println(matches);
+  }
+
+  private static void scanFile(Path file, List<String> regexes) throws IOException {
+    List<Pattern> patterns = new ArrayList<>();
+    for (String regex : regexes) {
+      patterns.add(PatternCache.shared().pattern(regex));
+    }
+
+    long start = System.nanoTime();
+    LogScanner.ScanResult result = new LogScanner(patterns, 32 << 20, 10).scan(file);
+    long millis = (System.nanoTime() - start) / 1_000_000;
+
+    System.out.printf("%s: %,d bytes, %,d lines, %d chunks in %d ms%n", file, result.bytes(), result.lines(),
+        result.chunks(), millis);
+    for (LogScanner.PatternResult pattern : result.patterns()) {
+      System.out.printf("%s: %,d matches%n", pattern.pattern(), pattern.matches());
+      for (LogScanner.Span span : pattern.spans()) {
+        System.out.printf("  line %d, byte %d, length %d%n", span.line() + 1, span.offset(), span.length());
+      }
+    }
   }
 }
@@ -1,16 +1,16 @@
 package com.paul.fullstackinterviewprep.hackerrank.medium;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.Scanner;
+import com.paul.fullstackinterviewprep.text.FastInput;
+import com.paul.fullstackinterviewprep.text.FormatParsers;
 
 public class JavaRegex {
   
   public static void main(String[] args) {
-    Scanner in = new Scanner(System.in);
-    while(in.hasNext()){
-      String IP = in.next();
-      System.out.println(IP.matches(new MyRegex().pattern));
+    FastInput in = new FastInput(System.in);
+    CharSequence IP;
+    while((IP = in.nextToken()) != null){
+      // Accepts exactly what MyRegex.pattern matches (FormatParsersTest fuzzes the two against each other).
+      System.out.println(FormatParsers.isIpv4(IP));
     }
     
   }
@@ -0,0 +1,205 @@
+package com.paul.fullstackinterviewprep.hackerrank.medium;
+
+import com.paul.fullstackinterviewprep.text.FastInput;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Solver for the OneDArrayPart2 leap game, for boards of any size and many games at once.
+ *
+ * From cell i a player may step to i - 1 or i + 1, or leap to i + leap,
+ * but only onto a free (0) cell, and wins on moving past the last cell.
+ * Scanning forward and giving up at the first cell that can't move on is
+ * wrong: sometimes the only way forward is a step BACK to a cell from
+ * which a leap clears the wall.
+ *
+ * The solver works on maximal runs of free cells instead of single
+ * cells. Steps move freely within a run, so a run is reachable as a whole
+ * or not at all; and leaps only go forward, so a run is reachable iff it
+ * holds cell 0 or one of the cells {@code leap} before it is reachable
+ * in an earlier run. One left-to-right pass over the runs decides the
+ * game - O(n) with the board and the reachable cells kept as bitsets, so
+ * runs are found 64 cells at a time and a 10^7-cell board takes 2.5 MB.
+ */
+public final class LeapGame {
+
+  /** A board as a bitset of blocked cells: bit i of {@code blocked[i >> 6]} is set if cell i is 1. */
+  public record Board(int size, int leap, long[] blocked) {
+
+    /** Reads "n leap" and the n cells straight into the bitset. */
+    public static Board read(FastInput in) {
+      int size = in.nextInt();
+      int leap = in.nextInt();
+      long[] blocked = new long[words(size)];
+      for (int i = 0; i < size; i++) {
+        if (in.nextInt() != 0) {
+          blocked[i >> 6] |= 1L << i;
+        }
+      }
+      return new Board(size, leap, blocked);
+    }
+
+    public static Board of(int[] cells, int leap) {
+      long[] blocked = new long[words(cells.length)];
+      for (int i = 0; i < cells.length; i++) {
+        if (cells[i] != 0) {
+          blocked[i >> 6] |= 1L << i;
+        }
+      }
+      return new Board(cells.length, leap, blocked);
+    }
+
+    public boolean canWin() {
+      return LeapGame.canWin(this);
+    }
+  }
+
+  private LeapGame() {
+  }
+
+  /** Solves every board, spread across the common pool; results are in input order. */
+  public static boolean[] solveAll(List<Board> boards) {
+    boolean[] results = new boolean[boards.size()];
+    IntStream.range(0, results.length).parallel().forEach(i -> results[i] = canWin(boards.get(i)));
+    return results;
+  }
+
+  static boolean canWin(Board board) {
+    int n = board.size();
+    int leap = board.leap();
+    long[] blocked = board.blocked();
+    long[] reachable = new long[words(n)];
+    // Everything reachable so far lies at or before this cell.
+    int lastReachable = -1;
+    int start = nextClear(blocked, 0, n);
+    while (start < n) {
+      int end = nextSet(blocked, start, n) - 1;
+      // Cells from which a leap lands in [start, end], in runs already decided.
+      boolean reached = start == 0
+          || (leap > 0 && anySet(reachable, Math.max(0, start - leap), Math.min(end - leap, start - 1)));
+      if (reached) {
+        if (end == n - 1 || (long) end + leap >= n) {
+          return true;
+        }
+        setRange(reachable, start, end);
+        lastReachable = end;
+      } else if (lastReachable < 0 || start - leap > lastReachable) {
+        // No reachable cell can leap this far, nor to any run beyond.
+        return false;
+      }
+      start = nextClear(blocked, end + 1, n);
+    }
+    return false;
+  }
+
+  /**
+   * Plain BFS over single cells with an int queue - the reference the
+   * bitset solver is tested against, and its baseline in the benchmarks.
+   */
+  public static boolean canWinBfs(int[] board, int leap) {
+    int n = board.length;
+    if (n == 0 || board[0] != 0) {
+      return false;
+    }
+    boolean[] seen = new boolean[n];
+    int[] queue = new int[n];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = 0;
+    seen[0] = true;
+    while (head < tail) {
+      int i = queue[head++];
+      if (i + 1 >= n || (long) i + leap >= n) {
+        return true;
+      }
+      tail = visit(board, seen, queue, tail, i - 1);
+      tail = visit(board, seen, queue, tail, i + 1);
+      tail = visit(board, seen, queue, tail, i + leap);
+    }
+    return false;
+  }
+
+  private static int visit(int[] board, boolean[] seen, int[] queue, int tail, int cell) {
+    if (cell >= 0 && !seen[cell] && board[cell] == 0) {
+      seen[cell] = true;
+      queue[tail++] = cell;
+    }
+    return tail;
+  }
+
+  static int words(int bits) {
+    return (bits + 63) >>> 6;
+  }
+
+  /** First clear bit at or after {@code from}, or {@code limit} if none before it. */
+  private static int nextClear(long[] words, int from, int limit) {
+    if (from >= limit) {
+      return limit;
+    }
+    int w = from >> 6;
+    long word = ~words[w] & (-1L << from);
+    while (word == 0) {
+      if (++w == words.length) {
+        return limit;
+      }
+      word = ~words[w];
+    }
+    return Math.min(limit, (w << 6) + Long.numberOfTrailingZeros(word));
+  }
+
+  /** First set bit at or after {@code from}, or {@code limit} if none before it. */
+  private static int nextSet(long[] words, int from, int limit) {
+    if (from >= limit) {
+      return limit;
+    }
+    int w = from >> 6;
+    long word = words[w] & (-1L << from);
+    while (word == 0) {
+      if (++w == words.length) {
+        return limit;
+      }
+      word = words[w];
+    }
+    return Math.min(limit, (w << 6) + Long.numberOfTrailingZeros(word));
+  }
+
+  /** Whether any bit in [from, to] is set; false for an empty range. */
+  private static boolean anySet(long[] words, int from, int to) {
+    if (from > to) {
+      return false;
+    }
+    int first = from >> 6;
+    int last = to >> 6;
+    long firstMask = -1L << from;
+    long lastMask = -1L >>> (63 - (to & 63));
+    if (first == last) {
+      return (words[first] & firstMask & lastMask) != 0;
+    }
+    if ((words[first] & firstMask) != 0 || (words[last] & lastMask) != 0) {
+      return true;
+    }
+    for (int w = first + 1; w < last; w++) {
+      if (words[w] != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Sets the bits in [from, to]. */
+  private static void setRange(long[] words, int from, int to) {
+    int first = from >> 6;
+    int last = to >> 6;
+    long firstMask = -1L << from;
+    long lastMask = -1L >>> (63 - (to & 63));
+    if (first == last) {
+      words[first] |= firstMask & lastMask;
+      return;
+    }
+    words[first] |= firstMask;
+    for (int w = first + 1; w < last; w++) {
+      words[w] = -1L;
+    }
+    words[last] |= lastMask;
+  }
+}
@@ -1,60 +1,30 @@
 package com.paul.fullstackinterviewprep.hackerrank.medium;
 
-import java.io.*;
-import java.util.*;
+import com.paul.fullstackinterviewprep.text.FastInput;
+import java.util.ArrayList;
+import java.util.List;
 
 public class OneDArrayPart2 {
   
   public static void main(String[] args) {
     /* Enter your code here. Read input from STDIN. Print output to STDOUT. Your class should be named Solution. */
     
-    Scanner scanner = new Scanner(System.in);
+    // Ints are parsed straight from the input bytes - no line Strings, no split().
+    FastInput input = new FastInput(System.in);
     
-    int lines = Integer.parseInt(scanner.nextLine()) * 2;
+    int games = input.nextInt();
     
-    while (lines > 0) {
-      
-      String firstLine = scanner.nextLine();
-      String secondLine = scanner.nextLine();
-      
-      String[] gameDefinition = firstLine.split(" ");
-      String[] boardDefinition = secondLine.split(" ");
-      
-      int boardSize = Integer.parseInt(gameDefinition[0]);
-      int leapSize = Integer.parseInt(gameDefinition[1]);
-      
-      int[] board = new int[boardSize];
-      
-      for(int i = 0; i < boardSize; i++) {
-        board[i] = Integer.parseInt(boardDefinition[i]);
-      }
-      
-      boolean canProgress = true;
-      for(int i = 0; i < boardSize; i++) {
-        // Can't land on this space
-        if(board[i] == 1) continue;
-        
-        // See if we can move one or leap to win
-        if(i >= boardSize -1 || i + 1 >= boardSize || i + leapSize >= boardSize) {
-          break;
-        }
-        
-        // See if we can move one or leap to land on a valid spot
-        if(board[i +1] == 0 || board[i + leapSize] == 0) {
-          continue;
-        } else {
-          canProgress = false;
-          break;
-        }
-      }
-      
-      if(canProgress) {
-        System.out.println("YES");
-      } else {
-        System.out.println("NO");
-      }
-      
-      lines -= 2;
+    // Boards are read straight into bitsets, then solved in parallel and printed in order.
+    // The old forward scan gave up too early on boards that need a step back before a leap.
+    List<LeapGame.Board> boards = new ArrayList<>(games);
+    for (int i = 0; i < games; i++) {
+      boards.add(LeapGame.Board.read(input));
     }
+    
+    StringBuilder out = new StringBuilder(games * 4);
+    for (boolean canWin : LeapGame.solveAll(boards)) {
+      out.append(canWin ? "YES" : "NO").append('\n');
+    }
+    System.out.print(out);
   }
 }
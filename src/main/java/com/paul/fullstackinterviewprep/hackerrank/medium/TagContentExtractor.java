@@ -1,25 +1,28 @@
 package com.paul.fullstackinterviewprep.hackerrank.medium;
 
-import java.io.*;
-import java.util.*;
-import java.text.*;
-import java.math.*;
-import java.util.regex.*;
+import com.paul.fullstackinterviewprep.text.FastInput;
+import com.paul.fullstackinterviewprep.text.PatternCache;
+import java.util.regex.Matcher;
 
 public class TagContentExtractor {
+
+  static final String TAG = "<(.+)>([^<]+)</\\1>";
+
   public static void main(String[] args){
     
-    Scanner in = new Scanner(System.in);
-    int testCases = Integer.parseInt(in.nextLine());
+    FastInput in = new FastInput(System.in);
+    // Compiled once; this thread's Matcher is reset for each line.
+    Matcher matcher = PatternCache.shared().matcher(TAG, "");
+    int testCases = in.nextLine().parseInt();
     while(testCases>0){
-      String line = in.nextLine();
+      CharSequence line = in.nextLine();
       
       //Write your code here
+      // The regex, not TagContentScanner: its (.+) may span several tags, and the expected output follows it.
       boolean matchFound = false;
-      Pattern r = Pattern.compile("<(.+)>([^<]+)</\\1>");
-      Matcher m = r.matcher(line);
-      while (m.find()) {
-        System.out.println(m.group(2));
+      matcher.reset(line);
+      while (matcher.find()) {
+        System.out.println(matcher.group(2));
         matchFound = true;
       }
       if (!matchFound) {
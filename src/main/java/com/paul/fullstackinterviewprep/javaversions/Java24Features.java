@@ -1,5 +1,6 @@
 package com.paul.fullstackinterviewprep.javaversions;
 
+import com.paul.fullstackinterviewprep.streams.AnalyticGatherers;
 import java.util.List;
 import java.util.stream.Gatherers;
 import java.util.stream.Stream;
@@ -77,6 +78,13 @@ public class Java24Features {
         .toList();
     System.out.println("  Moving averages: " + movingAverages);
 
+    // windowSliding copies every window into a new List and the average re-adds it: O(n*k).
+    // A custom gatherer can keep a running sum instead: O(1) per element, no List.
+    List<Double> incremental = prices.stream()
+        .gather(AnalyticGatherers.movingAverage(3, Double::doubleValue))
+        .toList();
+    System.out.println("  Incremental:     " + incremental + " (see streams.GathererDemo)");
+
     // Combining gatherers with other stream operations
     System.out.println("\nCombined operations:");
     List<Integer> result = numbers.stream()
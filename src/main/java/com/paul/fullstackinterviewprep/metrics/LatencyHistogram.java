@@ -0,0 +1,107 @@
+package com.paul.fullstackinterviewprep.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets (an HdrHistogram in miniature).
+ *
+ * Values are bucketed by their power of two and then split into 16 linear
+ * sub-buckets, so any recorded value is reported within ~6% of its true
+ * value while the whole histogram is a fixed array of ~1000 longs. Recording
+ * is a couple of atomic increments - cheap enough for hot paths such as task
+ * dispatch or request handling, and safe from any number of threads.
+ *
+ * Units are whatever the caller records; the scheduler and limiter code in
+ * this project records nanoseconds.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  public void record(long value) {
+    long v = Math.max(0, value);
+    counts.incrementAndGet(indexOf(v));
+    count.incrementAndGet();
+    sum.addAndGet(v);
+    max.accumulateAndGet(v, Math::max);
+  }
+
+  public long count() {
+    return count.get();
+  }
+
+  public long max() {
+    return max.get();
+  }
+
+  public double mean() {
+    long n = count.get();
+    return n == 0 ? 0 : (double) sum.get() / n;
+  }
+
+  /** The value at the given percentile (0-100), reported as the upper bound of its bucket. */
+  public long percentile(double percentile) {
+    long n = count.get();
+    if (n == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /** Clears all recorded values. Not atomic with respect to concurrent record() calls. */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    count.set(0);
+    sum.set(0);
+    max.set(0);
+  }
+
+  /** One-line summary, e.g. for logs: {@code n=1200 mean=0.41ms p50=0.22ms p99=3.10ms max=4.87ms}. */
+  public String summary(TimeUnit recordedUnit) {
+    return String.format("n=%d mean=%.2fms p50=%.2fms p99=%.2fms max=%.2fms",
+        count(), toMillis(mean(), recordedUnit), toMillis(percentile(50), recordedUnit),
+        toMillis(percentile(99), recordedUnit), toMillis(max(), recordedUnit));
+  }
+
+  private static double toMillis(double value, TimeUnit unit) {
+    return value * unit.toNanos(1) / 1_000_000.0;
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int magnitude = 63 - Long.numberOfLeadingZeros(value); // >= SUB_BUCKET_BITS
+    int shift = magnitude - SUB_BUCKET_BITS;
+    int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+    return (shift + 1) * SUB_BUCKETS + sub;
+  }
+
+  static long upperBoundOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    long sub = index % SUB_BUCKETS;
+    return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+  }
+}
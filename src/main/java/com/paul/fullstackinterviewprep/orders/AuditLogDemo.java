@@ -0,0 +1,65 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 16 request threads each record 5,000 order status changes through one AuditLogWriter.
+ *
+ * The request threads never wait for the database: each append is a slot
+ * claim on a lock-free queue. The single writer turns 80,000 appends into a
+ * few hundred batch inserts.
+ */
+public class AuditLogDemo {
+
+  static final int REQUEST_THREADS = 16;
+  static final int CHANGES_PER_THREAD = 5_000;
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("=== Batched Audit Log Writer ===\n");
+
+    ConnectionFactory database = DemoDatabase.open("auditlog");
+    long before = countAuditRows(database);
+
+    long start = System.nanoTime();
+    AuditLogWriter audit = new AuditLogWriter(database, 16_384, 500);
+    try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int t = 0; t < REQUEST_THREADS; t++) {
+        String user = "user" + t;
+        requests.submit(() -> {
+          for (int i = 0; i < CHANGES_PER_THREAD; i++) {
+            int orderId = 1 + i % 20;
+            while (!audit.append(new AuditLogWriter.Entry("orders", "UPDATE", orderId, "status=Pending",
+                "status=Shipped", user))) {
+              Thread.onSpinWait(); // queue full: the writer is behind, retry
+            }
+          }
+          return null;
+        });
+      }
+    }
+    long appendedMs = (System.nanoTime() - start) / 1_000_000;
+    audit.close();
+    long totalMs = (System.nanoTime() - start) / 1_000_000;
+
+    System.out.println("Appended " + REQUEST_THREADS * CHANGES_PER_THREAD + " entries in " + appendedMs + " ms");
+    System.out.println("Written " + audit.written() + " in " + audit.batches() + " batches, "
+        + audit.rejected() + " full-queue retries, " + audit.failed() + " failed (" + totalMs + " ms total)");
+    if (audit.lastFailure() != null) {
+      System.out.println(audit.failedBatches() + " batches failed, last: " + audit.lastFailure().getMessage());
+    }
+    System.out.println("audit_log rows added: " + (countAuditRows(database) - before));
+  }
+
+  private static long countAuditRows(ConnectionFactory database) throws Exception {
+    try (Connection connection = database.open();
+        Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM audit_log")) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.concurrency.MpscRingQueue;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, batching writer for the audit_log table.
+ *
+ * Inserting an audit row inline costs every request a database round trip
+ * (and a connection) for data nobody reads on that request. Instead request
+ * threads append() to a bounded MpscRingQueue - one CAS, no lock, no
+ * allocation beyond the entry - and a single writer thread drains up to
+ * {@code batchSize} entries at a time into one JDBC batch insert. append()
+ * also increments and decrements an in-flight count, which close() waits on.
+ *
+ * The queue is bounded on purpose: if the database falls behind, append()
+ * returns false and the entry is counted as rejected instead of growing the
+ * heap without limit. When there is nothing to write the writer parks for
+ * a millisecond between polls. A batch whose insert fails - an
+ * SQLException or any RuntimeException from the driver - is dropped and
+ * counted like the other metrics: failed() entries in failedBatches()
+ * batches, the latest cause in lastFailure(). The writer keeps running.
+ *
+ * close() stops accepting entries, waits for appends already past the
+ * closed check, then lets the writer finish the queue and waits for it. An
+ * append concurrent with close() is either rejected or written, never
+ * accepted and lost.
+ */
+public final class AuditLogWriter implements AutoCloseable {
+
+  /** One audit_log row; log_id and changed_at are filled in by the database. */
+  public record Entry(String tableName, String operation, int recordId, String oldValues, String newValues,
+      String changedBy) {
+  }
+
+  static final String INSERT_SQL = "INSERT INTO audit_log"
+      + " (table_name, operation, record_id, old_values, new_values, changed_by) VALUES (?, ?, ?, ?, ?, ?)";
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final ConnectionFactory connections;
+  private final MpscRingQueue<Entry> queue;
+  private final int batchSize;
+  private final Thread writer;
+  private final AtomicLong written = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong batches = new AtomicLong();
+  private final AtomicLong failedBatches = new AtomicLong();
+  private volatile Exception lastFailure;
+  /** Appends between their closed check and the end of their offer. */
+  private final AtomicInteger appending = new AtomicInteger();
+  private volatile boolean closed;
+  /** Set by close() once no append can still offer: the writer stops when the queue is then empty. */
+  private volatile boolean stopping;
+
+  public AuditLogWriter(ConnectionFactory connections, int capacity, int batchSize) {
+    this.connections = connections;
+    this.queue = new MpscRingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.writer = Thread.ofPlatform().name("audit-log-writer").daemon().start(this::run);
+  }
+
+  /** Queues {@code entry} for writing; false if the writer is closed or behind by a full queue. */
+  public boolean append(Entry entry) {
+    // Counted before reading closed: close() sets closed and then waits for the count, so either this
+    // append sees closed or close() sees the append and waits for its offer.
+    appending.incrementAndGet();
+    try {
+      if (closed || !queue.offer(entry)) {
+        rejected.incrementAndGet();
+        return false;
+      }
+      return true;
+    } finally {
+      appending.decrementAndGet();
+    }
+  }
+
+  public long written() {
+    return written.get();
+  }
+
+  public long rejected() {
+    return rejected.get();
+  }
+
+  /** Entries lost because their batch insert failed. */
+  public long failed() {
+    return failed.get();
+  }
+
+  public long batches() {
+    return batches.get();
+  }
+
+  /** Batch inserts that failed; their entries are counted in {@link #failed()}. */
+  public long failedBatches() {
+    return failedBatches.get();
+  }
+
+  /** Why the most recent failed batch failed, or null if none has. */
+  public Exception lastFailure() {
+    return lastFailure;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    while (appending.get() != 0) {
+      Thread.onSpinWait();
+    }
+    stopping = true;
+    LockSupport.unpark(writer);
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    List<Entry> batch = new ArrayList<>(batchSize);
+    while (true) {
+      queue.drain(batch::add, batchSize);
+      if (batch.isEmpty()) {
+        if (stopping && queue.isEmpty()) {
+          return;
+        }
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        continue;
+      }
+      write(batch);
+      batch.clear();
+    }
+  }
+
+  private void write(List<Entry> batch) {
+    try (Connection connection = connections.open();
+        PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+      for (Entry entry : batch) {
+        insert.setString(1, entry.tableName());
+        insert.setString(2, entry.operation());
+        insert.setInt(3, entry.recordId());
+        insert.setString(4, entry.oldValues());
+        insert.setString(5, entry.newValues());
+        insert.setString(6, entry.changedBy());
+        insert.addBatch();
+      }
+      insert.executeBatch();
+      written.addAndGet(batch.size());
+      batches.incrementAndGet();
+    } catch (SQLException | RuntimeException e) {
+      failed.addAndGet(batch.size());
+      failedBatches.incrementAndGet();
+      lastFailure = e;
+    }
+  }
+}
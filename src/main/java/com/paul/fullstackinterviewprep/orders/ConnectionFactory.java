@@ -0,0 +1,16 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Where the order queries get their connections from.
+ *
+ * Kept as a one-method interface so callers can pass {@code dataSource::getConnection}
+ * (a pooled DataSource in the app) or a plain DriverManager lambda (the standalone demos).
+ */
+@FunctionalInterface
+public interface ConnectionFactory {
+
+  Connection open() throws SQLException;
+}
@@ -0,0 +1,22 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.rowmapper.RowMapped;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** One row of the {@code customers} table. */
+@RowMapped(alias = "c", mapper = RowMapper.class, interner = OrderRowMappers.class)
+public record Customer(
+    int customerId,
+    String firstName,
+    String lastName,
+    String email,
+    String phone,
+    String address,
+    @RowMapped.Column(lowCardinality = true) String city,
+    @RowMapped.Column(lowCardinality = true) String state,
+    @RowMapped.Column(lowCardinality = true) String country,
+    String postalCode,
+    LocalDate registrationDate,
+    BigDecimal creditLimit) {
+}
@@ -0,0 +1,43 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory H2 database for the standalone demos in this package.
+ *
+ * The Spring app initializes the same schema through spring.sql.init; the
+ * demos run without Spring, so they load db/schema.sql and db/data.sql with
+ * H2's RUNSCRIPT the first time a named database is opened. The database
+ * outlives its connections (DB_CLOSE_DELAY=-1), so later opens of the same
+ * name return the same factory instead of running the scripts again - the
+ * tables and views would already exist.
+ */
+public final class DemoDatabase {
+
+  private static final Map<String, ConnectionFactory> OPENED = new HashMap<>();
+
+  private DemoDatabase() {
+  }
+
+  /** Creates (once) and returns a connection factory for {@code jdbc:h2:mem:<name>}. */
+  public static synchronized ConnectionFactory open(String name) throws SQLException {
+    ConnectionFactory factory = OPENED.get(name);
+    if (factory != null) {
+      return factory;
+    }
+    String url = "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1";
+    try (Connection connection = DriverManager.getConnection(url, "sa", "");
+        Statement statement = connection.createStatement()) {
+      statement.execute("RUNSCRIPT FROM 'classpath:db/schema.sql'");
+      statement.execute("RUNSCRIPT FROM 'classpath:db/data.sql'");
+    }
+    factory = () -> DriverManager.getConnection(url, "sa", "");
+    OPENED.put(name, factory);
+    return factory;
+  }
+}
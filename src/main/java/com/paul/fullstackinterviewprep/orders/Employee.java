@@ -0,0 +1,22 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.rowmapper.RowMapped;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** One row of the {@code employees} table. */
+@RowMapped(alias = "e", mapper = RowMapper.class, interner = OrderRowMappers.class)
+public record Employee(
+    int employeeId,
+    String firstName,
+    String lastName,
+    String email,
+    String phone,
+    LocalDate hireDate,
+    @RowMapped.Column(lowCardinality = true) String jobTitle,
+    BigDecimal salary,
+    BigDecimal commissionPct,
+    Integer managerId,
+    Integer departmentId,
+    @RowMapped.Column(name = "is_active") boolean active) {
+}
@@ -0,0 +1,20 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.rowmapper.RowMapped;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** One row of the {@code v_employee_details} view. Department and manager are null when not set. */
+@RowMapped(alias = "ed", mapper = RowMapper.class, interner = OrderRowMappers.class)
+public record EmployeeDetail(
+    int employeeId,
+    String firstName,
+    String lastName,
+    String fullName,
+    String email,
+    @RowMapped.Column(lowCardinality = true) String jobTitle,
+    BigDecimal salary,
+    LocalDate hireDate,
+    @RowMapped.Column(lowCardinality = true) String departmentName,
+    String managerName) {
+}
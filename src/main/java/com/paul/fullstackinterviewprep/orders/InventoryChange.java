@@ -0,0 +1,15 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.rowmapper.RowMapped;
+import java.time.LocalDateTime;
+
+/** One row of the {@code inventory} table: a stock change for one product. */
+@RowMapped(alias = "i", mapper = RowMapper.class, interner = OrderRowMappers.class)
+public record InventoryChange(
+    int inventoryId,
+    int productId,
+    int quantityChange,
+    @RowMapped.Column(lowCardinality = true) String changeType,
+    LocalDateTime changeDate,
+    String notes) {
+}
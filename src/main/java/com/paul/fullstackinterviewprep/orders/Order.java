@@ -0,0 +1,19 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.rowmapper.RowMapped;
+import java.time.LocalDate;
+
+/** One row of the {@code orders} table. {@code employeeId} is nullable in the schema. */
+@RowMapped(alias = "o", mapper = RowMapper.class, interner = OrderRowMappers.class)
+public record Order(
+    int orderId,
+    int customerId,
+    Integer employeeId,
+    LocalDate orderDate,
+    LocalDate requiredDate,
+    LocalDate shippedDate,
+    String shipAddress,
+    @RowMapped.Column(lowCardinality = true) String shipCity,
+    @RowMapped.Column(lowCardinality = true) String shipCountry,
+    @RowMapped.Column(lowCardinality = true) String status) {
+}
@@ -0,0 +1,25 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the order detail page shows for one order.
+ *
+ * When the lookup ran with partial results enabled, any part that failed or
+ * missed the deadline is null (or an empty list) and {@code failures} maps
+ * the part's name to the reason.
+ */
+public record OrderDetail(
+    int orderId,
+    Order order,
+    Customer customer,
+    Employee employee,
+    List<OrderItem> items,
+    List<Product> products,
+    Map<String, String> failures) {
+
+  public boolean isComplete() {
+    return failures.isEmpty();
+  }
+}
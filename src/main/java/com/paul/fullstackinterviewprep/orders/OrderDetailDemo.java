@@ -0,0 +1,72 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.concurrency.StructuredFanOut;
+import com.paul.fullstackinterviewprep.concurrency.StructuredFanOut.Mode;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sequential vs fanned-out order detail lookups against the demo database.
+ *
+ * In-memory H2 answers in microseconds, which would hide the point, so every
+ * connection open is delayed to simulate a network round trip to a real
+ * database. With five lookups the sequential version pays that delay five
+ * times; the structured fan-out pays it roughly once.
+ */
+public class OrderDetailDemo {
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("=== Order Detail: Sequential vs Structured Fan-Out ===\n");
+
+    ConnectionFactory database = DemoDatabase.open("orderdetail");
+    int orderId = 1;
+
+    System.out.println("--- 40ms simulated round trip per lookup ---");
+    OrderDetailQuery query = new OrderDetailQuery(withLatency(database, 40, -1));
+
+    long start = System.nanoTime();
+    OrderDetail sequential = query.fetchSequential(orderId);
+    System.out.println("Sequential:  " + elapsedMs(start) + " ms (" + sequential.items().size() + " items)");
+
+    start = System.nanoTime();
+    OrderDetail fannedOut = query.fetch(orderId, Duration.ofSeconds(1), Mode.FAIL_FAST);
+    System.out.println("Fan-out:     " + elapsedMs(start) + " ms (" + fannedOut.items().size() + " items)");
+    System.out.println("Customer:    " + fannedOut.customer().firstName() + " " + fannedOut.customer().lastName());
+    System.out.println("Same result: " + sequential.equals(fannedOut));
+
+    System.out.println("\n--- One lookup stalls past a 200ms deadline ---");
+    OrderDetailQuery stalling = new OrderDetailQuery(withLatency(database, 40, 5));
+
+    start = System.nanoTime();
+    OrderDetail partial = stalling.fetch(orderId, Duration.ofMillis(200), Mode.PARTIAL_RESULTS);
+    System.out.println("PARTIAL_RESULTS returned after " + elapsedMs(start) + " ms");
+    System.out.println("Complete? " + partial.isComplete() + ", missing: " + partial.failures());
+
+    start = System.nanoTime();
+    try {
+      stalling.fetch(orderId, Duration.ofMillis(200), Mode.FAIL_FAST);
+    } catch (StructuredFanOut.FanOutException e) {
+      System.out.println("FAIL_FAST threw after " + elapsedMs(start) + " ms: " + e.getMessage());
+    }
+  }
+
+  /** Delays every connection open by {@code delayMs}; every {@code stallEvery}-th open stalls for 2s. */
+  static ConnectionFactory withLatency(ConnectionFactory delegate, long delayMs, int stallEvery) {
+    AtomicInteger opens = new AtomicInteger();
+    return () -> {
+      boolean stall = stallEvery > 0 && opens.incrementAndGet() % stallEvery == 0;
+      try {
+        Thread.sleep(stall ? 2_000 : delayMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLException("Interrupted while connecting", e);
+      }
+      return delegate.open();
+    };
+  }
+
+  private static long elapsedMs(long startNanos) {
+    return (System.nanoTime() - startNanos) / 1_000_000;
+  }
+}
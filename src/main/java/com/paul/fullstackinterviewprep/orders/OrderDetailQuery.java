@@ -0,0 +1,150 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.concurrency.StructuredFanOut;
+import com.paul.fullstackinterviewprep.concurrency.StructuredFanOut.Mode;
+import com.paul.fullstackinterviewprep.concurrency.StructuredFanOut.Subtask;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Composite lookup behind the order detail page.
+ *
+ * The page needs five things: the order, its customer, its employee, its
+ * line items and the products on those lines. Every query below is keyed by
+ * order_id alone (customer/employee/products are reached through a join on
+ * orders/order_items), so none of them has to wait for another's result and
+ * all five can run at the same time on separate connections.
+ *
+ * fetch() fans them out under a StructuredFanOut scope: the page costs about
+ * as much as the slowest query. fetchSequential() is the one-after-another
+ * baseline kept for comparison - its cost is the sum of all five.
+ */
+public class OrderDetailQuery {
+
+  static final String ORDER_SQL =
+      "SELECT " + OrderRowMappers.ORDER_COLUMNS + " FROM orders o WHERE o.order_id = ?";
+
+  static final String CUSTOMER_SQL =
+      "SELECT " + OrderRowMappers.CUSTOMER_COLUMNS
+          + " FROM customers c JOIN orders o ON o.customer_id = c.customer_id WHERE o.order_id = ?";
+
+  static final String EMPLOYEE_SQL =
+      "SELECT " + OrderRowMappers.EMPLOYEE_COLUMNS
+          + " FROM employees e JOIN orders o ON o.employee_id = e.employee_id WHERE o.order_id = ?";
+
+  static final String ITEMS_SQL =
+      "SELECT " + OrderRowMappers.ORDER_ITEM_COLUMNS
+          + " FROM order_items oi WHERE oi.order_id = ? ORDER BY oi.product_id";
+
+  static final String PRODUCTS_SQL =
+      "SELECT " + OrderRowMappers.PRODUCT_COLUMNS
+          + " FROM products p JOIN order_items oi ON oi.product_id = p.product_id"
+          + " WHERE oi.order_id = ? ORDER BY p.product_id";
+
+  private final ConnectionFactory connections;
+
+  public OrderDetailQuery(ConnectionFactory connections) {
+    this.connections = connections;
+  }
+
+  /**
+   * Runs the five lookups concurrently.
+   *
+   * @param timeout overall deadline for the whole page, not per query
+   * @param mode FAIL_FAST to throw on the first failure, PARTIAL_RESULTS to return what completed
+   * @throws StructuredFanOut.FanOutException in FAIL_FAST mode when a lookup fails or the deadline passes
+   */
+  public OrderDetail fetch(int orderId, Duration timeout, Mode mode) throws InterruptedException {
+    try (StructuredFanOut scope = StructuredFanOut.open(mode, timeout)) {
+      Subtask<Order> order = scope.fork("order", () -> querySingle(ORDER_SQL, orderId, OrderRowMappers.ORDER));
+      Subtask<Customer> customer =
+          scope.fork("customer", () -> querySingle(CUSTOMER_SQL, orderId, OrderRowMappers.CUSTOMER));
+      Subtask<Employee> employee =
+          scope.fork("employee", () -> querySingle(EMPLOYEE_SQL, orderId, OrderRowMappers.EMPLOYEE));
+      Subtask<List<OrderItem>> items =
+          scope.fork("items", () -> queryList(ITEMS_SQL, orderId, OrderRowMappers.ORDER_ITEM));
+      Subtask<List<Product>> products =
+          scope.fork("products", () -> queryList(PRODUCTS_SQL, orderId, OrderRowMappers.PRODUCT));
+
+      scope.join();
+
+      Map<String, String> failures = new LinkedHashMap<>();
+      for (Subtask<?> part : List.of(order, customer, employee, items, products)) {
+        if (part.state() != StructuredFanOut.State.SUCCESS) {
+          failures.put(part.name(), describe(part));
+        }
+      }
+      return new OrderDetail(
+          orderId,
+          order.getOrElse(null),
+          customer.getOrElse(null),
+          employee.getOrElse(null),
+          items.getOrElse(List.of()),
+          products.getOrElse(List.of()),
+          failures);
+    }
+  }
+
+  /** Baseline: the same five lookups, one after another on one connection. */
+  public OrderDetail fetchSequential(int orderId) throws SQLException {
+    try (Connection connection = connections.open()) {
+      return new OrderDetail(
+          orderId,
+          querySingle(connection, ORDER_SQL, orderId, OrderRowMappers.ORDER),
+          querySingle(connection, CUSTOMER_SQL, orderId, OrderRowMappers.CUSTOMER),
+          querySingle(connection, EMPLOYEE_SQL, orderId, OrderRowMappers.EMPLOYEE),
+          queryList(connection, ITEMS_SQL, orderId, OrderRowMappers.ORDER_ITEM),
+          queryList(connection, PRODUCTS_SQL, orderId, OrderRowMappers.PRODUCT),
+          Map.of());
+    }
+  }
+
+  // Each concurrent lookup borrows its own connection - JDBC connections are not thread-safe.
+  private <T> T querySingle(String sql, int orderId, RowMapper<T> mapper) throws SQLException {
+    try (Connection connection = connections.open()) {
+      return querySingle(connection, sql, orderId, mapper);
+    }
+  }
+
+  private <T> List<T> queryList(String sql, int orderId, RowMapper<T> mapper) throws SQLException {
+    try (Connection connection = connections.open()) {
+      return queryList(connection, sql, orderId, mapper);
+    }
+  }
+
+  private static <T> T querySingle(Connection connection, String sql, int orderId, RowMapper<T> mapper)
+      throws SQLException {
+    List<T> rows = queryList(connection, sql, orderId, mapper);
+    return rows.isEmpty() ? null : rows.get(0);
+  }
+
+  private static <T> List<T> queryList(Connection connection, String sql, int orderId, RowMapper<T> mapper)
+      throws SQLException {
+    try (PreparedStatement ps = connection.prepareStatement(sql)) {
+      ps.setInt(1, orderId);
+      try (ResultSet rs = ps.executeQuery()) {
+        List<T> rows = new ArrayList<>();
+        while (rs.next()) {
+          rows.add(mapper.map(rs));
+        }
+        return rows;
+      }
+    }
+  }
+
+  private static String describe(Subtask<?> part) {
+    return switch (part.state()) {
+      case FAILED -> "failed: " + part.exception();
+      case TIMED_OUT -> "deadline exceeded";
+      case CANCELLED -> "cancelled";
+      default -> part.state().name();
+    };
+  }
+}
@@ -0,0 +1,14 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.rowmapper.RowMapped;
+import java.math.BigDecimal;
+
+/** One row of the {@code order_items} table, keyed by (order_id, product_id). */
+@RowMapped(alias = "oi", mapper = RowMapper.class)
+public record OrderItem(
+    int orderId,
+    int productId,
+    int quantity,
+    BigDecimal unitPrice,
+    BigDecimal discount) {
+}
@@ -0,0 +1,62 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.collections.LongObjectMap;
+import com.paul.fullstackinterviewprep.collections.PairKey;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * In-memory index of order_items by its primary key (order_id, product_id).
+ *
+ * Keys are PairKey longs in a LongObjectMap, so looking up a line item
+ * builds no key object and hashes with one multiply - the lookup does not
+ * allocate at all. Built once from the table and then read; not
+ * thread-safe for concurrent add() and get().
+ */
+public class OrderItemIndex {
+
+  static final String ALL_ITEMS_SQL = "SELECT " + OrderRowMappers.ORDER_ITEM_COLUMNS + " FROM order_items oi";
+
+  private final LongObjectMap<OrderItem> items;
+
+  public OrderItemIndex(int expectedSize) {
+    this.items = new LongObjectMap<>(expectedSize);
+  }
+
+  /** Reads the whole order_items table into a new index. */
+  public static OrderItemIndex load(ConnectionFactory connections) throws SQLException {
+    try (Connection connection = connections.open();
+        PreparedStatement ps = connection.prepareStatement(ALL_ITEMS_SQL);
+        ResultSet rs = ps.executeQuery()) {
+      OrderItemIndex index = new OrderItemIndex(1024);
+      while (rs.next()) {
+        index.add(OrderRowMappers.ORDER_ITEM.map(rs));
+      }
+      return index;
+    }
+  }
+
+  /** Adds or replaces the item for its (order_id, product_id); returns the item it replaced, or null. */
+  public OrderItem add(OrderItem item) {
+    return items.put(PairKey.of(item.orderId(), item.productId()), item);
+  }
+
+  /** The line for {@code productId} on order {@code orderId}, or null. */
+  public OrderItem get(int orderId, int productId) {
+    return items.get(PairKey.of(orderId, productId));
+  }
+
+  public boolean contains(int orderId, int productId) {
+    return items.containsKey(PairKey.of(orderId, productId));
+  }
+
+  public OrderItem remove(int orderId, int productId) {
+    return items.remove(PairKey.of(orderId, productId));
+  }
+
+  public int size() {
+    return items.size();
+  }
+}
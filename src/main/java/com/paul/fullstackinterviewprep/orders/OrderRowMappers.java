@@ -0,0 +1,56 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.text.StringInterner;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Column lists and index-based mappers for the order tables and views.
+ *
+ * Each *_COLUMNS constant lists its columns in exactly the order the matching
+ * mapper reads them, so callers append their own FROM/JOIN/WHERE clause and
+ * never look a column up by name. Both are generated from the @RowMapped
+ * records by RowMapperProcessor (the processor/ module); this class keeps
+ * the names callers already use.
+ *
+ * Columns with a handful of distinct values (city, state, country, status,
+ * job title, department, change type) go through one shared, bounded
+ * StringInterner, so a large result set holds one String per distinct value
+ * instead of one per row. interningStats() reports what that saved.
+ */
+public final class OrderRowMappers {
+
+  // Big enough for every distinct low-cardinality value in the schema many times over; fixed, so
+  // a column that turns out to be high-cardinality only lowers the hit rate.
+  private static final StringInterner LOW_CARDINALITY = new StringInterner(4096, 64);
+
+  public static final String ORDER_COLUMNS = OrderRowMapper.COLUMNS;
+  public static final String CUSTOMER_COLUMNS = CustomerRowMapper.COLUMNS;
+  public static final String EMPLOYEE_COLUMNS = EmployeeRowMapper.COLUMNS;
+  public static final String ORDER_ITEM_COLUMNS = OrderItemRowMapper.COLUMNS;
+  public static final String PRODUCT_COLUMNS = ProductRowMapper.COLUMNS;
+  public static final String EMPLOYEE_DETAIL_COLUMNS = EmployeeDetailRowMapper.COLUMNS;
+  public static final String ORDER_SUMMARY_COLUMNS = OrderSummaryRowMapper.COLUMNS;
+  public static final String INVENTORY_CHANGE_COLUMNS = InventoryChangeRowMapper.COLUMNS;
+
+  public static final RowMapper<Order> ORDER = OrderRowMapper.INSTANCE;
+  public static final RowMapper<Customer> CUSTOMER = CustomerRowMapper.INSTANCE;
+  public static final RowMapper<Employee> EMPLOYEE = EmployeeRowMapper.INSTANCE;
+  public static final RowMapper<OrderItem> ORDER_ITEM = OrderItemRowMapper.INSTANCE;
+  public static final RowMapper<Product> PRODUCT = ProductRowMapper.INSTANCE;
+  public static final RowMapper<EmployeeDetail> EMPLOYEE_DETAIL = EmployeeDetailRowMapper.INSTANCE;
+  public static final RowMapper<OrderSummary> ORDER_SUMMARY = OrderSummaryRowMapper.INSTANCE;
+  public static final RowMapper<InventoryChange> INVENTORY_CHANGE = InventoryChangeRowMapper.INSTANCE;
+
+  private OrderRowMappers() {
+  }
+
+  public static StringInterner.Stats interningStats() {
+    return LOW_CARDINALITY.stats();
+  }
+
+  /** The interner of the @RowMapped records: reads their Column(lowCardinality = true) components. */
+  public static String lowCardinality(ResultSet rs, int column) throws SQLException {
+    return LOW_CARDINALITY.intern(rs.getString(column));
+  }
+}
@@ -0,0 +1,16 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.rowmapper.RowMapped;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** One row of the {@code v_order_summary} view. Employee name is null for orders without one. */
+@RowMapped(alias = "os", mapper = RowMapper.class)
+public record OrderSummary(
+    int orderId,
+    LocalDate orderDate,
+    String customerName,
+    String employeeName,
+    BigDecimal totalAmount,
+    long itemCount) {
+}
@@ -0,0 +1,18 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.rowmapper.RowMapped;
+import java.math.BigDecimal;
+
+/** One row of the {@code products} table. */
+@RowMapped(alias = "p", mapper = RowMapper.class)
+public record Product(
+    int productId,
+    String productName,
+    Integer categoryId,
+    Integer supplierId,
+    BigDecimal unitPrice,
+    int unitsInStock,
+    int unitsOnOrder,
+    int reorderLevel,
+    boolean discontinued) {
+}
@@ -0,0 +1,194 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.text.BufferPool;
+import com.paul.fullstackinterviewprep.text.ByteSink;
+import com.paul.fullstackinterviewprep.text.CsvWriter;
+import com.paul.fullstackinterviewprep.text.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Streams the v_employee_details and v_order_summary reports as JSON or CSV.
+ *
+ * Each row is mapped and rendered as soon as it comes off the ResultSet,
+ * straight into a pooled ByteSink buffer that drains to the output stream
+ * as it fills: the whole report is never held in memory, neither as a list
+ * of rows nor as one big String, and formatting its numbers and dates
+ * allocates nothing. What is left per row is what JDBC itself allocates
+ * for the row's values.
+ *
+ * The JSON is an array of objects with the records' field names - the same
+ * bytes Jackson writes for a List of the records with its defaults - and
+ * the CSV has a header line with the view's column names.
+ */
+public class ReportWriter {
+
+  public enum Format {
+    JSON("application/json"),
+    CSV("text/csv;charset=UTF-8");
+
+    private final String contentType;
+
+    Format(String contentType) {
+      this.contentType = contentType;
+    }
+
+    public String contentType() {
+      return contentType;
+    }
+  }
+
+  /** Writes one row's fields; the writer takes care of the object braces or the line end. */
+  @FunctionalInterface
+  public interface RowRenderer<W, T> {
+
+    void write(W writer, T row) throws IOException;
+  }
+
+  /** A report: where its rows come from and how one row is written in each format. */
+  public record Report<T>(String sql, RowMapper<T> mapper, byte[] csvHeader, RowRenderer<JsonWriter, T> json,
+      RowRenderer<CsvWriter, T> csv) {
+
+    /** Renders {@code rows} exactly as the streaming query would, and returns the row count. */
+    public long render(Iterable<T> rows, Format format, ByteSink sink) throws IOException {
+      Output<T> output = new Output<>(this, format, sink);
+      for (T row : rows) {
+        output.row(row);
+      }
+      return output.end();
+    }
+  }
+
+  private static final byte[] EMPLOYEE_ID = JsonWriter.key("employeeId");
+  private static final byte[] FIRST_NAME = JsonWriter.key("firstName");
+  private static final byte[] LAST_NAME = JsonWriter.key("lastName");
+  private static final byte[] FULL_NAME = JsonWriter.key("fullName");
+  private static final byte[] EMAIL = JsonWriter.key("email");
+  private static final byte[] JOB_TITLE = JsonWriter.key("jobTitle");
+  private static final byte[] SALARY = JsonWriter.key("salary");
+  private static final byte[] HIRE_DATE = JsonWriter.key("hireDate");
+  private static final byte[] DEPARTMENT_NAME = JsonWriter.key("departmentName");
+  private static final byte[] MANAGER_NAME = JsonWriter.key("managerName");
+
+  private static final byte[] ORDER_ID = JsonWriter.key("orderId");
+  private static final byte[] ORDER_DATE = JsonWriter.key("orderDate");
+  private static final byte[] CUSTOMER_NAME = JsonWriter.key("customerName");
+  private static final byte[] EMPLOYEE_NAME = JsonWriter.key("employeeName");
+  private static final byte[] TOTAL_AMOUNT = JsonWriter.key("totalAmount");
+  private static final byte[] ITEM_COUNT = JsonWriter.key("itemCount");
+
+  public static final Report<EmployeeDetail> EMPLOYEE_DETAILS = new Report<>(
+      "SELECT " + OrderRowMappers.EMPLOYEE_DETAIL_COLUMNS + " FROM v_employee_details ed ORDER BY ed.employee_id",
+      OrderRowMappers.EMPLOYEE_DETAIL,
+      CsvWriter.header("employee_id", "first_name", "last_name", "full_name", "email", "job_title", "salary",
+          "hire_date", "department_name", "manager_name"),
+      (json, row) -> json
+          .name(EMPLOYEE_ID).value(row.employeeId())
+          .name(FIRST_NAME).value(row.firstName())
+          .name(LAST_NAME).value(row.lastName())
+          .name(FULL_NAME).value(row.fullName())
+          .name(EMAIL).value(row.email())
+          .name(JOB_TITLE).value(row.jobTitle())
+          .name(SALARY).value(row.salary())
+          .name(HIRE_DATE).value(row.hireDate())
+          .name(DEPARTMENT_NAME).value(row.departmentName())
+          .name(MANAGER_NAME).value(row.managerName()),
+      (csv, row) -> csv
+          .field(row.employeeId())
+          .field(row.firstName())
+          .field(row.lastName())
+          .field(row.fullName())
+          .field(row.email())
+          .field(row.jobTitle())
+          .field(row.salary())
+          .field(row.hireDate())
+          .field(row.departmentName())
+          .field(row.managerName()));
+
+  public static final Report<OrderSummary> ORDER_SUMMARIES = new Report<>(
+      "SELECT " + OrderRowMappers.ORDER_SUMMARY_COLUMNS + " FROM v_order_summary os ORDER BY os.order_id",
+      OrderRowMappers.ORDER_SUMMARY,
+      CsvWriter.header("order_id", "order_date", "customer_name", "employee_name", "total_amount", "item_count"),
+      (json, row) -> json
+          .name(ORDER_ID).value(row.orderId())
+          .name(ORDER_DATE).value(row.orderDate())
+          .name(CUSTOMER_NAME).value(row.customerName())
+          .name(EMPLOYEE_NAME).value(row.employeeName())
+          .name(TOTAL_AMOUNT).value(row.totalAmount())
+          .name(ITEM_COUNT).value(row.itemCount()),
+      (csv, row) -> csv
+          .field(row.orderId())
+          .field(row.orderDate())
+          .field(row.customerName())
+          .field(row.employeeName())
+          .field(row.totalAmount())
+          .field(row.itemCount()));
+
+  private final ConnectionFactory connections;
+  private final BufferPool buffers;
+
+  public ReportWriter(ConnectionFactory connections, BufferPool buffers) {
+    this.connections = connections;
+    this.buffers = buffers;
+  }
+
+  /**
+   * Runs the report's query and streams every row to {@code out}, which is
+   * left open. Returns the row count. If the query fails midway, whatever
+   * was already written stays written - the caller can only abort the
+   * response, not replace it.
+   */
+  public <T> long write(Report<T> report, Format format, OutputStream out) throws SQLException, IOException {
+    try (Connection connection = connections.open();
+        PreparedStatement ps = connection.prepareStatement(report.sql());
+        ResultSet rs = ps.executeQuery();
+        ByteSink sink = new ByteSink(out, buffers)) {
+      Output<T> output = new Output<>(report, format, sink);
+      while (rs.next()) {
+        output.row(report.mapper().map(rs));
+      }
+      return output.end();
+    }
+  }
+
+  private static final class Output<T> {
+    private final Report<T> report;
+    private final JsonWriter json;
+    private final CsvWriter csv;
+    private long rows;
+
+    Output(Report<T> report, Format format, ByteSink sink) throws IOException {
+      this.report = report;
+      if (format == Format.JSON) {
+        json = new JsonWriter(sink).beginArray();
+        csv = null;
+      } else {
+        json = null;
+        csv = new CsvWriter(sink).row(report.csvHeader());
+      }
+    }
+
+    void row(T row) throws IOException {
+      if (json != null) {
+        json.beginObject();
+        report.json().write(json, row);
+        json.endObject();
+      } else {
+        report.csv().write(csv, row);
+        csv.endRow();
+      }
+      rows++;
+    }
+
+    long end() throws IOException {
+      if (json != null) {
+        json.endArray();
+      }
+      return rows;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import com.paul.fullstackinterviewprep.rowmapper.RowMapped;
+import com.paul.fullstackinterviewprep.streams.AnalyticGatherers;
+import com.paul.fullstackinterviewprep.streams.AnalyticGatherers.Bucket;
+import com.paul.fullstackinterviewprep.streams.HyperLogLog;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Revenue time series over orders and order_items, built with AnalyticGatherers.
+ *
+ * Every order line is loaded once, ordered by order_date, with its revenue
+ * computed the way v_order_summary does. Each analysis is then one pass over
+ * the lines: timeBuckets folds them into calendar days or months (days
+ * without orders included, as zero), and the moving windows run over those
+ * buckets, so a "7-day" average always spans seven calendar days.
+ */
+public class RevenueAnalytics {
+
+  /** One order line: when, who, what, and quantity * unit_price * (1 - discount). */
+  @RowMapped(alias = "rl", mapper = RowMapper.class)
+  public record RevenueLine(LocalDate orderDate, int orderId, int customerId, int productId, double revenue) {
+  }
+
+  // The join and the computed revenue sit in a derived table, so the generated column list reads it by name
+  static final String LINES_SQL =
+      "SELECT " + RevenueAnalytics_RevenueLineRowMapper.COLUMNS + " FROM ("
+          + "SELECT o.order_date, o.order_id, o.customer_id, oi.product_id, "
+          + "oi.quantity * oi.unit_price * (1 - oi.discount) AS revenue "
+          + "FROM orders o JOIN order_items oi ON oi.order_id = o.order_id) rl ORDER BY rl.order_date, rl.order_id";
+
+  static final RowMapper<RevenueLine> LINE = RevenueAnalytics_RevenueLineRowMapper.INSTANCE;
+
+  private final List<RevenueLine> lines;
+
+  /** {@code lines} must be ordered by order date. */
+  public RevenueAnalytics(List<RevenueLine> lines) {
+    this.lines = lines;
+  }
+
+  /** Reads every order line into a new instance. */
+  public static RevenueAnalytics load(ConnectionFactory connections) throws SQLException {
+    try (Connection connection = connections.open();
+        PreparedStatement ps = connection.prepareStatement(LINES_SQL);
+        ResultSet rs = ps.executeQuery()) {
+      List<RevenueLine> lines = new ArrayList<>();
+      while (rs.next()) {
+        lines.add(LINE.map(rs));
+      }
+      return new RevenueAnalytics(lines);
+    }
+  }
+
+  public List<RevenueLine> lines() {
+    return lines;
+  }
+
+  /** Revenue per calendar day (or week, month, year), from the first order's to the last's. */
+  public List<Bucket<Double>> revenueBy(ChronoUnit unit) {
+    return lines.stream()
+        .gather(AnalyticGatherers.timeBuckets(RevenueLine::orderDate, unit,
+            Collectors.summingDouble(RevenueLine::revenue)))
+        .toList();
+  }
+
+  /** Revenue over the trailing {@code days} calendar days, one value per day once {@code days} have passed. */
+  public List<Double> trailingRevenue(int days) {
+    return lines.stream()
+        .gather(AnalyticGatherers.timeBuckets(RevenueLine::orderDate, ChronoUnit.DAYS,
+            Collectors.summingDouble(RevenueLine::revenue)))
+        .gather(AnalyticGatherers.movingSum(days, Bucket::value))
+        .toList();
+  }
+
+  /** Monthly revenue smoothed over the trailing {@code months} months. */
+  public List<Double> monthlyMovingAverage(int months) {
+    return revenueBy(ChronoUnit.MONTHS).stream()
+        .gather(AnalyticGatherers.movingAverage(months, Bucket::value))
+        .toList();
+  }
+
+  /** Monthly revenue as an exponential moving average weighted like an n-month average. */
+  public List<Double> monthlyTrend(int months) {
+    return revenueBy(ChronoUnit.MONTHS).stream()
+        .gather(AnalyticGatherers.exponentialMovingAverage(2.0 / (months + 1), Bucket::value))
+        .toList();
+  }
+
+  /** Estimated distinct customers per month. */
+  public List<Bucket<Long>> customersByMonth() {
+    return lines.stream()
+        .gather(AnalyticGatherers.timeBuckets(RevenueLine::orderDate, ChronoUnit.MONTHS,
+            HyperLogLog.counting(RevenueLine::customerId)))
+        .toList();
+  }
+
+  /** The {@code k} products with the most revenue, as product id to revenue, largest first. */
+  public List<Map.Entry<Integer, Double>> topProducts(int k) {
+    return lines.stream()
+        .collect(Collectors.groupingBy(RevenueLine::productId, Collectors.summingDouble(RevenueLine::revenue)))
+        .entrySet().stream()
+        .gather(AnalyticGatherers.topK(k, Map.Entry.comparingByValue()))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  /** Estimated distinct customers over all orders. */
+  public long distinctCustomers() {
+    return lines.stream()
+        .gather(AnalyticGatherers.distinctCount(RevenueLine::customerId))
+        .findFirst()
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,11 @@
+package com.paul.fullstackinterviewprep.orders;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/** Maps the current row of a ResultSet to an object. Columns are read by index, not by name. */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+  T map(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,304 @@
+package com.paul.fullstackinterviewprep.reflect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Generated, cached replacements for Field.get/set, Method.invoke and
+ * Constructor.newInstance on one class.
+ *
+ * Reflection checks access and boxes arguments into an Object[] on every
+ * call, and the JIT can't inline through it. Here each member is turned
+ * into a small class once, the first time it is asked for, and the result
+ * is cached per class:
+ * - method() and constructor() spin a lambda with LambdaMetafactory that
+ *   calls the member directly, implementing whatever functional interface
+ *   the caller picks - ToIntFunction for an int getter avoids boxing too
+ * - getter() and setter() read and write a field. LambdaMetafactory can't
+ *   target fields, so each one is a hidden copy of FieldGetter/FieldSetter
+ *   whose constant class data is the field's MethodHandle
+ * Once warmed up both run at the speed of a direct call.
+ *
+ * Private members work as they do with setAccessible(true): the lookup is
+ * MethodHandles.privateLookupIn() the target class, which succeeds for any
+ * class in this application's module (not for JDK internals). Unlike
+ * setAccessible, the check happens once, when the accessor is built.
+ * Thread-safe; lookups by name cost a ConcurrentHashMap get, so callers on
+ * a hot path should keep the returned functions.
+ */
+public final class Accessors<T> {
+
+  private static final MethodHandles.Lookup TEMPLATES = MethodHandles.lookup();
+  private static final byte[] GETTER_TEMPLATE = templateBytes(FieldGetter.class);
+  private static final byte[] SETTER_TEMPLATE = templateBytes(FieldSetter.class);
+
+  private static final ClassValue<Accessors<?>> CACHE = new ClassValue<>() {
+    @Override
+    protected Accessors<?> computeValue(Class<?> type) {
+      return new Accessors<>(type);
+    }
+  };
+
+  private final Class<T> type;
+  private final MethodHandles.Lookup lookup;
+  private final Map<String, Function<T, Object>> getters = new ConcurrentHashMap<>();
+  private final Map<String, BiConsumer<T, Object>> setters = new ConcurrentHashMap<>();
+  private final Map<List<Object>, Object> functions = new ConcurrentHashMap<>();
+
+  private Accessors(Class<T> type) {
+    this.type = type;
+    try {
+      this.lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    } catch (IllegalAccessException e) {
+      throw new IllegalArgumentException("No private access to " + type.getName(), e);
+    }
+  }
+
+  /** The accessors for {@code type}, created on first use and shared afterwards. */
+  @SuppressWarnings("unchecked")
+  public static <T> Accessors<T> of(Class<T> type) {
+    return (Accessors<T>) CACHE.get(type);
+  }
+
+  public Class<T> type() {
+    return type;
+  }
+
+  /** The instance fields of the class and its superclasses, subclass first, in declaration order. */
+  public List<Field> fields() {
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers())) {
+          fields.add(field);
+        }
+      }
+    }
+    return fields;
+  }
+
+  /** Reads field {@code name} (of this class or a superclass; any access; static ones ignore the target). */
+  public Function<T, Object> getter(String name) {
+    return getters.computeIfAbsent(name, this::newGetter);
+  }
+
+  /** Writes field {@code name}; primitive fields take their box. Final fields are rejected. */
+  public BiConsumer<T, Object> setter(String name) {
+    return setters.computeIfAbsent(name, this::newSetter);
+  }
+
+  /**
+   * Method {@code name} with the given parameter types, as an instance of
+   * {@code functionalInterface}. For an instance method the interface's
+   * first parameter is the target, e.g.
+   * {@code method("getAge", ToIntFunction.class)} or
+   * {@code method("setName", BiConsumer.class, String.class)}; a static
+   * method takes only its own arguments.
+   */
+  public <F> F method(String name, Class<? super F> functionalInterface, Class<?>... parameterTypes) {
+    return function(List.of("method", name, functionalInterface, List.of(parameterTypes)), () -> {
+      Method method = findMethod(name, parameterTypes);
+      return lookup.unreflect(method);
+    }, functionalInterface);
+  }
+
+  /**
+   * The constructor with the given parameter types, as an instance of
+   * {@code functionalInterface}, e.g.
+   * {@code constructor(BiFunction.class, String.class, int.class)}.
+   */
+  public <F> F constructor(Class<? super F> functionalInterface, Class<?>... parameterTypes) {
+    return function(List.of("constructor", functionalInterface, List.of(parameterTypes)),
+        () -> lookup.unreflectConstructor(type.getDeclaredConstructor(parameterTypes)), functionalInterface);
+  }
+
+  /** The no-arg constructor, whatever its access. */
+  public Supplier<T> constructor() {
+    return constructor(Supplier.class);
+  }
+
+  private interface HandleSource {
+    MethodHandle get() throws ReflectiveOperationException;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <F> F function(List<Object> key, HandleSource source, Class<?> functionalInterface) {
+    return (F) functions.computeIfAbsent(key, k -> {
+      try {
+        return spin(source.get(), functionalInterface);
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalArgumentException(type.getName() + ": " + k, e);
+      }
+    });
+  }
+
+  /** A LambdaMetafactory lambda implementing {@code functionalInterface} by calling {@code target}. */
+  private Object spin(MethodHandle target, Class<?> functionalInterface) {
+    Method sam = singleAbstractMethod(functionalInterface);
+    MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+    MethodType targetType = target.type();
+    if (samType.parameterCount() != targetType.parameterCount()) {
+      throw new IllegalArgumentException(functionalInterface.getName() + "." + sam.getName() + " takes "
+          + samType.parameterCount() + " arguments, the target " + targetType.parameterCount());
+    }
+    // Where the interface has a reference type and the target a primitive, the lambda boxes/unboxes.
+    MethodType instantiated = targetType;
+    for (int i = 0; i < targetType.parameterCount(); i++) {
+      if (!samType.parameterType(i).isPrimitive()) {
+        instantiated = instantiated.changeParameterType(i, targetType.wrap().parameterType(i));
+      }
+    }
+    if (!samType.returnType().isPrimitive() && samType.returnType() != void.class) {
+      instantiated = instantiated.changeReturnType(targetType.wrap().returnType());
+    }
+    try {
+      return LambdaMetafactory.metafactory(lookup, sam.getName(), MethodType.methodType(functionalInterface),
+          samType, target, instantiated).getTarget().invoke();
+    } catch (Throwable t) {
+      throw new IllegalArgumentException("Can't implement " + functionalInterface.getName() + " with " + target, t);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Function<T, Object> newGetter(String name) {
+    Field field = findField(name);
+    try {
+      MethodHandle handle = Modifier.isStatic(field.getModifiers())
+          ? MethodHandles.dropArguments(lookup.unreflectGetter(field), 0, Object.class)
+          : lookup.unreflectGetter(field);
+      return (Function<T, Object>) hidden(GETTER_TEMPLATE, handle.asType(MethodType.genericMethodType(1)));
+    } catch (IllegalAccessException e) {
+      throw new IllegalArgumentException(type.getName() + "." + name, e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private BiConsumer<T, Object> newSetter(String name) {
+    Field field = findField(name);
+    if (Modifier.isFinal(field.getModifiers())) {
+      throw new IllegalArgumentException(type.getName() + "." + name + " is final");
+    }
+    try {
+      MethodHandle handle = Modifier.isStatic(field.getModifiers())
+          ? MethodHandles.dropArguments(lookup.unreflectSetter(field), 0, Object.class)
+          : lookup.unreflectSetter(field);
+      return (BiConsumer<T, Object>) hidden(SETTER_TEMPLATE,
+          handle.asType(MethodType.methodType(void.class, Object.class, Object.class)));
+    } catch (IllegalAccessException e) {
+      throw new IllegalArgumentException(type.getName() + "." + name, e);
+    }
+  }
+
+  /** Defines a hidden copy of a template class with {@code handle} as its class data and instantiates it. */
+  static Object hidden(byte[] template, MethodHandle handle) {
+    try {
+      MethodHandles.Lookup copy = TEMPLATES.defineHiddenClassWithClassData(template, handle, true);
+      return copy.findConstructor(copy.lookupClass(), MethodType.methodType(void.class)).invoke();
+    } catch (Throwable t) {
+      throw new IllegalStateException("Can't define accessor class", t);
+    }
+  }
+
+  private Field findField(String name) {
+    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (field.getName().equals(name)) {
+          return field;
+        }
+      }
+    }
+    throw new IllegalArgumentException("No field " + name + " in " + type.getName());
+  }
+
+  private Method findMethod(String name, Class<?>[] parameterTypes) throws NoSuchMethodException {
+    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+      try {
+        return c.getDeclaredMethod(name, parameterTypes);
+      } catch (NoSuchMethodException e) {
+        // Look in the superclass.
+      }
+    }
+    // Public methods inherited from interfaces (default methods).
+    return type.getMethod(name, parameterTypes);
+  }
+
+  private static Method singleAbstractMethod(Class<?> functionalInterface) {
+    if (!functionalInterface.isInterface()) {
+      throw new IllegalArgumentException(functionalInterface.getName() + " is not an interface");
+    }
+    Method sam = null;
+    for (Method method : functionalInterface.getMethods()) {
+      if (Modifier.isAbstract(method.getModifiers()) && !isObjectMethod(method)) {
+        if (sam != null) {
+          throw new IllegalArgumentException(functionalInterface.getName() + " has more than one abstract method");
+        }
+        sam = method;
+      }
+    }
+    if (sam == null) {
+      throw new IllegalArgumentException(functionalInterface.getName() + " has no abstract method");
+    }
+    return sam;
+  }
+
+  private static boolean isObjectMethod(Method method) {
+    try {
+      Object.class.getMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  static byte[] templateBytes(Class<?> template) {
+    try (InputStream in = template.getResourceAsStream(template.getSimpleName() + ".class")) {
+      if (in == null) {
+        throw new IllegalStateException("Missing class file for " + template.getName());
+      }
+      return in.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Called from a template's static initializer: its MethodHandle class data, or null in the template itself. */
+  static MethodHandle classData(MethodHandles.Lookup lookup) {
+    try {
+      return MethodHandles.classData(lookup, ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static RuntimeException unchecked(Throwable t) {
+    if (t instanceof RuntimeException e) {
+      throw e;
+    }
+    if (t instanceof Error e) {
+      throw e;
+    }
+    return new UndeclaredThrowableException(t);
+  }
+
+  @Override
+  public String toString() {
+    return "Accessors[" + type.getName() + "]";
+  }
+}
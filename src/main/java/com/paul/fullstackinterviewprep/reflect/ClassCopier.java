@@ -0,0 +1,24 @@
+package com.paul.fullstackinterviewprep.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Template for DeepCopier's per-class copiers; see FieldGetter. The class
+ * data is the class's whole (Object, Context)Object copy handle -
+ * allocation, one step per field, registration in graph mode - so the JIT
+ * compiles each hidden copy to straight-line code for that class.
+ */
+final class ClassCopier implements DeepCopier.Copier {
+
+  private static final MethodHandle HANDLE = Accessors.classData(MethodHandles.lookup());
+
+  @Override
+  public Object copy(Object source, DeepCopier.Context context) {
+    try {
+      return HANDLE.invokeExact(source, context);
+    } catch (Throwable t) {
+      throw Accessors.unchecked(t);
+    }
+  }
+}
@@ -0,0 +1,767 @@
+package com.paul.fullstackinterviewprep.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Deep copies of object graphs through per-class copiers generated at
+ * runtime.
+ *
+ * The first time a class is copied, its fields are resolved once and
+ * composed into a single MethodHandle: allocate the instance (without
+ * running a constructor, as deserialization does), then for each field
+ * either transfer the value or copy it. That handle becomes the constant
+ * class data of a hidden copy of ClassCopier, so the JIT compiles it like
+ * a hand-written copy constructor. Composing handles rather than emitting
+ * a class file per type with java.lang.classfile is a choice, not a
+ * limitation: it is the same template-plus-class-data technique Accessors
+ * uses, access checks stay with the Lookup, and there is no bytecode
+ * (stack maps, constant pools) to keep correct. What is not generated:
+ * - immutable values are shared, never copied: primitives' boxes, String,
+ *   BigDecimal, BigInteger, UUID, Locale, Currency, enums, java.time
+ *   types, lambdas, and records whose components are all immutable
+ * - records with mutable components are rebuilt through their canonical
+ *   constructor with copied components
+ * - arrays of primitives or immutable values are copied with one clone();
+ *   other arrays are cloned and then have their elements copied
+ * - the JDK's lists, sets, maps and deques (ArrayList, HashMap, TreeMap,
+ *   List.of, Arrays.asList, ...) are rebuilt with copied elements, an
+ *   Optional with a copied value, and java.util.Date and its java.sql
+ *   subclasses - mutable, but holding no references - with clone(). Other
+ *   JDK classes can't be read and are rejected.
+ *
+ * copy() keeps an IdentityHashMap of copied objects only when the graph
+ * can contain a cycle. When a class's field types, followed through
+ * generics and arrays, can never lead back to a class already on the path,
+ * the copy is made as a tree without the map. If the actual graph leaves
+ * those declared types - a subclass in a field, a mutable object behind an
+ * Object or interface field - the copy restarts with the map, and that
+ * class uses it from then on. Without the map an object referenced twice
+ * is copied twice; copyGraph() always uses the map and so keeps that
+ * sharing as well as cycles.
+ *
+ * A field declared as its own class or a superclass of it (Node next,
+ * Employee manager) is copied from a worklist after the current object
+ * rather than by recursion, so a linked chain of any length needs constant
+ * stack. The worklist is drained before the object at the head of the chain
+ * is returned, so every object is complete by the time it is added to a
+ * copied collection: a hashCode(), equals() or comparator that follows
+ * next or manager sees the copied value. Other references recurse once per
+ * level, as serialization does.
+ * Thread-safe.
+ */
+public final class DeepCopier {
+
+  private DeepCopier() {
+  }
+
+  /** A per-class copier: ClassCopier hidden classes and the built-in kinds. */
+  interface Copier {
+    Object copy(Object source, Context context);
+  }
+
+  /** State of one copy: the identity map in graph mode, none in tree mode, and the deferred self-references. */
+  static final class Context {
+    final IdentityHashMap<Object, Object> copies;
+    private ArrayDeque<Deferred> deferred;
+    /** Set while drain() copies a deferred value: that object's own deferred fields join the same loop. */
+    private boolean fromWorklist;
+
+    Context(IdentityHashMap<Object, Object> copies) {
+      this.copies = copies;
+    }
+
+    int mark() {
+      return deferred == null ? 0 : deferred.size();
+    }
+
+    /**
+     * Copies the fields deferred since {@code mark}, and the ones those
+     * copies defer in turn, until none are left: the whole chain below one
+     * object, in a loop rather than by recursion.
+     */
+    void drain(int mark) {
+      if (deferred == null) {
+        return;
+      }
+      while (deferred.size() > mark) {
+        Deferred d = deferred.pollLast();
+        fromWorklist = true;
+        Object copy = copyValue(d.value, d.expected, this);
+        fromWorklist = false;
+        try {
+          d.setter.invokeExact(d.copy, copy);
+        } catch (Throwable t) {
+          throw Accessors.unchecked(t);
+        }
+      }
+    }
+  }
+
+  /** A self-referencing field of {@code copy} still to be set to a copy of {@code value}. */
+  private record Deferred(Object copy, Object value, MethodHandle setter, Expected expected) {
+  }
+
+  /** The declared type at one position of the graph, with its element (and key) types when it's a collection. */
+  static final class Expected {
+    final Class<?> type;
+    final Expected element;
+    final Expected key;
+
+    private Expected(Class<?> type, Expected element, Expected key) {
+      this.type = type;
+      this.element = element;
+      this.key = key;
+    }
+
+    /** Null where nothing is known statically (Object would do as well, but null is quicker to test). */
+    static Expected of(Type type) {
+      if (type instanceof Class<?> c) {
+        return new Expected(c, null, null);
+      }
+      if (type instanceof ParameterizedType p && p.getRawType() instanceof Class<?> raw) {
+        Type[] arguments = p.getActualTypeArguments();
+        if (Map.class.isAssignableFrom(raw) && arguments.length == 2) {
+          return new Expected(raw, of(arguments[1]), of(arguments[0]));
+        }
+        if ((Collection.class.isAssignableFrom(raw) || raw == Optional.class) && arguments.length == 1) {
+          return new Expected(raw, of(arguments[0]), null);
+        }
+        return new Expected(raw, null, null);
+      }
+      if (type instanceof WildcardType w && w.getLowerBounds().length == 0) {
+        return of(w.getUpperBounds()[0]);
+      }
+      return null;
+    }
+  }
+
+  private enum Kind {
+    IMMUTABLE, CLASS, RECORD, ARRAY_BULK, ARRAY, COLLECTION, MAP, LIST_OF, SET_OF, MAP_OF, ARRAYS_AS_LIST,
+    OPTIONAL, DATE, UNSUPPORTED;
+
+    /** JDK classes that a field declared as one of their supertypes (List, Date...) may hold in tree mode. */
+    boolean isBuiltIn() {
+      return this == COLLECTION || this == MAP || this == LIST_OF || this == SET_OF || this == MAP_OF
+          || this == ARRAYS_AS_LIST || this == DATE;
+    }
+  }
+
+  /** Thrown in tree mode when the graph leaves the declared types; never escapes copy(). */
+  private static final class OutsideDeclaredTypes extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    OutsideDeclaredTypes() {
+      super(null, null, false, false);
+    }
+  }
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final byte[] COPIER_TEMPLATE = Accessors.templateBytes(ClassCopier.class);
+  private static final Context TREE = new Context(null);
+  private static final OutsideDeclaredTypes OUTSIDE = new OutsideDeclaredTypes();
+  /** Stands in for a record or unmodifiable collection whose copy is being built. */
+  private static final Object PENDING = new Object();
+
+  private static final Set<Class<?>> IMMUTABLE = Set.of(
+      String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+      Float.class, Double.class, BigDecimal.class, BigInteger.class, UUID.class, Locale.class, Currency.class,
+      Class.class,
+      Collections.emptyList().getClass(), Collections.emptySet().getClass(), Collections.emptyMap().getClass());
+
+  private static final Map<Class<?>, Kind> COLLECTIONS = collectionKinds();
+
+  private static final MethodHandle ALLOCATE;
+  private static final MethodHandle COPY_VALUE;
+  private static final MethodHandle REGISTER;
+  private static final MethodHandle DEFER;
+  private static final MethodHandle IS_TREE_EXACT;
+  private static final MethodHandle RETURN_COPY = MethodHandles.dropArguments(
+      MethodHandles.identity(Object.class), 1, Object.class, Context.class);
+  private static final MethodType STEP = MethodType.methodType(void.class, Object.class, Object.class, Context.class);
+  private static final MethodType VALUE_COPY = MethodType.methodType(Object.class, Object.class, Context.class);
+
+  static {
+    try {
+      // Unsafe.allocateInstance: allocation without a constructor, intrinsified for a constant class.
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      ALLOCATE = LOOKUP.findVirtual(unsafeClass, "allocateInstance", MethodType.methodType(Object.class, Class.class))
+          .bindTo(theUnsafe.get(null));
+      COPY_VALUE = LOOKUP.findStatic(DeepCopier.class, "copyValue",
+          MethodType.methodType(Object.class, Object.class, Expected.class, Context.class));
+      REGISTER = LOOKUP.findStatic(DeepCopier.class, "register", STEP);
+      DEFER = LOOKUP.findStatic(DeepCopier.class, "defer", MethodType.methodType(void.class, Object.class,
+          Object.class, Context.class, MethodHandle.class, Expected.class));
+      IS_TREE_EXACT = LOOKUP.findStatic(DeepCopier.class, "isTreeExact",
+          MethodType.methodType(boolean.class, Object.class, Context.class, Class.class));
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private static final class Plan {
+    final Class<?> type;
+    final Kind kind;
+    /** (Object source, Context)Object for classes and records, and the hidden class that runs it. */
+    final MethodHandle handle;
+    final Copier copier;
+    final Expected self;
+    final Expected component;
+    final String unsupported;
+    /** Tree mode is safe for copies rooted here: no cycle through the declared types. */
+    final boolean tree;
+    /** A tree-mode copy rooted here met an object outside the declared types. */
+    volatile boolean outside;
+
+    Plan(Class<?> type, Kind kind, MethodHandle handle, String unsupported) {
+      this.type = type;
+      this.kind = kind;
+      this.handle = handle;
+      this.copier = handle != null ? generate(handle) : null;
+      this.self = Expected.of(type);
+      this.component = type.isArray() ? Expected.of(type.getComponentType()) : null;
+      this.unsupported = unsupported;
+      this.tree = (kind == Kind.CLASS || kind == Kind.RECORD || kind == Kind.ARRAY) && isAcyclic(type);
+    }
+  }
+
+  private static final ClassValue<Plan> PLANS = new ClassValue<>() {
+    @Override
+    protected Plan computeValue(Class<?> type) {
+      return plan(type);
+    }
+  };
+
+  /**
+   * A deep copy of {@code value}. Cycles are handled; an object reached
+   * through two paths is copied twice unless a cycle is possible in the
+   * declared types. Null and immutable values are returned as they are.
+   *
+   * @throws IllegalArgumentException if the graph holds a JDK class that
+   *     isn't one of the supported collections or immutable types
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T copy(T value) {
+    if (value == null) {
+      return null;
+    }
+    Plan plan = PLANS.get(value.getClass());
+    if (plan.tree && !plan.outside) {
+      try {
+        return (T) copy(plan, value, plan.self, TREE);
+      } catch (OutsideDeclaredTypes e) {
+        plan.outside = true;
+      }
+    }
+    return copyGraph(value);
+  }
+
+  /** A deep copy of {@code value} that keeps cycles and shared references: one copy per original object. */
+  @SuppressWarnings("unchecked")
+  public static <T> T copyGraph(T value) {
+    Context context = new Context(new IdentityHashMap<>());
+    return (T) copyValue(value, null, context);
+  }
+
+  /** Copies one field, element or component value; called from the generated copiers. */
+  static Object copyValue(Object value, Expected expected, Context context) {
+    if (value == null) {
+      return null;
+    }
+    Class<?> type = value.getClass();
+    Plan plan = PLANS.get(type);
+    if (plan.kind == Kind.IMMUTABLE) {
+      return value;
+    }
+    IdentityHashMap<Object, Object> copies = context.copies;
+    if (copies == null) {
+      if (expected == null
+          || type != expected.type && !(plan.kind.isBuiltIn() && expected.type.isAssignableFrom(type))) {
+        throw OUTSIDE;
+      }
+    } else {
+      Object copy = copies.get(value);
+      if (copy == PENDING) {
+        throw new IllegalArgumentException("Can't copy a cycle through " + type.getName()
+            + ": records and unmodifiable collections are built after their contents");
+      }
+      if (copy != null) {
+        return copy;
+      }
+    }
+    return copy(plan, value, expected, context);
+  }
+
+  static boolean isTreeExact(Object value, Context context, Class<?> type) {
+    return context.copies == null && value != null && value.getClass() == type;
+  }
+
+  /**
+   * Sets a self-referencing field of {@code copy} once the current object's
+   * other fields are done; called from the generated copiers. The worklist is
+   * drained before the object that started the chain is returned. Tree mode
+   * copies inline: there the field must hold exactly
+   * its declared class, and the declared types have no cycle, so the chain
+   * is short.
+   */
+  static void defer(Object copy, Object value, Context context, MethodHandle setter, Expected expected) {
+    if (value == null) {
+      return;
+    }
+    if (context.copies == null) {
+      try {
+        setter.invokeExact(copy, copyValue(value, expected, context));
+      } catch (Throwable t) {
+        throw Accessors.unchecked(t);
+      }
+      return;
+    }
+    if (context.deferred == null) {
+      context.deferred = new ArrayDeque<>();
+    }
+    context.deferred.addLast(new Deferred(copy, value, setter, expected));
+  }
+
+  /** Records {@code copy} as the copy of {@code source} in graph mode; called before a class's fields are copied. */
+  static void register(Object copy, Object source, Context context) {
+    if (context.copies != null) {
+      context.copies.put(source, copy);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object copy(Plan plan, Object source, Expected expected, Context context) {
+    IdentityHashMap<Object, Object> copies = context.copies;
+    switch (plan.kind) {
+      case IMMUTABLE -> {
+        return source;
+      }
+      case CLASS -> {
+        if (context.fromWorklist) {
+          // A link of a chain being drained: the running drain() picks up this object's deferred fields.
+          context.fromWorklist = false;
+          return plan.copier.copy(source, context);
+        }
+        // Finish the chain below this object before returning it, so a HashSet, HashMap key or TreeSet
+        // it goes into never sees it with a self-reference still unset.
+        int mark = context.mark();
+        Object copy = plan.copier.copy(source, context);
+        context.drain(mark);
+        return copy;
+      }
+      case RECORD -> {
+        if (copies != null) {
+          copies.put(source, PENDING);
+        }
+        Object copy = plan.copier.copy(source, context);
+        register(copy, source, context);
+        return copy;
+      }
+      case ARRAY_BULK -> {
+        Object copy = cloneArray(source);
+        register(copy, source, context);
+        return copy;
+      }
+      case ARRAY -> {
+        Object[] copy = ((Object[]) source).clone();
+        register(copy, source, context);
+        for (int i = 0; i < copy.length; i++) {
+          copy[i] = copyValue(copy[i], plan.component, context);
+        }
+        return copy;
+      }
+      case COLLECTION -> {
+        Collection<Object> copy = (Collection<Object>) emptyCopy(source);
+        register(copy, source, context);
+        Expected element = expected != null ? expected.element : null;
+        for (Object e : (Collection<?>) source) {
+          copy.add(copyValue(e, element, context));
+        }
+        return copy;
+      }
+      case MAP -> {
+        Map<Object, Object> copy = (Map<Object, Object>) emptyCopy(source);
+        register(copy, source, context);
+        Expected key = expected != null ? expected.key : null;
+        Expected value = expected != null ? expected.element : null;
+        for (Map.Entry<?, ?> e : ((Map<?, ?>) source).entrySet()) {
+          copy.put(copyValue(e.getKey(), key, context), copyValue(e.getValue(), value, context));
+        }
+        return copy;
+      }
+      case ARRAYS_AS_LIST -> {
+        // Arrays.asList: a fixed-size list over a copied array, registered before its elements are copied
+        Object[] elements = ((Collection<?>) source).toArray();
+        List<Object> copy = Arrays.asList(elements);
+        register(copy, source, context);
+        Expected element = expected != null ? expected.element : null;
+        for (int i = 0; i < elements.length; i++) {
+          elements[i] = copyValue(elements[i], element, context);
+        }
+        return copy;
+      }
+      case OPTIONAL -> {
+        Optional<?> optional = (Optional<?>) source;
+        if (optional.isEmpty()) {
+          return source;
+        }
+        if (copies != null) {
+          copies.put(source, PENDING);
+        }
+        Object copy = Optional.of(copyValue(optional.get(), expected != null ? expected.element : null, context));
+        register(copy, source, context);
+        return copy;
+      }
+      case DATE -> {
+        Object copy = ((Date) source).clone();
+        register(copy, source, context);
+        return copy;
+      }
+      case LIST_OF, SET_OF, MAP_OF -> {
+        if (copies != null) {
+          copies.put(source, PENDING);
+        }
+        Object copy = copyUnmodifiable(plan.kind, source, expected, context);
+        register(copy, source, context);
+        return copy;
+      }
+      default -> throw new IllegalArgumentException(plan.unsupported);
+    }
+  }
+
+  private static Object copyUnmodifiable(Kind kind, Object source, Expected expected, Context context) {
+    Expected element = expected != null ? expected.element : null;
+    if (kind == Kind.MAP_OF) {
+      Expected key = expected != null ? expected.key : null;
+      Map<Object, Object> copy = HashMap.newHashMap(((Map<?, ?>) source).size());
+      for (Map.Entry<?, ?> e : ((Map<?, ?>) source).entrySet()) {
+        copy.put(copyValue(e.getKey(), key, context), copyValue(e.getValue(), element, context));
+      }
+      return Map.copyOf(copy);
+    }
+    Object[] elements = ((Collection<?>) source).toArray();
+    for (int i = 0; i < elements.length; i++) {
+      elements[i] = copyValue(elements[i], element, context);
+    }
+    // Stream.toList() because List.of() rejects the nulls that Stream.toList() results may hold.
+    return kind == Kind.LIST_OF ? Stream.of(elements).toList() : Set.of(elements);
+  }
+
+  private static Map<Class<?>, Kind> collectionKinds() {
+    Map<Class<?>, Kind> kinds = new HashMap<>();
+    for (Class<?> type : List.of(ArrayList.class, LinkedList.class, ArrayDeque.class, HashSet.class,
+        LinkedHashSet.class, TreeSet.class)) {
+      kinds.put(type, Kind.COLLECTION);
+    }
+    for (Class<?> type : List.of(HashMap.class, LinkedHashMap.class, TreeMap.class, ConcurrentHashMap.class)) {
+      kinds.put(type, Kind.MAP);
+    }
+    // The unmodifiable List.of/Set.of/Map.of classes: one for small sizes, one for the rest.
+    for (Object unmodifiable : List.of(List.of(), List.of(1), List.of(1, 2, 3))) {
+      kinds.put(unmodifiable.getClass(), Kind.LIST_OF);
+    }
+    for (Object unmodifiable : List.of(Set.of(), Set.of(1), Set.of(1, 2, 3))) {
+      kinds.put(unmodifiable.getClass(), Kind.SET_OF);
+    }
+    for (Object unmodifiable : List.of(Map.of(), Map.of(1, 1), Map.of(1, 1, 2, 2))) {
+      kinds.put(unmodifiable.getClass(), Kind.MAP_OF);
+    }
+    kinds.put(Arrays.asList().getClass(), Kind.ARRAYS_AS_LIST);
+    kinds.put(Optional.class, Kind.OPTIONAL);
+    return Map.copyOf(kinds);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Object emptyCopy(Object source) {
+    return switch (source) {
+      case ArrayList<?> list -> new ArrayList<>(list.size());
+      case LinkedList<?> list -> new LinkedList<>();
+      case ArrayDeque<?> deque -> new ArrayDeque<>(deque.size());
+      case LinkedHashSet<?> set -> LinkedHashSet.newLinkedHashSet(set.size());
+      case HashSet<?> set -> HashSet.newHashSet(set.size());
+      case TreeSet<?> set -> new TreeSet<>((Comparator) set.comparator());
+      case LinkedHashMap<?, ?> map -> LinkedHashMap.newLinkedHashMap(map.size());
+      case HashMap<?, ?> map -> HashMap.newHashMap(map.size());
+      case TreeMap<?, ?> map -> new TreeMap<>((Comparator) map.comparator());
+      case ConcurrentHashMap<?, ?> map -> new ConcurrentHashMap<>(map.size());
+      default -> throw new IllegalStateException(source.getClass().getName());
+    };
+  }
+
+  private static Object cloneArray(Object array) {
+    return switch (array) {
+      case Object[] a -> a.clone();
+      case int[] a -> a.clone();
+      case long[] a -> a.clone();
+      case double[] a -> a.clone();
+      case byte[] a -> a.clone();
+      case char[] a -> a.clone();
+      case boolean[] a -> a.clone();
+      case float[] a -> a.clone();
+      case short[] a -> a.clone();
+      default -> throw new IllegalStateException(array.getClass().getName());
+    };
+  }
+
+  // Plans
+
+  private static Plan plan(Class<?> type) {
+    // A plain Object (a lock, a marker) has no state; isImmutable() stays false for it so Object fields get checked.
+    if (type == Object.class || isImmutable(type)) {
+      return new Plan(type, Kind.IMMUTABLE, null, null);
+    }
+    if (type.isArray()) {
+      Class<?> component = type.getComponentType();
+      boolean bulk = component.isPrimitive() || isImmutable(component);
+      return new Plan(type, bulk ? Kind.ARRAY_BULK : Kind.ARRAY, null, null);
+    }
+    Kind collection = COLLECTIONS.get(type);
+    if (collection != null) {
+      return new Plan(type, collection, null, null);
+    }
+    if (Date.class.isAssignableFrom(type) && type.getName().startsWith("java.")) {
+      return new Plan(type, Kind.DATE, null, null);
+    }
+    String unsupported = unsupported(type);
+    if (unsupported != null) {
+      return new Plan(type, Kind.UNSUPPORTED, null, unsupported);
+    }
+    try {
+      if (type.isRecord()) {
+        return new Plan(type, Kind.RECORD, recordCopier(type), null);
+      }
+      return new Plan(type, Kind.CLASS, classCopier(type).asType(VALUE_COPY), null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Can't generate a copier for " + type.getName(), e);
+    }
+  }
+
+  private static Copier generate(MethodHandle copier) {
+    return (Copier) Accessors.hidden(COPIER_TEMPLATE, copier);
+  }
+
+  /** Why {@code type} can't be copied, or null if it can. */
+  private static String unsupported(Class<?> type) {
+    if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      return "Can't copy an instance of abstract " + type.getName();
+    }
+    for (Class<?> c = type; c != Object.class && c != Record.class; c = c.getSuperclass()) {
+      if (!c.getModule().isOpen(c.getPackageName(), DeepCopier.class.getModule())) {
+        return "Can't deep-copy " + type.getName() + ": the fields of " + c.getName()
+            + " are not accessible; only the JDK's common collections, Optional, Date and immutable types"
+            + " are supported";
+      }
+    }
+    return null;
+  }
+
+  /** (Object source, Context)Object: allocate, register, then one step per field. */
+  private static MethodHandle classCopier(Class<?> type) throws ReflectiveOperationException {
+    List<Field> fields = instanceFields(type);
+    MethodHandle fill = MethodHandles.empty(STEP);
+    for (int i = fields.size() - 1; i >= 0; i--) {
+      fill = MethodHandles.foldArguments(fill, fieldStep(type, fields.get(i)));
+    }
+    MethodHandle body = MethodHandles.foldArguments(MethodHandles.foldArguments(RETURN_COPY, fill), REGISTER);
+    return MethodHandles.foldArguments(body, MethodHandles.insertArguments(ALLOCATE, 0, type));
+  }
+
+  /** (Object copy, Object source, Context)void for one field of {@code type}. */
+  private static MethodHandle fieldStep(Class<?> type, Field field) throws IllegalAccessException {
+    field.setAccessible(true);
+    MethodHandle getter = LOOKUP.unreflectGetter(field);
+    MethodHandle setter = LOOKUP.unreflectSetter(field);
+    MethodHandle step;
+    if (field.getType().isPrimitive() || isImmutable(field.getType())) {
+      // copy.f = source.f, unboxed for primitives
+      step = MethodHandles.filterArguments(setter, 1, getter);
+      step = step.asType(step.type().changeParameterType(0, Object.class).changeParameterType(1, Object.class));
+      return MethodHandles.dropArguments(step, 2, Context.class);
+    }
+    if (field.getType() != Object.class && field.getType().isAssignableFrom(type)) {
+      // defer(copy, source.f, context, setter, expected): a chain through this field is copied from the worklist
+      step = MethodHandles.insertArguments(DEFER, 3,
+          setter.asType(MethodType.methodType(void.class, Object.class, Object.class)),
+          Expected.of(field.getGenericType()));
+      return MethodHandles.filterArguments(step, 1, getter.asType(MethodType.methodType(Object.class, Object.class)));
+    }
+    // copy.f = copyValue(source.f, expected, context)
+    MethodHandle value = valueCopy(getter, field.getGenericType());
+    return MethodHandles.collectArguments(setter.asType(MethodType.methodType(void.class, Object.class, Object.class)),
+        1, value);
+  }
+
+  /** (Object source, Context)R: a record rebuilt through its canonical constructor. */
+  private static MethodHandle recordCopier(Class<?> type) throws ReflectiveOperationException {
+    RecordComponent[] components = type.getRecordComponents();
+    Class<?>[] parameterTypes = new Class<?>[components.length];
+    for (int i = 0; i < components.length; i++) {
+      parameterTypes[i] = components[i].getType();
+    }
+    Constructor<?> canonical = type.getDeclaredConstructor(parameterTypes);
+    canonical.setAccessible(true);
+    MethodHandle copier = LOOKUP.unreflectConstructor(canonical);
+    // Replace each argument, last first, with (source, context) -> component copy.
+    for (int i = components.length - 1; i >= 0; i--) {
+      Field field = type.getDeclaredField(components[i].getName());
+      field.setAccessible(true);
+      MethodHandle getter = LOOKUP.unreflectGetter(field);
+      MethodHandle value = parameterTypes[i].isPrimitive() || isImmutable(parameterTypes[i])
+          ? MethodHandles.dropArguments(getter.asType(getter.type().changeParameterType(0, Object.class)),
+              1, Context.class)
+          : valueCopy(getter, components[i].getGenericType()).asType(
+              MethodType.methodType(parameterTypes[i], Object.class, Context.class));
+      copier = MethodHandles.collectArguments(copier, i, value);
+    }
+    int[] reorder = new int[2 * components.length];
+    for (int i = 0; i < reorder.length; i++) {
+      reorder[i] = i % 2;
+    }
+    return MethodHandles.permuteArguments(copier.asType(copier.type().changeReturnType(Object.class)),
+        VALUE_COPY, reorder);
+  }
+
+  /**
+   * (Object source, Context)Object: copyValue of the getter's value. When
+   * the declared type is a class or record that can't lead back here, its
+   * own copier handle is called directly in tree mode for values of exactly
+   * that class, so the JIT inlines the nested copy instead of dispatching.
+   */
+  private static MethodHandle valueCopy(MethodHandle getter, Type declared) {
+    Expected expected = Expected.of(declared);
+    MethodHandle copy = MethodHandles.insertArguments(COPY_VALUE, 1, expected);
+    if (expected != null && !expected.type.isArray() && !isImmutable(expected.type)
+        && !COLLECTIONS.containsKey(expected.type) && unsupported(expected.type) == null
+        && isAcyclic(expected.type)) {
+      MethodHandle direct = PLANS.get(expected.type).handle;
+      if (direct != null) {
+        MethodHandle exact = MethodHandles.insertArguments(IS_TREE_EXACT, 2, expected.type);
+        copy = MethodHandles.guardWithTest(exact, direct, copy);
+      }
+    }
+    return MethodHandles.filterArguments(copy, 0, getter.asType(MethodType.methodType(Object.class, Object.class)));
+  }
+
+  private static List<Field> instanceFields(Class<?> type) {
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers())) {
+          fields.add(field);
+        }
+      }
+    }
+    return fields;
+  }
+
+  static boolean isImmutable(Class<?> type) {
+    return isImmutable(type, new HashSet<>());
+  }
+
+  private static boolean isImmutable(Class<?> type, Set<Class<?>> visiting) {
+    if (type.isPrimitive() || IMMUTABLE.contains(type) || type.isEnum() || type.isHidden()
+        || type.getSuperclass() != null && type.getSuperclass().isEnum()
+        || type.getPackageName().startsWith("java.time")) {
+      return true;
+    }
+    if (!type.isRecord()) {
+      return false;
+    }
+    if (!visiting.add(type)) {
+      return true;
+    }
+    for (RecordComponent component : type.getRecordComponents()) {
+      if (!isImmutable(component.getType(), visiting)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Cycle analysis over the declared types
+
+  private static boolean isAcyclic(Class<?> root) {
+    return isAcyclic(root, new HashSet<>(), new HashSet<>());
+  }
+
+  private static boolean isAcyclic(Class<?> type, Set<Class<?>> onPath, Set<Class<?>> done) {
+    if (done.contains(type) || type.isPrimitive() || isImmutable(type)) {
+      return true;
+    }
+    if (!onPath.add(type)) {
+      return false;
+    }
+    for (Class<?> next : referencedTypes(type)) {
+      if (!isAcyclic(next, onPath, done)) {
+        return false;
+      }
+    }
+    onPath.remove(type);
+    done.add(type);
+    return true;
+  }
+
+  /** The classes {@code type}'s fields (or elements) are declared as, type arguments included. */
+  private static List<Class<?>> referencedTypes(Class<?> type) {
+    List<Class<?>> types = new ArrayList<>();
+    if (type.isArray()) {
+      types.add(type.getComponentType());
+    } else if (unsupported(type) == null) {
+      for (Field field : instanceFields(type)) {
+        addClasses(field.getGenericType(), types);
+      }
+    }
+    return types;
+  }
+
+  private static void addClasses(Type type, List<Class<?>> into) {
+    if (type instanceof Class<?> c) {
+      into.add(c);
+    } else if (type instanceof ParameterizedType p) {
+      addClasses(p.getRawType(), into);
+      for (Type argument : p.getActualTypeArguments()) {
+        addClasses(argument, into);
+      }
+    } else if (type instanceof WildcardType w) {
+      for (Type bound : w.getUpperBounds()) {
+        addClasses(bound, into);
+      }
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.paul.fullstackinterviewprep.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.Function;
+
+/**
+ * Template for Accessors' field getters: never used as is. Each getter is
+ * a hidden copy of this class whose class data is the field's
+ * (Object)Object getter handle, so HANDLE is a true constant and the JIT
+ * compiles apply() to a plain field load.
+ */
+final class FieldGetter implements Function<Object, Object> {
+
+  private static final MethodHandle HANDLE = Accessors.classData(MethodHandles.lookup());
+
+  @Override
+  public Object apply(Object target) {
+    try {
+      return HANDLE.invokeExact(target);
+    } catch (Throwable t) {
+      throw Accessors.unchecked(t);
+    }
+  }
+}
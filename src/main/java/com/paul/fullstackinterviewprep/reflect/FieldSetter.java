@@ -0,0 +1,20 @@
+package com.paul.fullstackinterviewprep.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.BiConsumer;
+
+/** Template for Accessors' field setters; see FieldGetter. */
+final class FieldSetter implements BiConsumer<Object, Object> {
+
+  private static final MethodHandle HANDLE = Accessors.classData(MethodHandles.lookup());
+
+  @Override
+  public void accept(Object target, Object value) {
+    try {
+      HANDLE.invokeExact(target, value);
+    } catch (Throwable t) {
+      throw Accessors.unchecked(t);
+    }
+  }
+}
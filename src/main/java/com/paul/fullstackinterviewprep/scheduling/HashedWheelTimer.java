@@ -0,0 +1,244 @@
+package com.paul.fullstackinterviewprep.scheduling;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel: O(1) schedule, O(1) cancel, one thread for any number of timers.
+ *
+ * ScheduledThreadPoolExecutor keeps every timer in a binary heap, so each
+ * schedule/cancel is O(log n) under a single lock, and a cancelled task sits
+ * in the heap until it expires unless removeOnCancel is set. With hundreds of
+ * thousands of timers that lock becomes the bottleneck.
+ *
+ * A timing wheel trades precision for cost. Time is cut into ticks (say
+ * 10ms) and the wheel is an array of buckets, one per tick, used round-robin:
+ *
+ *   bucket index = (deadline in ticks) % wheelSize
+ *   rounds       = how many full turns of the wheel before it is due
+ *
+ * Every tick the worker thread visits ONE bucket: entries with rounds == 0
+ * fire, the rest have their rounds decremented. Scheduling never touches
+ * the wheel directly - new timers go into a lock-free queue and the worker
+ * moves them into buckets at the start of each tick, so callers never
+ * contend with each other or with expiry.
+ *
+ * Timers fire up to one tick late (never early), which is exactly the
+ * trade-off periodic maintenance jobs want. Expired tasks are handed to the
+ * supplied Executor so a slow task cannot stall the wheel.
+ */
+public final class HashedWheelTimer implements AutoCloseable {
+
+  /** Handle to one scheduled task. */
+  public interface Timeout {
+    /** Returns true if this call cancelled the task (it had not fired or been cancelled yet). */
+    boolean cancel();
+
+    boolean isCancelled();
+
+    boolean isExpired();
+  }
+
+  private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final Executor executor;
+  private final Queue<Entry> incoming = new ConcurrentLinkedQueue<>();
+  private final AtomicLong pending = new AtomicLong();
+  private final Thread worker;
+  private final long startNanos;
+  private volatile boolean stopped;
+  private long tick;
+
+  /**
+   * @param tick resolution of the wheel; timers fire up to one tick late
+   * @param wheelSize number of buckets, rounded up to a power of two
+   * @param executor runs expired tasks
+   */
+  public HashedWheelTimer(Duration tick, int wheelSize, Executor executor) {
+    if (tick.toNanos() <= 0 || wheelSize <= 0) {
+      throw new IllegalArgumentException("tick and wheelSize must be positive");
+    }
+    int size = 1;
+    while (size < wheelSize) {
+      size <<= 1;
+    }
+    this.tickNanos = tick.toNanos();
+    this.wheel = new Bucket[size];
+    for (int i = 0; i < size; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = size - 1;
+    this.executor = executor;
+    this.startNanos = System.nanoTime();
+    this.worker = new Thread(this::run, "hashed-wheel-timer");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /** Runs {@code task} on the executor once {@code delay} has elapsed. */
+  public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+    if (stopped) {
+      throw new IllegalStateException("Timer is stopped");
+    }
+    long deadline = System.nanoTime() - startNanos + Math.max(0, unit.toNanos(delay));
+    Entry entry = new Entry(task, deadline);
+    pending.incrementAndGet();
+    incoming.add(entry);
+    return entry;
+  }
+
+  /** Timers scheduled but neither fired nor cancelled. */
+  public long pending() {
+    return pending.get();
+  }
+
+  /** Stops the worker thread. Timers that have not fired yet are dropped. */
+  @Override
+  public void close() {
+    stopped = true;
+    worker.interrupt();
+    try {
+      worker.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    while (!stopped) {
+      long tickDeadline = (tick + 1) * tickNanos;
+      long sleep;
+      while ((sleep = tickDeadline - (System.nanoTime() - startNanos)) > 0) {
+        LockSupport.parkNanos(this, sleep);
+        if (stopped) {
+          return;
+        }
+      }
+      transferIncoming();
+      wheel[(int) (tick & mask)].expire();
+      tick++;
+    }
+  }
+
+  private void transferIncoming() {
+    for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+      Entry entry = incoming.poll();
+      if (entry == null) {
+        return;
+      }
+      if (entry.state.get() == Entry.CANCELLED) {
+        continue;
+      }
+      long dueTick = entry.deadlineNanos / tickNanos;
+      entry.remainingRounds = (dueTick - tick) / wheel.length;
+      // Already overdue timers go into the current bucket so they fire on this tick.
+      long targetTick = Math.max(dueTick, tick);
+      wheel[(int) (targetTick & mask)].add(entry);
+    }
+  }
+
+  /** Intrusive doubly-linked list; only ever touched by the worker thread. */
+  private final class Bucket {
+    private Entry head;
+    private Entry tail;
+
+    void add(Entry entry) {
+      if (head == null) {
+        head = tail = entry;
+      } else {
+        tail.next = entry;
+        entry.prev = tail;
+        tail = entry;
+      }
+    }
+
+    void expire() {
+      Entry entry = head;
+      while (entry != null) {
+        Entry next = entry.next;
+        if (entry.state.get() == Entry.CANCELLED) {
+          remove(entry);
+        } else if (entry.remainingRounds <= 0) {
+          remove(entry);
+          entry.expire();
+        } else {
+          entry.remainingRounds--;
+        }
+        entry = next;
+      }
+    }
+
+    private void remove(Entry entry) {
+      if (entry.prev != null) {
+        entry.prev.next = entry.next;
+      } else {
+        head = entry.next;
+      }
+      if (entry.next != null) {
+        entry.next.prev = entry.prev;
+      } else {
+        tail = entry.prev;
+      }
+      entry.prev = entry.next = null;
+    }
+  }
+
+  private final class Entry implements Timeout {
+    static final int WAITING = 0;
+    static final int CANCELLED = 1;
+    static final int EXPIRED = 2;
+
+    final Runnable task;
+    final long deadlineNanos;
+    final AtomicInteger state = new AtomicInteger(WAITING);
+    long remainingRounds;
+    Entry prev;
+    Entry next;
+
+    Entry(Runnable task, long deadlineNanos) {
+      this.task = task;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    void expire() {
+      if (state.compareAndSet(WAITING, EXPIRED)) {
+        pending.decrementAndGet();
+        try {
+          executor.execute(task);
+        } catch (RejectedExecutionException e) {
+          // Executor already shut down - nothing left to run the task on.
+        }
+      }
+    }
+
+    @Override
+    public boolean cancel() {
+      // The entry is unlinked lazily the next time the worker visits its bucket.
+      if (state.compareAndSet(WAITING, CANCELLED)) {
+        pending.decrementAndGet();
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+
+    @Override
+    public boolean isExpired() {
+      return state.get() == EXPIRED;
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package com.paul.fullstackinterviewprep.scheduling;
+
+import com.paul.fullstackinterviewprep.metrics.LatencyHistogram;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deadline-aware runner for periodic maintenance jobs (cache refresh,
+ * aggregate refresh, pool housekeeping, audit flushing...).
+ *
+ * Scheduling is fixed-rate on a HashedWheelTimer: slot N of a job is
+ * {@code firstSlot + N * interval}, independent of how long earlier runs
+ * took, plus a fresh random jitter per run. The timer only decides WHEN;
+ * job bodies run on a separate executor (virtual threads by default), so a
+ * job that blocks on JDBC never delays the wheel or other jobs.
+ *
+ * When a slot fires the runner checks, in order:
+ * 1. Is the previous run still executing? If overlap is not allowed the slot
+ *    is skipped and counted - a slow audit flush never runs twice at once.
+ * 2. Is the slot more than one interval behind? Then it applies the job's
+ *    MissedRunPolicy (FIRE_ONCE / CATCH_UP / SKIP) and realigns to the next
+ *    slot in the future instead of firing a burst of stale runs.
+ *
+ * Per job it records start lag (actual start - intended start) and run
+ * latency in histograms, see JobStats.
+ */
+public final class JobRunner implements AutoCloseable {
+
+  private final HashedWheelTimer timer;
+  private final ExecutorService executor;
+  private final Map<String, ScheduledJob> jobs = new ConcurrentHashMap<>();
+
+  /** A runner with a 10ms-tick, 512-bucket wheel and a virtual-thread-per-run executor. */
+  public JobRunner() {
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    this.timer = new HashedWheelTimer(Duration.ofMillis(10), 512, executor);
+  }
+
+  /** Handle for a registered job. */
+  public interface JobHandle {
+    void cancel();
+
+    JobStats stats();
+  }
+
+  /** Registers {@code body}; its first slot is one interval from now. */
+  public JobHandle schedule(JobSpec spec, Runnable body) {
+    ScheduledJob job = new ScheduledJob(spec, body);
+    if (jobs.putIfAbsent(spec.name(), job) != null) {
+      throw new IllegalArgumentException("Job already scheduled: " + spec.name());
+    }
+    job.arm();
+    return job;
+  }
+
+  public List<JobStats> stats() {
+    List<JobStats> all = new ArrayList<>();
+    jobs.values().forEach(job -> all.add(job.stats()));
+    all.sort((a, b) -> a.name().compareTo(b.name()));
+    return all;
+  }
+
+  /** Cancels all jobs, stops the timer and waits briefly for running jobs to finish. */
+  @Override
+  public void close() {
+    jobs.values().forEach(ScheduledJob::cancel);
+    timer.close();
+    executor.shutdown();
+    try {
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private final class ScheduledJob implements JobHandle {
+    final JobSpec spec;
+    final Runnable body;
+    final long intervalNanos;
+    final AtomicBoolean running = new AtomicBoolean();
+    final LatencyHistogram lag = new LatencyHistogram();
+    final LatencyHistogram latency = new LatencyHistogram();
+    final AtomicLong runs = new AtomicLong();
+    final AtomicLong failures = new AtomicLong();
+    final AtomicLong overlapsSkipped = new AtomicLong();
+    final AtomicLong missedRuns = new AtomicLong();
+    volatile boolean cancelled;
+    volatile HashedWheelTimer.Timeout timeout;
+    // Only touched from fire(), and fire() for one job never runs concurrently with itself:
+    // the next timer is armed at the END of fire().
+    long slotNanos;
+    long jitterNanos;
+
+    ScheduledJob(JobSpec spec, Runnable body) {
+      this.spec = spec;
+      this.body = body;
+      this.intervalNanos = spec.interval().toNanos();
+      this.slotNanos = System.nanoTime() + intervalNanos;
+    }
+
+    void arm() {
+      if (cancelled) {
+        return;
+      }
+      long jitterBound = spec.jitter().toNanos();
+      jitterNanos = jitterBound == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterBound);
+      long delay = slotNanos + jitterNanos - System.nanoTime();
+      timeout = timer.schedule(this::fire, delay, TimeUnit.NANOSECONDS);
+    }
+
+    void fire() {
+      if (cancelled) {
+        return;
+      }
+      long now = System.nanoTime();
+      long intendedStart = slotNanos + jitterNanos;
+      long behind = (now - slotNanos) / intervalNanos; // whole intervals this slot is late by
+
+      int executions = 1;
+      if (behind >= 1) {
+        missedRuns.addAndGet(behind);
+        executions = switch (spec.missedRunPolicy()) {
+          case FIRE_ONCE -> 1;
+          case CATCH_UP -> (int) Math.min(behind + 1, Integer.MAX_VALUE);
+          case SKIP -> 0;
+        };
+      }
+      slotNanos += (behind + 1) * intervalNanos; // next slot is always in the future
+
+      if (executions > 0) {
+        if (!spec.allowOverlap() && !running.compareAndSet(false, true)) {
+          overlapsSkipped.incrementAndGet();
+        } else {
+          int times = executions;
+          executor.execute(() -> execute(intendedStart, times));
+        }
+      }
+      arm();
+    }
+
+    void execute(long intendedStart, int times) {
+      try {
+        lag.record(System.nanoTime() - intendedStart);
+        for (int i = 0; i < times && !cancelled; i++) {
+          long start = System.nanoTime();
+          try {
+            body.run();
+          } catch (RuntimeException e) {
+            failures.incrementAndGet();
+          } finally {
+            runs.incrementAndGet();
+            latency.record(System.nanoTime() - start);
+          }
+        }
+      } finally {
+        if (!spec.allowOverlap()) {
+          running.set(false);
+        }
+      }
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      HashedWheelTimer.Timeout current = timeout;
+      if (current != null) {
+        current.cancel();
+      }
+      jobs.remove(spec.name(), this);
+    }
+
+    @Override
+    public JobStats stats() {
+      return new JobStats(spec.name(), runs.get(), failures.get(), overlapsSkipped.get(), missedRuns.get(),
+          lag.percentile(50) / 1_000, lag.percentile(99) / 1_000,
+          latency.percentile(50) / 1_000, latency.percentile(99) / 1_000);
+    }
+  }
+}
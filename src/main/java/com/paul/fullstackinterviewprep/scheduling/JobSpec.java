@@ -0,0 +1,44 @@
+package com.paul.fullstackinterviewprep.scheduling;
+
+import java.time.Duration;
+
+/**
+ * How a periodic maintenance job is scheduled.
+ *
+ * @param name unique job name, used in metrics
+ * @param interval fixed rate between scheduled starts
+ * @param jitter each run starts a random [0, jitter) after its slot, so jobs
+ *     registered at the same moment do not all hit the database together
+ * @param missedRunPolicy what to do when the runner wakes up more than one interval late
+ * @param allowOverlap if false, a slot that arrives while the previous run is
+ *     still executing is skipped instead of starting a second concurrent run
+ */
+public record JobSpec(String name, Duration interval, Duration jitter, MissedRunPolicy missedRunPolicy,
+    boolean allowOverlap) {
+
+  public JobSpec {
+    if (interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("interval must be positive");
+    }
+    if (jitter.isNegative() || jitter.compareTo(interval) >= 0) {
+      throw new IllegalArgumentException("jitter must be in [0, interval)");
+    }
+  }
+
+  /** A job with no jitter, FIRE_ONCE on missed runs, and overlap prevention. */
+  public static JobSpec every(String name, Duration interval) {
+    return new JobSpec(name, interval, Duration.ZERO, MissedRunPolicy.FIRE_ONCE, false);
+  }
+
+  public JobSpec withJitter(Duration jitter) {
+    return new JobSpec(name, interval, jitter, missedRunPolicy, allowOverlap);
+  }
+
+  public JobSpec withMissedRunPolicy(MissedRunPolicy policy) {
+    return new JobSpec(name, interval, jitter, policy, allowOverlap);
+  }
+
+  public JobSpec withOverlapAllowed(boolean allowed) {
+    return new JobSpec(name, interval, jitter, missedRunPolicy, allowed);
+  }
+}
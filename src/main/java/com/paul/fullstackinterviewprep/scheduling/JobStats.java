@@ -0,0 +1,14 @@
+package com.paul.fullstackinterviewprep.scheduling;
+
+/**
+ * Point-in-time metrics for one job. Times are in microseconds.
+ *
+ * @param lagP99Micros how late runs START compared to their slot (+ jitter) - the
+ *     scheduler's own health; grows when the executor is saturated
+ * @param latencyP99Micros how long runs TAKE - the job's own health
+ * @param overlapsSkipped slots skipped because the previous run was still executing
+ * @param missedRuns slots that fell more than one interval behind (handled per MissedRunPolicy)
+ */
+public record JobStats(String name, long runs, long failures, long overlapsSkipped, long missedRuns,
+    long lagP50Micros, long lagP99Micros, long latencyP50Micros, long latencyP99Micros) {
+}
@@ -0,0 +1,59 @@
+package com.paul.fullstackinterviewprep.scheduling;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The app's periodic maintenance jobs on a JobRunner, with simulated bodies.
+ *
+ * - cache-refresh: frequent, jittered, SKIP on missed runs (a stale refresh is pointless)
+ * - aggregate-refresh: CATCH_UP on missed runs (every interval's rollup must exist)
+ * - pool-housekeeping: plain fixed rate
+ * - audit-flush: sometimes takes longer than its interval, so overlapping slots are skipped
+ */
+public class MaintenanceJobsDemo {
+
+  public static void main(String[] args) throws InterruptedException {
+    System.out.println("=== Periodic Maintenance Jobs on a Hashed Wheel Timer ===\n");
+
+    AtomicInteger flushes = new AtomicInteger();
+    try (JobRunner runner = new JobRunner()) {
+      runner.schedule(
+          JobSpec.every("cache-refresh", Duration.ofMillis(200))
+              .withJitter(Duration.ofMillis(50))
+              .withMissedRunPolicy(MissedRunPolicy.SKIP),
+          () -> work(5, 15));
+
+      runner.schedule(
+          JobSpec.every("aggregate-refresh", Duration.ofMillis(500))
+              .withMissedRunPolicy(MissedRunPolicy.CATCH_UP),
+          () -> work(20, 60));
+
+      runner.schedule(
+          JobSpec.every("pool-housekeeping", Duration.ofMillis(300)),
+          () -> work(1, 3));
+
+      runner.schedule(
+          JobSpec.every("audit-flush", Duration.ofMillis(100)),
+          () -> work(flushes.incrementAndGet() % 4 == 0 ? 250 : 10, 20)); // every 4th flush overruns
+
+      System.out.println("Running for 3 seconds...\n");
+      Thread.sleep(3_000);
+
+      runner.stats().forEach(s -> System.out.printf(
+          "%-18s runs=%-3d failures=%d overlapsSkipped=%-2d missed=%d  lag p50/p99=%d/%dus  latency p50/p99=%d/%dus%n",
+          s.name(), s.runs(), s.failures(), s.overlapsSkipped(), s.missedRuns(),
+          s.lagP50Micros(), s.lagP99Micros(), s.latencyP50Micros(), s.latencyP99Micros()));
+    }
+  }
+
+  /** Simulated job body: blocks for a random time in [minMs, maxMs]. */
+  static void work(int minMs, int maxMs) {
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextInt(minMs, Math.max(minMs, maxMs) + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
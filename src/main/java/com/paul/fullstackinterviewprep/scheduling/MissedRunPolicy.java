@@ -0,0 +1,17 @@
+package com.paul.fullstackinterviewprep.scheduling;
+
+/**
+ * What a periodic job does when it wakes up more than one interval late
+ * (long GC pause, suspended laptop, a previous run that overran...).
+ */
+public enum MissedRunPolicy {
+
+  /** Run once now, then continue on the regular cadence. Missed slots are coalesced. */
+  FIRE_ONCE,
+
+  /** Run once for every missed slot, back-to-back, then continue (e.g. per-interval rollups). */
+  CATCH_UP,
+
+  /** Do not run late at all; wait for the next regular slot (e.g. cache refresh). */
+  SKIP
+}
@@ -0,0 +1,115 @@
+package com.paul.fullstackinterviewprep.scheduling;
+
+import com.paul.fullstackinterviewprep.metrics.LatencyHistogram;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hundreds of thousands of timers: ScheduledThreadPoolExecutor vs HashedWheelTimer.
+ *
+ * Schedules TIMERS timers with delays spread over 1-3 seconds from several
+ * threads at once, cancels half of them (the common case for timeouts that
+ * usually do not fire), then waits for the rest. Reports schedule and
+ * cancel throughput, heap growth, and how late timers actually fired.
+ *
+ * Expect STPE to fire more precisely (sub-ms) and the wheel to be up to one
+ * tick late - the wheel wins on schedule/cancel cost, contention and memory.
+ */
+public class TimerBenchmark {
+
+  static final int TIMERS = 500_000;
+  static final int THREADS = 4;
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("=== " + TIMERS + " timers, " + THREADS + " scheduling threads ===\n");
+
+    System.out.println("--- ScheduledThreadPoolExecutor (removeOnCancel=true) ---");
+    ScheduledThreadPoolExecutor stpe = new ScheduledThreadPoolExecutor(1);
+    stpe.setRemoveOnCancelPolicy(true);
+    run(new Scheduler() {
+      public Object schedule(Runnable task, long delayNanos) {
+        return stpe.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+      }
+
+      public void cancel(Object handle) {
+        ((ScheduledFuture<?>) handle).cancel(false);
+      }
+    });
+    stpe.shutdownNow();
+
+    System.out.println("\n--- HashedWheelTimer (10ms tick, 512 buckets) ---");
+    try (HashedWheelTimer wheel = new HashedWheelTimer(Duration.ofMillis(10), 512, Runnable::run)) {
+      run(new Scheduler() {
+        public Object schedule(Runnable task, long delayNanos) {
+          return wheel.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void cancel(Object handle) {
+          ((HashedWheelTimer.Timeout) handle).cancel();
+        }
+      });
+    }
+  }
+
+  interface Scheduler {
+    Object schedule(Runnable task, long delayNanos);
+
+    void cancel(Object handle);
+  }
+
+  static void run(Scheduler scheduler) throws Exception {
+    System.gc();
+    long heapBefore = usedHeap();
+    LatencyHistogram fireLag = new LatencyHistogram();
+    LongAdder fired = new LongAdder();
+    List<List<Object>> handles = new ArrayList<>();
+
+    long start = System.nanoTime();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      List<Object> mine = new ArrayList<>(TIMERS / THREADS);
+      handles.add(mine);
+      threads.add(Thread.ofPlatform().start(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < TIMERS / THREADS; i++) {
+          long delay = TimeUnit.MILLISECONDS.toNanos(1_000 + random.nextInt(2_000));
+          long due = System.nanoTime() + delay;
+          mine.add(scheduler.schedule(() -> {
+            fireLag.record(System.nanoTime() - due);
+            fired.increment();
+          }, delay));
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    long scheduleNanos = System.nanoTime() - start;
+    long heapAfter = usedHeap();
+
+    start = System.nanoTime();
+    for (List<Object> mine : handles) {
+      for (int i = 0; i < mine.size(); i += 2) {
+        scheduler.cancel(mine.get(i));
+      }
+    }
+    long cancelNanos = System.nanoTime() - start;
+
+    Thread.sleep(3_500);
+    System.out.printf("schedule: %,d ops/s  cancel: %,d ops/s  heap: ~%d MB%n",
+        (long) (TIMERS / (scheduleNanos / 1e9)), (long) (TIMERS / 2 / (cancelNanos / 1e9)),
+        Math.max(0, heapAfter - heapBefore) / (1024 * 1024));
+    System.out.println("fired: " + fired.sum() + "  fire lag: " + fireLag.summary(TimeUnit.NANOSECONDS));
+  }
+
+  static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
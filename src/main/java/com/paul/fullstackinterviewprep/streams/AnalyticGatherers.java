@@ -0,0 +1,237 @@
+package com.paul.fullstackinterviewprep.streams;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Gatherer;
+
+/**
+ * Incremental gatherers for windowed analytics over ordered streams.
+ *
+ * The usual moving average, {@code gather(Gatherers.windowSliding(k))}
+ * followed by averaging each window, copies k elements into a new List for
+ * every element and sums them again: O(n·k) work and a List per element.
+ * The moving windows here keep the last k values in a double[] ring and a
+ * running sum, so each element costs one add and one subtract and nothing
+ * is allocated but the emitted Double.
+ *
+ * - movingSum / movingAverage: one result per element once the window is
+ *   full, the same values (and the same single short window for a stream
+ *   shorter than k) as averaging windowSliding(k)
+ * - exponentialMovingAverage: one result per element, O(1) state
+ * - timeBuckets: consecutive calendar days/weeks/months/years, each folded
+ *   with a Collector as its elements arrive; empty periods are emitted too,
+ *   so a moving window over the buckets spans calendar time
+ * - topK: the k largest elements, in a bounded heap - O(n log k), not a sort
+ * - distinctCount: a HyperLogLog estimate in 4 KB instead of a HashSet
+ * topK and distinctCount combine in parallel streams; the others depend on
+ * encounter order and are sequential, like windowSliding.
+ */
+public final class AnalyticGatherers {
+
+  private AnalyticGatherers() {
+  }
+
+  /** One period of {@link #timeBuckets}: its first day and what the downstream collector made of it. */
+  public record Bucket<R>(LocalDate start, R value) {
+  }
+
+  /** Sum of the last {@code size} values; see the class comment for the short-stream case. */
+  public static <T> Gatherer<T, ?, Double> movingSum(int size, ToDoubleFunction<? super T> value) {
+    return movingWindow(size, value, false);
+  }
+
+  /** Average of the last {@code size} values. */
+  public static <T> Gatherer<T, ?, Double> movingAverage(int size, ToDoubleFunction<? super T> value) {
+    return movingWindow(size, value, true);
+  }
+
+  private static <T> Gatherer<T, ?, Double> movingWindow(int size, ToDoubleFunction<? super T> value,
+      boolean average) {
+    if (size < 1) {
+      throw new IllegalArgumentException("size must be positive: " + size);
+    }
+    return Gatherer.ofSequential(
+        () -> new Window(size),
+        Gatherer.Integrator.ofGreedy((window, element, downstream) -> {
+          window.add(value.applyAsDouble(element));
+          return !window.full() || downstream.push(average ? window.sum / size : window.sum);
+        }),
+        (window, downstream) -> {
+          // Fewer than size elements in all: one short window, as windowSliding emits
+          if (window.count > 0 && !window.full()) {
+            downstream.push(average ? window.sum / window.count : window.sum);
+          }
+        });
+  }
+
+  /** The last {@code size} values and their sum. */
+  private static final class Window {
+    final double[] values;
+    long count;
+    int next;
+    double sum;
+
+    Window(int size) {
+      values = new double[size];
+    }
+
+    void add(double value) {
+      sum += value - values[next];
+      values[next] = value;
+      count++;
+      if (++next == values.length) {
+        next = 0;
+        // Re-add the ring once per lap so rounding from the add/subtract can't accumulate: O(1) amortized
+        double exact = 0;
+        for (double v : values) {
+          exact += v;
+        }
+        sum = exact;
+      }
+    }
+
+    boolean full() {
+      return count >= values.length;
+    }
+  }
+
+  /**
+   * {@code alpha * value + (1 - alpha) * previous}, starting from the first
+   * value; {@code alpha} in (0, 1], e.g. 2 / (n + 1) to weight like an
+   * n-period average.
+   */
+  public static <T> Gatherer<T, ?, Double> exponentialMovingAverage(double alpha,
+      ToDoubleFunction<? super T> value) {
+    if (!(alpha > 0 && alpha <= 1)) {
+      throw new IllegalArgumentException("alpha must be in (0, 1]: " + alpha);
+    }
+    return Gatherer.ofSequential(
+        () -> new double[] {Double.NaN},
+        Gatherer.Integrator.ofGreedy((ema, element, downstream) -> {
+          double v = value.applyAsDouble(element);
+          ema[0] = Double.isNaN(ema[0]) ? v : ema[0] + alpha * (v - ema[0]);
+          return downstream.push(ema[0]);
+        }));
+  }
+
+  /**
+   * Groups a stream ordered by {@code date} into calendar periods of
+   * {@code unit} (DAYS, WEEKS starting on Monday, MONTHS or YEARS) and folds
+   * each period's elements with {@code downstream} as they arrive, so only
+   * the current period is held. Every period from the first element's to
+   * the last element's is emitted, empty ones with the collector's empty
+   * result. An element dated before the current period is an error.
+   */
+  public static <T, A, R> Gatherer<T, ?, Bucket<R>> timeBuckets(Function<? super T, LocalDate> date,
+      ChronoUnit unit, Collector<? super T, A, R> downstream) {
+    Function<LocalDate, LocalDate> start = periodStart(unit);
+    Supplier<A> supplier = downstream.supplier();
+    BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+    Function<A, R> finisher = downstream.finisher();
+
+    class Period {
+      LocalDate start;
+      A container;
+
+      boolean emitUntil(LocalDate next, Gatherer.Downstream<? super Bucket<R>> out) {
+        while (start.isBefore(next)) {
+          if (!out.push(new Bucket<>(start, finisher.apply(container)))) {
+            return false;
+          }
+          start = start.plus(1, unit);
+          container = supplier.get();
+        }
+        return true;
+      }
+    }
+
+    return Gatherer.ofSequential(
+        Period::new,
+        (period, element, out) -> {
+          LocalDate periodStart = start.apply(date.apply(element));
+          if (period.start == null) {
+            period.start = periodStart;
+            period.container = supplier.get();
+          } else if (periodStart.isBefore(period.start)) {
+            throw new IllegalStateException("Not ordered by date: " + periodStart + " after " + period.start);
+          } else if (!period.emitUntil(periodStart, out)) {
+            return false;
+          }
+          accumulator.accept(period.container, element);
+          return true;
+        },
+        (period, out) -> {
+          if (period.start != null) {
+            out.push(new Bucket<>(period.start, finisher.apply(period.container)));
+          }
+        });
+  }
+
+  private static Function<LocalDate, LocalDate> periodStart(ChronoUnit unit) {
+    return switch (unit) {
+      case DAYS -> d -> d;
+      case WEEKS -> d -> d.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      case MONTHS -> d -> d.withDayOfMonth(1);
+      case YEARS -> d -> d.withDayOfYear(1);
+      default -> throw new IllegalArgumentException("Unsupported bucket unit: " + unit);
+    };
+  }
+
+  /** The {@code k} largest elements by {@code order}, largest first, emitted once at the end. */
+  public static <T> Gatherer<T, ?, List<T>> topK(int k, Comparator<? super T> order) {
+    if (k < 1) {
+      throw new IllegalArgumentException("k must be positive: " + k);
+    }
+    return Gatherer.of(
+        () -> new PriorityQueue<T>(k + 1, order),
+        Gatherer.Integrator.ofGreedy((heap, element, downstream) -> {
+          offer(heap, element, k, order);
+          return true;
+        }),
+        (left, right) -> {
+          for (T element : right) {
+            offer(left, element, k, order);
+          }
+          return left;
+        },
+        (heap, downstream) -> {
+          List<T> top = new ArrayList<>(heap);
+          top.sort(order.reversed());
+          downstream.push(top);
+        });
+  }
+
+  /** Keeps the heap at the k largest seen: its head is the smallest of them, the one to evict. */
+  private static <T> void offer(PriorityQueue<T> heap, T element, int k, Comparator<? super T> order) {
+    if (heap.size() < k) {
+      heap.add(element);
+    } else if (order.compare(element, heap.peek()) > 0) {
+      heap.poll();
+      heap.add(element);
+    }
+  }
+
+  /** Estimated number of distinct {@code key}s, emitted once at the end; see HyperLogLog. */
+  public static <T> Gatherer<T, ?, Long> distinctCount(ToLongFunction<? super T> key) {
+    return Gatherer.of(
+        HyperLogLog::new,
+        Gatherer.Integrator.ofGreedy((sketch, element, downstream) -> {
+          sketch.add(key.applyAsLong(element));
+          return true;
+        }),
+        HyperLogLog::merge,
+        (sketch, downstream) -> downstream.push(sketch.estimate()));
+  }
+}
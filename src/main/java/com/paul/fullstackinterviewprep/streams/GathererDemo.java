@@ -0,0 +1,57 @@
+package com.paul.fullstackinterviewprep.streams;
+
+import com.paul.fullstackinterviewprep.orders.DemoDatabase;
+import com.paul.fullstackinterviewprep.orders.RevenueAnalytics;
+import com.paul.fullstackinterviewprep.streams.AnalyticGatherers.Bucket;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Revenue analytics over the demo database's orders with AnalyticGatherers.
+ * Java24Features shows the list-window moving average they replace.
+ */
+public class GathererDemo {
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("=== Incremental Gatherers over Order Revenue ===\n");
+
+    RevenueAnalytics revenue = RevenueAnalytics.load(DemoDatabase.open("gatherers"));
+    System.out.println(revenue.lines().size() + " order lines from " + revenue.lines().getFirst().orderDate()
+        + " to " + revenue.lines().getLast().orderDate());
+
+    System.out.println("\n--- Monthly revenue, 3-month moving average, EMA ---");
+    List<Bucket<Double>> monthly = revenue.revenueBy(ChronoUnit.MONTHS);
+    List<Double> average = revenue.monthlyMovingAverage(3);
+    List<Double> trend = revenue.monthlyTrend(3);
+    List<Bucket<Long>> customers = revenue.customersByMonth();
+    System.out.println("  month         revenue   3-mo avg        EMA  customers");
+    for (int i = 0; i < monthly.size(); i++) {
+      // The moving average starts with the third month
+      String smoothed = i >= 2 ? String.format("%10.2f", average.get(i - 2)) : String.format("%10s", "-");
+      System.out.printf("  %s %10.2f %s %10.2f %10d%n", monthly.get(i).start(), monthly.get(i).value(),
+          smoothed, trend.get(i), customers.get(i).value());
+    }
+
+    System.out.println("\n--- Trailing 30-day revenue over calendar days ---");
+    List<Bucket<Double>> daily = revenue.revenueBy(ChronoUnit.DAYS);
+    List<Double> trailing = revenue.trailingRevenue(30);
+    int best = IntStream.range(0, trailing.size()).reduce((a, b) -> trailing.get(b) > trailing.get(a) ? b : a)
+        .orElseThrow();
+    System.out.println("  " + daily.size() + " days, " + daily.stream().filter(d -> d.value() > 0).count()
+        + " with orders");
+    // trailing.get(i) ends on day i + (daily.size() - trailing.size()); with fewer than 30 days there is one
+    // short window, covering them all
+    int window = Math.min(30, daily.size());
+    LocalDate end = daily.get(best + daily.size() - trailing.size()).start();
+    System.out.printf("  Best %d days end %s: %.2f%n", window, end, trailing.get(best));
+
+    System.out.println("\n--- Top 3 products by revenue ---");
+    for (Map.Entry<Integer, Double> product : revenue.topProducts(3)) {
+      System.out.printf("  product %d: %.2f%n", product.getKey(), product.getValue());
+    }
+    System.out.println("  Distinct customers (HyperLogLog): " + revenue.distinctCustomers());
+  }
+}
@@ -0,0 +1,61 @@
+package com.paul.fullstackinterviewprep.text;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded pool of same-sized byte[] buffers, shared by all request threads.
+ *
+ * acquire() hands out a pooled buffer, or a new one when the pool is empty
+ * (it never blocks); release() puts it back unless the pool is already
+ * full, in which case the buffer is left to the GC. So the pool caps what
+ * it retains, not how many buffers are in use at once. Under steady load
+ * every request reuses a buffer and rendering allocates no byte[] at all.
+ *
+ * Buffers are not cleared on release: whoever acquires one must only read
+ * what it wrote.
+ */
+public final class BufferPool {
+
+  /** Buffers currently pooled, and how many acquires were served from the pool vs newly allocated. */
+  public record Stats(int pooled, long reused, long created) {
+  }
+
+  private final ArrayBlockingQueue<byte[]> free;
+  private final int bufferBytes;
+  private final LongAdder reused = new LongAdder();
+  private final LongAdder created = new LongAdder();
+
+  public BufferPool(int maxPooled, int bufferBytes) {
+    if (maxPooled < 1 || bufferBytes < 64) {
+      throw new IllegalArgumentException("maxPooled must be positive and bufferBytes at least 64");
+    }
+    this.free = new ArrayBlockingQueue<>(maxPooled);
+    this.bufferBytes = bufferBytes;
+  }
+
+  public byte[] acquire() {
+    byte[] buffer = free.poll();
+    if (buffer != null) {
+      reused.increment();
+      return buffer;
+    }
+    created.increment();
+    return new byte[bufferBytes];
+  }
+
+  /** Returns {@code buffer} to the pool; buffers of another size (not from this pool) are ignored. */
+  public void release(byte[] buffer) {
+    if (buffer.length == bufferBytes) {
+      free.offer(buffer);
+    }
+  }
+
+  public int bufferBytes() {
+    return bufferBytes;
+  }
+
+  public Stats stats() {
+    return new Stats(free.size(), reused.sum(), created.sum());
+  }
+}
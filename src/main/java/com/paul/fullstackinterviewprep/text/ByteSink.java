@@ -0,0 +1,251 @@
+package com.paul.fullstackinterviewprep.text;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Writes text straight into a pooled byte[] as UTF-8 and drains it to an
+ * OutputStream whenever it fills up.
+ *
+ * The point is what does not happen: no String per number or date, no
+ * char[] that gets encoded afterwards, no StringBuilder growing to the size
+ * of the whole response. Numbers are written digit by digit from the end,
+ * dates field by field, and chars are encoded as they are copied. The
+ * buffer has a fixed size, so a response of any length streams through the
+ * same few KB and the client starts receiving bytes before the last row is
+ * rendered. JsonWriter and CsvWriter add escaping and separators on top.
+ *
+ * close() drains the buffer and gives it back to the pool; it does not
+ * close the OutputStream, which belongs to whoever opened it (the servlet
+ * container, for a response). Not thread-safe - one per response.
+ */
+public final class ByteSink implements AutoCloseable {
+
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private final OutputStream out;
+  private final BufferPool pool;
+  // Package-private so JsonWriter and CsvWriter can copy plain ASCII without a call per byte.
+  byte[] buffer;
+  int position;
+  private long flushed;
+
+  public ByteSink(OutputStream out, BufferPool pool) {
+    this.out = out;
+    this.pool = pool;
+    this.buffer = pool.acquire();
+  }
+
+  /** Bytes written so far, drained or not. */
+  public long written() {
+    return flushed + position;
+  }
+
+  public void write(byte b) throws IOException {
+    if (position == buffer.length) {
+      drain();
+    }
+    buffer[position++] = b;
+  }
+
+  /** Writes bytes that are already encoded, such as a pre-built JSON key or CSV header. */
+  public void write(byte[] bytes) throws IOException {
+    if (bytes.length > buffer.length - position) {
+      drain();
+      if (bytes.length > buffer.length) {
+        out.write(bytes);
+        flushed += bytes.length;
+        return;
+      }
+    }
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  /** Writes {@code text} as UTF-8, as is; {@code null} writes nothing. */
+  public void writeUtf8(CharSequence text) throws IOException {
+    if (text == null) {
+      return;
+    }
+    int length = text.length();
+    for (int i = 0; i < length; ) {
+      i = writeUtf8(text, i);
+    }
+  }
+
+  /**
+   * Encodes the char at {@code index} (with the next one, if they form a
+   * surrogate pair) and returns the index after it. A lone surrogate is
+   * written as '?', as String.getBytes() does.
+   */
+  int writeUtf8(CharSequence text, int index) throws IOException {
+    ensure(4);
+    char c = text.charAt(index);
+    if (c < 0x80) {
+      buffer[position++] = (byte) c;
+    } else if (c < 0x800) {
+      buffer[position++] = (byte) (0xC0 | c >> 6);
+      buffer[position++] = (byte) (0x80 | c & 0x3F);
+    } else if (Character.isSurrogate(c)) {
+      char low = index + 1 < text.length() ? text.charAt(index + 1) : 0;
+      if (!Character.isHighSurrogate(c) || !Character.isLowSurrogate(low)) {
+        buffer[position++] = '?';
+        return index + 1;
+      }
+      int codePoint = Character.toCodePoint(c, low);
+      buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+      buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+      buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+      buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+      return index + 2;
+    } else {
+      buffer[position++] = (byte) (0xE0 | c >> 12);
+      buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+      buffer[position++] = (byte) (0x80 | c & 0x3F);
+    }
+    return index + 1;
+  }
+
+  public void writeLong(long value) throws IOException {
+    ensure(20);
+    if (value < 0) {
+      if (value == Long.MIN_VALUE) {
+        // -value overflows; write the first digit by hand and the rest as a positive number.
+        buffer[position++] = '-';
+        buffer[position++] = '9';
+        writeDigits(223372036854775808L, 18);
+        return;
+      }
+      buffer[position++] = '-';
+      value = -value;
+    }
+    writeDigits(value, digits(value));
+  }
+
+  /**
+   * Writes {@code unscaled * 10^-scale} in plain notation, like
+   * BigDecimal.toPlainString(): 12345 with scale 2 is "123.45", with scale
+   * -2 "1234500".
+   */
+  public void writeDecimal(long unscaled, int scale) throws IOException {
+    if (scale <= 0) {
+      writeLong(unscaled);
+      if (unscaled != 0) {
+        for (int i = scale; i < 0; i++) {
+          write((byte) '0');
+        }
+      }
+      return;
+    }
+    if (unscaled == Long.MIN_VALUE || scale >= POWERS_OF_TEN.length) {
+      writeUtf8(BigDecimal.valueOf(unscaled, scale).toPlainString());
+      return;
+    }
+    ensure(scale + 22);
+    if (unscaled < 0) {
+      buffer[position++] = '-';
+      unscaled = -unscaled;
+    }
+    long whole = unscaled / POWERS_OF_TEN[scale];
+    writeDigits(whole, digits(whole));
+    buffer[position++] = '.';
+    writeDigits(unscaled - whole * POWERS_OF_TEN[scale], scale);
+  }
+
+  /**
+   * Writes {@code value} in plain notation, like toPlainString(). Values
+   * of up to 18 digits go through writeDecimal(long, int) - their only
+   * allocation is the BigInteger from unscaledValue(); longer ones fall
+   * back to toPlainString().
+   */
+  public void writeDecimal(BigDecimal value) throws IOException {
+    if (value.precision() <= 18) {
+      writeDecimal(value.unscaledValue().longValue(), value.scale());
+    } else {
+      writeUtf8(value.toPlainString());
+    }
+  }
+
+  /** Writes {@code date} as ISO yyyy-MM-dd; years outside 0..9999 fall back to LocalDate.toString(). */
+  public void writeDate(LocalDate date) throws IOException {
+    int year = date.getYear();
+    if (year < 0 || year > 9999) {
+      writeUtf8(date.toString());
+      return;
+    }
+    ensure(10);
+    writeDigits(year, 4);
+    buffer[position++] = '-';
+    writeDigits(date.getMonthValue(), 2);
+    buffer[position++] = '-';
+    writeDigits(date.getDayOfMonth(), 2);
+  }
+
+  /** Drains the buffer to the stream and flushes the stream. */
+  public void flush() throws IOException {
+    drain();
+    out.flush();
+  }
+
+  /** Drains the buffer and returns it to the pool. The stream stays open. */
+  @Override
+  public void close() throws IOException {
+    if (buffer == null) {
+      return;
+    }
+    try {
+      drain();
+    } finally {
+      pool.release(buffer);
+      buffer = null;
+    }
+  }
+
+  /** Makes room for {@code bytes} more bytes, draining if needed; {@code bytes} is at most 64 + a scale. */
+  void ensure(int bytes) throws IOException {
+    if (buffer.length - position < bytes) {
+      drain();
+    }
+  }
+
+  private void drain() throws IOException {
+    if (position > 0) {
+      out.write(buffer, 0, position);
+      flushed += position;
+      position = 0;
+    }
+  }
+
+  /** Writes the last {@code count} decimal digits of non-negative {@code value}, zero-padded. */
+  private void writeDigits(long value, int count) {
+    int end = position + count;
+    for (int i = end - 1; i >= position; i--) {
+      long next = value / 10;
+      buffer[i] = (byte) ('0' + (value - next * 10));
+      value = next;
+    }
+    position = end;
+  }
+
+  private static int digits(long value) {
+    int digits = 1;
+    while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+      digits++;
+    }
+    return digits;
+  }
+
+  static byte[] ascii(String text) {
+    return text.getBytes(StandardCharsets.US_ASCII);
+  }
+}
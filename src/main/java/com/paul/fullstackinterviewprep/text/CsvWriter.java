@@ -0,0 +1,113 @@
+package com.paul.fullstackinterviewprep.text;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * RFC 4180 CSV output over a ByteSink, one field at a time.
+ *
+ * A text field is quoted only when it holds a comma, a quote or a line
+ * break, with quotes doubled inside; otherwise it is copied through as
+ * UTF-8. Numbers and dates are never quoted. {@code null} is an empty
+ * field. Rows end with CRLF.
+ */
+public final class CsvWriter {
+
+  private static final byte[] CRLF = ByteSink.ascii("\r\n");
+
+  private final ByteSink sink;
+  private boolean rowStarted;
+
+  public CsvWriter(ByteSink sink) {
+    this.sink = sink;
+  }
+
+  /** A header line made of {@code columns}, encoded once, for writing with row(). */
+  public static byte[] header(String... columns) {
+    return ByteSink.ascii(String.join(",", columns) + "\r\n");
+  }
+
+  /** Writes a whole pre-encoded line, such as one made by header(). */
+  public CsvWriter row(byte[] line) throws IOException {
+    sink.write(line);
+    return this;
+  }
+
+  public CsvWriter field(CharSequence value) throws IOException {
+    separate();
+    if (value == null) {
+      return this;
+    }
+    int length = value.length();
+    boolean quote = false;
+    for (int i = 0; i < length && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+    if (!quote) {
+      copy(value, length);
+      return this;
+    }
+    sink.write((byte) '"');
+    for (int i = 0; i < length; ) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        sink.write((byte) '"');
+      }
+      i = sink.writeUtf8(value, i);
+    }
+    sink.write((byte) '"');
+    return this;
+  }
+
+  public CsvWriter field(long value) throws IOException {
+    separate();
+    sink.writeLong(value);
+    return this;
+  }
+
+  public CsvWriter field(BigDecimal value) throws IOException {
+    separate();
+    if (value != null) {
+      sink.writeDecimal(value);
+    }
+    return this;
+  }
+
+  public CsvWriter field(LocalDate value) throws IOException {
+    separate();
+    if (value != null) {
+      sink.writeDate(value);
+    }
+    return this;
+  }
+
+  public CsvWriter endRow() throws IOException {
+    sink.write(CRLF);
+    rowStarted = false;
+    return this;
+  }
+
+  private void separate() throws IOException {
+    if (rowStarted) {
+      sink.write((byte) ',');
+    } else {
+      rowStarted = true;
+    }
+  }
+
+  private void copy(CharSequence value, int length) throws IOException {
+    ByteSink sink = this.sink;
+    for (int i = 0; i < length; ) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        sink.ensure(1);
+        sink.buffer[sink.position++] = (byte) c;
+        i++;
+      } else {
+        i = sink.writeUtf8(value, i);
+      }
+    }
+  }
+}
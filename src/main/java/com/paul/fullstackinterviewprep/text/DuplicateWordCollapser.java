@@ -0,0 +1,151 @@
+package com.paul.fullstackinterviewprep.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Collapses runs of a repeated word ("bye bye Bye" -> "bye") in one linear pass.
+ *
+ * Same result as repeatedly applying DuplicateWords' regex
+ * {@code \b(\w+)\s+\1\b} with CASE_INSENSITIVE until nothing changes: a
+ * word made of [A-Za-z0-9_] that follows an equal word, separated only by
+ * whitespace, is dropped together with that whitespace. The first spelling
+ * wins. Comparison folds ASCII case char by char, like the regex without
+ * UNICODE_CASE, so no lowercased copies are made.
+ *
+ * The collapser is a small state machine fed one chunk at a time. It
+ * holds back only the last word and the whitespace after it until it knows
+ * whether the next word is a duplicate, so memory is bounded by the
+ * longest word and gap, not the input. A newline ends a sentence: words on
+ * different lines are never collapsed, matching DuplicateWords' line-at-a-
+ * time processing. Not thread-safe; create one per stream.
+ */
+public final class DuplicateWordCollapser {
+
+  private StringBuilder previous = new StringBuilder();
+  private StringBuilder current = new StringBuilder();
+  private final StringBuilder pendingSpace = new StringBuilder();
+  /** Whether {@link #previous} is a word that the next one could duplicate. */
+  private boolean hasPrevious;
+  private boolean inWord;
+
+  /** Collapses duplicates in one piece of text. */
+  public static String collapse(CharSequence text) {
+    DuplicateWordCollapser collapser = new DuplicateWordCollapser();
+    StringBuilder out = new StringBuilder(text.length());
+    collapser.feed(text, out);
+    collapser.finish(out);
+    return out.toString();
+  }
+
+  /** Streams {@code in} to {@code out}, collapsing duplicates; returns the number of chars written. */
+  public static long collapse(Reader in, Writer out) throws IOException {
+    DuplicateWordCollapser collapser = new DuplicateWordCollapser();
+    char[] chunk = new char[8192];
+    StringBuilder pending = new StringBuilder(8192);
+    long written = 0;
+    int read;
+    while ((read = in.read(chunk)) >= 0) {
+      collapser.feed(chunk, 0, read, pending);
+      written += drain(pending, out);
+    }
+    collapser.finish(pending);
+    written += drain(pending, out);
+    return written;
+  }
+
+  /** Processes {@code text}, appending whatever output is already final to {@code out}. */
+  public void feed(CharSequence text, StringBuilder out) {
+    for (int i = 0, n = text.length(); i < n; i++) {
+      accept(text.charAt(i), out);
+    }
+  }
+
+  public void feed(char[] chars, int from, int to, StringBuilder out) {
+    for (int i = from; i < to; i++) {
+      accept(chars[i], out);
+    }
+  }
+
+  /** Flushes the held-back word and whitespace at the end of input; the collapser can then be reused. */
+  public void finish(StringBuilder out) {
+    if (inWord) {
+      endWord(out);
+    }
+    out.append(pendingSpace);
+    pendingSpace.setLength(0);
+    hasPrevious = false;
+  }
+
+  private void accept(char c, StringBuilder out) {
+    if (isWordChar(c)) {
+      current.append(c);
+      inWord = true;
+      return;
+    }
+    if (inWord) {
+      endWord(out);
+    }
+    if (hasPrevious && isSpace(c)) {
+      // Might be the gap before a duplicate: hold it back until the next word is known.
+      pendingSpace.append(c);
+      return;
+    }
+    out.append(pendingSpace).append(c);
+    pendingSpace.setLength(0);
+    hasPrevious = false;
+  }
+
+  private void endWord(StringBuilder out) {
+    inWord = false;
+    if (hasPrevious && equalsIgnoreAsciiCase(previous, current)) {
+      pendingSpace.setLength(0);
+      current.setLength(0);
+      return;
+    }
+    out.append(pendingSpace).append(current);
+    pendingSpace.setLength(0);
+    StringBuilder swap = previous;
+    previous = current;
+    current = swap;
+    current.setLength(0);
+    hasPrevious = true;
+  }
+
+  private static long drain(StringBuilder pending, Writer out) throws IOException {
+    int length = pending.length();
+    out.append(pending);
+    pending.setLength(0);
+    return length;
+  }
+
+  static boolean equalsIgnoreAsciiCase(CharSequence a, CharSequence b) {
+    int length = a.length();
+    if (length != b.length()) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char x = a.charAt(i);
+      char y = b.charAt(i);
+      if (x != y && !(isAsciiLetter(x) && (x | 0x20) == (y | 0x20))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** \w without UNICODE_CHARACTER_CLASS. */
+  static boolean isWordChar(char c) {
+    return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '_';
+  }
+
+  /** \s without the newline, which ends a sentence. */
+  static boolean isSpace(char c) {
+    return c == ' ' || c == '\t' || c == '\r' || c == '\f' || c == 0x0B;
+  }
+
+  private static boolean isAsciiLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+}
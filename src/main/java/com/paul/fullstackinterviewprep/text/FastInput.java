@@ -0,0 +1,311 @@
+package com.paul.fullstackinterviewprep.text;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Fast reader for large line- or token-oriented ASCII input, a replacement for Scanner.
+ *
+ * Scanner matches every token against regular expressions, buffers only
+ * 1 KB of chars and creates a String for each token, which caps it at
+ * some tens of MB/s. FastInput reads 64 KB (1 MB for files) at a time
+ * from an NIO channel into a byte array and works directly on the bytes:
+ * - nextInt()/nextLong() accumulate digits straight from the buffer, no
+ *   String in between
+ * - nextLine()/nextToken() return a {@link Chars} view of the bytes that
+ *   is reused by the next call, so looping over a multi-GB file allocates
+ *   nothing per line. Call toString() on the view to keep a line.
+ * A view normally points into the read buffer itself; only a line that
+ * straddles two reads is copied, into a side array that grows to the
+ * longest such line.
+ *
+ * Bytes are mapped to chars one-to-one (ISO-8859-1), which is exact for
+ * ASCII input such as HackerRank's; multi-byte UTF-8 characters show up as
+ * their individual bytes. Line ends are \n or \r\n. Not thread-safe.
+ */
+public final class FastInput implements Closeable {
+
+  static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  private final ReadableByteChannel channel;
+  private final ByteBuffer buffer;
+  private final byte[] bytes;
+  private int position;
+  private int limit;
+  private boolean eof;
+  /** Holds lines and tokens that span a buffer refill. */
+  private byte[] spill = new byte[256];
+  private final Chars view = new Chars();
+
+  public FastInput(InputStream in) {
+    this(Channels.newChannel(in), DEFAULT_BUFFER_SIZE);
+  }
+
+  public FastInput(ReadableByteChannel channel, int bufferSize) {
+    this.channel = channel;
+    this.bytes = new byte[bufferSize];
+    this.buffer = ByteBuffer.wrap(bytes);
+  }
+
+  /** Reads a file through a FileChannel, with a 1 MB buffer. */
+  public static FastInput open(Path file) throws IOException {
+    return new FastInput(FileChannel.open(file, StandardOpenOption.READ), 1 << 20);
+  }
+
+  /** The next line without its terminator, or null at end of input. Valid until the next read. */
+  public Chars nextLine() {
+    if (!ensureData()) {
+      return null;
+    }
+    int start = position;
+    for (int i = start; i < limit; i++) {
+      if (bytes[i] == '\n') {
+        position = i + 1;
+        return view.of(bytes, start, trimCarriageReturn(bytes, start, i));
+      }
+    }
+    // The line continues past this buffer: collect it in the spill array.
+    int length = 0;
+    while (true) {
+      int i = position;
+      while (i < limit && bytes[i] != '\n') {
+        i++;
+      }
+      length = spill(length, position, i);
+      if (i < limit) {
+        position = i + 1;
+        break;
+      }
+      position = limit;
+      if (!ensureData()) {
+        break;
+      }
+    }
+    return view.of(spill, 0, trimCarriageReturn(spill, 0, length));
+  }
+
+  /** The next whitespace-separated token, or null at end of input. Valid until the next read. */
+  public Chars nextToken() {
+    if (!skipWhitespace()) {
+      return null;
+    }
+    int start = position;
+    for (int i = start; i < limit; i++) {
+      if (isWhitespace(bytes[i])) {
+        position = i;
+        return view.of(bytes, start, i);
+      }
+    }
+    int length = 0;
+    while (true) {
+      int i = position;
+      while (i < limit && !isWhitespace(bytes[i])) {
+        i++;
+      }
+      length = spill(length, position, i);
+      position = i;
+      if (i < limit || !ensureData()) {
+        break;
+      }
+    }
+    return view.of(spill, 0, length);
+  }
+
+  /** True if another token follows; skips the whitespace before it. */
+  public boolean hasNext() {
+    return skipWhitespace();
+  }
+
+  /** Parses the next token as an int, straight from the bytes. */
+  public int nextInt() {
+    long value = nextLong();
+    if (value != (int) value) {
+      throw new NumberFormatException("Value out of int range: " + value);
+    }
+    return (int) value;
+  }
+
+  /** Parses the next token as a long, straight from the bytes. */
+  public long nextLong() {
+    if (!skipWhitespace()) {
+      throw new NoSuchElementException();
+    }
+    boolean negative = false;
+    byte first = bytes[position];
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      position++;
+    }
+    // Accumulate negatively so Long.MIN_VALUE parses without overflow, like Long.parseLong.
+    long value = 0;
+    int digits = 0;
+    while (ensureData()) {
+      byte b = bytes[position];
+      if (isWhitespace(b)) {
+        break;
+      }
+      int digit = b - '0';
+      if (digit < 0 || digit > 9) {
+        throw new NumberFormatException("Not a digit: '" + (char) (b & 0xFF) + "'");
+      }
+      if (value < Long.MIN_VALUE / 10 || value * 10 < Long.MIN_VALUE + digit) {
+        throw new NumberFormatException("Value out of long range");
+      }
+      value = value * 10 - digit;
+      digits++;
+      position++;
+    }
+    if (digits == 0) {
+      throw new NumberFormatException("Missing digits");
+    }
+    if (!negative && value == Long.MIN_VALUE) {
+      throw new NumberFormatException("Value out of long range");
+    }
+    return negative ? value : -value;
+  }
+
+  @Override
+  public void close() {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private boolean skipWhitespace() {
+    while (ensureData()) {
+      if (!isWhitespace(bytes[position])) {
+        return true;
+      }
+      position++;
+    }
+    return false;
+  }
+
+  /** True if at least one unread byte is buffered, refilling once the buffer is used up. */
+  private boolean ensureData() {
+    if (position < limit) {
+      return true;
+    }
+    if (eof) {
+      return false;
+    }
+    try {
+      buffer.clear();
+      int read;
+      do {
+        read = channel.read(buffer);
+      } while (read == 0);
+      position = 0;
+      limit = Math.max(read, 0);
+      eof = read < 0;
+      return read > 0;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private int spill(int length, int from, int to) {
+    int needed = length + (to - from);
+    if (needed > spill.length) {
+      spill = Arrays.copyOf(spill, Math.max(needed, spill.length * 2));
+    }
+    System.arraycopy(bytes, from, spill, length, to - from);
+    return needed;
+  }
+
+  private static int trimCarriageReturn(byte[] array, int start, int end) {
+    return end > start && array[end - 1] == '\r' ? end - 1 : end;
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f';
+  }
+
+  /**
+   * A window of bytes read as chars, reused for every line or token. It
+   * works anywhere a CharSequence does, including Pattern.matcher(), but
+   * its content changes on the next read: copy it with toString() to keep it.
+   */
+  public static final class Chars implements CharSequence {
+    private byte[] array;
+    private int start;
+    private int length;
+
+    Chars of(byte[] array, int start, int end) {
+      this.array = array;
+      this.start = start;
+      this.length = end - start;
+      return this;
+    }
+
+    @Override
+    public int length() {
+      return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (index < 0 || index >= length) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      return (char) (array[start + index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+      if (from < 0 || to > length || from > to) {
+        throw new IndexOutOfBoundsException("[" + from + ", " + to + ") of " + length);
+      }
+      return new String(array, start + from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+    /** Parses the whole view as an int without creating a String. */
+    public int parseInt() {
+      if (length == 0) {
+        throw new NumberFormatException("Empty input");
+      }
+      int i = 0;
+      boolean negative = array[start] == '-';
+      if (negative || array[start] == '+') {
+        i++;
+      }
+      if (i == length) {
+        throw new NumberFormatException(toString());
+      }
+      long value = 0;
+      for (; i < length; i++) {
+        int digit = array[start + i] - '0';
+        if (digit < 0 || digit > 9) {
+          throw new NumberFormatException(toString());
+        }
+        value = value * 10 + digit;
+        if (value > (long) Integer.MAX_VALUE + 1) {
+          throw new NumberFormatException(toString());
+        }
+      }
+      value = negative ? -value : value;
+      if (value > Integer.MAX_VALUE) {
+        throw new NumberFormatException(toString());
+      }
+      return (int) value;
+    }
+
+    @Override
+    public String toString() {
+      return new String(array, start, length, StandardCharsets.ISO_8859_1);
+    }
+  }
+}
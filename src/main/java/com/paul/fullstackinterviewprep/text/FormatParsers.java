@@ -0,0 +1,329 @@
+package com.paul.fullstackinterviewprep.text;
+
+/**
+ * Allocation-free parsers for fixed-format tokens: IPv4, IPv6, ISO dates, emails and phone numbers.
+ *
+ * Each parser is a hand-written state machine over a CharSequence (a
+ * String, or a reused {@link FastInput.Chars} view) that accepts exactly
+ * the strings its *_REGEX constant matches with Matcher.matches() - the
+ * test suite checks this by fuzzing both side by side. Instead of a
+ * boolean they return what was parsed, as a primitive:
+ * - parseIpv4: the address as an unsigned 32-bit value in a long
+ * - parseIpv6: the address as two longs, written to a caller-supplied array
+ * - parseIsoDate: the date as a yyyymmdd int, which orders like the date
+ * - parseEmail: the index of the '@'
+ * - parsePhone: the digits, formatting dropped
+ * Invalid input yields -1 (false for IPv6). None of them allocate, and
+ * none backtrack: every char is looked at once or, for the
+ * dotted IPv4 tail of an IPv6 address, twice.
+ */
+public final class FormatParsers {
+
+  public static final int INVALID = -1;
+
+  /** JavaRegex's pattern: four dotted octets of 1-3 digits, at most 255, leading zeros allowed. */
+  public static final String IPV4_REGEX =
+      "^((25[0-5]|2[0-4][0-9]|[01]?[0-9]?[0-9])\\.){3}(25[0-5]|2[0-4][0-9]|[01]?[0-9]?[0-9])$";
+
+  private static final String H = "[0-9A-Fa-f]{1,4}";
+  private static final String V4 =
+      "((25[0-5]|2[0-4][0-9]|[01]?[0-9]?[0-9])\\.){3}(25[0-5]|2[0-4][0-9]|[01]?[0-9]?[0-9])";
+
+  /**
+   * RFC 4291 text forms without zone ids: eight groups of 1-4 hex digits,
+   * or fewer with one "::" standing for at least one zero group, and the
+   * last two groups optionally written as a dotted IPv4 address.
+   */
+  public static final String IPV6_REGEX = "(" + H + ":){7}" + H
+      + "|(" + H + ":){1,7}:"
+      + "|(" + H + ":){1,6}:" + H
+      + "|(" + H + ":){1,5}(:" + H + "){1,2}"
+      + "|(" + H + ":){1,4}(:" + H + "){1,3}"
+      + "|(" + H + ":){1,3}(:" + H + "){1,4}"
+      + "|(" + H + ":){1,2}(:" + H + "){1,5}"
+      + "|" + H + ":(:" + H + "){1,6}"
+      + "|:((:" + H + "){1,7}|:)"
+      + "|(" + H + ":){6}" + V4
+      + "|::(" + H + ":){0,5}" + V4
+      + "|" + H + "::(" + H + ":){0,4}" + V4
+      + "|(" + H + ":){2}:(" + H + ":){0,3}" + V4
+      + "|(" + H + ":){3}:(" + H + ":){0,2}" + V4
+      + "|(" + H + ":){4}:(" + H + ":)?" + V4
+      + "|(" + H + ":){5}:" + V4;
+
+  /** yyyy-MM-dd with real month lengths, including February 29 in Gregorian leap years. */
+  public static final String ISO_DATE_REGEX = "[0-9]{4}-((0[13578]|1[02])-(0[1-9]|[12][0-9]|3[01])"
+      + "|(0[469]|11)-(0[1-9]|[12][0-9]|30)"
+      + "|02-(0[1-9]|1[0-9]|2[0-8]))"
+      + "|([0-9]{2}(0[48]|[2468][048]|[13579][26])|([02468][048]|[13579][26])00)-02-29";
+
+  /** The usual pragmatic email check, as the customers and employees columns hold them. */
+  public static final String EMAIL_REGEX = "[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}";
+
+  /** 555-0101 as in the sample data, optionally with an area code and a +country prefix. */
+  public static final String PHONE_REGEX = "(\\+[0-9]{1,3} )?(\\([0-9]{3}\\) |[0-9]{3}-)?[0-9]{3}-[0-9]{4}";
+
+  private FormatParsers() {
+  }
+
+  /** The address as an unsigned 32-bit value, or -1 if {@code s} doesn't match {@link #IPV4_REGEX}. */
+  public static long parseIpv4(CharSequence s) {
+    return parseIpv4(s, 0);
+  }
+
+  public static boolean isIpv4(CharSequence s) {
+    return parseIpv4(s, 0) >= 0;
+  }
+
+  /**
+   * Parses an IPv6 address into {@code out[0]} (high 64 bits) and
+   * {@code out[1]} (low 64 bits); {@code out} is untouched if {@code s}
+   * doesn't match {@link #IPV6_REGEX}, and may be null to only validate.
+   */
+  public static boolean parseIpv6(CharSequence s, long[] out) {
+    int length = s.length();
+    // Groups before the "::" go to head, groups after it to tail; both are 128-bit values.
+    long headHigh = 0;
+    long headLow = 0;
+    long tailHigh = 0;
+    long tailLow = 0;
+    int groups = 0;
+    int headGroups = 0;
+    boolean compressed = false;
+    int i = 0;
+    if (length > 0 && s.charAt(0) == ':') {
+      if (length < 2 || s.charAt(1) != ':') {
+        return false;
+      }
+      compressed = true;
+      i = 2;
+    }
+    while (i < length) {
+      int start = i;
+      int value = 0;
+      while (i < length && i - start < 4) {
+        int digit = hexDigit(s.charAt(i));
+        if (digit < 0) {
+          break;
+        }
+        value = value << 4 | digit;
+        i++;
+      }
+      if (i < length && s.charAt(i) == '.') {
+        // The group was really the first octet of a dotted IPv4 tail running to the end.
+        long v4 = parseIpv4(s, start);
+        if (v4 < 0 || (groups += 2) > (compressed ? 7 : 8)) {
+          return false;
+        }
+        if (compressed) {
+          tailHigh = tailHigh << 32 | tailLow >>> 32;
+          tailLow = tailLow << 32 | v4;
+        } else {
+          headHigh = headHigh << 32 | headLow >>> 32;
+          headLow = headLow << 32 | v4;
+          headGroups += 2;
+        }
+        break;
+      }
+      if (i == start || ++groups > (compressed ? 7 : 8)) {
+        return false;
+      }
+      if (compressed) {
+        tailHigh = tailHigh << 16 | tailLow >>> 48;
+        tailLow = tailLow << 16 | value;
+      } else {
+        headHigh = headHigh << 16 | headLow >>> 48;
+        headLow = headLow << 16 | value;
+        headGroups++;
+      }
+      if (i == length) {
+        break;
+      }
+      if (s.charAt(i) != ':') {
+        return false;
+      }
+      if (++i == length) {
+        // A single trailing ':'.
+        return false;
+      }
+      if (s.charAt(i) == ':') {
+        if (compressed || groups == 8) {
+          return false;
+        }
+        compressed = true;
+        i++;
+      }
+    }
+    if (!compressed && groups != 8) {
+      return false;
+    }
+    if (out != null) {
+      // Shift the head past the groups the "::" stands for and the tail.
+      for (int g = headGroups; g < 8; g++) {
+        headHigh = headHigh << 16 | headLow >>> 48;
+        headLow <<= 16;
+      }
+      out[0] = headHigh | tailHigh;
+      out[1] = headLow | tailLow;
+    }
+    return true;
+  }
+
+  public static boolean isIpv6(CharSequence s) {
+    return parseIpv6(s, null);
+  }
+
+  /** The date as year * 10000 + month * 100 + day, or -1 if {@code s} doesn't match {@link #ISO_DATE_REGEX}. */
+  public static int parseIsoDate(CharSequence s) {
+    if (s.length() != 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+      return INVALID;
+    }
+    int year = digits(s, 0, 4);
+    int month = digits(s, 5, 7);
+    int day = digits(s, 8, 10);
+    if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+      return INVALID;
+    }
+    return year * 10000 + month * 100 + day;
+  }
+
+  /** The index of the '@', or -1 if {@code s} doesn't match {@link #EMAIL_REGEX}. */
+  public static int parseEmail(CharSequence s) {
+    int length = s.length();
+    int i = 0;
+    while (i < length && isEmailLocalChar(s.charAt(i))) {
+      i++;
+    }
+    if (i == 0 || i == length || s.charAt(i) != '@') {
+      return INVALID;
+    }
+    int at = i++;
+    // The top-level domain follows the last dot, since it can't contain one.
+    int lastDot = -1;
+    for (; i < length; i++) {
+      char c = s.charAt(i);
+      if (c == '.') {
+        lastDot = i;
+      } else if (!isAsciiLetter(c) && !isDigit(c) && c != '-') {
+        return INVALID;
+      }
+    }
+    if (lastDot <= at + 1 || length - lastDot - 1 < 2) {
+      return INVALID;
+    }
+    for (i = lastDot + 1; i < length; i++) {
+      if (!isAsciiLetter(s.charAt(i))) {
+        return INVALID;
+      }
+    }
+    return at;
+  }
+
+  /** All digits of the number as one value (+1 (212) 555-0101 is 12125550101), or -1 if invalid. */
+  public static long parsePhone(CharSequence s) {
+    int length = s.length();
+    int i = 0;
+    long digits = 0;
+    if (length > 0 && s.charAt(0) == '+') {
+      i = 1;
+      while (i < length && i <= 3 && isDigit(s.charAt(i))) {
+        digits = digits * 10 + (s.charAt(i++) - '0');
+      }
+      if (i == 1 || i == length || s.charAt(i) != ' ') {
+        return INVALID;
+      }
+      i++;
+    }
+    // What follows is told apart by its length alone.
+    return switch (length - i) {
+      case 14 -> layout(s, i, "(ddd) ddd-dddd", digits);
+      case 12 -> layout(s, i, "ddd-ddd-dddd", digits);
+      case 8 -> layout(s, i, "ddd-dddd", digits);
+      default -> INVALID;
+    };
+  }
+
+  /** Dotted quad running from {@code from} to the end of {@code s}. */
+  private static long parseIpv4(CharSequence s, int from) {
+    int length = s.length();
+    long address = 0;
+    int i = from;
+    for (int octet = 0; octet < 4; octet++) {
+      if (octet > 0) {
+        if (i == length || s.charAt(i) != '.') {
+          return INVALID;
+        }
+        i++;
+      }
+      int start = i;
+      int value = 0;
+      while (i < length && i - start < 3 && isDigit(s.charAt(i))) {
+        value = value * 10 + (s.charAt(i++) - '0');
+      }
+      // A fourth digit is left unread and fails as the next separator.
+      if (i == start || value > 255) {
+        return INVALID;
+      }
+      address = address << 8 | value;
+    }
+    return i == length ? address : INVALID;
+  }
+
+  /** Matches {@code s} from {@code from} to its end against a template where 'd' is any digit. */
+  private static long layout(CharSequence s, int from, String template, long digits) {
+    for (int t = 0; t < template.length(); t++) {
+      char c = s.charAt(from + t);
+      if (template.charAt(t) == 'd') {
+        if (!isDigit(c)) {
+          return INVALID;
+        }
+        digits = digits * 10 + (c - '0');
+      } else if (c != template.charAt(t)) {
+        return INVALID;
+      }
+    }
+    return digits;
+  }
+
+  private static int digits(CharSequence s, int from, int to) {
+    int value = 0;
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      if (!isDigit(c)) {
+        return INVALID;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static int hexDigit(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')) {
+      return (c | 0x20) - 'a' + 10;
+    }
+    return INVALID;
+  }
+
+  private static int daysInMonth(int year, int month) {
+    return switch (month) {
+      case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+      case 4, 6, 9, 11 -> 30;
+      default -> 31;
+    };
+  }
+
+  private static boolean isEmailLocalChar(char c) {
+    return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isAsciiLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+}
@@ -0,0 +1,227 @@
+package com.paul.fullstackinterviewprep.text;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Streaming JSON output over a ByteSink: objects, arrays and values are
+ * written in order, commas are added automatically.
+ *
+ * Keys are encoded once, up front, with key() - a row renderer keeps them
+ * in static final fields and writing a key is a single array copy. String
+ * values are escaped as Jackson does by default (quote, backslash,
+ * control characters and unpaired surrogates only). Dates are ISO yyyy-MM-dd strings and decimals
+ * BigDecimal.toString() numbers, also as Jackson writes them with its
+ * defaults: plain for everyday amounts, exponent notation such as 1.4E+8
+ * for a negative scale or a value below 10^-6.
+ *
+ * The writer tracks nesting to place commas but does not check that calls
+ * make a well-formed document; nesting is limited to 64 levels.
+ */
+public final class JsonWriter {
+
+  private static final byte[] NULL = ByteSink.ascii("null");
+  private static final byte[] TRUE = ByteSink.ascii("true");
+  private static final byte[] FALSE = ByteSink.ascii("false");
+  private static final byte[] HEX = ByteSink.ascii("0123456789ABCDEF");
+
+  private final ByteSink sink;
+  // Bit d is set once the container at depth d + 1 has its first element.
+  private long nonEmpty;
+  private int depth;
+  private boolean afterKey;
+
+  public JsonWriter(ByteSink sink) {
+    this.sink = sink;
+  }
+
+  /** The encoded form of {@code "name":}, for passing to name(). */
+  public static byte[] key(String name) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ByteSink encoder = new ByteSink(out, new BufferPool(1, 64))) {
+      new JsonWriter(encoder).string(name);
+      encoder.write((byte) ':');
+    } catch (IOException e) {
+      // ByteArrayOutputStream doesn't throw.
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  public JsonWriter beginObject() throws IOException {
+    beforeValue();
+    open('{');
+    return this;
+  }
+
+  public JsonWriter endObject() throws IOException {
+    depth--;
+    sink.write((byte) '}');
+    return this;
+  }
+
+  public JsonWriter beginArray() throws IOException {
+    beforeValue();
+    open('[');
+    return this;
+  }
+
+  public JsonWriter endArray() throws IOException {
+    depth--;
+    sink.write((byte) ']');
+    return this;
+  }
+
+  /** Writes a key made by key(); the next call writes its value. */
+  public JsonWriter name(byte[] key) throws IOException {
+    separate();
+    sink.write(key);
+    afterKey = true;
+    return this;
+  }
+
+  /** A string value; {@code null} writes null. */
+  public JsonWriter value(CharSequence value) throws IOException {
+    beforeValue();
+    if (value == null) {
+      sink.write(NULL);
+    } else {
+      string(value);
+    }
+    return this;
+  }
+
+  public JsonWriter value(long value) throws IOException {
+    beforeValue();
+    sink.writeLong(value);
+    return this;
+  }
+
+  public JsonWriter value(boolean value) throws IOException {
+    beforeValue();
+    sink.write(value ? TRUE : FALSE);
+    return this;
+  }
+
+  /** A number as BigDecimal.toString() writes it; {@code null} writes null. */
+  public JsonWriter value(BigDecimal value) throws IOException {
+    beforeValue();
+    if (value == null) {
+      sink.write(NULL);
+    } else if (value.scale() < 0 || value.precision() - value.scale() < -5) {
+      // Where toString() switches to exponent notation; only the plain form is written digit by digit.
+      sink.writeUtf8(value.toString());
+    } else {
+      sink.writeDecimal(value);
+    }
+    return this;
+  }
+
+  /** An ISO date string; {@code null} writes null. */
+  public JsonWriter value(LocalDate value) throws IOException {
+    beforeValue();
+    if (value == null) {
+      sink.write(NULL);
+    } else {
+      sink.write((byte) '"');
+      sink.writeDate(value);
+      sink.write((byte) '"');
+    }
+    return this;
+  }
+
+  public JsonWriter nullValue() throws IOException {
+    beforeValue();
+    sink.write(NULL);
+    return this;
+  }
+
+  private void open(char bracket) throws IOException {
+    if (depth == 64) {
+      throw new IllegalStateException("JSON nested deeper than 64 levels");
+    }
+    sink.write((byte) bracket);
+    nonEmpty &= ~(1L << depth);
+    depth++;
+  }
+
+  private void beforeValue() throws IOException {
+    if (afterKey) {
+      afterKey = false;
+    } else {
+      separate();
+    }
+  }
+
+  private void separate() throws IOException {
+    if (depth > 0) {
+      long bit = 1L << (depth - 1);
+      if ((nonEmpty & bit) != 0) {
+        sink.write((byte) ',');
+      } else {
+        nonEmpty |= bit;
+      }
+    }
+  }
+
+  private void string(CharSequence value) throws IOException {
+    ByteSink sink = this.sink;
+    sink.write((byte) '"');
+    int length = value.length();
+    int i = 0;
+    while (i < length) {
+      char c = value.charAt(i);
+      if (c >= 0x80) {
+        if (Character.isSurrogate(c) && !isPair(value, i)) {
+          // Invalid UTF-16 can't be encoded as UTF-8; keep it as an escape, as Jackson does.
+          sink.ensure(6);
+          escape(sink, c);
+          i++;
+        } else {
+          i = sink.writeUtf8(value, i);
+        }
+        continue;
+      }
+      sink.ensure(6);
+      if (c >= 0x20 && c != '"' && c != '\\') {
+        sink.buffer[sink.position++] = (byte) c;
+      } else {
+        escape(sink, c);
+      }
+      i++;
+    }
+    sink.write((byte) '"');
+  }
+
+  private static void escape(ByteSink sink, char c) {
+    byte[] buffer = sink.buffer;
+    buffer[sink.position++] = '\\';
+    byte shortForm = switch (c) {
+      case '"' -> '"';
+      case '\\' -> '\\';
+      case '\n' -> 'n';
+      case '\r' -> 'r';
+      case '\t' -> 't';
+      case '\b' -> 'b';
+      case '\f' -> 'f';
+      default -> 0;
+    };
+    if (shortForm != 0) {
+      buffer[sink.position++] = shortForm;
+      return;
+    }
+    buffer[sink.position++] = 'u';
+    buffer[sink.position++] = HEX[c >> 12];
+    buffer[sink.position++] = HEX[c >> 8 & 0xF];
+    buffer[sink.position++] = HEX[c >> 4 & 0xF];
+    buffer[sink.position++] = HEX[c & 0xF];
+  }
+
+  private static boolean isPair(CharSequence value, int index) {
+    return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+        && Character.isLowSurrogate(value.charAt(index + 1));
+  }
+}
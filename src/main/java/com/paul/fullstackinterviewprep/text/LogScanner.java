@@ -0,0 +1,305 @@
+package com.paul.fullstackinterviewprep.text;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs a set of regexes over every line of a large file, in parallel, with deterministic results.
+ *
+ * The file is cut into chunks of about {@code chunkBytes}, each moved
+ * forward to the next line start so no line is split, and each chunk is
+ * memory-mapped and scanned by a fork-join task: nothing is copied onto
+ * the heap and a multi-GB file spreads over all cores. Within a chunk the
+ * patterns are matched line by line (find(), so ^ and $ anchor to the
+ * line) through one reused CharSequence view and one reset() Matcher per
+ * pattern, so scanning allocates per match, not per line. The Matchers come
+ * from PatternCache.shared(), so each pool thread reuses its own across
+ * chunks and scans.
+ *
+ * Per pattern the result holds the total match count and the first
+ * {@code maxSpans} matches as file byte offsets, in file order. Chunk
+ * results are merged left to right as the fork-join tree unwinds, so the
+ * result is the same for any chunk size or thread count.
+ *
+ * Bytes map to chars one-to-one (ISO-8859-1), as in FastInput: exact for
+ * ASCII logs, and offsets are byte offsets either way. Lines end at \n;
+ * a trailing \r is not part of the line.
+ */
+public final class LogScanner {
+
+  static final int DEFAULT_CHUNK_BYTES = 32 << 20;
+  static final int DEFAULT_MAX_SPANS = 1000;
+  /** The most one MappedByteBuffer can hold: its positions are ints. */
+  static final int MAX_MAPPING_BYTES = Integer.MAX_VALUE;
+
+  /** A match: {@code length} bytes starting {@code offset} bytes into the file, on line {@code line} (from 0). */
+  public record Span(long offset, int length, long line) {
+  }
+
+  /** One pattern's matches over the whole file. */
+  public record PatternResult(Pattern pattern, long matches, List<Span> spans) {
+  }
+
+  public record ScanResult(long bytes, long lines, int chunks, List<PatternResult> patterns) {
+  }
+
+  private final List<Pattern> patterns;
+  private final int chunkBytes;
+  private final int maxSpans;
+
+  public LogScanner(List<Pattern> patterns) {
+    this(patterns, DEFAULT_CHUNK_BYTES, DEFAULT_MAX_SPANS);
+  }
+
+  public LogScanner(List<Pattern> patterns, int chunkBytes, int maxSpans) {
+    if (patterns.isEmpty()) {
+      throw new IllegalArgumentException("no patterns");
+    }
+    if (chunkBytes < 1 || maxSpans < 0) {
+      throw new IllegalArgumentException("chunkBytes must be positive and maxSpans non-negative");
+    }
+    this.patterns = List.copyOf(patterns);
+    this.chunkBytes = chunkBytes;
+    this.maxSpans = maxSpans;
+  }
+
+  /** Scans {@code file} on the common pool. */
+  public ScanResult scan(Path file) throws IOException {
+    return scan(file, ForkJoinPool.commonPool());
+  }
+
+  public ScanResult scan(Path file, ForkJoinPool pool) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long[] bounds = lineAlignedBounds(channel, size);
+      Partial total;
+      try {
+        total = pool.invoke(new ChunkTask(channel, bounds, 0, bounds.length - 1));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      List<PatternResult> results = new ArrayList<>(patterns.size());
+      for (int p = 0; p < patterns.size(); p++) {
+        results.add(new PatternResult(patterns.get(p), total.matches[p], List.copyOf(total.spans.get(p))));
+      }
+      return new ScanResult(size, total.lines, bounds.length - 1, List.copyOf(results));
+    }
+  }
+
+  /** Chunk boundaries: 0, then each multiple of chunkBytes moved past the next '\n', then size. */
+  private long[] lineAlignedBounds(FileChannel channel, long size) throws IOException {
+    List<Long> bounds = new ArrayList<>();
+    bounds.add(0L);
+    ByteBuffer probe = ByteBuffer.allocate(4096);
+    long next = chunkBytes;
+    while (next < size) {
+      long lineStart = nextLineStart(channel, probe, next, size);
+      if (lineStart >= size) {
+        break;
+      }
+      bounds.add(lineStart);
+      next = lineStart + chunkBytes;
+    }
+    bounds.add(size);
+    return bounds.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  /** The position after the first '\n' at or after {@code from}, or {@code size}. */
+  private static long nextLineStart(FileChannel channel, ByteBuffer probe, long from, long size) throws IOException {
+    long position = from;
+    while (position < size) {
+      probe.clear();
+      int read = channel.read(probe, position);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (probe.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  /** Counts and spans for a run of consecutive chunks; spans are in file order and capped at maxSpans. */
+  private final class Partial {
+    final long[] matches = new long[patterns.size()];
+    final List<List<Span>> spans = new ArrayList<>(patterns.size());
+    long lines;
+
+    Partial() {
+      for (int p = 0; p < patterns.size(); p++) {
+        spans.add(new ArrayList<>());
+      }
+    }
+
+    /** Appends {@code right}, which covers the bytes after this one; line numbers in it shift by our lines. */
+    Partial merge(Partial right) {
+      for (int p = 0; p < matches.length; p++) {
+        matches[p] += right.matches[p];
+        List<Span> into = spans.get(p);
+        for (Span span : right.spans.get(p)) {
+          if (into.size() == maxSpans) {
+            break;
+          }
+          into.add(new Span(span.offset(), span.length(), span.line() + lines));
+        }
+      }
+      lines += right.lines;
+      return this;
+    }
+  }
+
+  private final class ChunkTask extends RecursiveTask<Partial> {
+    private static final long serialVersionUID = 1L;
+
+    private final transient FileChannel channel;
+    private final long[] bounds;
+    private final int from;
+    private final int to;
+
+    ChunkTask(FileChannel channel, long[] bounds, int from, int to) {
+      this.channel = channel;
+      this.bounds = bounds;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Partial compute() {
+      if (to - from == 1) {
+        try {
+          return scanChunk(channel, bounds[from], bounds[to]);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+      int mid = (from + to) >>> 1;
+      ChunkTask left = new ChunkTask(channel, bounds, from, mid);
+      left.fork();
+      Partial right = new ChunkTask(channel, bounds, mid, to).compute();
+      return left.join().merge(right);
+    }
+  }
+
+  /**
+   * Scans the lines in [start, end); span line numbers are relative to the chunk.
+   *
+   * A chunk is at least one whole line, so it can exceed what one mapping
+   * holds (an int's worth of bytes). It is then mapped in windows of up to
+   * MAX_MAPPING_BYTES, each starting at a line start. A single line longer
+   * than a window is matched one window-sized piece at a time, like separate
+   * lines (a match across two pieces is missed), but counted as one line.
+   */
+  private Partial scanChunk(FileChannel channel, long start, long end) throws IOException {
+    Partial partial = new Partial();
+    // This thread's Matchers; a leaf task never joins, so no other chunk uses them until this one is done.
+    Matcher[] matchers = new Matcher[patterns.size()];
+    Arrays.setAll(matchers, p -> PatternCache.shared().matcher(patterns.get(p), ""));
+    long position = start;
+    while (position < end) {
+      long windowEnd = Math.min(end, position + MAX_MAPPING_BYTES);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, windowEnd - position);
+      LineView view = new LineView(buffer);
+      int limit = buffer.limit();
+      int lineStart = 0;
+      while (lineStart < limit) {
+        int lineEnd = lineStart;
+        while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+          lineEnd++;
+        }
+        boolean cut = lineEnd == limit && windowEnd < end;
+        if (cut && lineStart > 0) {
+          // The line runs past this window: map the next one from its start.
+          break;
+        }
+        int contentEnd = !cut && lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+        view.of(lineStart, contentEnd);
+        for (int p = 0; p < matchers.length; p++) {
+          Matcher matcher = matchers[p].reset(view);
+          List<Span> spans = partial.spans.get(p);
+          while (matcher.find()) {
+            partial.matches[p]++;
+            if (spans.size() < maxSpans) {
+              spans.add(new Span(position + lineStart + matcher.start(), matcher.end() - matcher.start(),
+                  partial.lines));
+            }
+          }
+        }
+        if (cut) {
+          // One piece of a line longer than a window; the line is counted when its end is reached.
+          lineStart = limit;
+          break;
+        }
+        partial.lines++;
+        lineStart = lineEnd + 1;
+      }
+      position += lineStart;
+    }
+    for (Matcher matcher : matchers) {
+      // Don't keep the mapping reachable from a Matcher after the chunk is done.
+      matcher.reset("");
+    }
+    return partial;
+  }
+
+  /** One line of a mapped chunk, read as chars; moved to the next line with of(). */
+  private static final class LineView implements CharSequence {
+    private final ByteBuffer buffer;
+    private int start;
+    private int length;
+
+    LineView(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    LineView of(int start, int end) {
+      this.start = start;
+      this.length = end - start;
+      return this;
+    }
+
+    @Override
+    public int length() {
+      return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (index < 0 || index >= length) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      return (char) (buffer.get(start + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+      if (from < 0 || to > length || from > to) {
+        throw new IndexOutOfBoundsException("[" + from + ", " + to + ") of " + length);
+      }
+      byte[] bytes = new byte[to - from];
+      buffer.get(start + from, bytes);
+      return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+      return subSequence(0, length).toString();
+    }
+  }
+}
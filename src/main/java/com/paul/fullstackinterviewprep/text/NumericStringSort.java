@@ -0,0 +1,326 @@
+package com.paul.fullstackinterviewprep.text;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * Stable sort of decimal strings by numeric value, keeping each original string as written.
+ *
+ * Sorting with a comparator that calls new BigDecimal(s) parses every
+ * string O(log n) times and allocates two BigDecimals per comparison. Here
+ * each string is parsed exactly once into a compact key:
+ * - the unscaled digits as a long plus a scale ("12.50" is 1250, scale 2),
+ *   parsed by hand without allocating
+ * - all keys are then brought to the largest scale in the input, so a
+ *   comparison is a single long comparison
+ * The (key, index) pairs are sorted with a parallel stable merge sort on
+ * primitive arrays, and the strings are reordered by index at the end.
+ *
+ * If any value has more than 18 significant digits, an exponent, or would
+ * overflow a long at the common scale, the whole input falls back to
+ * parsing each string once into a BigDecimal and a stable
+ * Arrays.parallelSort - still one parse per string, just slower keys.
+ *
+ * Numerically equal strings ("0.1", ".1", "0.10") keep their input order.
+ */
+public final class NumericStringSort {
+
+  /** Below this many elements a range is sorted (or merged) without forking. */
+  static final int PARALLEL_THRESHOLD = 1 << 13;
+  static final int INSERTION_THRESHOLD = 32;
+  static final int MAX_DIGITS = 18;
+
+  private static final long[] POWERS_OF_TEN = new long[MAX_DIGITS + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private NumericStringSort() {
+  }
+
+  /** Sorts {@code values} in place from smallest to largest number. */
+  public static void sortAscending(String[] values) {
+    sort(values, false);
+  }
+
+  /** Sorts {@code values} in place from largest to smallest number. */
+  public static void sortDescending(String[] values) {
+    sort(values, true);
+  }
+
+  private static void sort(String[] values, boolean descending) {
+    int n = values.length;
+    if (n < 2) {
+      return;
+    }
+    long[] keys = new long[n];
+    byte[] scales = new byte[n];
+    boolean parallel = n >= PARALLEL_THRESHOLD;
+    IntStream range = parallel ? IntStream.range(0, n).parallel() : IntStream.range(0, n);
+    boolean allCompact = range.allMatch(i -> parseCompact(values[i], keys, scales, i));
+    long[] normalized = allCompact ? normalize(keys, scales, parallel) : null;
+    if (normalized == null) {
+      sortBigDecimal(values, descending);
+      return;
+    }
+    if (descending) {
+      // ~key reverses the order without the overflow that -Long.MIN_VALUE would hit.
+      for (int i = 0; i < n; i++) {
+        normalized[i] = ~normalized[i];
+      }
+    }
+    int[] order = new int[n];
+    Arrays.setAll(order, i -> i);
+    Sorter sorter = new Sorter(normalized, order);
+    if (parallel) {
+      ForkJoinPool.commonPool().invoke(sorter.sortTask(0, n, false));
+    } else {
+      sorter.sort(0, n, false);
+    }
+    String[] original = values.clone();
+    for (int i = 0; i < n; i++) {
+      values[i] = original[order[i]];
+    }
+  }
+
+  /**
+   * Parses plain decimal notation ([+-]digits[.digits]) into an unscaled
+   * long and a scale. Returns false for anything else - exponents, more
+   * than 18 significant digits, malformed input - so the caller falls back
+   * to BigDecimal, which also produces the proper NumberFormatException.
+   */
+  static boolean parseCompact(String s, long[] keys, byte[] scales, int slot) {
+    int length = s.length();
+    int i = 0;
+    boolean negative = false;
+    if (i < length && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+      negative = s.charAt(i) == '-';
+      i++;
+    }
+    long unscaled = 0;
+    int digits = 0;
+    int significant = 0;
+    int scale = -1;
+    for (; i < length; i++) {
+      char c = s.charAt(i);
+      if (c == '.' && scale < 0) {
+        scale = 0;
+        continue;
+      }
+      if (c < '0' || c > '9') {
+        return false;
+      }
+      digits++;
+      if (scale >= 0) {
+        scale++;
+      }
+      if (significant > 0 || c != '0') {
+        if (++significant > MAX_DIGITS) {
+          return false;
+        }
+      }
+      unscaled = unscaled * 10 + (c - '0');
+    }
+    if (digits == 0 || scale > Byte.MAX_VALUE) {
+      return false;
+    }
+    keys[slot] = negative ? -unscaled : unscaled;
+    scales[slot] = (byte) Math.max(scale, 0);
+    return true;
+  }
+
+  /** Rescales every key to the largest scale in place; null if one no longer fits a long. */
+  private static long[] normalize(long[] keys, byte[] scales, boolean parallel) {
+    int maxScale = 0;
+    for (byte scale : scales) {
+      maxScale = Math.max(maxScale, scale);
+    }
+    int target = maxScale;
+    IntStream range = parallel ? IntStream.range(0, keys.length).parallel() : IntStream.range(0, keys.length);
+    boolean fits = range.allMatch(i -> {
+      int shift = target - scales[i];
+      if (shift == 0 || keys[i] == 0) {
+        return true;
+      }
+      if (shift > MAX_DIGITS) {
+        return false;
+      }
+      long power = POWERS_OF_TEN[shift];
+      long scaled = keys[i] * power;
+      if (Math.multiplyHigh(keys[i], power) != (scaled >> 63)) {
+        return false;
+      }
+      keys[i] = scaled;
+      return true;
+    });
+    return fits ? keys : null;
+  }
+
+  private static void sortBigDecimal(String[] values, boolean descending) {
+    record Parsed(BigDecimal value, String original) {
+    }
+    Parsed[] parsed = new Parsed[values.length];
+    Arrays.parallelSetAll(parsed, i -> new Parsed(new BigDecimal(values[i]), values[i]));
+    Comparator<Parsed> order = Comparator.comparing(Parsed::value);
+    // Arrays.parallelSort on objects is a stable merge sort, so reversed() keeps ties in input order.
+    Arrays.parallelSort(parsed, descending ? order.reversed() : order);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = parsed[i].original();
+    }
+  }
+
+  /**
+   * Stable merge sort of keys with their indexes riding along. Sorting
+   * ping-pongs between the main and a scratch array: each half is sorted
+   * into the array the parent will merge FROM, so no level copies back.
+   * Above PARALLEL_THRESHOLD the halves are forked, and so is the merge -
+   * split the longer run at its middle, binary-search the split point in
+   * the other run and merge the two halves independently.
+   */
+  static final class Sorter {
+    final long[] keys;
+    final int[] order;
+    final long[] scratchKeys;
+    final int[] scratchOrder;
+
+    Sorter(long[] keys, int[] order) {
+      this.keys = keys;
+      this.order = order;
+      this.scratchKeys = new long[keys.length];
+      this.scratchOrder = new int[order.length];
+    }
+
+    /** Sorts [lo, hi) so that the result ends up in the scratch arrays if {@code intoScratch}. */
+    void sort(int lo, int hi, boolean intoScratch) {
+      if (hi - lo <= INSERTION_THRESHOLD) {
+        insertionSort(lo, hi);
+        if (intoScratch) {
+          System.arraycopy(keys, lo, scratchKeys, lo, hi - lo);
+          System.arraycopy(order, lo, scratchOrder, lo, hi - lo);
+        }
+        return;
+      }
+      int mid = (lo + hi) >>> 1;
+      sort(lo, mid, !intoScratch);
+      sort(mid, hi, !intoScratch);
+      merge(lo, mid, mid, hi, lo, intoScratch);
+    }
+
+    RecursiveAction sortTask(int lo, int hi, boolean intoScratch) {
+      return new RecursiveAction() {
+        @Override
+        protected void compute() {
+          if (hi - lo <= PARALLEL_THRESHOLD) {
+            sort(lo, hi, intoScratch);
+            return;
+          }
+          int mid = (lo + hi) >>> 1;
+          invokeAll(sortTask(lo, mid, !intoScratch), sortTask(mid, hi, !intoScratch));
+          mergeTask(lo, mid, mid, hi, lo, intoScratch).invoke();
+        }
+      };
+    }
+
+    RecursiveAction mergeTask(int lo1, int hi1, int lo2, int hi2, int to, boolean intoScratch) {
+      return new RecursiveAction() {
+        @Override
+        protected void compute() {
+          int length1 = hi1 - lo1;
+          int length2 = hi2 - lo2;
+          if (length1 + length2 <= PARALLEL_THRESHOLD) {
+            merge(lo1, hi1, lo2, hi2, to, intoScratch);
+            return;
+          }
+          long[] from = intoScratch ? keys : scratchKeys;
+          int split1;
+          int split2;
+          if (length1 >= length2) {
+            // Equal keys from run 2 must stay after run 1's: split run 2 BEFORE them.
+            split1 = (lo1 + hi1) >>> 1;
+            split2 = lowerBound(from, lo2, hi2, from[split1]);
+          } else {
+            // ...and run 1's equal keys stay on the left, AFTER the search point.
+            split2 = (lo2 + hi2) >>> 1;
+            split1 = upperBound(from, lo1, hi1, from[split2]);
+          }
+          int toRight = to + (split1 - lo1) + (split2 - lo2);
+          invokeAll(mergeTask(lo1, split1, lo2, split2, to, intoScratch),
+              mergeTask(split1, hi1, split2, hi2, toRight, intoScratch));
+        }
+      };
+    }
+
+    /** Merges two sorted runs of the source arrays into the target arrays; ties go to run 1. */
+    void merge(int lo1, int hi1, int lo2, int hi2, int to, boolean intoScratch) {
+      long[] fromKeys = intoScratch ? keys : scratchKeys;
+      int[] fromOrder = intoScratch ? order : scratchOrder;
+      long[] toKeys = intoScratch ? scratchKeys : keys;
+      int[] toOrder = intoScratch ? scratchOrder : order;
+      int i = lo1;
+      int j = lo2;
+      while (i < hi1 && j < hi2) {
+        if (fromKeys[j] < fromKeys[i]) {
+          toKeys[to] = fromKeys[j];
+          toOrder[to++] = fromOrder[j++];
+        } else {
+          toKeys[to] = fromKeys[i];
+          toOrder[to++] = fromOrder[i++];
+        }
+      }
+      System.arraycopy(fromKeys, i, toKeys, to, hi1 - i);
+      System.arraycopy(fromOrder, i, toOrder, to, hi1 - i);
+      to += hi1 - i;
+      System.arraycopy(fromKeys, j, toKeys, to, hi2 - j);
+      System.arraycopy(fromOrder, j, toOrder, to, hi2 - j);
+    }
+
+    private void insertionSort(int lo, int hi) {
+      for (int i = lo + 1; i < hi; i++) {
+        long key = keys[i];
+        int index = order[i];
+        int j = i - 1;
+        while (j >= lo && keys[j] > key) {
+          keys[j + 1] = keys[j];
+          order[j + 1] = order[j];
+          j--;
+        }
+        keys[j + 1] = key;
+        order[j + 1] = index;
+      }
+    }
+
+    /** First position in [lo, hi) whose key is >= {@code key}. */
+    private static int lowerBound(long[] keys, int lo, int hi, long key) {
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (keys[mid] < key) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo;
+    }
+
+    /** First position in [lo, hi) whose key is > {@code key}. */
+    private static int upperBound(long[] keys, int lo, int hi, long key) {
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (keys[mid] <= key) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo;
+    }
+  }
+}
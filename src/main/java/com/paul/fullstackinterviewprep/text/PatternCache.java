@@ -0,0 +1,200 @@
+package com.paul.fullstackinterviewprep.text;
+
+import com.paul.fullstackinterviewprep.metrics.LatencyHistogram;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded, thread-safe cache of compiled Patterns with per-thread Matcher reuse.
+ *
+ * String.matches(), String.replaceAll() and Pattern.compile() inside a loop
+ * compile the same regex again on every call - often far more expensive
+ * than the match itself. Here each (regex, flags) pair is compiled once:
+ * - ConcurrentHashMap.computeIfAbsent guarantees a single compile per key
+ *   even when many threads ask at once; the cache holds at most
+ *   {@code capacity} patterns and evicts the oldest beyond that, so a stream
+ *   of distinct user-supplied patterns cannot grow it without bound
+ * - each thread keeps one Matcher per pattern and reset()s it for the next
+ *   input instead of allocating a new Matcher (and its group arrays)
+ *
+ * Metrics: compiles, hits and evictions, plus - for a cache created with
+ * {@code timed} - a histogram of match times in nanoseconds for calls made
+ * through matches()/find()/forEachMatch(). Timing costs two nanoTime()
+ * calls and a histogram update per match, so the shared cache leaves it off.
+ *
+ * A Matcher returned by matcher() belongs to the calling thread and is
+ * reset by that thread's next call for the same pattern - finish with it
+ * first, and never hand it to another thread.
+ */
+public final class PatternCache {
+
+  /** Point-in-time metrics; the match figures stay 0 unless the cache is timed. */
+  public record Stats(int size, long compiles, long hits, long evictions, long matches, long matchP50Nanos,
+      long matchP99Nanos) {
+  }
+
+  private record Key(String regex, int flags) {
+  }
+
+  private static final PatternCache SHARED = new PatternCache(256);
+
+  private final int capacity;
+  private final boolean timed;
+  private final ConcurrentHashMap<Key, Pattern> patterns = new ConcurrentHashMap<>();
+  /** Insertion order, for evicting the oldest pattern. */
+  private final ConcurrentLinkedQueue<Key> order = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<Map<Pattern, Matcher>> matchers = ThreadLocal.withInitial(HashMap::new);
+  private final LongAdder compiles = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LatencyHistogram matchNanos = new LatencyHistogram();
+
+  public PatternCache(int capacity) {
+    this(capacity, false);
+  }
+
+  /** {@code timed}: record each match's duration for stats() and summary(). */
+  public PatternCache(int capacity, boolean timed) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+    this.timed = timed;
+  }
+
+  /** The process-wide, untimed cache used by LogScanner and the hackerrank utilities, holding up to 256 patterns. */
+  public static PatternCache shared() {
+    return SHARED;
+  }
+
+  public Pattern pattern(String regex) {
+    return pattern(regex, 0);
+  }
+
+  public Pattern pattern(String regex, int flags) {
+    Key key = new Key(regex, flags);
+    Pattern cached = patterns.get(key);
+    if (cached != null) {
+      hits.increment();
+      return cached;
+    }
+    boolean[] compiled = new boolean[1];
+    Pattern pattern = patterns.computeIfAbsent(key, k -> {
+      compiled[0] = true;
+      return Pattern.compile(k.regex(), k.flags());
+    });
+    if (compiled[0]) {
+      compiles.increment();
+      order.add(key);
+      evictOverCapacity();
+    } else {
+      hits.increment();
+    }
+    return pattern;
+  }
+
+  /** This thread's Matcher for {@code regex}, reset to {@code input}. */
+  public Matcher matcher(String regex, CharSequence input) {
+    return matcher(pattern(regex), input);
+  }
+
+  /** This thread's Matcher for {@code pattern}, reset to {@code input}. */
+  public Matcher matcher(Pattern pattern, CharSequence input) {
+    Map<Pattern, Matcher> perThread = matchers.get();
+    Matcher matcher = perThread.get(pattern);
+    if (matcher == null) {
+      if (perThread.size() >= capacity) {
+        // Patterns evicted from the cache would otherwise stay reachable from here.
+        perThread.clear();
+      }
+      matcher = pattern.matcher(input);
+      perThread.put(pattern, matcher);
+      return matcher;
+    }
+    return matcher.reset(input);
+  }
+
+  /** Whether the whole of {@code input} matches {@code regex}; timed if enabled. */
+  public boolean matches(String regex, CharSequence input) {
+    Matcher matcher = matcher(regex, input);
+    long start = startTimer();
+    boolean matches = matcher.matches();
+    stopTimer(start);
+    release(matcher);
+    return matches;
+  }
+
+  /** Whether {@code regex} occurs anywhere in {@code input}; timed if enabled. */
+  public boolean find(String regex, CharSequence input) {
+    Matcher matcher = matcher(regex, input);
+    long start = startTimer();
+    boolean found = matcher.find();
+    stopTimer(start);
+    release(matcher);
+    return found;
+  }
+
+  /**
+   * Calls {@code action} for each match of {@code regex} in {@code input} and returns the count.
+   * The MatchResult is the live Matcher, valid only inside the callback. Timed as a whole, if enabled.
+   */
+  public int forEachMatch(String regex, CharSequence input, Consumer<MatchResult> action) {
+    Matcher matcher = matcher(regex, input);
+    int count = 0;
+    long start = startTimer();
+    while (matcher.find()) {
+      action.accept(matcher);
+      count++;
+    }
+    stopTimer(start);
+    release(matcher);
+    return count;
+  }
+
+  public Stats stats() {
+    return new Stats(patterns.size(), compiles.sum(), hits.sum(), evictions.sum(), matchNanos.count(),
+        matchNanos.percentile(50), matchNanos.percentile(99));
+  }
+
+  /** One-line summary for logs. */
+  public String summary() {
+    Stats stats = stats();
+    return String.format("patterns=%d compiles=%d hits=%d evictions=%d matches: %s", stats.size(), stats.compiles(),
+        stats.hits(), stats.evictions(), matchNanos.summary(TimeUnit.NANOSECONDS));
+  }
+
+  private long startTimer() {
+    return timed ? System.nanoTime() : 0;
+  }
+
+  private void stopTimer(long start) {
+    if (timed) {
+      matchNanos.record(System.nanoTime() - start);
+    }
+  }
+
+  private void evictOverCapacity() {
+    while (patterns.size() > capacity) {
+      Key oldest = order.poll();
+      if (oldest == null) {
+        return;
+      }
+      if (patterns.remove(oldest) != null) {
+        evictions.increment();
+      }
+    }
+  }
+
+  /** Drops the reference to the last input, so a pooled Matcher doesn't keep a large line alive. */
+  private static void release(Matcher matcher) {
+    matcher.reset("");
+  }
+}
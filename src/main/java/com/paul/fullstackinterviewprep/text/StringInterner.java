@@ -0,0 +1,138 @@
+package com.paul.fullstackinterviewprep.text;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Best-effort deduplication of equal Strings, for columns with few distinct
+ * values (country, status, job title...).
+ *
+ * Every row read from JDBC gets its own String for each column, so 100,000
+ * orders hold 100,000 copies of "SHIPPED". Passing them through intern()
+ * returns one shared instance per value and lets the copies die young.
+ * Unlike String.intern() the table is private, bounded and forgets values
+ * nobody uses any more:
+ *
+ * - The table has a fixed number of slots, set at construction, and never
+ *   grows. Each value may live in any slot of a set of four adjacent ones;
+ *   when all four hold other live values, one of them is overwritten. On
+ *   high-cardinality data the hit rate drops, the memory does not grow.
+ * - Slots hold weak references, so the table never keeps a String alive;
+ *   a slot whose String was collected is reused.
+ * - Strings longer than {@code maxLength} are passed through untouched:
+ *   long values are rarely repeated and are the costly ones to compare.
+ *
+ * Lookups take no lock. Two threads interning the same new value at once
+ * may both keep their own copy; one of the two ends up in the table. Equal
+ * values are returned as one instance only as long as neither is evicted,
+ * so callers must never compare the results with ==.
+ */
+public final class StringInterner {
+
+  /**
+   * Totals since construction. {@code bytesSaved} estimates the heap freed
+   * by the duplicates that were replaced (String plus its byte[], compressed
+   * oops) - memory saved for as long as the rows that hold them are kept.
+   */
+  public record Stats(long lookups, long hits, long evictions, long bytesSaved, int slots, int liveSlots) {
+
+    public double hitRate() {
+      return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+  }
+
+  private static final class Entry extends WeakReference<String> {
+    final int hash;
+    final int bytes;
+
+    Entry(String value, int hash) {
+      super(value);
+      this.hash = hash;
+      this.bytes = retainedBytes(value);
+    }
+  }
+
+  private static final int WAYS = 4;
+
+  private final AtomicReferenceArray<Entry> table;
+  private final int mask;
+  private final int maxLength;
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder bytesSaved = new LongAdder();
+
+  /** A table of {@code slots} entries (rounded up to a power of two) for Strings of up to {@code maxLength} chars. */
+  public StringInterner(int slots, int maxLength) {
+    if (slots < WAYS || slots > 1 << 30 || maxLength < 0) {
+      throw new IllegalArgumentException("slots must be 4..2^30 and maxLength non-negative");
+    }
+    int size = Integer.highestOneBit(slots - 1) << 1;
+    this.table = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+    this.maxLength = maxLength;
+  }
+
+  /** The shared instance equal to {@code value}, or {@code value} itself; null stays null. */
+  public String intern(String value) {
+    if (value == null || value.length() > maxLength) {
+      return value;
+    }
+    lookups.increment();
+    int hash = spread(value.hashCode());
+    int home = hash & mask;
+    int set = home & ~(WAYS - 1);
+    int free = -1;
+    for (int i = 0; i < WAYS; i++) {
+      Entry entry = table.getAcquire(set + i);
+      if (entry == null || entry.refersTo(null)) {
+        free = free < 0 ? set + i : free;
+        continue;
+      }
+      if (entry.hash == hash) {
+        String candidate = entry.get();
+        if (candidate != null && candidate.equals(value)) {
+          hits.increment();
+          bytesSaved.add(entry.bytes);
+          return candidate;
+        }
+      }
+    }
+    if (free < 0) {
+      evictions.increment();
+      free = home;
+    }
+    table.setRelease(free, new Entry(value, hash));
+    return value;
+  }
+
+  public Stats stats() {
+    int live = 0;
+    for (int i = 0; i <= mask; i++) {
+      Entry entry = table.getAcquire(i);
+      if (entry != null && !entry.refersTo(null)) {
+        live++;
+      }
+    }
+    return new Stats(lookups.sum(), hits.sum(), evictions.sum(), bytesSaved.sum(), mask + 1, live);
+  }
+
+  // Short strings that differ in their last char have consecutive hashCodes; scatter them over the sets.
+  private static int spread(int hash) {
+    int h = hash * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /** 24-byte String header plus its byte[] (16-byte header, 1 or 2 bytes per char), 8-byte aligned. */
+  static int retainedBytes(String value) {
+    int perChar = 1;
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) > 0xFF) {
+        perChar = 2;
+        break;
+      }
+    }
+    return 24 + ((16 + value.length() * perChar + 7) & ~7);
+  }
+}
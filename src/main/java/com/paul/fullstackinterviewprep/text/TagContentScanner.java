@@ -0,0 +1,226 @@
+package com.paul.fullstackinterviewprep.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Streams markup and emits the text of each innermost matching tag pair: {@code <a>text</a>}.
+ *
+ * TagContentExtractor's regex {@code <(.+)>([^<]+)</\1>} lets (.+) run to
+ * the end of the line from every '<' and then backtracks through each '>'
+ * looking for a matching close tag, so a long line full of '<' costs
+ * O(n^2) or worse. This scanner is a state machine that looks at each
+ * char once:
+ * - open tags are pushed on a stack of names; a close tag pops the
+ *   matching entry (and any unclosed tags above it - a close tag that
+ *   matches nothing is ignored)
+ * - text right after an open tag is collected, and emitted when the next
+ *   tag closes that same tag; any other tag in between discards it
+ *
+ * It is not a drop-in for the regex, so TagContentExtractor keeps the
+ * regex. A tag name here never contains '<' or '>', but (.+) may span
+ * several tags, and the regex takes the longest such name whose close tag
+ * happens to follow the text. In {@code <b><b>x</b><b>1</b></b>} it reads
+ * "b><b" as one name, closed by "</b><b>", so it reports x and swallows
+ * the tag around 1; this scanner reports x and 1. Following (.+) means
+ * trying every later '>' from every '<', which is the backtracking this
+ * class exists to avoid. Where every name the regex matches is a plain tag
+ * name, the two emit the same contents in the same order
+ * (TagContentScannerTest checks this on random lines).
+ *
+ * Memory is bounded by the longest text run, tag name and nesting depth,
+ * not by the input: feed it a multi-GB stream in chunks. Past
+ * {@code maxDepth} open tags only the innermost one is kept. Emitted text
+ * is a live view, valid only inside the callback. Not thread-safe;
+ * create one per stream.
+ */
+public final class TagContentScanner {
+
+  static final int DEFAULT_MAX_DEPTH = 4096;
+
+  private enum State { TEXT, TAG_START, OPEN_NAME, CLOSE_NAME }
+
+  private final Consumer<CharSequence> action;
+  private final int maxDepth;
+  private State state = State.TEXT;
+  private final StringBuilder name = new StringBuilder();
+  private final StringBuilder content = new StringBuilder();
+  /** Whether the last token was an open tag, so {@link #content} is its text so far. */
+  private boolean afterOpen;
+  /** The open tag names, end to end; {@link #ends} marks where each one stops. */
+  private final StringBuilder stack = new StringBuilder();
+  private int[] ends = new int[16];
+  private int depth;
+  private long emitted;
+
+  public TagContentScanner(Consumer<CharSequence> action) {
+    this(action, DEFAULT_MAX_DEPTH);
+  }
+
+  public TagContentScanner(Consumer<CharSequence> action, int maxDepth) {
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("maxDepth must be positive: " + maxDepth);
+    }
+    this.action = action;
+    this.maxDepth = maxDepth;
+  }
+
+  /** Calls {@code action} for each tag content in {@code text} and returns the count. */
+  public static int extract(CharSequence text, Consumer<CharSequence> action) {
+    TagContentScanner scanner = new TagContentScanner(action);
+    scanner.feed(text);
+    return (int) scanner.finish();
+  }
+
+  /** Streams {@code in}, calling {@code action} for each tag content; returns the count. */
+  public static long extract(Reader in, Consumer<CharSequence> action) throws IOException {
+    TagContentScanner scanner = new TagContentScanner(action);
+    char[] chunk = new char[8192];
+    int read;
+    while ((read = in.read(chunk)) >= 0) {
+      scanner.feed(chunk, 0, read);
+    }
+    return scanner.finish();
+  }
+
+  public void feed(CharSequence text) {
+    for (int i = 0, n = text.length(); i < n; i++) {
+      accept(text.charAt(i));
+    }
+  }
+
+  public void feed(char[] chars, int from, int to) {
+    for (int i = from; i < to; i++) {
+      accept(chars[i]);
+    }
+  }
+
+  /**
+   * Ends the input - an unterminated tag or unclosed text emits nothing -
+   * and returns how many contents were emitted since the last finish().
+   * The scanner can then be reused.
+   */
+  public long finish() {
+    long count = emitted;
+    state = State.TEXT;
+    name.setLength(0);
+    content.setLength(0);
+    afterOpen = false;
+    stack.setLength(0);
+    depth = 0;
+    emitted = 0;
+    return count;
+  }
+
+  private void accept(char c) {
+    switch (state) {
+      case TEXT -> {
+        if (c == '<') {
+          state = State.TAG_START;
+        } else if (afterOpen) {
+          content.append(c);
+        }
+      }
+      case TAG_START -> {
+        if (c == '/') {
+          state = State.CLOSE_NAME;
+        } else if (isNameChar(c)) {
+          name.append(c);
+          state = State.OPEN_NAME;
+        } else {
+          malformed(c);
+        }
+      }
+      case OPEN_NAME -> {
+        if (c == '>') {
+          push();
+          afterOpen = true;
+          content.setLength(0);
+          endTag();
+        } else if (isNameChar(c)) {
+          name.append(c);
+        } else {
+          malformed(c);
+        }
+      }
+      case CLOSE_NAME -> {
+        if (c == '>' && !name.isEmpty()) {
+          close();
+          afterOpen = false;
+          endTag();
+        } else if (isNameChar(c)) {
+          name.append(c);
+        } else {
+          malformed(c);
+        }
+      }
+    }
+  }
+
+  private void close() {
+    int top = depth - 1;
+    if (top >= 0 && nameEquals(top)) {
+      if (afterOpen && !content.isEmpty()) {
+        emitted++;
+        action.accept(content);
+      }
+      depth = top;
+      stack.setLength(top == 0 ? 0 : ends[top - 1]);
+      return;
+    }
+    // Close the nearest matching ancestor, dropping the unclosed tags inside it.
+    for (int i = top - 1; i >= 0; i--) {
+      if (nameEquals(i)) {
+        depth = i;
+        stack.setLength(i == 0 ? 0 : ends[i - 1]);
+        return;
+      }
+    }
+  }
+
+  private void push() {
+    if (depth == maxDepth) {
+      // Too deep: keep the innermost tag in place of its parent.
+      depth--;
+      stack.setLength(depth == 0 ? 0 : ends[depth - 1]);
+    }
+    if (depth == ends.length) {
+      ends = Arrays.copyOf(ends, depth * 2);
+    }
+    stack.append(name);
+    ends[depth++] = stack.length();
+  }
+
+  private boolean nameEquals(int index) {
+    int start = index == 0 ? 0 : ends[index - 1];
+    int length = name.length();
+    if (ends[index] - start != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (stack.charAt(start + i) != name.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void endTag() {
+    name.setLength(0);
+    state = State.TEXT;
+  }
+
+  /** Not a tag after all: whatever text was pending can no longer be a tag's whole content. */
+  private void malformed(char c) {
+    afterOpen = false;
+    name.setLength(0);
+    state = c == '<' ? State.TAG_START : State.TEXT;
+  }
+
+  /** (.+) stops at line breaks; '<' and '>' would make the name span tags. */
+  private static boolean isNameChar(char c) {
+    return c != '<' && c != '>' && c != '\n' && c != '\r' && c != '\u0085' && c != '\u2028' && c != '\u2029';
+  }
+}
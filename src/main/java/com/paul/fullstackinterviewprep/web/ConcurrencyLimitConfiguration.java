@@ -0,0 +1,18 @@
+package com.paul.fullstackinterviewprep.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", matchIfMissing = true)
+public class ConcurrencyLimitConfiguration {
+
+  // A Filter bean is registered with the servlet container automatically, for all URLs.
+  @Bean
+  public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+    return new ConcurrencyLimitFilter(properties);
+  }
+}
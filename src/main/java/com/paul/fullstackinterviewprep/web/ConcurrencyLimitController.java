@@ -0,0 +1,25 @@
+package com.paul.fullstackinterviewprep.web;
+
+import com.paul.fullstackinterviewprep.concurrency.AdaptiveConcurrencyLimiter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Current limit, in-flight count, and accepted/rejected/dropped counters per
+ * endpoint group. Not itself subject to limiting.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", matchIfMissing = true)
+public class ConcurrencyLimitController {
+
+  private final ConcurrencyLimitFilter filter;
+
+  @GetMapping(ConcurrencyLimitFilter.INTERNAL_PREFIX + "concurrency-limits")
+  public List<AdaptiveConcurrencyLimiter.Stats> limits() {
+    return filter.stats();
+  }
+}
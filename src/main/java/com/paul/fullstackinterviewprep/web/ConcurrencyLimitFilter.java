@@ -0,0 +1,101 @@
+package com.paul.fullstackinterviewprep.web;
+
+import com.paul.fullstackinterviewprep.concurrency.AdaptiveConcurrencyLimiter;
+import com.paul.fullstackinterviewprep.concurrency.GradientLimit;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Sheds load in front of the MVC controllers with one adaptive limiter per
+ * endpoint group.
+ *
+ * Over the limit, the request is answered immediately with 503 and a
+ * Retry-After header - it never reaches a controller, a request thread pool
+ * queue, or the connection pool. Under the limit, the request's latency is
+ * fed back into the group's GradientLimit. 503/504 responses and exceptions
+ * from downstream count as drops (overload), which shrinks the limit.
+ *
+ * The metrics endpoint itself (/internal/) is never limited, so the
+ * numbers stay readable while the app is shedding load.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  static final String DEFAULT_GROUP = "default";
+  static final String INTERNAL_PREFIX = "/internal/";
+
+  private final Map<String, AdaptiveConcurrencyLimiter> limiters = new LinkedHashMap<>();
+  private final List<Map.Entry<String, AdaptiveConcurrencyLimiter>> prefixes = new ArrayList<>();
+  private final String retryAfter;
+
+  public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+    this.retryAfter = String.valueOf(properties.retryAfterSeconds());
+    properties.groups().forEach((name, group) -> {
+      AdaptiveConcurrencyLimiter limiter = newLimiter(name, properties, group.initialLimit(), group.maxLimit());
+      limiters.put(name, limiter);
+      for (String path : group.paths()) {
+        prefixes.add(Map.entry(path, limiter));
+      }
+    });
+    limiters.putIfAbsent(DEFAULT_GROUP, newLimiter(DEFAULT_GROUP, properties, null, null));
+    // Longest prefix first, so /api/orders/export can be its own group inside /api/orders.
+    prefixes.sort((a, b) -> Integer.compare(b.getKey().length(), a.getKey().length()));
+  }
+
+  public List<AdaptiveConcurrencyLimiter.Stats> stats() {
+    return limiters.values().stream().map(AdaptiveConcurrencyLimiter::stats).toList();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return request.getRequestURI().startsWith(INTERNAL_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    AdaptiveConcurrencyLimiter.Permit permit = limiterFor(request.getRequestURI()).tryAcquire();
+    if (permit == null) {
+      response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      response.setHeader("Retry-After", retryAfter);
+      return;
+    }
+    try {
+      chain.doFilter(request, response);
+      int status = response.getStatus();
+      if (status == HttpServletResponse.SC_SERVICE_UNAVAILABLE || status == HttpServletResponse.SC_GATEWAY_TIMEOUT) {
+        permit.onDropped();
+      } else {
+        permit.onSuccess();
+      }
+    } catch (IOException | ServletException | RuntimeException e) {
+      permit.onDropped();
+      throw e;
+    } finally {
+      permit.release();
+    }
+  }
+
+  private AdaptiveConcurrencyLimiter limiterFor(String uri) {
+    for (Map.Entry<String, AdaptiveConcurrencyLimiter> prefix : prefixes) {
+      if (uri.startsWith(prefix.getKey())) {
+        return prefix.getValue();
+      }
+    }
+    return limiters.get(DEFAULT_GROUP);
+  }
+
+  private static AdaptiveConcurrencyLimiter newLimiter(String name, ConcurrencyLimitProperties properties,
+      Integer initialOverride, Integer maxOverride) {
+    int max = maxOverride != null ? maxOverride : properties.maxLimit();
+    int initial = Math.min(max, initialOverride != null ? initialOverride : properties.initialLimit());
+    return new AdaptiveConcurrencyLimiter(name, new GradientLimit(initial, properties.minLimit(), max));
+  }
+}
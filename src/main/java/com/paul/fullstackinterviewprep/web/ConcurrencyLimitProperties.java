@@ -0,0 +1,34 @@
+package com.paul.fullstackinterviewprep.web;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for ConcurrencyLimitFilter, bound from {@code app.concurrency-limit.*}.
+ *
+ * Every endpoint group gets its own independent limiter, so saturating one
+ * group (say a slow report) cannot use up the permits of another. Requests
+ * that match no group's path prefix share the "default" group.
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public record ConcurrencyLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("20") int initialLimit,
+    @DefaultValue("1") int minLimit,
+    @DefaultValue("200") int maxLimit,
+    @DefaultValue("1") int retryAfterSeconds,
+    @DefaultValue Map<String, Group> groups) {
+
+  /**
+   * One endpoint group. The limits are optional per-group overrides of the
+   * top-level values.
+   */
+  public record Group(List<String> paths, Integer initialLimit, Integer maxLimit) {
+
+    public Group {
+      paths = paths == null ? List.of() : List.copyOf(paths);
+    }
+  }
+}
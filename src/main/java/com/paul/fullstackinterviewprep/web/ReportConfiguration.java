@@ -0,0 +1,27 @@
+package com.paul.fullstackinterviewprep.web;
+
+import com.paul.fullstackinterviewprep.orders.DemoDatabase;
+import com.paul.fullstackinterviewprep.orders.ReportWriter;
+import com.paul.fullstackinterviewprep.text.BufferPool;
+import java.sql.SQLException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.reports", name = "enabled", matchIfMissing = true)
+public class ReportConfiguration {
+
+  // Enough buffers for the busiest moment; beyond that a request gets a fresh one that isn't kept.
+  @Bean
+  public BufferPool reportBuffers() {
+    return new BufferPool(64, 16 * 1024);
+  }
+
+  // The app has no JDBC starter, so no DataSource bean: the reports read the
+  // same in-memory H2 database the orders demos use.
+  @Bean
+  public ReportWriter reportWriter(BufferPool reportBuffers) throws SQLException {
+    return new ReportWriter(DemoDatabase.open("reports"), reportBuffers);
+  }
+}
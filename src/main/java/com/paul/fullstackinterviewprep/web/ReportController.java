@@ -0,0 +1,53 @@
+package com.paul.fullstackinterviewprep.web;
+
+import com.paul.fullstackinterviewprep.orders.ReportWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The employee and order summary reports, as JSON (default) or CSV with
+ * {@code ?format=csv}.
+ *
+ * The body is written by ReportWriter straight to the servlet output
+ * stream, bypassing the message converters: rows go out while the query
+ * is still being read, and no response-sized String or byte[] is built.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.reports", name = "enabled", matchIfMissing = true)
+public class ReportController {
+
+  private final ReportWriter reports;
+
+  @GetMapping("/api/reports/employees")
+  public void employees(@RequestParam(defaultValue = "json") String format, HttpServletResponse response)
+      throws IOException, SQLException {
+    write(ReportWriter.EMPLOYEE_DETAILS, format, response);
+  }
+
+  @GetMapping("/api/reports/order-summaries")
+  public void orderSummaries(@RequestParam(defaultValue = "json") String format, HttpServletResponse response)
+      throws IOException, SQLException {
+    write(ReportWriter.ORDER_SUMMARIES, format, response);
+  }
+
+  private <T> void write(ReportWriter.Report<T> report, String format, HttpServletResponse response)
+      throws IOException, SQLException {
+    ReportWriter.Format parsed;
+    try {
+      parsed = ReportWriter.Format.valueOf(format.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      response.sendError(HttpServletResponse.SC_BAD_REQUEST, "format must be json or csv");
+      return;
+    }
+    response.setContentType(parsed.contentType());
+    reports.write(report, parsed, response.getOutputStream());
+  }
+}
@@ -0,0 +1,102 @@
+package com.paul.fullstackinterviewprep.hackerrank.medium;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.paul.fullstackinterviewprep.text.FastInput;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/** The bitset solver against plain BFS over cells, on random boards of every density and leap. */
+class LeapGameTest {
+
+  @Test
+  void sampleGames() {
+    assertTrue(LeapGame.Board.of(new int[] {0, 0, 0, 0, 0}, 3).canWin());
+    assertTrue(LeapGame.Board.of(new int[] {0, 0, 0, 1, 1, 1}, 5).canWin());
+    assertFalse(LeapGame.Board.of(new int[] {0, 0, 1, 1, 1, 0}, 3).canWin());
+    assertFalse(LeapGame.Board.of(new int[] {0, 1, 0}, 1).canWin());
+  }
+
+  @Test
+  void stepsBackBeforeLeaping() {
+    // 0 leaps to 3, which is stuck; stepping back to 2 leaps to 5, and 5 leaps past the end.
+    int[] board = {0, 1, 0, 0, 1, 0, 1, 1};
+    assertTrue(LeapGame.canWinBfs(board, 3));
+    assertTrue(LeapGame.Board.of(board, 3).canWin());
+  }
+
+  @Test
+  void agreesWithBfsOnRandomBoards() {
+    Random random = new Random(42);
+    for (int n = 0; n < 200_000; n++) {
+      int size = 1 + random.nextInt(n % 10 == 0 ? 300 : 40);
+      int leap = random.nextInt(size + 2);
+      double density = random.nextDouble();
+      int[] cells = new int[size];
+      for (int i = 1; i < size; i++) {
+        cells[i] = random.nextDouble() < density ? 1 : 0;
+      }
+      int[] board = cells;
+      assertEquals(LeapGame.canWinBfs(board, leap), LeapGame.Board.of(board, leap).canWin(),
+          () -> "leap " + leap + " board " + Arrays.toString(board));
+    }
+  }
+
+  @Test
+  void agreesWithBfsOnLargeBoards() {
+    Random random = new Random(7);
+    for (int n = 0; n < 20; n++) {
+      int leap = 1 + random.nextInt(64);
+      int[] board = passableBoard(random, 1_000_000, leap);
+      if (random.nextBoolean()) {
+        // One wall as wide as the leap stops the game there.
+        int at = 1 + random.nextInt(board.length - leap);
+        Arrays.fill(board, at, at + leap, 1);
+      }
+      assertEquals(LeapGame.canWinBfs(board, leap), LeapGame.Board.of(board, leap).canWin(), "leap " + leap);
+    }
+  }
+
+  @Test
+  void readsBoardsAndSolvesInInputOrder() {
+    String input = "5 3\n0 0 0 0 0\n6 5\n0 0 0 1 1 1\n6 3\n0 0 1 1 1 0\n3 1\n0 1 0\n";
+    FastInput in = new FastInput(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)));
+    List<LeapGame.Board> boards = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      boards.add(LeapGame.Board.read(in));
+    }
+    assertArrayEquals(new boolean[] {true, true, false, false}, LeapGame.solveAll(boards));
+  }
+
+  /**
+   * Free runs and walls of random length, every wall narrower than the
+   * leap and every pair of runs around it long enough for some leap to
+   * cross it - so the game is won only at the far end.
+   */
+  static int[] passableBoard(Random random, int size, int leap) {
+    int[] board = new int[size];
+    int run = 1 + random.nextInt(2 * leap);
+    int i = run;
+    while (i < size) {
+      int wall = random.nextInt(leap);
+      int next = 1 + random.nextInt(2 * leap);
+      if (run + wall + next < leap + 1) {
+        next = leap + 1 - run - wall;
+      }
+      for (int k = 0; k < wall && i < size; k++) {
+        board[i++] = 1;
+      }
+      i += next;
+      run = next;
+    }
+    return board;
+  }
+}
@@ -0,0 +1,176 @@
+package com.paul.fullstackinterviewprep.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Copies of small object graphs, checked field by field: tree and graph
+ * mode, cycles, self-referencing chains of a million links, and hash and
+ * tree collections whose elements hash or compare through such a chain.
+ */
+class DeepCopierTest {
+
+  static final class Node {
+    int value;
+    Node next;
+
+    Node(int value, Node next) {
+      this.value = value;
+      this.next = next;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Node n && value == n.value && Objects.equals(next, n.next);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * value + (next == null ? 0 : next.hashCode());
+    }
+  }
+
+  static final class Holder {
+    Set<Node> set = new HashSet<>();
+    Map<Node, String> map = new HashMap<>();
+    TreeSet<Node> sorted = new TreeSet<>(Comparator.comparingInt(DeepCopierTest::chainSum));
+  }
+
+  static final class Link {
+    long id;
+    Link next;
+  }
+
+  static class Employee {
+    String name;
+    Employee manager;
+    List<Employee> reports = new ArrayList<>();
+  }
+
+  static final class Order {
+    int id;
+    BigDecimal total;
+    int[] quantities;
+    List<String> tags;
+    Map<String, Employee> owners = new HashMap<>();
+  }
+
+  @Test
+  void hashAndTreeCollectionsFindTheirCopiedElements() {
+    Holder holder = new Holder();
+    for (int i = 0; i < 20; i++) {
+      Node node = new Node(i, new Node(i * 7, new Node(i * 13, null)));
+      holder.set.add(node);
+      holder.map.put(node, "n" + i);
+      holder.sorted.add(node);
+    }
+    for (UnaryOperator<Holder> copier : List.<UnaryOperator<Holder>>of(DeepCopier::copy, DeepCopier::copyGraph)) {
+      Holder copy = copier.apply(holder);
+      assertEquals(20, copy.set.size());
+      for (Node node : copy.set) {
+        assertTrue(copy.set.contains(node), "HashSet lost an element");
+        assertEquals("n" + node.value, copy.map.get(node));
+        assertTrue(copy.sorted.contains(node), "TreeSet lost an element");
+      }
+      assertEquals(holder.set, copy.set);
+      assertNotSame(holder.set.iterator().next(), copy.set.iterator().next());
+    }
+  }
+
+  @Test
+  void millionLinkChainNeedsNoDeepStack() {
+    Link head = new Link();
+    Link tail = head;
+    for (int i = 1; i < 1_000_000; i++) {
+      tail.next = new Link();
+      tail = tail.next;
+      tail.id = i;
+    }
+    for (UnaryOperator<Link> copier : List.<UnaryOperator<Link>>of(DeepCopier::copy, DeepCopier::copyGraph)) {
+      Link copy = copier.apply(head);
+      long count = 0;
+      for (Link source = head, copied = copy; source != null; source = source.next, copied = copied.next) {
+        assertNotSame(source, copied);
+        assertEquals(source.id, copied.id);
+        count++;
+      }
+      assertEquals(1_000_000, count);
+    }
+
+    // The same chain closed into a ring: one copy per link, and the last points back at the first.
+    tail.next = head;
+    Link ring = DeepCopier.copy(head);
+    Link last = ring;
+    for (int i = 1; i < 1_000_000; i++) {
+      last = last.next;
+    }
+    assertSame(ring, last.next);
+  }
+
+  @Test
+  void cyclesAndSharedReferences() {
+    Employee boss = new Employee();
+    boss.name = "boss";
+    Employee worker = new Employee();
+    worker.name = "worker";
+    worker.manager = boss;
+    boss.reports.add(worker);
+    boss.manager = boss;
+
+    Employee copy = DeepCopier.copy(boss);
+    assertNotSame(boss, copy);
+    assertSame(copy, copy.manager);
+    assertSame(copy, copy.reports.get(0).manager);
+    assertEquals("worker", copy.reports.get(0).name);
+  }
+
+  @Test
+  void fieldsCollectionsAndImmutables() {
+    Employee owner = new Employee();
+    owner.name = "ann";
+    Order order = new Order();
+    order.id = 7;
+    order.total = new BigDecimal("12.50");
+    order.quantities = new int[] {1, 2};
+    order.tags = List.of("rush");
+    order.owners.put("sales", owner);
+    order.owners.put("billing", owner);
+
+    Order tree = DeepCopier.copy(order);
+    assertEquals(7, tree.id);
+    assertSame(order.total, tree.total);
+    assertNotSame(order.quantities, tree.quantities);
+    assertEquals(2, tree.quantities[1]);
+    assertEquals(List.of("rush"), tree.tags);
+    assertNotSame(owner, tree.owners.get("sales"));
+    assertNull(tree.owners.get("sales").manager);
+
+    // copyGraph keeps the one owner shared by both keys
+    Order graph = DeepCopier.copyGraph(order);
+    assertSame(graph.owners.get("sales"), graph.owners.get("billing"));
+  }
+
+  private static int chainSum(Node node) {
+    int sum = 0;
+    for (Node n = node; n != null; n = n.next) {
+      sum = 31 * sum + n.value;
+    }
+    return sum;
+  }
+}
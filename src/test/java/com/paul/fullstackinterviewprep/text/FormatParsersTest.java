@@ -0,0 +1,231 @@
+package com.paul.fullstackinterviewprep.text;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential fuzzing of each parser against its regex: random strings
+ * over the format's alphabet, valid tokens, and valid tokens with one char
+ * inserted, deleted or replaced must be accepted by both or by neither.
+ */
+class FormatParsersTest {
+
+  private static final int CASES = 200_000;
+
+  @Test
+  void ipv4AgreesWithRegex() {
+    fuzz(FormatParsers.IPV4_REGEX, FormatParsers::isIpv4, "0123456789.25\n a", 18, FormatParsersTest::ipv4);
+  }
+
+  @Test
+  void ipv6AgreesWithRegex() {
+    fuzz(FormatParsers.IPV6_REGEX, FormatParsers::isIpv6, "0123456789abcdefABCDEFg:::..", 45, FormatParsersTest::ipv6);
+  }
+
+  @Test
+  void isoDateAgreesWithRegex() {
+    fuzz(FormatParsers.ISO_DATE_REGEX, s -> FormatParsers.parseIsoDate(s) >= 0, "0123456789--", 11,
+        FormatParsersTest::isoDate);
+  }
+
+  @Test
+  void emailAgreesWithRegex() {
+    fuzz(FormatParsers.EMAIL_REGEX, s -> FormatParsers.parseEmail(s) >= 0, "aZ09._%+-@@..c-", 14,
+        FormatParsersTest::email);
+  }
+
+  @Test
+  void phoneAgreesWithRegex() {
+    fuzz(FormatParsers.PHONE_REGEX, s -> FormatParsers.parsePhone(s) >= 0, "0123456789+ ()--", 20,
+        FormatParsersTest::phone);
+  }
+
+  @Test
+  void ipv4Values() {
+    assertEquals(0xFFFFFFFFL, FormatParsers.parseIpv4("255.255.255.255"));
+    assertEquals(0x79EA0C0CL, FormatParsers.parseIpv4("121.234.12.12"));
+    assertEquals(0x000C0C22L, FormatParsers.parseIpv4("000.12.12.034"));
+    assertEquals(FormatParsers.INVALID, FormatParsers.parseIpv4("256.1.1.1"));
+    assertEquals(FormatParsers.INVALID, FormatParsers.parseIpv4("00.12.123.123123.123"));
+  }
+
+  @Test
+  void ipv6Values() {
+    assertIpv6("::", 0, 0);
+    assertIpv6("::1", 0, 1);
+    assertIpv6("1::", 0x0001_0000_0000_0000L, 0);
+    assertIpv6("2001:db8::ff00:42:8329", 0x2001_0db8_0000_0000L, 0x0000_ff00_0042_8329L);
+    assertIpv6("2001:0DB8:0000:0000:0000:FF00:0042:8329", 0x2001_0db8_0000_0000L, 0x0000_ff00_0042_8329L);
+    assertIpv6("::ffff:192.0.2.128", 0, 0x0000_ffff_c000_0280L);
+    assertIpv6("1:2:3:4:5:6:1.2.3.4", 0x0001_0002_0003_0004L, 0x0005_0006_0102_0304L);
+    assertIpv6("1:2:3:4:5:6:7::", 0x0001_0002_0003_0004L, 0x0005_0006_0007_0000L);
+    long[] out = {7, 7};
+    assertFalse(FormatParsers.parseIpv6("1:2:3:4:5:6:7:8:9", out));
+    assertArrayEquals(new long[] {7, 7}, out);
+  }
+
+  @Test
+  void isoDateValuesAgreeWithLocalDate() {
+    Random random = new Random(40);
+    for (int n = 0; n < CASES; n++) {
+      String s = n % 2 == 0 ? isoDate(random) : String.format("%04d-%02d-%02d", random.nextInt(10_000),
+          random.nextInt(14), random.nextInt(33));
+      int parsed = FormatParsers.parseIsoDate(s);
+      LocalDate expected;
+      try {
+        expected = LocalDate.parse(s);
+      } catch (DateTimeParseException e) {
+        assertEquals(FormatParsers.INVALID, parsed, s);
+        continue;
+      }
+      assertEquals(expected.getYear() * 10000 + expected.getMonthValue() * 100 + expected.getDayOfMonth(), parsed,
+          s);
+    }
+  }
+
+  @Test
+  void sampleDataColumnsParse() {
+    assertEquals(10, FormatParsers.parseEmail("john.smith@company.com"));
+    assertEquals(7, FormatParsers.parseEmail("alice.j@email.com"));
+    assertEquals(5550101, FormatParsers.parsePhone("555-0101"));
+    assertEquals(2125550101L, FormatParsers.parsePhone("212-555-0101"));
+    assertEquals(12125550101L, FormatParsers.parsePhone("+1 (212) 555-0101"));
+    assertEquals(20100115, FormatParsers.parseIsoDate("2010-01-15"));
+    assertEquals(FormatParsers.INVALID, FormatParsers.parseIsoDate("2021-02-29"));
+    assertEquals(20000229, FormatParsers.parseIsoDate("2000-02-29"));
+    assertEquals(FormatParsers.INVALID, FormatParsers.parseIsoDate("1900-02-29"));
+  }
+
+  @Test
+  void parsesReusedCharsViews() {
+    FastInput in = new FastInput(new java.io.ByteArrayInputStream("1.2.3.4 ::1 x".getBytes()));
+    assertEquals(0x01020304L, FormatParsers.parseIpv4(in.nextToken()));
+    assertTrue(FormatParsers.isIpv6(in.nextToken()));
+    assertFalse(FormatParsers.isIpv4(in.nextToken()));
+  }
+
+  private static void assertIpv6(String s, long high, long low) {
+    long[] out = new long[2];
+    assertTrue(FormatParsers.parseIpv6(s, out), s);
+    assertArrayEquals(new long[] {high, low}, out, s);
+  }
+
+  private static void fuzz(String regex, Predicate<CharSequence> parser, String alphabet, int maxLength,
+      Function<Random, String> valid) {
+    Pattern pattern = Pattern.compile(regex);
+    Random random = new Random(regex.hashCode());
+    for (int n = 0; n < CASES; n++) {
+      String s = switch (n % 3) {
+        case 0 -> randomString(random, alphabet, maxLength);
+        case 1 -> valid.apply(random);
+        default -> mutate(random, valid.apply(random), alphabet);
+      };
+      assertEquals(pattern.matcher(s).matches(), parser.test(s), () -> "input: \"" + s + "\"");
+    }
+  }
+
+  private static String randomString(Random random, String alphabet, int maxLength) {
+    char[] chars = new char[random.nextInt(maxLength + 1)];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+    }
+    return new String(chars);
+  }
+
+  private static String mutate(Random random, String s, String alphabet) {
+    StringBuilder b = new StringBuilder(s);
+    int at = random.nextInt(s.length() + 1);
+    char c = alphabet.charAt(random.nextInt(alphabet.length()));
+    switch (random.nextInt(3)) {
+      case 0 -> b.insert(at, c);
+      case 1 -> {
+        if (at < b.length()) {
+          b.deleteCharAt(at);
+        }
+      }
+      default -> {
+        if (at < b.length()) {
+          b.setCharAt(at, c);
+        }
+      }
+    }
+    return b.toString();
+  }
+
+  private static String ipv4(Random random) {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < 4; i++) {
+      if (i > 0) {
+        b.append('.');
+      }
+      b.append(octet(random));
+    }
+    return b.toString();
+  }
+
+  private static String octet(Random random) {
+    int value = random.nextInt(random.nextBoolean() ? 256 : 300);
+    return random.nextInt(4) == 0 ? String.format("%03d", value) : Integer.toString(value);
+  }
+
+  private static String ipv6(Random random) {
+    int groups = random.nextInt(4) == 0 ? 6 : 8;
+    int gapAt = random.nextInt(3) == 0 ? -1 : random.nextInt(groups + 1);
+    int gapLength = gapAt < 0 ? 0 : 1 + random.nextInt(Math.min(3, groups - gapAt + 1));
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < groups; i++) {
+      if (i == gapAt) {
+        b.append(i == 0 ? "::" : ":");
+        i += gapLength - 1;
+        continue;
+      }
+      if (i > 0) {
+        b.append(':');
+      }
+      b.append(Integer.toHexString(random.nextInt(1 << (4 * (1 + random.nextInt(4))))));
+    }
+    if (gapAt == groups) {
+      b.append("::");
+    }
+    if (groups == 6) {
+      b.append(b.isEmpty() || b.charAt(b.length() - 1) == ':' ? "" : ":").append(ipv4(random));
+    }
+    String s = b.toString();
+    return random.nextBoolean() ? s.toUpperCase() : s;
+  }
+
+  private static String isoDate(Random random) {
+    int year = random.nextInt(4) == 0 ? random.nextInt(25) * 400 + (random.nextBoolean() ? 0 : 100)
+        : random.nextInt(10_000);
+    int month = 1 + random.nextInt(12);
+    int day = 1 + random.nextInt(month == 2 ? 30 : 31);
+    return String.format("%04d-%02d-%02d", year, month, day);
+  }
+
+  private static String email(Random random) {
+    String[] locals = {"john.smith", "a", "x_y%z+tag", "-", "alice.j"};
+    String[] domains = {"company.com", "email.com", "a.b.io", "..co", "x-y.museum", "1.2.3.io"};
+    return locals[random.nextInt(locals.length)] + "@" + domains[random.nextInt(domains.length)];
+  }
+
+  private static String phone(Random random) {
+    String local = String.format("%03d-%04d", random.nextInt(1000), random.nextInt(10_000));
+    String area = switch (random.nextInt(3)) {
+      case 0 -> "";
+      case 1 -> String.format("(%03d) ", random.nextInt(1000));
+      default -> String.format("%03d-", random.nextInt(1000));
+    };
+    String country = random.nextBoolean() ? "" : "+" + random.nextInt(1000) + " ";
+    return country + area + local;
+  }
+}
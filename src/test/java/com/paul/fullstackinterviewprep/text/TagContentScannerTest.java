@@ -0,0 +1,106 @@
+package com.paul.fullstackinterviewprep.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential fuzzing of TagContentScanner against TagContentExtractor's
+ * regex: on random lines of tags, text and stray markup, the two must emit
+ * the same contents wherever every name the regex matches is a plain tag
+ * name, and the scanner must emit the same whether fed whole or in pieces.
+ */
+class TagContentScannerTest {
+
+  private static final int CASES = 200_000;
+  private static final Pattern TAG = Pattern.compile("<(.+)>([^<]+)</\\1>");
+  private static final String[] TOKENS = {"<a>", "</a>", "<b>", "</b>", "<h1>", "</h1>", "x", "1", "text "};
+  private static final String[] STRAY = {"<", ">", "/", "</", "\n", "\r"};
+
+  @Test
+  void agreesWithRegexOnPlainTagNames() {
+    Random random = new Random(41);
+    int compared = 0;
+    for (int n = 0; n < CASES; n++) {
+      String line = randomLine(random, n % 2 == 0 ? 0 : 4);
+      List<String> expected = new ArrayList<>();
+      boolean plain = true;
+      Matcher m = TAG.matcher(line);
+      while (m.find()) {
+        expected.add(m.group(2));
+        plain &= m.group(1).indexOf('<') < 0 && m.group(1).indexOf('>') < 0;
+      }
+      if (plain) {
+        compared++;
+        assertEquals(expected, scan(line), () -> "input: \"" + line + "\"");
+      }
+    }
+    assertTrue(compared > CASES / 2, "only " + compared + " lines had plain tag names");
+  }
+
+  @Test
+  void regexNamesSpanningTagsDiffer() {
+    // The regex reads "b><b" as one name, closed by "</b><b>", and never sees the tag around 1.
+    String line = "<b><b>x</b><b>1</b></b>";
+    Matcher m = TAG.matcher(line);
+    assertTrue(m.find());
+    assertEquals("b><b", m.group(1));
+    assertEquals(List.of("x", "1"), scan(line));
+  }
+
+  @Test
+  void chunksDoNotChangeTheResult() throws IOException {
+    Random random = new Random(42);
+    for (int n = 0; n < CASES / 10; n++) {
+      String line = randomLine(random, 4);
+      List<String> whole = scan(line);
+      List<String> pieces = new ArrayList<>();
+      TagContentScanner scanner = new TagContentScanner(c -> pieces.add(c.toString()));
+      char[] chars = line.toCharArray();
+      for (int from = 0; from < chars.length; ) {
+        int to = Math.min(chars.length, from + 1 + random.nextInt(4));
+        scanner.feed(chars, from, to);
+        from = to;
+      }
+      assertEquals(whole.size(), scanner.finish());
+      assertEquals(whole, pieces, () -> "input: \"" + line + "\"");
+
+      List<String> read = new ArrayList<>();
+      TagContentScanner.extract(new StringReader(line), c -> read.add(c.toString()));
+      assertEquals(whole, read);
+    }
+  }
+
+  @Test
+  void nestingAndMismatchedTags() {
+    assertEquals(List.of("contents", "Nested tags are fine"),
+        scan("<h1><a>contents</a>invalid</h1><par>Nested tags are fine</par><x>y</z>"));
+    assertEquals(List.of(), scan("<h1>had<h1>public</h1515></h1>"));
+    assertEquals(List.of("inner"), scan("<a><b>inner</b></a>"));
+  }
+
+  private static List<String> scan(String line) {
+    List<String> contents = new ArrayList<>();
+    TagContentScanner.extract(line, c -> contents.add(c.toString()));
+    return contents;
+  }
+
+  /** Up to 12 tokens; one in {@code strayOneIn} is stray markup (0 for none). */
+  private static String randomLine(Random random, int strayOneIn) {
+    StringBuilder b = new StringBuilder();
+    for (int i = random.nextInt(13); i > 0; i--) {
+      b.append(strayOneIn > 0 && random.nextInt(strayOneIn) == 0
+          ? STRAY[random.nextInt(STRAY.length)]
+          : TOKENS[random.nextInt(TOKENS.length)]);
+    }
+    return b.toString();
+  }
+}